@@ -0,0 +1,80 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NetsSsoAgentFilter 요청 분기 및 응답 작성 벤치마크
+ *
+ * <p>에이전트 서비스는 고정된 JSON을 반환하므로 필터 자체의 비용만 측정합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetsSsoAgentFilterBenchmark {
+    private static final String RESULT = "{\"result\": true, \"errorCode\": 0, \"userId\": \"testUser\"}";
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"check", "key"})
+    public String endpoint;
+
+    private NetsSsoAgentFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        filter = new NetsSsoAgentFilter("/nsso", new FixedAgentService());
+        request = new MockHttpServletRequest("POST", "/nsso/" + endpoint);
+        request.setServletPath("/nsso/" + endpoint);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, CHAIN);
+        // OncePerRequestFilter가 남긴 처리 표시를 제거한다.
+        request.clearAttributes();
+        return response;
+    }
+
+    private static final class FixedAgentService implements NetsSsoAgentService {
+        @Override
+        public String check(HttpServletRequest request, HttpServletResponse response) {
+            return RESULT;
+        }
+
+        @Override
+        public String config(HttpServletRequest request, HttpServletResponse response) {
+            return RESULT;
+        }
+
+        @Override
+        public String duplicate(HttpServletRequest request, HttpServletResponse response) {
+            return RESULT;
+        }
+
+        @Override
+        public String key(HttpServletRequest request, HttpServletResponse response) {
+            return RESULT;
+        }
+
+        @Override
+        public byte[] tfa(HttpServletRequest request, HttpServletResponse response) {
+            return RESULT.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoAuthenticationServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import nets.sso.agent.web.v9.SSOAuthn;
+import nets.sso.agent.web.v9.SSOStatus;
+import nets.sso.agent.web.v9.SSOUser;
+import nets.sso.agent.web.v9.core.AuthnStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * NetsSsoAuthenticationProvider 전체 인증 경로 벤치마크
+ *
+ * <p>SSO 에이전트는 호출 기록을 남기지 않는 목 객체로 대체하며, 에이전트 호출 수를 {@code agentCalls} 보조 지표로 보고합니다.
+ * {@code agentCalls}를 처리량으로 나누면 로그인 한 번당 에이전트 호출 수가 됩니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetsSsoAuthenticationProviderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean loginStay;
+
+    private NetsSsoAuthenticationProvider provider;
+    private SSOAuthn authn;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        SSOStatus status = mock(SSOStatus.class, withSettings().stubOnly());
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_SUCCESS);
+
+        SSOUser ssoUser = mock(SSOUser.class, withSettings().stubOnly());
+        when(ssoUser.getUserID()).thenReturn("testUser");
+        when(ssoUser.getUserIP()).thenReturn("127.0.0.1");
+        when(ssoUser.getSessionID()).thenReturn("session");
+        when(ssoUser.getAttrs()).thenReturn(Map.of());
+
+        authn = mock(SSOAuthn.class, withSettings().stubOnly());
+        when(authn.authnLoginStay()).thenAnswer(invocation -> {
+            AgentCalls.current().agentCalls++;
+            return status;
+        });
+        when(authn.authn()).thenAnswer(invocation -> {
+            AgentCalls.current().agentCalls++;
+            return ssoUser;
+        });
+        when(authn.getLastStatus()).thenReturn(status);
+
+        NetsSsoAuthenticationServiceImpl authenticationService = new NetsSsoAuthenticationServiceImpl() {
+            @Override
+            protected SSOAuthn getAuthn(HttpServletRequest request, HttpServletResponse response) {
+                return authn;
+            }
+        };
+        authenticationService.setLoginStay(loginStay);
+
+        UserDetails userDetails = User.withUsername("testUser").password("").authorities("ROLE_USER").build();
+        provider = new NetsSsoAuthenticationProvider(authenticationService, username -> userDetails);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticate(AgentCalls counters) {
+        AgentCalls.CURRENT.set(counters);
+        // 요청 속성에 인증 결과가 보관되므로 매번 새 요청을 사용한다.
+        return provider.authenticate(NetsSsoAuthentication.unauthenticated(new MockHttpServletRequest(), response));
+    }
+
+    /**
+     * 에이전트 호출 수 보조 지표
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class AgentCalls {
+        static final ThreadLocal<AgentCalls> CURRENT = new ThreadLocal<>();
+
+        public long agentCalls;
+
+        static AgentCalls current() {
+            return CURRENT.get();
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            agentCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.carped99.nsso;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NetsSsoUtils.normalizePath 벤치마크
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetsSsoUtilsBenchmark {
+
+    @Param({"/nsso|/check", "/nsso/|check", "/api/v1/nsso/|/server/logon"})
+    public String segments;
+
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        tokens = segments.split("\\|");
+    }
+
+    @Benchmark
+    public String normalizePath() {
+        return NetsSsoUtils.normalizePath(tokens);
+    }
+}
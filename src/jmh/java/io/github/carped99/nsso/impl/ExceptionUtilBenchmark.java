@@ -0,0 +1,49 @@
+package io.github.carped99.nsso.impl;
+
+import nets.sso.agent.web.v9.SSOStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.AuthenticationException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * ExceptionUtil.from 벤치마크
+ *
+ * <p>SSOStatus는 에이전트 외부에서 생성할 수 없으므로 호출 기록을 남기지 않는 목 객체를 사용합니다.
+ * 목 객체 호출 비용이 포함되므로 결과는 변경 전후 비교에만 사용합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionUtilBenchmark {
+
+    @Param({"11020004", "11070002", "99999999"})
+    public int code;
+
+    @Param({"", "invalid credentials"})
+    public String message;
+
+    private SSOStatus status;
+
+    @Setup
+    public void setUp() {
+        status = mock(SSOStatus.class, withSettings().stubOnly());
+        when(status.getCode()).thenReturn(code);
+        when(status.getMessage()).thenReturn(message);
+    }
+
+    @Benchmark
+    public AuthenticationException from() {
+        return ExceptionUtil.from(status);
+    }
+}
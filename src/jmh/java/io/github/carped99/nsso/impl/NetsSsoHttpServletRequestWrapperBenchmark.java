@@ -0,0 +1,78 @@
+package io.github.carped99.nsso.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NetsSsoHttpServletRequestWrapper 헤더 및 파라미터 조회 벤치마크
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetsSsoHttpServletRequestWrapperBenchmark {
+
+    private MockHttpServletRequest request;
+    private NetsSsoHttpServletRequestWrapper wrapper;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("POST", "/nsso/check");
+        request.addHeader("Cookie", "SSO=abc; JSESSIONID=def");
+        request.addHeader("User-Agent", "Mozilla/5.0");
+        request.addHeader("Accept", "application/json");
+        request.addParameter("ssosite", "site");
+        request.addParameter("returnURL", "/home");
+
+        wrapper = new NetsSsoHttpServletRequestWrapper(request)
+                .addSsoAgentType()
+                .addParameter("op", "AUTHN");
+    }
+
+    @Benchmark
+    public NetsSsoHttpServletRequestWrapper wrap() {
+        return new NetsSsoHttpServletRequestWrapper(request).addSsoAgentType();
+    }
+
+    @Benchmark
+    public String getAddedHeader() {
+        return wrapper.getHeader("SSOAgent-Type");
+    }
+
+    @Benchmark
+    public String getOriginalHeader() {
+        return wrapper.getHeader("Cookie");
+    }
+
+    @Benchmark
+    public void getHeaderNames(Blackhole blackhole) {
+        Enumeration<String> names = wrapper.getHeaderNames();
+        while (names.hasMoreElements()) {
+            blackhole.consume(names.nextElement());
+        }
+    }
+
+    @Benchmark
+    public String getAddedParameter() {
+        return wrapper.getParameter("op");
+    }
+
+    @Benchmark
+    public String getOriginalParameter() {
+        return wrapper.getParameter("ssosite");
+    }
+
+    @Benchmark
+    public Object getParameterMap() {
+        return wrapper.getParameterMap();
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.carped99.nsso.mock;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConverterUtils.writeAsString 벤치마크
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterUtilsBenchmark {
+
+    private NetsSsoServerCheckResponse response;
+
+    @Setup
+    public void setUp() {
+        response = NetsSsoServerCheckResponse.builder()
+                .result(true)
+                .authStatus("SSOSuccess")
+                .userId("testUser")
+                .userAttribute(Map.of("name", "Test User"))
+                .token(ConverterUtils.generateUserToken("testUser"))
+                .build();
+    }
+
+    @Benchmark
+    public String writeAsString() {
+        return ConverterUtils.writeAsString(response);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.carped99.nsso.load;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 기록을 지원하는 지연 시간 히스토그램
+ *
+ * <p>마이크로초 단위 값을 로그-선형 버킷(버킷 폭이 값의 1% 이하)에 누적하므로, 표본 수와 관계없이 메모리 사용량이 일정합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKETS = 128;
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final long MAX_VALUE = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_VALUE) + 1);
+    private final LongAdder total = new LongAdder();
+
+    void record(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1_000, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(micros));
+        total.increment();
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    /**
+     * 백분위수를 반환합니다.
+     *
+     * @param percentile 백분위 (0.0 ~ 100.0)
+     * @return 지연 시간 (마이크로초, 버킷 상한)
+     */
+    long percentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.carped99.nsso.load;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 부하 테스트 결과
+ *
+ * <p>엔드포인트마다 처리량, 지연 시간 백분위수(p50/p95/p99/p99.9), 오류 유형별 횟수를 집계합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+final class LoadReport {
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    LoadReport(String... names) {
+        for (String name : names) {
+            endpoints.put(name, new Endpoint());
+        }
+    }
+
+    void record(String name, long nanos, @Nullable String error) {
+        Endpoint endpoint = endpoints.get(name);
+        endpoint.latency.record(nanos);
+        if (error != null) {
+            endpoint.errors.computeIfAbsent(error, e -> new LongAdder()).increment();
+        }
+    }
+
+    long count(String name) {
+        return endpoints.get(name).latency.count();
+    }
+
+    long errorCount(String name) {
+        return endpoints.get(name).errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long totalCount() {
+        return endpoints.keySet().stream().mapToLong(this::count).sum();
+    }
+
+    long totalErrorCount() {
+        return endpoints.keySet().stream().mapToLong(this::errorCount).sum();
+    }
+
+    String format(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-10s %10s %10s %10s %10s %10s %10s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "errors"));
+        endpoints.forEach((name, endpoint) -> {
+            LatencyHistogram latency = endpoint.latency;
+            sb.append(String.format("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    name, latency.count(), latency.count() / seconds,
+                    latency.percentile(50) / 1e3, latency.percentile(95) / 1e3,
+                    latency.percentile(99) / 1e3, latency.percentile(99.9) / 1e3, errorCount(name)));
+        });
+        sb.append(String.format("%-10s %10d %10.1f%n", "total", totalCount(), totalCount() / seconds));
+
+        endpoints.forEach((name, endpoint) -> new TreeMap<>(endpoint.errors)
+                .forEach((error, count) -> sb.append(String.format("  %s %s: %d%n", name, error, count.sum()))));
+        return sb.toString();
+    }
+
+    private static final class Endpoint {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.carped99.nsso.load;
+
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * NSSO 전체 흐름 부하 시나리오
+ *
+ * <p>가상 사용자마다 다음 요청을 반복합니다. 한 단계가 실패하면 해당 반복의 나머지 단계는 건너뜁니다.</p>
+ * <ol>
+ *   <li>{@code config} - 에이전트 설정 조회</li>
+ *   <li>{@code check} - 에이전트 인증 확인 (미인증 응답이 정상)</li>
+ *   <li>{@code logon} - Mock 서버 로그인 ({@code ssoResponse} 발급)</li>
+ *   <li>{@code login} - 애플리케이션 로그인</li>
+ *   <li>{@code token} - 토큰 발급</li>
+ *   <li>{@code logout} - 로그아웃</li>
+ * </ol>
+ *
+ * <p>가상 사용자는 Java 21 이상에서 가상 스레드로, 그 이전에는 사용자 수만큼의 플랫폼 스레드로 실행합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+final class LoadScenario {
+    static final String CONFIG = "config";
+    static final String CHECK = "check";
+    static final String LOGON = "logon";
+    static final String LOGIN = "login";
+    static final String TOKEN = "token";
+    static final String LOGOUT = "logout";
+    static final List<String> ENDPOINTS = List.of(CONFIG, CHECK, LOGON, LOGIN, TOKEN, LOGOUT);
+
+    private static final Pattern SSO_RESPONSE = Pattern.compile("\"ssoResponse\":\"([^\"]+)\"");
+    private static final Pattern RESULT_FALSE = Pattern.compile("\"result\":false.*?\"errorCode\":\"?(\\d+)");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final int users;
+    private final AtomicReference<LoadReport> report = new AtomicReference<>();
+    private HttpClient client;
+
+    LoadScenario(URI baseUri, int users) {
+        this.baseUri = baseUri;
+        this.users = users;
+    }
+
+    /**
+     * 예열한 뒤 측정 시간 동안 시나리오를 실행합니다.
+     *
+     * @param warmup   예열 시간 (결과에서 제외)
+     * @param duration 측정 시간
+     * @return 측정 결과
+     */
+    LoadReport run(Duration warmup, Duration duration) throws InterruptedException {
+        ExecutorService executor = newUserExecutor(users);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        try {
+            long deadline = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+            report.set(newReport());
+            for (int i = 0; i < users; i++) {
+                int user = i;
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        iterate(user, report.get());
+                    }
+                });
+            }
+
+            TimeUnit.NANOSECONDS.sleep(warmup.toNanos());
+            LoadReport measured = newReport();
+            report.set(measured);
+
+            executor.shutdown();
+            if (!executor.awaitTermination(duration.plus(REQUEST_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+            return measured;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static LoadReport newReport() {
+        return new LoadReport(ENDPOINTS.toArray(String[]::new));
+    }
+
+    private void iterate(int user, LoadReport report) {
+        Map<String, String> cookies = new LinkedHashMap<>();
+        String username = LoadTestSettings.username(user);
+
+        if (call(report, CONFIG, "/nsso/config", Map.of(), cookies, 200) == null) {
+            return;
+        }
+        if (call(report, CHECK, "/nsso/check", Map.of(), cookies, 200) == null) {
+            return;
+        }
+
+        Map<String, String> credentials = new LinkedHashMap<>();
+        credentials.put(SSOConst.USER_ID, username);
+        credentials.put(SSOConst.USER_PW, LoadTestSecurityConfig.PASSWORD);
+        credentials.put(SSOConst.SITE_ID, "nets-sso-mock");
+        credentials.put(SSOConst.RETURN_URL, baseUri.toString());
+        credentials.put(SSOConst.CRED_TYPE, "BASIC");
+        HttpResponse<String> logon = call(report, LOGON, "/nsso/server/logonService", credentials, cookies, 200);
+        if (logon == null) {
+            return;
+        }
+        Matcher matcher = SSO_RESPONSE.matcher(logon.body());
+        if (!matcher.find()) {
+            return;
+        }
+
+        if (call(report, LOGIN, "/nsso/login", Map.of(SSOConst.SSO_RESPONSE, matcher.group(1)), cookies, 302) == null) {
+            return;
+        }
+        if (call(report, TOKEN, "/nsso/token", Map.of(), cookies, 302) == null) {
+            return;
+        }
+        call(report, LOGOUT, "/nsso/logout", Map.of(), cookies, 200);
+    }
+
+    /**
+     * 요청을 보내고 결과를 기록합니다.
+     *
+     * @return 성공한 응답, 실패하면 null
+     */
+    @Nullable
+    private HttpResponse<String> call(LoadReport report, String endpoint, String path, Map<String, String> form,
+                                      Map<String, String> cookies, int expectedStatus) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encode(form)));
+        if (!cookies.isEmpty()) {
+            StringJoiner cookie = new StringJoiner("; ");
+            cookies.forEach((name, value) -> cookie.add(name + "=" + value));
+            builder.header("Cookie", cookie.toString());
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - start, e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        String error = classify(endpoint, response, expectedStatus);
+        report.record(endpoint, elapsed, error);
+        if (error != null) {
+            return null;
+        }
+        response.headers().allValues("Set-Cookie").forEach(header -> storeCookie(cookies, header));
+        return response;
+    }
+
+    @Nullable
+    private static String classify(String endpoint, HttpResponse<String> response, int expectedStatus) {
+        if (response.statusCode() != expectedStatus) {
+            return "status=" + response.statusCode();
+        }
+        // 인증 실패 핸들러도 리다이렉트로 응답한다.
+        String location = response.headers().firstValue("Location").orElse("");
+        if (location.contains("error")) {
+            return "location=" + location;
+        }
+        // 미인증 check 응답은 정상
+        if (!CHECK.equals(endpoint)) {
+            Matcher matcher = RESULT_FALSE.matcher(response.body());
+            if (matcher.find()) {
+                return "errorCode=" + matcher.group(1);
+            }
+        }
+        return null;
+    }
+
+    private static void storeCookie(Map<String, String> cookies, String header) {
+        String pair = header.split(";", 2)[0];
+        int index = pair.indexOf('=');
+        if (index > 0) {
+            cookies.put(pair.substring(0, index).trim(), pair.substring(index + 1).trim());
+        }
+    }
+
+    private static String encode(Map<String, String> form) {
+        StringJoiner joiner = new StringJoiner("&");
+        form.forEach((name, value) -> joiner.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return joiner.toString();
+    }
+
+    private static ExecutorService newUserExecutor(int users) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(users);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.carped99.nsso.load;
+
+import io.github.carped99.nsso.NetsSsoAuthenticationProvider;
+import io.github.carped99.nsso.configure.NetsSsoAuthenticationConfigurer;
+import io.github.carped99.nsso.mock.NetsSsoMockAuthenticationService;
+import io.github.carped99.nsso.mock.NetsSsoMockFault;
+import io.github.carped99.nsso.mock.NetsSsoMockLatency;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용 보안 설정
+ *
+ * <p>Mock 서버 프로파일로 NSSO 필터 체인을 구성하고, 가상 사용자 수만큼 테스트 계정을 등록합니다.
+ * Mock 로그인은 검증된 자격 증명을 캐시하여 비밀번호 인코더 비용이 측정값에 섞이지 않게 합니다.
+ * {@code nsso.load.mock.median}과 {@code nsso.load.mock.p99}를 지정하면 모든 Mock 엔드포인트에 로그 정규 분포 지연을 주입합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@Configuration
+@EnableWebSecurity
+class LoadTestSecurityConfig {
+    static final String PROFILE = "mocking-nsso";
+    static final String PASSWORD = "password";
+
+    @Bean
+    SecurityFilterChain nssoFilterChain(HttpSecurity http, UserDetailsService userDetailsService) throws Exception {
+        http.authenticationProvider(new NetsSsoAuthenticationProvider(new NetsSsoMockAuthenticationService(), userDetailsService));
+        NetsSsoAuthenticationConfigurer<HttpSecurity> configurer = NetsSsoAuthenticationConfigurer.withDefaults(http);
+        configurer.tokenFilter(Customizer.withDefaults())
+                .mockServer(server -> server.credentialCache(LoadTestSettings.USERS));
+
+        String median = System.getProperty("nsso.load.mock.median");
+        String p99 = System.getProperty("nsso.load.mock.p99");
+        if (median != null && p99 != null) {
+            NetsSsoMockLatency latency = NetsSsoMockLatency.logNormal(Duration.parse(median), Duration.parse(p99));
+            configurer.mockServer(server -> server.faults(faults -> faults.all(new NetsSsoMockFault().latency(latency))));
+        }
+        return http.build();
+    }
+
+    @Bean
+    UserDetailsService userDetailsService() {
+        List<UserDetails> users = new ArrayList<>();
+        for (int i = 0; i < LoadTestSettings.USERS; i++) {
+            users.add(User.withUsername(LoadTestSettings.username(i)).password("{noop}" + PASSWORD).roles("USER").build());
+        }
+        return new InMemoryUserDetailsManager(users);
+    }
+}
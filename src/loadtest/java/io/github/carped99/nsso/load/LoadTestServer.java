@@ -0,0 +1,80 @@
+package io.github.carped99.nsso.load;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.filter.DelegatingFilterProxy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumSet;
+
+/**
+ * 부하 테스트용 내장 Tomcat 서버
+ *
+ * <p>임의의 로컬 포트에서 시작하며, {@link LoadTestSecurityConfig}로 구성한 Spring Security 필터 체인을 모든 요청에 적용합니다.
+ * NSSO 엔드포인트가 아닌 요청은 404로 응답합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+final class LoadTestServer implements AutoCloseable {
+    private final Tomcat tomcat = new Tomcat();
+    private final AnnotationConfigWebApplicationContext applicationContext = new AnnotationConfigWebApplicationContext();
+
+    LoadTestServer() throws IOException {
+        tomcat.setBaseDir(Files.createTempDirectory("nsso-load").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        connector.setProperty("address", "127.0.0.1");
+        tomcat.setConnector(connector);
+
+        applicationContext.register(LoadTestSecurityConfig.class);
+        applicationContext.getEnvironment().setActiveProfiles(LoadTestSecurityConfig.PROFILE);
+
+        Context context = tomcat.addContext("", null);
+        Wrapper servlet = Tomcat.addServlet(context, "notFound", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+        });
+        servlet.setAsyncSupported(true);
+        context.addServletMappingDecoded("/", "notFound");
+        context.addServletContainerInitializer((classes, servletContext) -> {
+            applicationContext.setServletContext(servletContext);
+            applicationContext.refresh();
+            FilterRegistration.Dynamic registration = servletContext.addFilter("springSecurityFilterChain",
+                    new DelegatingFilterProxy("springSecurityFilterChain", applicationContext));
+            registration.setAsyncSupported(true);
+            registration.addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR), false, "/*");
+        }, null);
+    }
+
+    LoadTestServer start() throws LifecycleException {
+        tomcat.start();
+        return this;
+    }
+
+    int getPort() {
+        return tomcat.getConnector().getLocalPort();
+    }
+
+    @Override
+    public void close() throws LifecycleException {
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } finally {
+            applicationContext.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.carped99.nsso.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정
+ *
+ * <p>Maven 명령행의 시스템 속성으로 지정합니다. 예: {@code mvn -Ploadtest test -Dnsso.load.users=200 -Dnsso.load.duration=PT60S}</p>
+ * <ul>
+ *   <li>{@code nsso.load.users} - 동시 가상 사용자 수 (기본 50)</li>
+ *   <li>{@code nsso.load.warmup} - 측정 전 예열 시간 (기본 PT5S)</li>
+ *   <li>{@code nsso.load.duration} - 측정 시간 (기본 PT20S)</li>
+ *   <li>{@code nsso.load.max-error-rate} - 허용 오류율 (기본 0.0)</li>
+ *   <li>{@code nsso.load.mock.median}, {@code nsso.load.mock.p99} - Mock 엔드포인트 지연 분포 (기본 없음)</li>
+ * </ul>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+final class LoadTestSettings {
+    static final int USERS = Integer.getInteger("nsso.load.users", 50);
+    static final Duration WARMUP = Duration.parse(System.getProperty("nsso.load.warmup", "PT5S"));
+    static final Duration DURATION = Duration.parse(System.getProperty("nsso.load.duration", "PT20S"));
+    static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("nsso.load.max-error-rate", "0.0"));
+
+    private LoadTestSettings() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static String username(int index) {
+        return "user" + index;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.carped99.nsso.load;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NSSO 전체 흐름 부하 테스트
+ *
+ * <p>내장 Tomcat에서 Mock 서버 프로파일로 필터 체인을 실행하고, {@link LoadScenario}로 측정한 엔드포인트별 처리량과
+ * 지연 시간 백분위수를 보고합니다. 네트워크 접근 없이 로컬 루프백만 사용합니다.</p>
+ *
+ * <pre>
+ * mvn -Ploadtest test
+ * mvn -Ploadtest test -Dnsso.load.users=200 -Dnsso.load.duration=PT60S
+ * </pre>
+ *
+ * @author carped99
+ * @see LoadTestSettings
+ * @since 0.0.1
+ */
+@Tag("load")
+class NetsSsoLoadTest {
+    private final Log log = LogFactory.getLog(getClass());
+
+    @Test
+    void fullFlow_WithConcurrentUsers_ShouldReportEveryEndpoint() throws Exception {
+        try (LoadTestServer server = new LoadTestServer().start()) {
+            // given
+            URI baseUri = URI.create("http://127.0.0.1:" + server.getPort());
+
+            // when
+            LoadReport report = new LoadScenario(baseUri, LoadTestSettings.USERS)
+                    .run(LoadTestSettings.WARMUP, LoadTestSettings.DURATION);
+
+            // then
+            log.info("NSSO load test: " + LoadTestSettings.USERS + " users, " + LoadTestSettings.DURATION + report.format(LoadTestSettings.DURATION));
+            for (String endpoint : LoadScenario.ENDPOINTS) {
+                assertThat(report.count(endpoint)).as(endpoint).isPositive();
+            }
+            assertThat((double) report.totalErrorCount() / report.totalCount())
+                    .isLessThanOrEqualTo(LoadTestSettings.MAX_ERROR_RATE);
+        }
+    }
+}
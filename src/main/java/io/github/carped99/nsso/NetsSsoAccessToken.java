@@ -0,0 +1,42 @@
+package io.github.carped99.nsso;
+
+import lombok.Value;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 검증된 NSSO 액세스 토큰
+ *
+ * <p>{@link NetsSsoAccessTokenCodec}이 서명을 확인한 토큰의 내용을 담는 불변 객체입니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoAccessTokenCodec
+ * @since 0.0.1
+ */
+@Value
+public class NetsSsoAccessToken implements Serializable {
+    /**
+     * 토큰 ID ({@code jti}), 다른 발급자가 생략했으면 null
+     */
+    @Nullable
+    String id;
+    /**
+     * 사용자 ID ({@code sub})
+     */
+    String subject;
+    /**
+     * 권한 목록 ({@code auth})
+     */
+    List<String> authorities;
+    /**
+     * 발급 시각 ({@code iat})
+     */
+    Instant issuedAt;
+    /**
+     * 만료 시각 ({@code exp})
+     */
+    Instant expiresAt;
+}
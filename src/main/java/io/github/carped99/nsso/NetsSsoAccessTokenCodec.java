@@ -0,0 +1,500 @@
+package io.github.carped99.nsso;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.Assert;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * NSSO 액세스 토큰 발급 및 검증기
+ *
+ * <p>사용자 ID와 권한을 담은 짧은 수명의 토큰을 JWS Compact 형식({@code header.payload.signature})으로 서명합니다.
+ * 페이로드는 {@code jti}, {@code sub}, {@code auth}, {@code iat}, {@code exp} 필드를 가지므로 표준 JWT 라이브러리로도 검증할 수 있습니다.</p>
+ *
+ * <ul>
+ *   <li>{@link #hmac(byte[])} - HMAC-SHA256 ({@code HS256}), 발급과 검증에 같은 비밀 키를 사용</li>
+ *   <li>{@link #ed25519(KeyPair)} - Ed25519 ({@code EdDSA}), 개인 키로 발급하고 공개 키로 검증</li>
+ *   <li>{@link #ed25519(PublicKey)} - 검증 전용 Ed25519, 다른 서비스나 게이트웨이에서 사용</li>
+ * </ul>
+ *
+ * <p>키는 생성 시 한 번만 준비하고, {@link Mac}과 {@link Signature} 인스턴스는 스레드별로 재사용하므로
+ * 검증은 SSO 에이전트 호출 없이 CPU만으로 끝납니다. 헤더는 생성 시 정한 알고리즘과 정확히 일치해야 하며,
+ * 다른 알고리즘을 지정한 토큰은 서명을 확인하기 전에 거부합니다.</p>
+ *
+ * <p>검증에 실패하면 오류 코드 {@value #INVALID_TOKEN_CODE}의 {@link NetsSsoAuthenticationException}을 던집니다.
+ * 이 클래스는 스레드에 안전합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoBearerTokenFilter
+ * @see NetsSsoAccessTokenSuccessHandler
+ * @since 0.0.1
+ */
+public final class NetsSsoAccessTokenCodec {
+    /**
+     * 토큰 검증 실패 오류 코드
+     */
+    public static final String INVALID_TOKEN_CODE = "50000003";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int HMAC_MIN_KEY_LENGTH = 32;
+
+    private final String header;
+    private final Algorithm algorithm;
+    private Clock clock = Clock.systemUTC();
+
+    private NetsSsoAccessTokenCodec(String alg, Algorithm algorithm) {
+        byte[] headerJson = new NetsSsoJsonWriter(32)
+                .beginObject()
+                .field("alg", alg)
+                .field("typ", "JWT")
+                .endObject()
+                .toByteArray();
+        this.header = ENCODER.encodeToString(headerJson);
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * HMAC-SHA256 토큰 발급 및 검증기를 생성합니다.
+     *
+     * @param secret 비밀 키 (32바이트 이상)
+     * @return 토큰 발급 및 검증기
+     */
+    public static NetsSsoAccessTokenCodec hmac(byte[] secret) {
+        Assert.isTrue(secret != null && secret.length >= HMAC_MIN_KEY_LENGTH, "secret must be at least 32 bytes");
+        return new NetsSsoAccessTokenCodec("HS256", new HmacAlgorithm(new SecretKeySpec(secret.clone(), "HmacSHA256")));
+    }
+
+    /**
+     * Ed25519 토큰 발급 및 검증기를 생성합니다.
+     *
+     * @param keyPair Ed25519 키 쌍
+     * @return 토큰 발급 및 검증기
+     */
+    public static NetsSsoAccessTokenCodec ed25519(KeyPair keyPair) {
+        Assert.notNull(keyPair, "keyPair must not be null");
+        return new NetsSsoAccessTokenCodec("EdDSA", new Ed25519Algorithm(keyPair.getPrivate(), keyPair.getPublic()));
+    }
+
+    /**
+     * 검증 전용 Ed25519 토큰 검증기를 생성합니다.
+     *
+     * @param publicKey Ed25519 공개 키
+     * @return 토큰 검증기 ({@link #encode(String, Collection, Duration)}는 사용할 수 없음)
+     */
+    public static NetsSsoAccessTokenCodec ed25519(PublicKey publicKey) {
+        return new NetsSsoAccessTokenCodec("EdDSA", new Ed25519Algorithm(null, publicKey));
+    }
+
+    /**
+     * 토큰을 발급합니다.
+     *
+     * @param subject     사용자 ID
+     * @param authorities 권한 목록
+     * @param timeToLive  유효 기간
+     * @return 서명된 토큰
+     * @throws IllegalStateException 검증 전용인 경우
+     */
+    public String encode(String subject, Collection<? extends GrantedAuthority> authorities, Duration timeToLive) {
+        return encode(newToken(subject, authorities, timeToLive));
+    }
+
+    /**
+     * 새 토큰 ID와 현재 시각으로 발급할 토큰의 내용을 만듭니다.
+     *
+     * @param subject     사용자 ID
+     * @param authorities 권한 목록
+     * @param timeToLive  유효 기간
+     * @return 발급할 토큰의 내용
+     */
+    public NetsSsoAccessToken newToken(String subject, Collection<? extends GrantedAuthority> authorities, Duration timeToLive) {
+        Assert.hasText(subject, "subject must not be empty");
+        Assert.notNull(authorities, "authorities must not be null");
+        Assert.isTrue(timeToLive != null && timeToLive.toSeconds() > 0, "timeToLive must be at least 1 second");
+
+        List<String> names = new ArrayList<>(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            if (authority.getAuthority() != null) {
+                names.add(authority.getAuthority());
+            }
+        }
+
+        byte[] id = new byte[16];
+        ThreadLocalRandom.current().nextBytes(id);
+        Instant now = Instant.ofEpochSecond(clock.instant().getEpochSecond());
+        return new NetsSsoAccessToken(ENCODER.encodeToString(id), subject, List.copyOf(names), now, now.plusSeconds(timeToLive.toSeconds()));
+    }
+
+    /**
+     * 주어진 내용으로 토큰을 발급합니다.
+     *
+     * @param token 발급할 토큰의 내용
+     * @return 서명된 토큰
+     * @throws IllegalStateException 검증 전용인 경우
+     */
+    public String encode(NetsSsoAccessToken token) {
+        Assert.notNull(token, "token must not be null");
+        NetsSsoJsonWriter writer = new NetsSsoJsonWriter(96 + token.getSubject().length() + token.getAuthorities().size() * 24)
+                .beginObject();
+        if (token.getId() != null) {
+            writer.field("jti", token.getId());
+        }
+        byte[] payload = writer
+                .field("sub", token.getSubject())
+                .array("auth", token.getAuthorities())
+                .field("iat", token.getIssuedAt().getEpochSecond())
+                .field("exp", token.getExpiresAt().getEpochSecond())
+                .endObject()
+                .toByteArray();
+
+        String signingInput = header + '.' + ENCODER.encodeToString(payload);
+        byte[] signature = algorithm.sign(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * 토큰의 서명과 만료 시각을 확인하고 내용을 반환합니다.
+     *
+     * @param token 토큰
+     * @return 검증된 토큰
+     * @throws NetsSsoAuthenticationException 형식, 서명, 만료 시각 중 하나라도 올바르지 않은 경우
+     */
+    public NetsSsoAccessToken decode(String token) throws NetsSsoAuthenticationException {
+        Assert.notNull(token, "token must not be null");
+        int payloadStart = header.length() + 1;
+        int signatureStart = token.indexOf('.', payloadStart);
+        if (token.length() <= payloadStart || token.charAt(header.length()) != '.' || !token.startsWith(header)
+                || signatureStart < 0 || token.indexOf('.', signatureStart + 1) >= 0) {
+            throw invalid("Malformed or unsupported access token");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(payloadStart, signatureStart));
+            signature = DECODER.decode(token.substring(signatureStart + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalid("Malformed access token");
+        }
+
+        if (!algorithm.verify(token.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII), signature)) {
+            throw invalid("Invalid access token signature");
+        }
+
+        NetsSsoAccessToken accessToken;
+        try {
+            accessToken = new PayloadReader(new String(payload, StandardCharsets.UTF_8)).read();
+        } catch (IllegalArgumentException e) {
+            throw invalid("Malformed access token payload");
+        }
+        if (!clock.instant().isBefore(accessToken.getExpiresAt())) {
+            throw invalid("Access token expired");
+        }
+        return accessToken;
+    }
+
+    /**
+     * 발급과 만료 확인에 사용할 시계를 설정합니다.
+     *
+     * @param clock 시계
+     * @return 현재 인스턴스
+     */
+    public NetsSsoAccessTokenCodec setClock(Clock clock) {
+        Assert.notNull(clock, "clock must not be null");
+        this.clock = clock;
+        return this;
+    }
+
+    private static NetsSsoAuthenticationException invalid(String message) {
+        return new NetsSsoAuthenticationException(INVALID_TOKEN_CODE, message);
+    }
+
+    private interface Algorithm {
+        byte[] sign(byte[] input);
+
+        boolean verify(byte[] input, byte[] signature);
+    }
+
+    private static final class HmacAlgorithm implements Algorithm {
+        private final ThreadLocal<Mac> macs;
+
+        HmacAlgorithm(SecretKeySpec key) {
+            this.macs = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac mac = Mac.getInstance("HmacSHA256");
+                    mac.init(key);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("HmacSHA256 is not available", e);
+                }
+            });
+            // 키가 올바른지 생성 시점에 확인한다.
+            this.macs.get();
+        }
+
+        @Override
+        public byte[] sign(byte[] input) {
+            return macs.get().doFinal(input);
+        }
+
+        @Override
+        public boolean verify(byte[] input, byte[] signature) {
+            return MessageDigest.isEqual(sign(input), signature);
+        }
+    }
+
+    private static final class Ed25519Algorithm implements Algorithm {
+        @Nullable
+        private final PrivateKey privateKey;
+        private final PublicKey publicKey;
+        private final ThreadLocal<Signature> signatures = ThreadLocal.withInitial(() -> {
+            try {
+                return Signature.getInstance("Ed25519");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Ed25519 is not available", e);
+            }
+        });
+
+        Ed25519Algorithm(@Nullable PrivateKey privateKey, PublicKey publicKey) {
+            Assert.notNull(publicKey, "publicKey must not be null");
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+        }
+
+        @Override
+        public byte[] sign(byte[] input) {
+            Assert.state(privateKey != null, "Verify-only codec cannot issue access tokens");
+            try {
+                Signature signature = signatures.get();
+                signature.initSign(privateKey);
+                signature.update(input);
+                return signature.sign();
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to sign access token", e);
+            }
+        }
+
+        @Override
+        public boolean verify(byte[] input, byte[] signatureBytes) {
+            try {
+                Signature signature = signatures.get();
+                signature.initVerify(publicKey);
+                signature.update(input);
+                return signature.verify(signatureBytes);
+            } catch (GeneralSecurityException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 서명이 확인된 페이로드를 읽습니다.
+     *
+     * <p>직접 발급한 형식(문자열, 정수, 문자열 배열 필드)만 지원합니다. 알 수 없는 필드는 문자열, 문자열 배열, 숫자,
+     * {@code true}, {@code false}, {@code null} 값만 건너뛰고, 중첩 객체, 중복 필드, 잘못된 이스케이프, 객체 뒤의 내용은 거부합니다.</p>
+     */
+    private static final class PayloadReader {
+        private final String json;
+        private int pos;
+
+        PayloadReader(String json) {
+            this.json = json;
+        }
+
+        NetsSsoAccessToken read() {
+            String id = null;
+            String subject = null;
+            List<String> authorities = List.of();
+            long issuedAt = 0;
+            Long expiresAt = null;
+
+            Set<String> names = new HashSet<>();
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    String name = readString();
+                    if (!names.add(name)) {
+                        throw new IllegalArgumentException("Duplicate field: " + name);
+                    }
+                    expect(':');
+                    switch (name) {
+                        case "jti" -> id = readString();
+                        case "sub" -> subject = readString();
+                        case "auth" -> authorities = readStringArray();
+                        case "iat" -> issuedAt = readLong();
+                        case "exp" -> expiresAt = readLong();
+                        default -> skipValue();
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            skipWhitespace();
+            if (pos != json.length()) {
+                throw new IllegalArgumentException("Unexpected content after payload at " + pos);
+            }
+
+            if (subject == null || expiresAt == null) {
+                throw new IllegalArgumentException("sub and exp are required");
+            }
+            return new NetsSsoAccessToken(id, subject, authorities, Instant.ofEpochSecond(issuedAt), Instant.ofEpochSecond(expiresAt));
+        }
+
+        private List<String> readStringArray() {
+            expect('[');
+            List<String> values = new ArrayList<>();
+            if (!consume(']')) {
+                do {
+                    values.add(readString());
+                } while (consume(','));
+                expect(']');
+            }
+            return List.copyOf(values);
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder sb = null;
+            int start = pos;
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') {
+                    return sb == null ? json.substring(start, pos - 1) : sb.toString();
+                }
+                if (c == '\\') {
+                    if (sb == null) {
+                        sb = new StringBuilder(json.substring(start, pos - 1));
+                    }
+                    sb.append(readEscaped());
+                } else if (sb != null) {
+                    sb.append(c);
+                }
+            }
+            throw new IllegalArgumentException("Unterminated string");
+        }
+
+        private char readEscaped() {
+            char c = next();
+            return switch (c) {
+                case '"', '\\', '/' -> c;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    int value = 0;
+                    for (int end = pos + 4; pos < end; pos++) {
+                        int digit = pos < json.length() ? hexDigit(json.charAt(pos)) : -1;
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Invalid unicode escape");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    yield (char) value;
+                }
+                default -> throw new IllegalArgumentException("Invalid escape: " + c);
+            };
+        }
+
+        private static int hexDigit(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            if (c >= 'a' && c <= 'f') {
+                return c - 'a' + 10;
+            }
+            if (c >= 'A' && c <= 'F') {
+                return c - 'A' + 10;
+            }
+            return -1;
+        }
+
+        private long readLong() {
+            skipWhitespace();
+            int start = pos;
+            if (pos < json.length() && json.charAt(pos) == '-') {
+                pos++;
+            }
+            while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+                pos++;
+            }
+            return Long.parseLong(json, start, pos, 10);
+        }
+
+        private void skipValue() {
+            skipWhitespace();
+            char c = peek();
+            if (c == '"') {
+                readString();
+            } else if (c == '[') {
+                readStringArray();
+            } else if (c == '{') {
+                throw new IllegalArgumentException("Nested objects are not supported");
+            } else if (!consumeLiteral("true") && !consumeLiteral("false") && !consumeLiteral("null")) {
+                readLong();
+            }
+        }
+
+        private boolean consumeLiteral(String literal) {
+            if (json.startsWith(literal, pos)) {
+                pos += literal.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            skipWhitespace();
+            if (next() != expected) {
+                throw new IllegalArgumentException("Expected '" + expected + "' at " + (pos - 1));
+            }
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (pos < json.length() && json.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private char peek() {
+            if (pos >= json.length()) {
+                throw new IllegalArgumentException("Unexpected end of payload");
+            }
+            return json.charAt(pos);
+        }
+
+        private char next() {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
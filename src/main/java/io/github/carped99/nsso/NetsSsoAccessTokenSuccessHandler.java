@@ -0,0 +1,77 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * NSSO 액세스 토큰 발급 핸들러
+ *
+ * <p>인증에 성공하면 사용자 ID와 권한으로 서명된 액세스 토큰을 발급하여 다음 JSON으로 응답합니다.
+ * 필드 이름은 OAuth 2.0 토큰 응답(RFC 6749)을 따릅니다.</p>
+ *
+ * <pre>{@code
+ * {"access_token":"eyJ...","token_type":"Bearer","expires_in":300}
+ * }</pre>
+ *
+ * <p>{@link #setSessionIndex(NetsSsoSessionIndex)}를 설정하면 발급한 토큰 ID를 사용자별 세션 색인에 등록하여
+ * 백채널 로그아웃 시 폐기할 수 있게 합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoAccessTokenCodec
+ * @see NetsSsoBearerTokenFilter
+ * @since 0.0.1
+ */
+public class NetsSsoAccessTokenSuccessHandler implements AuthenticationSuccessHandler {
+    private final NetsSsoAccessTokenCodec codec;
+    private final Duration timeToLive;
+    @Nullable
+    private NetsSsoSessionIndex sessionIndex;
+
+    /**
+     * 액세스 토큰 발급 핸들러를 생성합니다.
+     *
+     * @param codec      토큰 발급기
+     * @param timeToLive 토큰 유효 기간
+     */
+    public NetsSsoAccessTokenSuccessHandler(NetsSsoAccessTokenCodec codec, Duration timeToLive) {
+        Assert.notNull(codec, "codec must not be null");
+        Assert.isTrue(timeToLive != null && timeToLive.toSeconds() > 0, "timeToLive must be at least 1 second");
+        this.codec = codec;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
+        NetsSsoAccessToken accessToken = codec.newToken(authentication.getName(), authentication.getAuthorities(), timeToLive);
+        String token = codec.encode(accessToken);
+        if (sessionIndex != null) {
+            sessionIndex.register(accessToken.getSubject(), NetsSsoSessionId.token(accessToken.getId(), accessToken.getExpiresAt()));
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        new NetsSsoJsonWriter(token.length() + 64)
+                .beginObject()
+                .field("access_token", token)
+                .field("token_type", "Bearer")
+                .field("expires_in", timeToLive.toSeconds())
+                .endObject()
+                .writeTo(response);
+    }
+
+    /**
+     * 발급한 토큰을 등록할 사용자별 세션 색인을 설정합니다.
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     */
+    public void setSessionIndex(@Nullable NetsSsoSessionIndex sessionIndex) {
+        this.sessionIndex = sessionIndex;
+    }
+}
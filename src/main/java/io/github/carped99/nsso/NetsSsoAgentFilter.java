@@ -1,29 +1,35 @@
 package io.github.carped99.nsso;
 
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.lang.Nullable;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
-import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
-
 /**
  * NSSO 에이전트 요청을 처리하는 필터
  *
  * <p>이 필터는 NSSO 에이전트의 다양한 요청 타입을 처리하는 중앙 집중식 필터입니다.
- * 요청 URL 패턴에 따라 적절한 서비스로 요청을 라우팅합니다.</p>
+ * 접두사 경로로 한 번 구성한 경로 테이블({@link NetsSsoRouter})에서 요청 경로와 HTTP 메서드로 엔드포인트를 찾아
+ * 적절한 서비스로 요청을 라우팅합니다.</p>
  *
  * <p>지원하는 요청 타입:</p>
  * <ul>
@@ -34,7 +40,15 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
  *   <li>키 요청 (key) - 키 관리</li>
  * </ul>
  *
- * <p>모든 응답은 JSON 형태로 반환되며, 오류 발생 시 표준 오류 형식으로 응답합니다.</p>
+ * <p>모든 응답은 JSON 형태로 반환되며, 오류 발생 시 표준 오류 형식으로 응답합니다.
+ * 응답은 UTF-8 바이트로 인코딩하여 {@code Content-Length}와 함께 출력 스트림에 쓰며,
+ * 고정된 오류 응답은 미리 인코딩해 둔 것을 재사용합니다.
+ * {@link #setServerTiming(boolean)}을 설정하면 단계별 처리 시간을 {@code Server-Timing} 헤더로 보고합니다.</p>
+ *
+ * <p>{@link #setExecutor(Executor)}를 설정하고 요청이 비동기 처리를 지원하면, 서블릿 비동기 처리({@link AsyncContext})로 전환하여
+ * 에이전트 호출을 실행기에서 수행합니다. 기한({@link #setTimeout(Duration)})을 넘기면 오류 코드 "50000001"로 응답하며,
+ * 실행기가 작업을 거부하면 현재 스레드에서 처리합니다. 기한을 넘긴 호출이 쓰는 쿠키와 헤더는 버리고({@link NetsSsoDetachableResponse}),
+ * 비동기 처리는 호출이 실제로 끝난 뒤에 끝냅니다.</p>
  *
  * <p>사용 예시:</p>
  * <pre>{@code
@@ -48,13 +62,20 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
  * @since 0.0.1
  */
 public class NetsSsoAgentFilter extends OncePerRequestFilter {
+    private static final byte[] NO_RESULT = NetsSsoJsonWriter.errorResult("50000000", "NSSO agent returned no result");
+
     private final NetsSsoAgentService agentService;
-    private final RequestMatcher checkRequestMatcher;
-    private final RequestMatcher configRequestMatcher;
-    private final RequestMatcher dupRequestMatcher;
-    private final RequestMatcher tfaRequestMatcher;
-    private final RequestMatcher keyRequestMatcher;
-    private final RequestMatcher requestMatcher;
+    private final String prefixPath;
+    private NetsSsoRouter router;
+    @Nullable
+    private NetsSsoResponseCache configCache;
+    @Nullable
+    private NetsSsoResponseCache keyCache;
+    @Nullable
+    private Executor executor;
+    private Duration timeout;
+    private byte[] timeoutResult;
+    private boolean serverTiming;
 
     /**
      * 생성자
@@ -65,51 +86,180 @@ public class NetsSsoAgentFilter extends OncePerRequestFilter {
     public NetsSsoAgentFilter(String prefixPath, NetsSsoAgentService agentService) {
         Assert.notNull(agentService, "agentService must not be null");
         this.agentService = agentService;
-        this.checkRequestMatcher = antMatcher(HttpMethod.POST, normalizePath(prefixPath, "/check"));
-        this.configRequestMatcher = antMatcher(HttpMethod.POST, normalizePath(prefixPath, "/config"));
-        this.dupRequestMatcher = antMatcher(HttpMethod.POST, normalizePath(prefixPath, "/duplication"));
-        this.tfaRequestMatcher = antMatcher(HttpMethod.POST, normalizePath(prefixPath, "/tfa"));
-        this.keyRequestMatcher = antMatcher(HttpMethod.POST, normalizePath(prefixPath, "/key"));
-
-        this.requestMatcher = new OrRequestMatcher(
-                checkRequestMatcher,
-                configRequestMatcher,
-                dupRequestMatcher,
-                tfaRequestMatcher,
-                keyRequestMatcher
-        );
+        this.prefixPath = prefixPath;
+        this.router = createRouter();
+        setTimeout(Duration.ofSeconds(30));
+    }
 
+    private NetsSsoRouter createRouter() {
+        List<NetsSsoRoute> routes = new ArrayList<>(7);
+        routes.add(NetsSsoRoute.of("check", HttpMethod.POST, normalizePath(prefixPath, "/check")));
+        routes.add(NetsSsoRoute.of("config", HttpMethod.POST, normalizePath(prefixPath, "/config")));
+        if (configCache != null) {
+            // 브라우저와 CDN이 조건부 요청으로 재검증할 수 있도록 GET을 허용한다.
+            routes.add(NetsSsoRoute.of("config", HttpMethod.GET, normalizePath(prefixPath, "/config")));
+        }
+        routes.add(NetsSsoRoute.of("duplication", HttpMethod.POST, normalizePath(prefixPath, "/duplication")));
+        routes.add(NetsSsoRoute.of("tfa", HttpMethod.POST, normalizePath(prefixPath, "/tfa")));
+        routes.add(NetsSsoRoute.of("key", HttpMethod.POST, normalizePath(prefixPath, "/key")));
+        if (keyCache != null) {
+            routes.add(NetsSsoRoute.of("key", HttpMethod.GET, normalizePath(prefixPath, "/key")));
+        }
+        return NetsSsoRouter.of(routes);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
-        String result;
-
-        if (checkRequestMatcher.matches(request)) {
-            result = tryProcess(() -> agentService.check(request, response));
-        } else if (configRequestMatcher.matches(request)) {
-            result = tryProcess(() -> agentService.config(request, response));
-        } else if (dupRequestMatcher.matches(request)) {
-            result = tryProcess(() -> agentService.duplicate(request, response));
-        } else if (tfaRequestMatcher.matches(request)) {
-            result = tryProcess(() -> agentService.tfa(request, response));
-        } else if (keyRequestMatcher.matches(request)) {
-            result = tryProcess(() -> agentService.key(request, response));
-        } else {
+        NetsSsoRoute route = router.route(request);
+        if (route == null) {
             throw new IllegalStateException("Unsupported request type: " + request.getMethod() + " " + request.getRequestURI());
         }
 
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.setStatus(HttpStatus.OK.value());
+        NetsSsoServerTiming timing = serverTiming ? NetsSsoServerTiming.start(request) : NetsSsoServerTiming.of(request);
+        HttpServletResponse timedResponse = timing.wrap(response);
+        doFilterInternal(request, timedResponse, route, timing);
+        if (!request.isAsyncStarted()) {
+            // 본문 없이 끝난 응답(예: 캐시의 304 Not Modified)에도 헤더를 추가한다.
+            timing.writeHeader(timedResponse);
+        }
+    }
+
+    private void doFilterInternal(HttpServletRequest request, HttpServletResponse response, NetsSsoRoute route, NetsSsoServerTiming timing) throws IOException {
+        if (configCache != null && "config".equals(route.getName())) {
+            processCached(request, response, configCache, timed(timing, () -> agentService.config(request, response)));
+            return;
+        }
+        if (keyCache != null && "key".equals(route.getName())) {
+            processCached(request, response, keyCache, timed(timing, () -> agentService.key(request, response)));
+            return;
+        }
+
+        if (executor != null && request.isAsyncSupported()) {
+            // 기한을 넘긴 에이전트 호출이 기한 응답과 섞이지 않도록 떼어낼 수 있는 응답을 넘긴다.
+            NetsSsoDetachableResponse agentResponse = new NetsSsoDetachableResponse(response);
+            if (processAsync(request, response, agentResponse, process(route, request, agentResponse, timing), timing, executor)) {
+                return;
+            }
+        }
+        writeResult(response, tryProcess(process(route, request, response, timing), timing));
+    }
+
+    private Supplier<byte[]> process(NetsSsoRoute route, HttpServletRequest request, HttpServletResponse response, NetsSsoServerTiming timing) {
+        return switch (route.getName()) {
+            case "check" -> encoded(() -> agentService.check(request, response), timing);
+            case "config" -> encoded(() -> agentService.config(request, response), timing);
+            case "duplication" -> encoded(() -> agentService.duplicate(request, response), timing);
+            case "tfa" -> () -> agentService.tfa(request, response);
+            case "key" -> encoded(() -> agentService.key(request, response), timing);
+            default -> throw new IllegalStateException("Unsupported route: " + route);
+        };
+    }
+
+    /**
+     * 에이전트가 반환한 JSON 문자열을 UTF-8로 인코딩하도록 처리 로직을 감쌉니다.
+     */
+    private static Supplier<byte[]> encoded(Supplier<String> process, NetsSsoServerTiming timing) {
+        return () -> {
+            String result = process.get();
+            if (result == null) {
+                return null;
+            }
+            // 에이전트 호출 시간에 인코딩 시간이 섞이지 않도록 여기서 끝낸다.
+            timing.end(NetsSsoServerTiming.Stage.AGENT);
+            timing.begin(NetsSsoServerTiming.Stage.SERIALIZATION);
+            try {
+                return result.getBytes(StandardCharsets.UTF_8);
+            } finally {
+                timing.end(NetsSsoServerTiming.Stage.SERIALIZATION);
+            }
+        };
+    }
+
+    /**
+     * 응답을 만드는 경우에만 에이전트 호출 시간을 기록하도록 처리 로직을 감쌉니다.
+     */
+    private Supplier<String> timed(NetsSsoServerTiming timing, Supplier<String> process) {
+        if (!serverTiming) {
+            return process;
+        }
+        return () -> {
+            timing.begin(NetsSsoServerTiming.Stage.AGENT);
+            try {
+                return process.get();
+            } finally {
+                timing.end(NetsSsoServerTiming.Stage.AGENT);
+            }
+        };
+    }
+
+    /**
+     * 저장된 응답이 있으면 그대로 쓰고, 없으면 현재 스레드에서 처리하여 저장한 뒤 씁니다.
+     *
+     * <p>응답을 만드는 경우는 키별, 버전별, 갱신 주기별로 한 번뿐이므로 비동기 처리로 전환하지 않습니다.
+     * 오류 응답은 저장하지 않습니다.</p>
+     */
+    private void processCached(HttpServletRequest request, HttpServletResponse response, NetsSsoResponseCache cache, Supplier<String> process) throws IOException {
+        NetsSsoResponseCache.Entry entry;
+        try {
+            entry = cache.getOrLoad(request, process);
+        } catch (Exception ex) {
+            writeResult(response, NetsSsoJsonWriter.errorResult(errorCode(ex), ex.getMessage()));
+            return;
+        }
+        cache.write(request, response, entry);
+    }
+
+    /**
+     * 실행기에서 에이전트를 호출하고 결과 또는 기한 응답을 씁니다.
+     *
+     * <p>기한을 넘기면 에이전트 응답을 떼어내고 기한 응답을 쓰지만, 작업 스레드가 요청을 계속 사용할 수 있으므로
+     * 비동기 처리는 작업이 끝난 뒤에 끝냅니다. 그 전에 끝내면 컨테이너가 요청 객체를 다른 요청에 재사용할 수 있습니다.</p>
+     */
+    private boolean processAsync(HttpServletRequest request, HttpServletResponse response, NetsSsoDetachableResponse agentResponse,
+                                 Supplier<byte[]> process, NetsSsoServerTiming timing, Executor executor) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        CompletableFuture<Void> released = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    // 실행 전에 기한을 넘겼으면 에이전트를 호출하지 않는다.
+                    if (!result.isDone()) {
+                        result.complete(tryProcess(process, timing));
+                    }
+                } finally {
+                    released.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        // 기한은 이 필터가 관리하므로 컨테이너의 비동기 타임아웃은 사용하지 않는다.
+        asyncContext.setTimeout(0);
 
-        // writer는 닫지 않는다.
-        response.getWriter().write(result);
+        result.completeOnTimeout(timeoutResult, timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((body, ex) -> {
+                    agentResponse.detach();
+                    try {
+                        writeResult(response, body);
+                    } catch (Exception e) {
+                        logger.error("NSSO agent response failed", e);
+                    } finally {
+                        released.whenComplete((unused, e) -> asyncContext.complete());
+                    }
+                });
+        return true;
+    }
+
+    private void writeResult(HttpServletResponse response, byte[] result) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        NetsSsoJsonWriter.writeTo(response, result);
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        return !this.requestMatcher.matches(request);
+        return !this.router.matches(request);
     }
 
     /**
@@ -118,25 +268,109 @@ public class NetsSsoAgentFilter extends OncePerRequestFilter {
      * @return NSSO 에이전트 요청을 처리할 RequestMatcher
      */
     public RequestMatcher getRequestMatcher() {
-        return this.requestMatcher;
+        return this.router;
+    }
+
+    /**
+     * NSSO 에이전트 엔드포인트 경로 테이블을 반환합니다.
+     *
+     * @return 엔드포인트(check, config, duplication, tfa, key) 경로 테이블
+     */
+    public NetsSsoRouter getRouter() {
+        return this.router;
     }
 
     /**
      * 서비스 처리 중 발생하는 예외를 캐치하여 표준 오류 응답 형식으로 변환합니다.
      *
      * @param process 실행할 서비스 처리 로직
-     * @return 처리 결과 JSON 문자열 또는 오류 발생 시 표준 오류 JSON
+     * @param timing  단계 처리 시간 기록기
+     * @return UTF-8로 인코딩된 처리 결과 JSON 또는 오류 발생 시 표준 오류 JSON
      */
-    private String tryProcess(Supplier<String> process) {
+    private byte[] tryProcess(Supplier<byte[]> process, NetsSsoServerTiming timing) {
+        byte[] result;
+        timing.begin(NetsSsoServerTiming.Stage.AGENT);
         try {
-            return process.get();
+            result = process.get();
         } catch (Exception ex) {
-            // 오류코드는 8자리이며, "50"번대는 커스텀 오류
-            return "{" +
-                   "\"result\": false," +
-                   "\"errorCode\": \"50000000\"," +
-                   "\"errorMessage\": \"" + ex.getMessage() + "\"" +
-                   "}";
+            return NetsSsoJsonWriter.errorResult(errorCode(ex), ex.getMessage());
+        } finally {
+            timing.end(NetsSsoServerTiming.Stage.AGENT);
         }
+        return result != null ? result : NO_RESULT;
+    }
+
+    /**
+     * 예외의 오류 코드를 반환합니다. 오류코드는 8자리이며, "50"번대는 커스텀 오류입니다.
+     * 호출 보호({@link io.github.carped99.nsso.impl.NetsSsoResilience})로 실패한 경우 해당 오류 코드를 그대로 사용합니다.
+     */
+    private static String errorCode(Exception ex) {
+        return ex instanceof NetsSsoAuthenticationException authenticationException ? authenticationException.getCode() : "50000000";
+    }
+
+    /**
+     * 설정 정보 응답 캐시를 설정합니다.
+     *
+     * <p>설정하면 설정 정보 응답을 호스트와 컨텍스트 경로별로 저장해 두고 ETag, Cache-Control과 함께 응답하며,
+     * 조건부 요청을 위해 설정 정보 엔드포인트에 GET 요청을 허용합니다.
+     * 경로 테이블이 바뀌므로 {@link #getRouter()}를 사용하기 전에 설정해야 합니다.</p>
+     *
+     * @param configCache 설정 정보 응답 캐시 (null이면 사용하지 않음)
+     * @see NetsSsoResponseCache
+     */
+    public void setConfigCache(@Nullable NetsSsoResponseCache configCache) {
+        this.configCache = configCache;
+        this.router = createRouter();
+    }
+
+    /**
+     * 공개키 응답 캐시를 설정합니다.
+     *
+     * <p>설정하면 공개키 응답을 저장해 두고 지문 기반 ETag, Cache-Control과 함께 응답하며,
+     * 조건부 요청을 위해 공개키 엔드포인트에 GET 요청을 허용합니다.
+     * 키 교체는 캐시의 버전과 갱신 주기로 반영합니다.
+     * 경로 테이블이 바뀌므로 {@link #getRouter()}를 사용하기 전에 설정해야 합니다.</p>
+     *
+     * @param keyCache 공개키 응답 캐시 (null이면 사용하지 않음)
+     * @see NetsSsoResponseCache#setRefreshAfter(Duration)
+     */
+    public void setKeyCache(@Nullable NetsSsoResponseCache keyCache) {
+        this.keyCache = keyCache;
+        this.router = createRouter();
+    }
+
+    /**
+     * 에이전트 호출을 수행할 실행기를 설정합니다.
+     *
+     * <p>설정하면 비동기 처리를 지원하는 요청은 서블릿 비동기 처리로 전환됩니다.</p>
+     *
+     * @param executor 에이전트 호출 실행기 (null이면 동기 처리)
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 비동기 에이전트 호출의 기한을 설정합니다. 기본값은 30초입니다.
+     *
+     * @param timeout 에이전트 호출 기한
+     */
+    public void setTimeout(Duration timeout) {
+        Assert.notNull(timeout, "timeout must not be null");
+        Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        this.timeout = timeout;
+        this.timeoutResult = NetsSsoJsonWriter.errorResult("50000001", "NSSO agent timed out after " + timeout.toMillis() + "ms");
+    }
+
+    /**
+     * 응답에 단계별 처리 시간({@code Server-Timing} 헤더)을 추가할지 설정합니다. 기본값은 false입니다.
+     *
+     * <p>에이전트 호출({@code agent}), 응답 직렬화({@code ser}), 전체({@code total}) 시간을 보고합니다.</p>
+     *
+     * @param serverTiming 추가 여부
+     * @see NetsSsoServerTiming
+     */
+    public void setServerTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
     }
 }
@@ -62,9 +62,11 @@ public interface NetsSsoAgentService {
     /**
      * NSSO 에이전트의 다중 인증(TFA) 정보를 반환합니다.
      *
+     * <p>에이전트 응답을 그대로 전달하는 다른 작업과 달리 응답 JSON을 직접 만들므로, 문자열로 바꾸지 않고 인코딩된 본문을 반환합니다.</p>
+     *
      * @param request  HTTP 요청 객체
      * @param response HTTP 응답 객체
-     * @return 다중 인증 정보 JSON 문자열
+     * @return UTF-8로 인코딩된 다중 인증 정보 JSON
      */
-    String tfa(HttpServletRequest request, HttpServletResponse response);
+    byte[] tfa(HttpServletRequest request, HttpServletResponse response);
 }
@@ -0,0 +1,60 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * NSSO 비동기 인증 서비스 인터페이스
+ *
+ * <p>{@link NetsSsoAuthenticationService}의 비동기 버전으로, 인증을 다른 스레드에서 수행하고 결과를 {@link CompletableFuture}로 반환합니다.
+ * 서블릿 비동기 처리({@link jakarta.servlet.AsyncContext})와 함께 사용하면 SSO 에이전트 응답을 기다리는 동안 컨테이너 스레드를 반환할 수 있습니다.</p>
+ *
+ * <p>반환된 결과는 다음 중 하나로 완료됩니다.</p>
+ * <ul>
+ *   <li>인증된 {@link Authentication}</li>
+ *   <li>인증 실패 시 {@link org.springframework.security.core.AuthenticationException}</li>
+ *   <li>기한을 넘기거나 작업이 거부된 경우 {@link NetsSsoAuthenticationException}</li>
+ *   <li>호출자가 취소한 경우 {@link java.util.concurrent.CancellationException}</li>
+ * </ul>
+ *
+ * <p>결과를 취소하거나 기한을 넘기면 진행 중인 인증 작업도 중단(interrupt)됩니다.
+ * 다만 에이전트 호출은 중단 요청에 바로 응하지 않을 수 있으므로, 결과가 먼저 완료되어도 작업이 요청과 응답을 계속 사용할 수 있습니다.
+ * 이런 구현체는 작업이 끝나면 완료되는 결과를 {@link #RELEASED_ATTRIBUTE} 요청 속성에 보관하고,
+ * 호출자는 {@link #released(HttpServletRequest)}가 완료된 뒤에 비동기 처리를 끝내야 합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoAuthenticationService
+ * @see NetsSsoTokenFilter
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface NetsSsoAsyncAuthenticationService {
+    /**
+     * 인증 작업이 요청과 응답 사용을 마치면 완료되는 결과를 보관하는 요청 속성 이름
+     */
+    String RELEASED_ATTRIBUTE = NetsSsoAsyncAuthenticationService.class.getName() + ".RELEASED";
+
+    /**
+     * NSSO 인증을 비동기로 수행합니다.
+     *
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
+     * @param timeout  인증 기한
+     * @return 인증 결과
+     */
+    CompletableFuture<Authentication> authenticateAsync(HttpServletRequest request, HttpServletResponse response, Duration timeout);
+
+    /**
+     * 인증 작업이 요청과 응답 사용을 마치면 완료되는 결과를 반환합니다.
+     *
+     * @param request HTTP 요청
+     * @return 작업 종료 결과 (구현체가 보관하지 않았으면 이미 완료된 결과)
+     */
+    static CompletableFuture<?> released(HttpServletRequest request) {
+        return request.getAttribute(RELEASED_ATTRIBUTE) instanceof CompletableFuture<?> released ? released : CompletableFuture.completedFuture(null);
+    }
+}
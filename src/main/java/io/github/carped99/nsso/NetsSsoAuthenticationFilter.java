@@ -1,11 +1,20 @@
 package io.github.carped99.nsso;
 
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
 
 /**
  * NSSO 액세스 토큰 처리 필터
@@ -36,6 +45,13 @@ import org.springframework.security.web.util.matcher.RequestMatcher;
  * @since 0.0.1
  */
 public class NetsSsoAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
+    private static final String ENDPOINT = "login";
+
+    private NetsSsoObserver observer = NetsSsoObserver.NOOP;
+    private boolean serverTiming;
+    @Nullable
+    private NetsSsoSessionIndex sessionIndex;
+
     /**
      * 기본 URL("/nsso/access_token")로 NetsSsoAccessTokenFilter를 생성합니다.
      */
@@ -52,6 +68,20 @@ public class NetsSsoAuthenticationFilter extends AbstractAuthenticationProcessin
         super(requestMatcher);
     }
 
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (serverTiming && request instanceof HttpServletRequest httpRequest && response instanceof HttpServletResponse httpResponse
+                && requiresAuthentication(httpRequest, httpResponse)) {
+            NetsSsoServerTiming timing = NetsSsoServerTiming.start(httpRequest);
+            HttpServletResponse timedResponse = timing.wrap(httpResponse);
+            super.doFilter(request, timedResponse, chain);
+            // 핸들러가 본문 없이 응답을 끝낸 경우에도 헤더를 추가한다.
+            timing.writeHeader(timedResponse);
+            return;
+        }
+        super.doFilter(request, response, chain);
+    }
+
     /**
      * NSSO 액세스 토큰 인증을 시도합니다.
      *
@@ -65,10 +95,90 @@ public class NetsSsoAuthenticationFilter extends AbstractAuthenticationProcessin
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        request.setAttribute(NetsSsoObserver.ENDPOINT_ATTRIBUTE, ENDPOINT);
         var authentication = NetsSsoAuthentication.unauthenticated(request, response);
         return this.getAuthenticationManager().authenticate(authentication);
     }
 
+    @Override
+    protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException, ServletException {
+        NetsSsoObserver.Stage stage = observer.start("successHandler", ENDPOINT);
+        NetsSsoServerTiming timing = NetsSsoServerTiming.of(request);
+        timing.begin(NetsSsoServerTiming.Stage.SERIALIZATION);
+        try {
+            super.successfulAuthentication(request, response, chain, authResult);
+            if (sessionIndex != null) {
+                // 보안 컨텍스트를 저장한 세션을 백채널 로그아웃 대상으로 등록한다.
+                NetsSsoSessionRevocationFilter.registerSession(sessionIndex, request, authResult.getName());
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            timing.end(NetsSsoServerTiming.Stage.SERIALIZATION);
+            stage.stop();
+        }
+    }
+
+    /**
+     * 세션 인증 전략을 설정합니다. 관찰기를 설정하면 {@code sessionStrategy} 단계로 관찰합니다.
+     *
+     * @param sessionStrategy 세션 인증 전략
+     */
+    @Override
+    public void setSessionAuthenticationStrategy(SessionAuthenticationStrategy sessionStrategy) {
+        super.setSessionAuthenticationStrategy((authentication, request, response) -> {
+            NetsSsoObserver.Stage stage = observer.start("sessionStrategy", ENDPOINT);
+            try {
+                sessionStrategy.onAuthentication(authentication, request, response);
+            } catch (RuntimeException e) {
+                stage.error(e);
+                throw e;
+            } finally {
+                stage.stop();
+            }
+        });
+    }
+
+    /**
+     * 인증 단계 관찰기를 설정합니다.
+     *
+     * <p>세션 인증 전략({@code sessionStrategy})과 성공 처리({@code successHandler}) 단계를 엔드포인트 {@code login}으로 관찰하며,
+     * 인증 제공자와 인증 서비스의 단계도 같은 엔드포인트로 보고되도록 요청에 엔드포인트 이름을 남깁니다.</p>
+     *
+     * @param observer 인증 단계 관찰기
+     */
+    public void setObserver(NetsSsoObserver observer) {
+        Assert.notNull(observer, "observer must not be null");
+        this.observer = observer;
+    }
+
+    /**
+     * 응답에 단계별 처리 시간({@code Server-Timing} 헤더)을 추가할지 설정합니다. 기본값은 false입니다.
+     *
+     * <p>인증 제공자({@link NetsSsoAuthenticationProvider})가 기록한 SSO 인증({@code agent})과 사용자 정보 조회({@code user}),
+     * 성공 처리({@code ser}), 전체({@code total}) 시간을 보고합니다. 헤더는 성공/실패 핸들러가 리다이렉트하거나
+     * 응답 본문을 쓰기 직전에 추가하며, 본문 없이 끝난 응답에는 처리를 마칠 때 추가합니다.</p>
+     *
+     * @param serverTiming 추가 여부
+     * @see NetsSsoServerTiming
+     */
+    public void setServerTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
+    }
+
+    /**
+     * 로그인한 HTTP 세션을 등록할 사용자별 세션 색인을 설정합니다.
+     *
+     * <p>설정하면 보안 컨텍스트를 저장한 세션을 등록하여 백채널 로그아웃으로 무효화할 수 있게 합니다.</p>
+     *
+     * @param sessionIndex 사용자별 세션 색인 (null이면 등록하지 않음)
+     * @see NetsSsoSessionRevocationFilter
+     */
+    public void setSessionIndex(@Nullable NetsSsoSessionIndex sessionIndex) {
+        this.sessionIndex = sessionIndex;
+    }
+
 //    /**
 //     * NSSO 액세스 토큰 요청의 필수 파라미터들을 검증합니다.
 //     *
@@ -3,6 +3,7 @@ package io.github.carped99.nsso;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.Assert;
 
@@ -40,6 +41,7 @@ import org.springframework.util.Assert;
 public class NetsSsoAuthenticationProvider implements AuthenticationProvider {
     private final UserDetailsService userDetailsService;
     private final NetsSsoAuthenticationService authenticationService;
+    private NetsSsoObserver observer = NetsSsoObserver.NOOP;
 
     /**
      * NetsSsoAuthenticationProvider를 생성합니다.
@@ -72,14 +74,54 @@ public class NetsSsoAuthenticationProvider implements AuthenticationProvider {
      */
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
-        var authenticated = authenticationService.authenticate((NetsSsoAuthentication) authentication);
-        var userDetails = userDetailsService.loadUserByUsername(authenticated.getName());
+        var token = (NetsSsoAuthentication) authentication;
+        String endpoint = token.getRequest() != null ? NetsSsoObserver.endpoint(token.getRequest(), "login") : "login";
+        NetsSsoServerTiming timing = NetsSsoServerTiming.of(token.getRequest());
+
+        Authentication authenticated;
+        NetsSsoObserver.Stage stage = observer.start("authenticate", endpoint);
+        timing.begin(NetsSsoServerTiming.Stage.AGENT);
+        try {
+            authenticated = authenticationService.authenticate(token);
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            timing.end(NetsSsoServerTiming.Stage.AGENT);
+            stage.stop();
+        }
+
+        UserDetails userDetails;
+        stage = observer.start("loadUserByUsername", endpoint);
+        timing.begin(NetsSsoServerTiming.Stage.USER);
+        try {
+            userDetails = userDetailsService.loadUserByUsername(authenticated.getName());
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            timing.end(NetsSsoServerTiming.Stage.USER);
+            stage.stop();
+        }
 
         var result = NetsSsoAuthentication.authenticated(userDetails, userDetails.getAuthorities());
-        result.setDetails(authentication.getDetails());
+        // 요청 토큰에 상세 정보가 없으면 NSSO 인증 시 생성한 상세 정보를 재사용한다.
+        result.setDetails(authentication.getDetails() != null ? authentication.getDetails() : authenticated.getDetails());
         return result;
     }
 
+    /**
+     * 인증 단계 관찰기를 설정합니다.
+     *
+     * <p>NSSO 인증({@code authenticate})과 사용자 정보 조회({@code loadUserByUsername}) 단계를 관찰합니다.</p>
+     *
+     * @param observer 인증 단계 관찰기
+     */
+    public void setObserver(NetsSsoObserver observer) {
+        Assert.notNull(observer, "observer must not be null");
+        this.observer = observer;
+    }
+
     /**
      * 이 제공자가 NetsSsoAuthentication 타입을 지원하는지 확인합니다.
      *
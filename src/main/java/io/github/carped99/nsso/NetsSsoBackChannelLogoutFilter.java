@@ -0,0 +1,145 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * NSSO 백채널 로그아웃 필터
+ *
+ * <p>SSO 서버나 관리 도구가 서버 간 요청으로 특정 사용자의 모든 세션을 종료할 때 사용합니다.
+ * {@link NetsSsoSessionIndex}에서 사용자의 세션 식별자를 꺼내 인증 결과 캐시에서 제거하고,
+ * 발급한 액세스 토큰과 로그인 엔드포인트가 만든 HTTP 세션을 폐기합니다. 비용은 대상 사용자의 세션 수에 비례합니다.</p>
+ *
+ * <p>서버 간 요청에서는 다른 사용자의 HTTP 세션에 접근할 수 없으므로, 폐기된 HTTP 세션은 그 세션의 다음 요청에서
+ * {@link NetsSsoSessionRevocationFilter}가 무효화합니다. 애플리케이션 필터 체인에도 이 필터를 추가해야 합니다.</p>
+ *
+ * <p>요청 형식:</p>
+ * <ul>
+ *   <li>{@code POST} 요청이며, {@value #SECRET_HEADER} 헤더에 공유 비밀값을 담아야 함</li>
+ *   <li>{@code userID} 파라미터에 사용자 ID를 하나 이상 지정 (여러 사용자를 한 번에 처리 가능)</li>
+ * </ul>
+ *
+ * <p>응답:</p>
+ * <ul>
+ *   <li>{@code 200} - {@code {"result":true,"users":2,"sessions":5}}</li>
+ *   <li>{@code 400} - 사용자 ID가 없는 경우</li>
+ *   <li>{@code 401} - 공유 비밀값이 일치하지 않는 경우</li>
+ * </ul>
+ *
+ * @author carped99
+ * @see NetsSsoSessionIndex
+ * @see NetsSsoSessionRevocationFilter
+ * @since 0.0.1
+ */
+public class NetsSsoBackChannelLogoutFilter extends OncePerRequestFilter {
+    /**
+     * 공유 비밀값 헤더 이름
+     */
+    public static final String SECRET_HEADER = "X-NSSO-Logout-Secret";
+
+    private static final byte[] UNAUTHORIZED = NetsSsoJsonWriter.errorResult("50000000", "Invalid back-channel logout secret");
+    private static final byte[] BAD_REQUEST = NetsSsoJsonWriter.errorResult("50000000", "userID is required");
+
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final RequestMatcher requestMatcher;
+    private final NetsSsoSessionIndex sessionIndex;
+    private final byte[] secret;
+    private final List<NetsSsoPrincipalCache> principalCaches = new CopyOnWriteArrayList<>();
+
+    /**
+     * 백채널 로그아웃 필터를 생성합니다.
+     *
+     * @param requestMatcher 백채널 로그아웃 요청 매처
+     * @param sessionIndex   사용자별 세션 색인
+     * @param secret         공유 비밀값
+     */
+    public NetsSsoBackChannelLogoutFilter(RequestMatcher requestMatcher, NetsSsoSessionIndex sessionIndex, String secret) {
+        Assert.notNull(requestMatcher, "requestMatcher must not be null");
+        Assert.notNull(sessionIndex, "sessionIndex must not be null");
+        Assert.hasText(secret, "secret must not be empty");
+        this.requestMatcher = requestMatcher;
+        this.sessionIndex = sessionIndex;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!requestMatcher.matches(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String provided = request.getHeader(SECRET_HEADER);
+        if (provided == null || !MessageDigest.isEqual(secret, provided.getBytes(StandardCharsets.UTF_8))) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            NetsSsoJsonWriter.writeTo(response, UNAUTHORIZED);
+            return;
+        }
+
+        String[] usernames = request.getParameterValues(SSOConst.USER_ID);
+        if (usernames == null || usernames.length == 0) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            NetsSsoJsonWriter.writeTo(response, BAD_REQUEST);
+            return;
+        }
+
+        int users = 0;
+        int sessions = 0;
+        for (String username : usernames) {
+            if (StringUtils.hasText(username)) {
+                sessions += logout(username);
+                users++;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Back-channel logout invalidated " + sessions + " session(s) of " + users + " user(s)");
+        }
+        new NetsSsoJsonWriter(64)
+                .beginObject()
+                .field("result", true)
+                .field("users", users)
+                .field("sessions", sessions)
+                .endObject()
+                .writeTo(response);
+    }
+
+    /**
+     * 세션 식별자를 제거할 인증 결과 캐시를 추가합니다.
+     *
+     * @param principalCache 인증 결과 캐시
+     */
+    public void addPrincipalCache(NetsSsoPrincipalCache principalCache) {
+        Assert.notNull(principalCache, "principalCache must not be null");
+        this.principalCaches.add(principalCache);
+    }
+
+    private int logout(String username) {
+        int count = 0;
+        for (NetsSsoSessionId id : sessionIndex.removeAll(username)) {
+            if (id.getType() == NetsSsoSessionId.Type.SESSION) {
+                for (NetsSsoPrincipalCache principalCache : principalCaches) {
+                    principalCache.evict(id.getValue());
+                }
+            }
+            count++;
+        }
+        return count;
+    }
+}
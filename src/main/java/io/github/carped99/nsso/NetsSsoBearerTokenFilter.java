@@ -0,0 +1,114 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * NSSO 액세스 토큰 인증 필터
+ *
+ * <p>{@code Authorization: Bearer} 헤더의 액세스 토큰을 {@link NetsSsoAccessTokenCodec}으로 검증하고,
+ * 토큰의 사용자 ID와 권한으로 인증된 {@link NetsSsoAuthentication}을 보안 컨텍스트에 설정합니다.
+ * SSO 에이전트나 {@code UserDetailsService}를 호출하지 않으며, 세션에 인증 정보를 저장하지 않습니다.</p>
+ *
+ * <p>헤더가 없으면 다음 필터로 넘기고, 토큰이 올바르지 않으면 {@link AuthenticationEntryPoint}로 응답합니다.
+ * 기본 응답은 {@code 401}과 {@code WWW-Authenticate: Bearer error="invalid_token"}입니다.
+ * {@link #setSessionIndex(NetsSsoSessionIndex)}를 설정하면 백채널 로그아웃으로 폐기된 토큰도 거부합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoAccessTokenCodec
+ * @since 0.0.1
+ */
+public class NetsSsoBearerTokenFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final NetsSsoAccessTokenCodec codec;
+    @Nullable
+    private NetsSsoSessionIndex sessionIndex;
+    private SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+    private AuthenticationEntryPoint authenticationEntryPoint = (request, response, e) -> {
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+    };
+
+    /**
+     * 액세스 토큰 인증 필터를 생성합니다.
+     *
+     * @param codec 토큰 검증기
+     */
+    public NetsSsoBearerTokenFilter(NetsSsoAccessTokenCodec codec) {
+        Assert.notNull(codec, "codec must not be null");
+        this.codec = codec;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        NetsSsoAccessToken accessToken;
+        try {
+            accessToken = codec.decode(header.substring(BEARER_PREFIX.length()).trim());
+            if (sessionIndex != null && accessToken.getId() != null && sessionIndex.isRevoked(accessToken.getId())) {
+                throw new NetsSsoAuthenticationException(NetsSsoAccessTokenCodec.INVALID_TOKEN_CODE, "Access token revoked");
+            }
+        } catch (AuthenticationException e) {
+            this.securityContextHolderStrategy.clearContext();
+            this.authenticationEntryPoint.commence(request, response, e);
+            return;
+        }
+
+        NetsSsoAuthentication authentication = NetsSsoAuthentication.authenticated(accessToken.getSubject(), AuthorityUtils.createAuthorityList(accessToken.getAuthorities()));
+        authentication.setDetails(accessToken);
+
+        SecurityContext context = this.securityContextHolderStrategy.createEmptyContext();
+        context.setAuthentication(authentication);
+        this.securityContextHolderStrategy.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 보안 컨텍스트 전략을 설정합니다.
+     *
+     * @param securityContextHolderStrategy 보안 컨텍스트 전략
+     */
+    public void setSecurityContextHolderStrategy(SecurityContextHolderStrategy securityContextHolderStrategy) {
+        Assert.notNull(securityContextHolderStrategy, "securityContextHolderStrategy must not be null");
+        this.securityContextHolderStrategy = securityContextHolderStrategy;
+    }
+
+    /**
+     * 폐기된 토큰을 확인할 사용자별 세션 색인을 설정합니다.
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     */
+    public void setSessionIndex(@Nullable NetsSsoSessionIndex sessionIndex) {
+        this.sessionIndex = sessionIndex;
+    }
+
+    /**
+     * 토큰 검증 실패 시 응답할 진입점을 설정합니다.
+     *
+     * @param authenticationEntryPoint 인증 진입점
+     */
+    public void setAuthenticationEntryPoint(AuthenticationEntryPoint authenticationEntryPoint) {
+        Assert.notNull(authenticationEntryPoint, "authenticationEntryPoint must not be null");
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.carped99.nsso;
+
+import lombok.Value;
+
+/**
+ * NSSO 캐시 통계
+ *
+ * <p>캐시의 적중, 실패, 제거 횟수와 현재 크기를 담는 불변 객체입니다.
+ * 통계는 조회 시점의 스냅샷이며, 이후 캐시 동작에 따라 갱신되지 않습니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@Value
+public class NetsSsoCacheStats {
+    /**
+     * 캐시 적중 횟수
+     */
+    long hitCount;
+    /**
+     * 캐시 실패 횟수
+     */
+    long missCount;
+    /**
+     * 용량 초과 또는 만료로 제거된 항목 수
+     */
+    long evictionCount;
+    /**
+     * 현재 캐시 항목 수
+     */
+    long size;
+
+    /**
+     * 비어있는 통계를 반환합니다.
+     *
+     * @return 모든 값이 0인 통계
+     */
+    public static NetsSsoCacheStats empty() {
+        return new NetsSsoCacheStats(0, 0, 0, 0);
+    }
+
+    /**
+     * 전체 조회 횟수를 반환합니다.
+     *
+     * @return 적중 횟수와 실패 횟수의 합
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * 캐시 적중률을 반환합니다.
+     *
+     * @return 0.0 ~ 1.0 사이의 적중률 (조회가 없으면 1.0)
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.carped99.nsso;
+
+import lombok.Value;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 캐시에 저장되는 NSSO 인증 결과
+ *
+ * <p>SSO 에이전트를 통해 검증된 인증 객체와 저장 시각, 만료 시각을 함께 보관합니다.
+ * 만료 시각은 절대 시각이므로 여러 노드가 공유하는 캐시에도 그대로 저장할 수 있습니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoPrincipalCache
+ * @since 0.0.1
+ */
+@Value
+public class NetsSsoCachedPrincipal implements Serializable {
+    /**
+     * 검증된 인증 객체
+     */
+    Authentication authentication;
+    /**
+     * 캐시에 저장된 시각
+     */
+    Instant cachedAt;
+    /**
+     * 만료 시각
+     */
+    Instant expiresAt;
+
+    /**
+     * 주어진 시각에 만료되었는지 확인합니다.
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 만료 전에 미리 갱신해야 하는지 확인합니다.
+     *
+     * @param now          기준 시각
+     * @param refreshAhead 만료 전 갱신을 시작할 시간
+     * @return 갱신 구간에 들어왔으면 true
+     */
+    public boolean isRefreshDue(Instant now, Duration refreshAhead) {
+        return !now.isBefore(expiresAt.minus(refreshAhead));
+    }
+}
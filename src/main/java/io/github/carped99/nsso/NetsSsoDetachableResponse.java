@@ -0,0 +1,212 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * 비동기 에이전트 호출에 넘기는, 떼어낼 수 있는 응답
+ *
+ * <p>기한을 넘긴 에이전트 호출은 작업 스레드에서 계속 실행되면서 쿠키나 헤더를 쓸 수 있습니다.
+ * 필터는 기한 응답을 쓰기 전에 {@link #detach()}로 이 응답을 떼어내고, 이후의 쿠키, 헤더, 상태 변경은 버립니다.
+ * 떼어낸 뒤 출력 스트림을 얻으려 하면 {@link IllegalStateException}이 발생합니다.</p>
+ *
+ * <p>변경과 떼어내기는 이 객체로 동기화되므로, 떼어내기가 끝나면 작업 스레드는 원래 응답을 더 이상 건드리지 않습니다.
+ * 요청 객체는 떼어내지 않으므로 필터는 작업이 끝날 때까지 비동기 처리({@link jakarta.servlet.AsyncContext})를 끝내지 않아야 합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoAgentFilter
+ * @see NetsSsoTokenFilter
+ * @since 0.0.1
+ */
+public final class NetsSsoDetachableResponse extends HttpServletResponseWrapper {
+    private boolean detached;
+
+    /**
+     * 생성자
+     *
+     * @param response 감쌀 HTTP 응답
+     */
+    public NetsSsoDetachableResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    /**
+     * 응답을 떼어냅니다. 이후의 변경은 원래 응답에 반영되지 않습니다.
+     */
+    public synchronized void detach() {
+        this.detached = true;
+    }
+
+    /**
+     * 응답을 떼어냈는지 반환합니다.
+     *
+     * @return 떼어냈으면 true
+     */
+    public synchronized boolean isDetached() {
+        return detached;
+    }
+
+    @Override
+    public synchronized void addCookie(Cookie cookie) {
+        if (!detached) {
+            super.addCookie(cookie);
+        }
+    }
+
+    @Override
+    public synchronized void setHeader(String name, String value) {
+        if (!detached) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void addHeader(String name, String value) {
+        if (!detached) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void setDateHeader(String name, long date) {
+        if (!detached) {
+            super.setDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public synchronized void addDateHeader(String name, long date) {
+        if (!detached) {
+            super.addDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public synchronized void setIntHeader(String name, int value) {
+        if (!detached) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void addIntHeader(String name, int value) {
+        if (!detached) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void setStatus(int sc) {
+        if (!detached) {
+            super.setStatus(sc);
+        }
+    }
+
+    @Override
+    public synchronized void setContentType(String type) {
+        if (!detached) {
+            super.setContentType(type);
+        }
+    }
+
+    @Override
+    public synchronized void setCharacterEncoding(String charset) {
+        if (!detached) {
+            super.setCharacterEncoding(charset);
+        }
+    }
+
+    @Override
+    public synchronized void setContentLength(int len) {
+        if (!detached) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public synchronized void setContentLengthLong(long len) {
+        if (!detached) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public synchronized void setLocale(Locale loc) {
+        if (!detached) {
+            super.setLocale(loc);
+        }
+    }
+
+    @Override
+    public synchronized void setBufferSize(int size) {
+        if (!detached) {
+            super.setBufferSize(size);
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (!detached) {
+            super.reset();
+        }
+    }
+
+    @Override
+    public synchronized void resetBuffer() {
+        if (!detached) {
+            super.resetBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void flushBuffer() throws IOException {
+        if (!detached) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void sendError(int sc, String msg) throws IOException {
+        if (!detached) {
+            super.sendError(sc, msg);
+        }
+    }
+
+    @Override
+    public synchronized void sendError(int sc) throws IOException {
+        if (!detached) {
+            super.sendError(sc);
+        }
+    }
+
+    @Override
+    public synchronized void sendRedirect(String location) throws IOException {
+        if (!detached) {
+            super.sendRedirect(location);
+        }
+    }
+
+    @Override
+    public synchronized ServletOutputStream getOutputStream() throws IOException {
+        checkAttached();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public synchronized PrintWriter getWriter() throws IOException {
+        checkAttached();
+        return super.getWriter();
+    }
+
+    private void checkAttached() {
+        if (detached) {
+            throw new IllegalStateException("Response has been detached after the NSSO agent deadline");
+        }
+    }
+}
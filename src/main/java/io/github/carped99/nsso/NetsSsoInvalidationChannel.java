@@ -0,0 +1,56 @@
+package io.github.carped99.nsso;
+
+/**
+ * NSSO 인증 결과 캐시 무효화 채널 인터페이스
+ *
+ * <p>여러 노드가 인증 결과를 공유할 때, 한 노드에서 제거한 세션을 다른 노드의 근거리 캐시에서도 제거하도록
+ * 무효화 메시지를 전달합니다. Redis Pub/Sub, 메시지 브로커 등으로 구현할 수 있습니다.</p>
+ *
+ * <p>구현체는 다음 조건을 만족해야 합니다:</p>
+ * <ul>
+ *   <li>발행한 메시지는 자신을 포함한 모든 구독자에게 전달해야 함</li>
+ *   <li>여러 스레드에서 동시에 호출해도 안전해야 함</li>
+ *   <li>발행은 요청 스레드를 오래 붙잡지 않아야 함</li>
+ * </ul>
+ *
+ * @author carped99
+ * @see NetsSsoPrincipalCache
+ * @since 0.0.1
+ */
+public interface NetsSsoInvalidationChannel {
+    /**
+     * 지정된 키의 무효화를 발행합니다.
+     *
+     * @param key SSO 세션 키
+     */
+    void publishEvict(String key);
+
+    /**
+     * 전체 무효화를 발행합니다.
+     */
+    void publishClear();
+
+    /**
+     * 무효화 메시지를 구독합니다.
+     *
+     * @param listener 무효화 수신기
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * 무효화 수신기
+     */
+    interface Listener {
+        /**
+         * 지정된 키가 무효화되었을 때 호출됩니다.
+         *
+         * @param key SSO 세션 키
+         */
+        void onEvict(String key);
+
+        /**
+         * 전체가 무효화되었을 때 호출됩니다.
+         */
+        void onClear();
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * NSSO 응답용 JSON 작성기
+ *
+ * <p>객체와 값을 UTF-8 바이트 배열에 직접 인코딩하며, 문자열 값은 JSON 규칙에 따라 이스케이프합니다.
+ * 중간 문자열이나 문자 버퍼를 만들지 않으며, 작성이 끝난 크기를 알고 있으므로
+ * {@link #writeTo(HttpServletResponse)}에서 {@code Content-Length}를 설정하여 출력 스트림에 한 번에 씁니다.</p>
+ *
+ * <p>쉼표는 자동으로 추가되며, 중첩 객체는 지원하지 않습니다. 이 클래스는 스레드에 안전하지 않습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * new NetsSsoJsonWriter()
+ *     .beginObject()
+ *     .field("result", false)
+ *     .field("errorCode", "50000000")
+ *     .field("errorMessage", message)
+ *     .endObject()
+ *     .writeTo(response);
+ * }</pre>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public final class NetsSsoJsonWriter {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buf;
+    private int count;
+    private boolean first = true;
+
+    /**
+     * 기본 크기(256 바이트)의 작성기를 생성합니다.
+     */
+    public NetsSsoJsonWriter() {
+        this(256);
+    }
+
+    /**
+     * 지정된 초기 크기의 작성기를 생성합니다.
+     *
+     * @param capacity 초기 버퍼 크기
+     */
+    public NetsSsoJsonWriter(int capacity) {
+        this.buf = new byte[Math.max(capacity, 16)];
+    }
+
+    /**
+     * 오류 응답({@code result}, {@code errorCode}, {@code errorMessage})을 인코딩합니다.
+     *
+     * <p>고정된 오류 응답은 이 메서드로 한 번만 인코딩하여 재사용합니다.</p>
+     *
+     * @param errorCode    오류 코드
+     * @param errorMessage 오류 메시지
+     * @return UTF-8로 인코딩된 오류 응답
+     */
+    public static byte[] errorResult(String errorCode, @Nullable String errorMessage) {
+        return new NetsSsoJsonWriter(64 + (errorMessage != null ? errorMessage.length() * 3 : 0))
+                .beginObject()
+                .field("result", false)
+                .field("errorCode", errorCode)
+                .field("errorMessage", errorMessage)
+                .endObject()
+                .toByteArray();
+    }
+
+    /**
+     * 응답 본문을 JSON으로 씁니다.
+     *
+     * <p>Content-Type, 문자 인코딩, Content-Length를 설정하고 출력 스트림에 씁니다. 출력 스트림은 닫지 않습니다.</p>
+     *
+     * @param response HTTP 응답
+     * @param body     UTF-8로 인코딩된 본문
+     * @throws IOException 쓰기 실패 시
+     */
+    public static void writeTo(HttpServletResponse response, byte[] body) throws IOException {
+        writeTo(response, body, body.length);
+    }
+
+    private static void writeTo(HttpServletResponse response, byte[] body, int length) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(length);
+        response.getOutputStream().write(body, 0, length);
+    }
+
+    /**
+     * 객체를 시작합니다.
+     *
+     * @return 현재 작성기
+     */
+    public NetsSsoJsonWriter beginObject() {
+        writeByte('{');
+        first = true;
+        return this;
+    }
+
+    /**
+     * 객체를 끝냅니다.
+     *
+     * @return 현재 작성기
+     */
+    public NetsSsoJsonWriter endObject() {
+        writeByte('}');
+        first = false;
+        return this;
+    }
+
+    /**
+     * 문자열 필드를 씁니다.
+     *
+     * @param name  필드 이름
+     * @param value 필드 값 (null이면 {@code null})
+     * @return 현재 작성기
+     */
+    public NetsSsoJsonWriter field(String name, @Nullable String value) {
+        name(name);
+        if (value == null) {
+            writeBytes(NULL);
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * 숫자 필드를 씁니다.
+     *
+     * @param name  필드 이름
+     * @param value 필드 값
+     * @return 현재 작성기
+     */
+    public NetsSsoJsonWriter field(String name, long value) {
+        name(name);
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * 논리 필드를 씁니다.
+     *
+     * @param name  필드 이름
+     * @param value 필드 값
+     * @return 현재 작성기
+     */
+    public NetsSsoJsonWriter field(String name, boolean value) {
+        name(name);
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    /**
+     * 문자열 배열 필드를 씁니다.
+     *
+     * @param name   필드 이름
+     * @param values 배열 요소
+     * @return 현재 작성기
+     */
+    public NetsSsoJsonWriter array(String name, Collection<String> values) {
+        name(name);
+        writeByte('[');
+        boolean firstValue = true;
+        for (String value : values) {
+            if (!firstValue) {
+                writeByte(',');
+            }
+            firstValue = false;
+            writeString(value);
+        }
+        writeByte(']');
+        return this;
+    }
+
+    /**
+     * 작성된 내용을 바이트 배열로 반환합니다.
+     *
+     * @return UTF-8로 인코딩된 JSON
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * 작성된 내용을 응답 본문으로 씁니다.
+     *
+     * @param response HTTP 응답
+     * @throws IOException 쓰기 실패 시
+     * @see #writeTo(HttpServletResponse, byte[])
+     */
+    public void writeTo(HttpServletResponse response) throws IOException {
+        writeTo(response, buf, count);
+    }
+
+    /**
+     * 작성된 바이트 수를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void name(String name) {
+        if (!first) {
+            writeByte(',');
+        }
+        first = false;
+        writeString(name);
+        writeByte(':');
+    }
+
+    private void writeString(String value) {
+        int length = value.length();
+        // 대부분 ASCII이므로 따옴표와 함께 한 번에 공간을 확보한다.
+        ensureCapacity(length + 2);
+        buf[count++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c < 0x20 || c == '"' || c == '\\') {
+                    writeEscaped(c);
+                } else {
+                    writeByte(c);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buf[count++] = (byte) (0xc0 | (c >> 6));
+                buf[count++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buf[count++] = (byte) (0xf0 | (cp >> 18));
+                buf[count++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                buf[count++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                buf[count++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 없는 서로게이트는 UTF-8로 표현할 수 없으므로 이스케이프한다.
+                writeEscaped(c);
+            } else {
+                ensureCapacity(3);
+                buf[count++] = (byte) (0xe0 | (c >> 12));
+                buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buf[count++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscaped(char c) {
+        ensureCapacity(6);
+        buf[count++] = '\\';
+        switch (c) {
+            case '"' -> buf[count++] = '"';
+            case '\\' -> buf[count++] = '\\';
+            case '\n' -> buf[count++] = 'n';
+            case '\r' -> buf[count++] = 'r';
+            case '\t' -> buf[count++] = 't';
+            case '\b' -> buf[count++] = 'b';
+            case '\f' -> buf[count++] = 'f';
+            default -> {
+                buf[count++] = 'u';
+                buf[count++] = HEX[(c >> 12) & 0xf];
+                buf[count++] = HEX[(c >> 8) & 0xf];
+                buf[count++] = HEX[(c >> 4) & 0xf];
+                buf[count++] = HEX[c & 0xf];
+            }
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        ensureCapacity(20);
+        if (value < 0) {
+            buf[count++] = '-';
+            value = -value;
+        }
+        int start = count;
+        do {
+            buf[count++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        // 역순으로 기록한 자릿수를 뒤집는다.
+        for (int i = start, j = count - 1; i < j; i++, j--) {
+            byte tmp = buf[i];
+            buf[i] = buf[j];
+            buf[j] = tmp;
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buf[count++] = (byte) b;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (count + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+        }
+    }
+}
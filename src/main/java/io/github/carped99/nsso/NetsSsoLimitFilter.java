@@ -0,0 +1,133 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * NSSO 엔드포인트 동시 처리 수 제한 필터
+ *
+ * <p>이 필터는 NSSO 필터들보다 앞에 위치하여 경로 테이블({@link NetsSsoRouter})에서 엔드포인트를 찾고,
+ * 해당 엔드포인트의 {@link NetsSsoLimiter}에서 자리를 얻은 요청만 처리합니다.
+ * 자리를 얻지 못한 요청은 컨테이너에서 기다리게 하지 않고 바로 {@code 503}과 {@code Retry-After} 헤더,
+ * 오류 코드 {@value #LIMIT_EXCEEDED_CODE}로 응답합니다.</p>
+ *
+ * <p>처리가 끝나면 처리 시간을 제한기에 알립니다. {@code 503}, {@code 504} 응답은 과부하로 보고 제한을 줄이며,
+ * 예외로 끝난 요청은 처리 시간을 반영하지 않습니다. 비동기 처리로 전환된 요청은 비동기 처리가 끝날 때 알립니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoLimits
+ * @since 0.0.1
+ */
+public class NetsSsoLimitFilter extends OncePerRequestFilter {
+    /**
+     * 동시 처리 수 제한으로 처리하지 않은 경우의 오류 코드
+     */
+    public static final String LIMIT_EXCEEDED_CODE = "50000006";
+
+    private static final byte[] LIMIT_EXCEEDED = NetsSsoJsonWriter.errorResult(LIMIT_EXCEEDED_CODE, "Too many concurrent NSSO requests");
+
+    private final NetsSsoRouter router;
+    private final NetsSsoLimits limits;
+    private final String retryAfter;
+
+    /**
+     * 생성자
+     *
+     * @param router 엔드포인트 경로 테이블
+     * @param limits 엔드포인트별 제한 설정
+     */
+    public NetsSsoLimitFilter(NetsSsoRouter router, NetsSsoLimits limits) {
+        Assert.notNull(router, "router must not be null");
+        Assert.notNull(limits, "limits must not be null");
+        this.router = router;
+        this.limits = limits;
+        long millis = limits.getRetryAfter().toMillis();
+        this.retryAfter = Long.toString((millis + 999) / 1000);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        NetsSsoLimiter limiter = resolveLimiter(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        NetsSsoLimiter.Permit permit = limiter.acquire();
+        if (permit == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            NetsSsoJsonWriter.writeTo(response, LIMIT_EXCEEDED);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(permit));
+            } else {
+                release(permit, response.getStatus());
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                permit.onIgnore();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return resolveLimiter(request) == null;
+    }
+
+    @Nullable
+    private NetsSsoLimiter resolveLimiter(HttpServletRequest request) {
+        NetsSsoRoute route = router.route(request);
+        return route != null ? limits.getLimiter(route.getName()) : null;
+    }
+
+    private static void release(NetsSsoLimiter.Permit permit, int status) {
+        if (status == HttpServletResponse.SC_SERVICE_UNAVAILABLE || status == HttpServletResponse.SC_GATEWAY_TIMEOUT) {
+            permit.onDropped();
+        } else {
+            permit.onSuccess();
+        }
+    }
+
+    private static final class ReleasingListener implements AsyncListener {
+        private final NetsSsoLimiter.Permit permit;
+
+        ReleasingListener(NetsSsoLimiter.Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(permit, ((HttpServletResponse) event.getSuppliedResponse()).getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
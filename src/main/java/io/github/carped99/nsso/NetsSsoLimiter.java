@@ -0,0 +1,67 @@
+package io.github.carped99.nsso;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * NSSO 엔드포인트 동시 처리 수 제한 인터페이스
+ *
+ * <p>요청을 처리하기 전에 {@link #acquire()}로 자리를 얻고, 처리가 끝나면 반환된 {@link Permit}으로 결과를 알립니다.
+ * 적응형 구현체는 처리 시간과 실패 여부로 감당할 수 있는 동시 처리 수를 계속 다시 계산합니다.</p>
+ *
+ * <p>구현체는 다음 조건을 만족해야 합니다:</p>
+ * <ul>
+ *   <li>여러 스레드에서 동시에 호출해도 안전해야 함</li>
+ *   <li>{@link #acquire()}는 기다리지 않고 바로 반환해야 함</li>
+ * </ul>
+ *
+ * @author carped99
+ * @see NetsSsoLimitFilter
+ * @see io.github.carped99.nsso.impl.NetsSsoVegasLimiter
+ * @see io.github.carped99.nsso.impl.NetsSsoGradientLimiter
+ * @since 0.0.1
+ */
+public interface NetsSsoLimiter {
+    /**
+     * 처리 자리를 얻습니다.
+     *
+     * @return 처리 자리 (제한에 걸리면 null)
+     */
+    @Nullable
+    Permit acquire();
+
+    /**
+     * 현재 동시 처리 수 제한을 반환합니다.
+     *
+     * @return 동시 처리 수 제한
+     */
+    int getLimit();
+
+    /**
+     * 처리 중인 요청 수를 반환합니다.
+     *
+     * @return 처리 중인 요청 수
+     */
+    int getInFlight();
+
+    /**
+     * 얻은 처리 자리
+     *
+     * <p>아래 메서드 중 하나를 정확히 한 번 호출해야 합니다.</p>
+     */
+    interface Permit {
+        /**
+         * 요청을 정상적으로 처리했습니다. 처리 시간을 제한 계산에 사용합니다.
+         */
+        void onSuccess();
+
+        /**
+         * 과부하로 요청 처리에 실패했습니다. 제한을 줄입니다.
+         */
+        void onDropped();
+
+        /**
+         * 처리 시간을 제한 계산에 사용하지 않고 자리만 반납합니다.
+         */
+        void onIgnore();
+    }
+}
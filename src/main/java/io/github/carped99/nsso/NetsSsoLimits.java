@@ -0,0 +1,112 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoVegasLimiter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * NSSO 엔드포인트별 동시 처리 수 제한 설정
+ *
+ * <p>엔드포인트(경로 이름: check, config, duplication, tfa, key, login, logout, token 등)마다 별도의 제한기를 만들어,
+ * 한 엔드포인트에 몰린 요청이 다른 엔드포인트와 애플리케이션의 다른 요청까지 막지 않게 합니다.
+ * 제한기는 엔드포인트를 처음 사용할 때 만들며, 따로 지정하지 않은 엔드포인트는 기본 제한기({@link NetsSsoVegasLimiter})를 사용합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * sso.concurrencyLimit(limits -> limits
+ *     .route("login", () -> new NetsSsoGradientLimiter().setLimitRange(4, 100))
+ *     .exclude("logout")
+ *     .setRetryAfter(Duration.ofSeconds(2)))
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoLimitFilter
+ * @since 0.0.1
+ */
+public class NetsSsoLimits {
+    private final Map<String, Supplier<? extends NetsSsoLimiter>> factories = new ConcurrentHashMap<>();
+    private final Map<String, NetsSsoLimiter> limiters = new ConcurrentHashMap<>();
+    private final Set<String> excluded = ConcurrentHashMap.newKeySet();
+    private Supplier<? extends NetsSsoLimiter> defaults = NetsSsoVegasLimiter::new;
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * 따로 지정하지 않은 엔드포인트의 제한기 생성기를 설정합니다.
+     *
+     * @param factory 제한기 생성기 (엔드포인트마다 호출)
+     * @return 현재 인스턴스
+     */
+    public NetsSsoLimits defaults(Supplier<? extends NetsSsoLimiter> factory) {
+        Assert.notNull(factory, "factory must not be null");
+        this.defaults = factory;
+        return this;
+    }
+
+    /**
+     * 엔드포인트의 제한기 생성기를 설정합니다.
+     *
+     * @param route   경로 이름
+     * @param factory 제한기 생성기
+     * @return 현재 인스턴스
+     */
+    public NetsSsoLimits route(String route, Supplier<? extends NetsSsoLimiter> factory) {
+        Assert.hasText(route, "route must not be empty");
+        Assert.notNull(factory, "factory must not be null");
+        this.factories.put(route, factory);
+        this.excluded.remove(route);
+        return this;
+    }
+
+    /**
+     * 제한하지 않을 엔드포인트를 지정합니다.
+     *
+     * @param routes 경로 이름
+     * @return 현재 인스턴스
+     */
+    public NetsSsoLimits exclude(String... routes) {
+        Assert.noNullElements(routes, "routes must not contain null elements");
+        this.excluded.addAll(Set.of(routes));
+        return this;
+    }
+
+    /**
+     * 제한에 걸린 응답의 {@code Retry-After} 값을 설정합니다. 기본값은 1초입니다.
+     *
+     * @param retryAfter 재시도 대기 시간 (초 단위로 올림)
+     * @return 현재 인스턴스
+     */
+    public NetsSsoLimits setRetryAfter(Duration retryAfter) {
+        Assert.isTrue(retryAfter != null && !retryAfter.isNegative(), "retryAfter must not be negative");
+        this.retryAfter = retryAfter;
+        return this;
+    }
+
+    /**
+     * 제한에 걸린 응답의 {@code Retry-After} 값을 반환합니다.
+     *
+     * @return 재시도 대기 시간
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * 엔드포인트의 제한기를 반환합니다. 처음 요청할 때 생성합니다.
+     *
+     * @param route 경로 이름
+     * @return 제한기 (제한하지 않는 엔드포인트면 null)
+     */
+    @Nullable
+    public NetsSsoLimiter getLimiter(String route) {
+        if (excluded.contains(route)) {
+            return null;
+        }
+        return limiters.computeIfAbsent(route, name -> factories.getOrDefault(name, defaults).get());
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.carped99.nsso;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * NSSO 지표 수집 인터페이스
+ *
+ * <p>NSSO 엔드포인트 처리 시간, SSO 에이전트 호출 시간, SSO 오류 코드별 실패 횟수, 캐시 등의 상태 값을 수집합니다.
+ * 모든 메서드는 기본적으로 아무것도 하지 않으므로, 필요한 지표만 구현할 수 있습니다.</p>
+ *
+ * <p>구현체는 여러 스레드에서 동시에 호출해도 안전해야 하며, 요청 처리 경로에서 호출되므로 가벼워야 합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .metrics(new NetsSsoMicrometerMetrics(meterRegistry))
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see io.github.carped99.nsso.impl.NetsSsoMicrometerMetrics
+ * @since 0.0.1
+ */
+public interface NetsSsoMetrics {
+    /**
+     * 아무 지표도 수집하지 않는 구현체
+     */
+    NetsSsoMetrics NOOP = new NetsSsoMetrics() {
+    };
+
+    /**
+     * NSSO 엔드포인트 처리 시간을 기록합니다.
+     *
+     * @param endpoint      엔드포인트 이름 (check, config, duplication, tfa, key, login, logout, token)
+     * @param status        HTTP 응답 상태 코드
+     * @param durationNanos 처리 시간 (나노초)
+     */
+    default void recordEndpoint(String endpoint, int status, long durationNanos) {
+    }
+
+    /**
+     * SSO 에이전트 호출 시간을 기록합니다.
+     *
+     * @param operation     에이전트 호출 이름 (예: authnLoginStay, authn, getConfJson)
+     * @param success       호출 성공 여부
+     * @param durationNanos 호출 시간 (나노초)
+     */
+    default void recordAgentCall(String operation, boolean success, long durationNanos) {
+    }
+
+    /**
+     * SSO 인증 실패를 기록합니다.
+     *
+     * @param code      SSO 오류 코드
+     * @param exception 변환된 인증 예외 타입
+     */
+    default void recordFailure(String code, Class<?> exception) {
+    }
+
+    /**
+     * 응답 캐시 이벤트를 기록합니다.
+     *
+     * @param cache 캐시 이름 (config, key, stale-principal)
+     * @param event 이벤트 (hit, miss, refresh, stale)
+     * @see NetsSsoResponseCache
+     */
+    default void recordCacheEvent(String cache, String event) {
+    }
+
+    /**
+     * SSO 에이전트 호출 회로 차단기의 상태 변경을 기록합니다.
+     *
+     * @param operation 작업 이름 (check, config, duplication, tfa, key, authenticate, logout)
+     * @param state     새 상태 (closed, open, half_open)
+     * @see io.github.carped99.nsso.impl.NetsSsoCircuitBreaker
+     */
+    default void recordCircuitStateChange(String operation, String state) {
+    }
+
+    /**
+     * 상태 값을 등록합니다.
+     *
+     * @param name  지표 이름
+     * @param obj   상태를 조회할 객체
+     * @param value 상태 값을 계산하는 함수
+     * @param <T>   객체 타입
+     */
+    default <T> void gauge(String name, T obj, ToDoubleFunction<T> value) {
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NSSO 엔드포인트 처리 시간을 기록하는 필터
+ *
+ * <p>이 필터는 NSSO 필터들보다 앞에 위치하여 경로 테이블({@link NetsSsoRouter})에서 요청이 어느 엔드포인트에 해당하는지 확인하고,
+ * 응답이 끝나면 처리 시간과 응답 상태 코드를 {@link NetsSsoMetrics}에 기록합니다.
+ * 비동기 처리로 전환된 요청은 비동기 처리가 끝날 때 기록합니다.</p>
+ *
+ * <p>{@code nsso.endpoint.active} 상태 값으로 처리 중인 요청 수를 제공합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoMetrics
+ * @since 0.0.1
+ */
+public class NetsSsoMetricsFilter extends OncePerRequestFilter {
+    private final NetsSsoRouter router;
+    private final NetsSsoMetrics metrics;
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * 생성자
+     *
+     * @param router  엔드포인트 경로 테이블 (엔드포인트 이름을 지표 태그로 사용)
+     * @param metrics 지표 수집기
+     */
+    public NetsSsoMetricsFilter(NetsSsoRouter router, NetsSsoMetrics metrics) {
+        Assert.notNull(router, "router must not be null");
+        Assert.notNull(metrics, "metrics must not be null");
+        this.router = router;
+        this.metrics = metrics;
+        this.metrics.gauge("nsso.endpoint.active", this.active, AtomicInteger::get);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String endpoint = resolveEndpoint(request);
+        long start = System.nanoTime();
+        active.incrementAndGet();
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordingListener(endpoint, start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                record(endpoint, response.getStatus(), start);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return resolveEndpoint(request) == null;
+    }
+
+    @Nullable
+    private String resolveEndpoint(HttpServletRequest request) {
+        NetsSsoRoute route = router.route(request);
+        return route != null ? route.getName() : null;
+    }
+
+    private void record(String endpoint, int status, long start) {
+        active.decrementAndGet();
+        metrics.recordEndpoint(endpoint, status, System.nanoTime() - start);
+    }
+
+    private final class RecordingListener implements AsyncListener {
+        private final String endpoint;
+        private final long start;
+
+        RecordingListener(String endpoint, long start) {
+            this.endpoint = endpoint;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(endpoint, ((HttpServletResponse) event.getSuppliedResponse()).getStatus(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * NSSO 인증 단계 관찰 인터페이스
+ *
+ * <p>요청 래핑, {@code SSOAuthn.get}, {@code authnLoginStay}, {@code authn}, 사용자 정보 조회, 세션 전략, 성공 핸들러 등
+ * 인증의 각 단계를 시작할 때 {@link #start(String, String)}를 호출하고, 단계가 끝나면 {@link Stage#stop()}을 호출합니다.
+ * 구현체는 단계를 추적 구간(span)이나 관찰(Observation)로 보고할 수 있습니다.</p>
+ *
+ * <p>기본값인 {@link #NOOP}은 아무 일도 하지 않으며 객체를 만들지 않습니다.
+ * 태그는 값의 종류가 적은 것(단계, 엔드포인트, SSO 상태 코드)만 사용합니다.</p>
+ *
+ * @author carped99
+ * @see io.github.carped99.nsso.impl.NetsSsoObservationObserver
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface NetsSsoObserver {
+    /**
+     * 아무것도 관찰하지 않는 기본 구현
+     */
+    NetsSsoObserver NOOP = (stage, endpoint) -> Stage.NOOP;
+
+    /**
+     * 요청을 처리하는 엔드포인트 이름을 보관하는 요청 속성 이름
+     */
+    String ENDPOINT_ATTRIBUTE = NetsSsoObserver.class.getName() + ".ENDPOINT";
+
+    /**
+     * 단계를 시작합니다.
+     *
+     * @param stage    단계 이름 (예: sso.authn, loadUserByUsername)
+     * @param endpoint 엔드포인트 이름 (예: login, token, check)
+     * @return 시작한 단계
+     */
+    Stage start(String stage, String endpoint);
+
+    /**
+     * 요청 속성에 보관된 엔드포인트 이름을 반환합니다.
+     *
+     * @param request  HTTP 요청
+     * @param fallback 보관된 이름이 없을 때 사용할 이름
+     * @return 엔드포인트 이름
+     */
+    static String endpoint(HttpServletRequest request, String fallback) {
+        return request.getAttribute(ENDPOINT_ATTRIBUTE) instanceof String endpoint ? endpoint : fallback;
+    }
+
+    /**
+     * 진행 중인 단계
+     */
+    interface Stage {
+        /**
+         * 아무 일도 하지 않는 단계
+         */
+        Stage NOOP = new Stage() {
+            @Override
+            public Stage tag(String key, String value) {
+                return this;
+            }
+
+            @Override
+            public Stage tag(String key, int value) {
+                return this;
+            }
+
+            @Override
+            public void error(Throwable error) {
+            }
+
+            @Override
+            public void stop() {
+            }
+        };
+
+        /**
+         * 태그를 추가합니다.
+         *
+         * @param key   태그 이름
+         * @param value 태그 값 (종류가 적은 값)
+         * @return 현재 단계
+         */
+        Stage tag(String key, String value);
+
+        /**
+         * 숫자 태그를 추가합니다. 관찰하지 않으면 문자열로 바꾸지 않습니다.
+         *
+         * @param key   태그 이름
+         * @param value 태그 값 (예: SSO 상태 코드)
+         * @return 현재 단계
+         */
+        default Stage tag(String key, int value) {
+            return tag(key, Integer.toString(value));
+        }
+
+        /**
+         * 단계가 예외로 끝났음을 기록합니다.
+         *
+         * @param error 예외
+         */
+        void error(Throwable error);
+
+        /**
+         * 단계를 끝냅니다.
+         */
+        void stop();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.carped99.nsso;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * NSSO 인증 결과 캐시 인터페이스
+ *
+ * <p>SSO 세션 식별자를 키로 하여 SSO 에이전트가 검증한 인증 결과를 보관합니다.
+ * 살아있는 세션에 대한 반복 인증이 SSO 에이전트를 다시 호출하지 않도록 하는 데 사용됩니다.</p>
+ *
+ * <p>구현체는 다음 조건을 만족해야 합니다:</p>
+ * <ul>
+ *   <li>여러 스레드에서 동시에 호출해도 안전해야 함</li>
+ *   <li>만료 시각이 지난 항목은 반환하지 않아야 함</li>
+ *   <li>저장 용량이 제한되어야 함</li>
+ * </ul>
+ *
+ * @author carped99
+ * @see NetsSsoCachedPrincipal
+ * @see NetsSsoSessionKeyResolver
+ * @since 0.0.1
+ */
+public interface NetsSsoPrincipalCache {
+    /**
+     * 캐시된 인증 결과를 조회합니다.
+     *
+     * @param key SSO 세션 키
+     * @return 캐시된 인증 결과 (없거나 만료되었으면 null)
+     */
+    @Nullable
+    NetsSsoCachedPrincipal get(String key);
+
+    /**
+     * 캐시된 인증 결과를 부수 효과 없이 조회합니다.
+     *
+     * <p>{@link #get(String)}과 달리 적중/실패 횟수를 집계하지 않고, 항목의 사용 순서나 근거리 캐시 등 캐시 상태를 바꾸지 않습니다.
+     * 로그아웃처럼 제거하기 전에 내용을 확인할 때 사용합니다.</p>
+     *
+     * @param key SSO 세션 키
+     * @return 캐시된 인증 결과 (없거나 만료되었으면 null)
+     */
+    @Nullable
+    NetsSsoCachedPrincipal peek(String key);
+
+    /**
+     * 인증 결과를 저장합니다.
+     *
+     * @param key       SSO 세션 키
+     * @param principal 저장할 인증 결과
+     */
+    void put(String key, NetsSsoCachedPrincipal principal);
+
+    /**
+     * 지정된 키의 인증 결과를 제거합니다.
+     *
+     * @param key SSO 세션 키
+     */
+    void evict(String key);
+
+    /**
+     * 모든 인증 결과를 제거합니다.
+     */
+    void clear();
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    NetsSsoCacheStats getStats();
+}
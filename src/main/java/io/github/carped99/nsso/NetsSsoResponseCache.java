@@ -0,0 +1,376 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.LocalCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.ToString;
+import lombok.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * NSSO 에이전트 응답 캐시
+ *
+ * <p>요청마다 내용이 바뀌지 않는 에이전트 응답(설정 정보, 공개키)을 인코딩된 상태로 보관합니다.
+ * 기본적으로 호스트와 컨텍스트 경로별로 보관하며, {@link #setKeyResolver(Function)}로 바꿀 수 있습니다.
+ * 각 응답에는 본문의 SHA-256 지문으로 만든 강한 ETag를 붙이고, GET/HEAD 요청의 {@code If-None-Match}가 일치하면
+ * {@code 304 Not Modified}로 응답합니다.</p>
+ *
+ * <p>버전 공급자가 반환하는 객체가 바뀌면(동일성 비교) 저장된 응답은 즉시 무효화됩니다.
+ * 예를 들어 {@code SSOConf.getInstance()}를 버전으로 사용하면 에이전트 설정(키 포함)이 다시 로드될 때 새 응답을 만듭니다.
+ * {@link #setRefreshAfter(Duration)}를 설정하면 그 시간이 지난 뒤 첫 요청이 응답을 다시 만들고,
+ * 그동안 다른 요청은 이전 응답을 받습니다. 다시 만들지 못하면 이전 응답을 계속 사용합니다.
+ * 에이전트 응답은 요청 없이 만들 수 없으므로 별도의 스케줄러를 두지 않습니다.</p>
+ *
+ * <p>오류 응답({@code "result":false}인 NSSO 응답)과 서비스가 요청 속성 {@link #NO_STORE_ATTRIBUTE}를 설정한 응답은
+ * 저장하지 않고 {@code Cache-Control: no-store}로 응답합니다. 이전 응답이 있으면 이전 응답을 계속 사용합니다.
+ * 오류 응답은 에이전트 서비스 구현체와 관계없이 캐시가 직접 판별합니다.</p>
+ *
+ * <p>기본 캐시 키는 서블릿 컨테이너가 해석한 스킴, 호스트, 포트, 컨텍스트 경로만 사용합니다.
+ * 프록시 뒤에서 사용하려면 {@code ForwardedHeaderFilter}(또는 컨테이너의 원격 IP 밸브)를 앞에 두어 전달 헤더를 해석하게 합니다.
+ * 해석되지 않은 전달(Forwarded, X-Forwarded-*) 헤더가 남아 있는 요청은 클라이언트가 헤더를 바꿔 가며 저장된 응답을 밀어내거나
+ * 다른 호스트의 응답을 저장시키지 못하도록 저장된 응답을 사용하지도, 저장하지도 않습니다.</p>
+ *
+ * <p>Host 헤더도 클라이언트가 정하므로 보관하는 응답 수는 {@code maxEntries}로 제한하며, 제한을 넘으면
+ * 세그먼트 LRU 정책({@link LocalCache})으로 한 번만 사용된 응답부터 제거합니다. 자주 사용되는 응답은 새 호스트가 몰려도 밀려나지 않습니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoResponseCache {
+    /**
+     * 응답을 저장하지 않도록 표시하는 요청 속성 이름
+     */
+    public static final String NO_STORE_ATTRIBUTE = NetsSsoResponseCache.class.getName() + ".NO_STORE";
+
+    /**
+     * 기본 최대 응답 수
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private static final Pattern ERROR_RESULT = Pattern.compile("\"result\"\\s*:\\s*false");
+    private static final String[] FORWARDED_HEADERS = {"Forwarded", "X-Forwarded-Host", "X-Forwarded-Proto", "X-Forwarded-Port", "X-Forwarded-Prefix"};
+    private static final long NEVER_EXPIRES = Long.MAX_VALUE / 2;
+
+    private final Supplier<?> version;
+    private final CacheControl cacheControl;
+    private final LocalCache<String, Entry> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private Function<HttpServletRequest, String> keyResolver = NetsSsoResponseCache::cacheKey;
+    private long refreshAfterNanos = Long.MAX_VALUE;
+    private NetsSsoMetrics metrics = NetsSsoMetrics.NOOP;
+    private String name = "response";
+
+    /**
+     * 생성자
+     *
+     * @param version      응답 버전 공급자 (반환 객체가 바뀌면 무효화)
+     * @param cacheControl 응답에 설정할 Cache-Control
+     */
+    public NetsSsoResponseCache(Supplier<?> version, CacheControl cacheControl) {
+        this(version, cacheControl, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param version      응답 버전 공급자 (반환 객체가 바뀌면 무효화)
+     * @param cacheControl 응답에 설정할 Cache-Control
+     * @param maxEntries   최대 응답 수
+     */
+    public NetsSsoResponseCache(Supplier<?> version, CacheControl cacheControl, int maxEntries) {
+        Assert.notNull(version, "version must not be null");
+        Assert.notNull(cacheControl, "cacheControl must not be null");
+        Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+        this.version = version;
+        this.cacheControl = cacheControl;
+        this.entries = new LocalCache<>(maxEntries);
+    }
+
+    /**
+     * 요청의 기본 캐시 키를 반환합니다.
+     *
+     * <p>서블릿 컨테이너가 해석한 스킴, 호스트, 포트, 컨텍스트 경로로 구성합니다.
+     * 해석되지 않은 전달 헤더가 남아 있으면 응답을 저장하지 않도록 {@code null}을 반환합니다.</p>
+     *
+     * @param request HTTP 요청
+     * @return 캐시 키, 저장하지 않을 요청이면 {@code null}
+     */
+    @Nullable
+    public static String cacheKey(HttpServletRequest request) {
+        if (hasForwardedHeaders(request)) {
+            return null;
+        }
+        return new StringBuilder(64)
+                .append(request.getScheme()).append("://")
+                .append(request.getServerName()).append(':').append(request.getServerPort())
+                .append(request.getContextPath())
+                .toString();
+    }
+
+    /**
+     * 해석되지 않은 전달 헤더가 있는지 확인합니다.
+     */
+    private static boolean hasForwardedHeaders(HttpServletRequest request) {
+        for (String name : FORWARDED_HEADERS) {
+            if (request.getHeader(name) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장된 응답을 반환하거나, 없으면 만들어서 저장합니다.
+     *
+     * @param request HTTP 요청
+     * @param loader  응답 본문 공급자 (에이전트 호출)
+     * @return 응답
+     * @throws RuntimeException 응답을 만들지 못했고 사용할 이전 응답도 없는 경우
+     */
+    public Entry getOrLoad(HttpServletRequest request, Supplier<String> loader) {
+        Object currentVersion = currentVersion();
+        String key = keyResolver.apply(request);
+        if (key == null) {
+            return uncached(loader, currentVersion);
+        }
+
+        Entry stale = entries.get(key);
+        if (stale != null && stale.getVersion() != currentVersion) {
+            entries.invalidate(key);
+            stale = null;
+        }
+
+        if (stale != null) {
+            if (System.nanoTime() - stale.getLoadedAt() < refreshAfterNanos) {
+                metrics.recordCacheEvent(name, "hit");
+                return stale;
+            }
+            if (!refreshing.add(key)) {
+                // 다른 요청이 갱신하는 중이다.
+                metrics.recordCacheEvent(name, "stale");
+                return stale;
+            }
+        }
+
+        try {
+            String result;
+            try {
+                result = loader.get();
+                if (result == null) {
+                    throw new IllegalStateException("NSSO agent returned no result");
+                }
+            } catch (RuntimeException e) {
+                if (stale != null) {
+                    metrics.recordCacheEvent(name, "stale");
+                    return stale;
+                }
+                throw e;
+            }
+
+            byte[] body = result.getBytes(StandardCharsets.UTF_8);
+            if (request.getAttribute(NO_STORE_ATTRIBUTE) != null || isErrorResult(result)) {
+                if (stale != null) {
+                    metrics.recordCacheEvent(name, "stale");
+                    return stale;
+                }
+                return new Entry(body, null, currentVersion, System.nanoTime());
+            }
+
+            Entry entry = new Entry(body, fingerprint(body), currentVersion, System.nanoTime());
+            entries.put(key, entry, NEVER_EXPIRES);
+            metrics.recordCacheEvent(name, stale == null ? "miss" : "refresh");
+            return entry;
+        } finally {
+            if (stale != null) {
+                refreshing.remove(key);
+            }
+        }
+    }
+
+    private static Entry uncached(Supplier<String> loader, @Nullable Object currentVersion) {
+        String result = loader.get();
+        if (result == null) {
+            throw new IllegalStateException("NSSO agent returned no result");
+        }
+        return new Entry(result.getBytes(StandardCharsets.UTF_8), null, currentVersion, System.nanoTime());
+    }
+
+    /**
+     * NSSO 오류 응답({@code "result":false})인지 확인합니다.
+     */
+    private static boolean isErrorResult(String result) {
+        return ERROR_RESULT.matcher(result).find();
+    }
+
+    /**
+     * 저장된 응답을 모두 제거합니다.
+     */
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    /**
+     * 저장된 응답 수를 반환합니다.
+     *
+     * @return 응답 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 키를 만드는 함수를 설정합니다. 기본값은 {@link #cacheKey(HttpServletRequest)}입니다.
+     * 함수가 {@code null}을 반환한 요청은 응답을 저장하지 않습니다.
+     *
+     * @param keyResolver 캐시 키 함수
+     */
+    public void setKeyResolver(Function<HttpServletRequest, String> keyResolver) {
+        Assert.notNull(keyResolver, "keyResolver must not be null");
+        this.keyResolver = keyResolver;
+    }
+
+    /**
+     * 응답을 다시 만들 주기를 설정합니다. 설정하지 않으면 버전이 바뀔 때만 다시 만듭니다.
+     *
+     * @param refreshAfter 응답을 만든 뒤 다시 만들 때까지의 시간
+     */
+    public void setRefreshAfter(Duration refreshAfter) {
+        Assert.notNull(refreshAfter, "refreshAfter must not be null");
+        Assert.isTrue(!refreshAfter.isNegative() && !refreshAfter.isZero(), "refreshAfter must be positive");
+        this.refreshAfterNanos = refreshAfter.toNanos();
+    }
+
+    /**
+     * 캐시 이벤트 지표 수집기를 설정합니다.
+     *
+     * @param metrics 지표 수집기
+     * @param name    지표에 사용할 캐시 이름
+     */
+    public void setMetrics(NetsSsoMetrics metrics, String name) {
+        Assert.notNull(metrics, "metrics must not be null");
+        Assert.hasText(name, "name must not be empty");
+        this.metrics = metrics;
+        this.name = name;
+    }
+
+    /**
+     * 응답을 씁니다.
+     *
+     * <p>ETag와 Cache-Control을 설정하고, GET/HEAD 요청의 {@code If-None-Match}가 일치하면 본문 없이 304로 응답합니다.
+     * 저장하지 않은 응답은 {@code Cache-Control: no-store}로 응답합니다.</p>
+     *
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
+     * @param entry    응답
+     * @throws IOException 쓰기 실패 시
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Entry entry) throws IOException {
+        String etag = entry.getEtag();
+        if (etag == null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        } else {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            String headerValue = cacheControl.getHeaderValue();
+            if (headerValue != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, headerValue);
+            }
+
+            if (isSafe(request) && matches(request.getHeaders(HttpHeaders.IF_NONE_MATCH), etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        NetsSsoJsonWriter.writeTo(response, entry.getBody());
+    }
+
+    @Nullable
+    private Object currentVersion() {
+        try {
+            return version.get();
+        } catch (RuntimeException e) {
+            // 버전을 확인할 수 없으면 저장된 응답을 사용하지 않는다.
+            return new Object();
+        }
+    }
+
+    private static boolean isSafe(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private static boolean matches(@Nullable Enumeration<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        while (ifNoneMatch.hasMoreElements()) {
+            for (String candidate : ifNoneMatch.nextElement().split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    // If-None-Match는 약한 비교를 사용한다.
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    /**
+     * 저장된 응답
+     */
+    @Value
+    public static class Entry {
+        /**
+         * UTF-8로 인코딩된 응답 본문
+         */
+        @ToString.Exclude
+        byte[] body;
+
+        /**
+         * 본문 지문으로 만든 강한 ETag (따옴표 포함, 저장하지 않은 응답이면 null)
+         */
+        @Nullable
+        String etag;
+
+        /**
+         * 응답을 만들 때의 버전
+         */
+        @Nullable
+        Object version;
+
+        /**
+         * 응답을 만든 시각 ({@link System#nanoTime()})
+         */
+        long loadedAt;
+    }
+}
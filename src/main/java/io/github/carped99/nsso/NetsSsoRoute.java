@@ -0,0 +1,89 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * NSSO 엔드포인트 경로
+ *
+ * <p>엔드포인트 이름, HTTP 메서드, 경로로 구성되며 요청 경로가 정확히 일치하는지만 확인합니다.
+ * 패턴 매칭을 하지 않으므로 {@code AntPathRequestMatcher}보다 비용이 작습니다.</p>
+ *
+ * <p>요청 경로는 {@code AntPathRequestMatcher}와 같이 servletPath와 pathInfo를 결합하여 구합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoRouter
+ * @since 0.0.1
+ */
+public final class NetsSsoRoute implements RequestMatcher {
+    private final String name;
+    @Nullable
+    private final HttpMethod method;
+    private final String path;
+
+    private NetsSsoRoute(String name, @Nullable HttpMethod method, String path) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+    }
+
+    /**
+     * 엔드포인트 경로를 생성합니다.
+     *
+     * @param name   엔드포인트 이름
+     * @param method HTTP 메서드 (null이면 모든 메서드)
+     * @param path   요청 경로 (정확히 일치해야 함)
+     * @return 엔드포인트 경로
+     */
+    public static NetsSsoRoute of(String name, @Nullable HttpMethod method, String path) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.hasText(path, "path must not be empty");
+        return new NetsSsoRoute(name, method, path);
+    }
+
+    /**
+     * 요청 경로를 반환합니다.
+     *
+     * @param request HTTP 요청
+     * @return servletPath와 pathInfo를 결합한 경로
+     */
+    static String requestPath(HttpServletRequest request) {
+        String url = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null) {
+            return url;
+        }
+        return StringUtils.hasLength(url) ? url + pathInfo : pathInfo;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matchesMethod(request.getMethod()) && path.equals(requestPath(request));
+    }
+
+    boolean matchesMethod(String requestMethod) {
+        return method == null || method.matches(requestMethod);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return name + "=" + (method != null ? method + " " : "") + path;
+    }
+}
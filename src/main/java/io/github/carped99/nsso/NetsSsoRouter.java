@@ -0,0 +1,114 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * NSSO 엔드포인트 경로 테이블
+ *
+ * <p>엔드포인트 경로({@link NetsSsoRoute})를 요청 경로별로 한 번 정리해 두고,
+ * 요청마다 경로 해시 조회와 HTTP 메서드 확인만으로 해당 엔드포인트를 찾습니다.
+ * 엔드포인트 수와 관계없이 NSSO 요청이 아닌 요청은 한 번의 조회로 걸러집니다.</p>
+ *
+ * <p>같은 경로에 메서드가 다른 엔드포인트를 둘 수 있으며, 먼저 추가된 엔드포인트가 우선합니다.
+ * 하나의 엔드포인트가 여러 메서드를 받는 경우 같은 이름으로 추가합니다.
+ * 경로와 메서드가 모두 같은 엔드포인트는 허용하지 않습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * NetsSsoRouter router = NetsSsoRouter.of(List.of(
+ *     NetsSsoRoute.of("check", HttpMethod.POST, "/nsso/check"),
+ *     NetsSsoRoute.of("logout", null, "/nsso/logout")
+ * ));
+ * NetsSsoRoute route = router.route(request);
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoRoute
+ * @since 0.0.1
+ */
+public final class NetsSsoRouter implements RequestMatcher {
+    private final List<NetsSsoRoute> routes;
+    private final Map<String, NetsSsoRoute[]> table;
+
+    private NetsSsoRouter(List<NetsSsoRoute> routes) {
+        this.routes = List.copyOf(routes);
+        this.table = new HashMap<>();
+        for (NetsSsoRoute route : this.routes) {
+            NetsSsoRoute[] existing = this.table.get(route.getPath());
+            if (existing != null) {
+                for (NetsSsoRoute other : existing) {
+                    Assert.isTrue(!Objects.equals(other.getMethod(), route.getMethod()), () -> "Duplicate route: " + route);
+                }
+            }
+            this.table.merge(route.getPath(), new NetsSsoRoute[]{route}, (prev, add) -> {
+                NetsSsoRoute[] merged = Arrays.copyOf(prev, prev.length + 1);
+                merged[prev.length] = add[0];
+                return merged;
+            });
+        }
+    }
+
+    /**
+     * 엔드포인트 경로 테이블을 생성합니다.
+     *
+     * @param routes 엔드포인트 경로 목록
+     * @return 엔드포인트 경로 테이블
+     */
+    public static NetsSsoRouter of(Collection<NetsSsoRoute> routes) {
+        Assert.notNull(routes, "routes must not be null");
+        Assert.noNullElements(routes, "routes must not contain null elements");
+        return new NetsSsoRouter(new ArrayList<>(routes));
+    }
+
+    /**
+     * 요청에 해당하는 엔드포인트 경로를 반환합니다.
+     *
+     * @param request HTTP 요청
+     * @return 엔드포인트 경로 (없으면 null)
+     */
+    @Nullable
+    public NetsSsoRoute route(HttpServletRequest request) {
+        NetsSsoRoute[] candidates = table.get(NetsSsoRoute.requestPath(request));
+        if (candidates == null) {
+            return null;
+        }
+
+        String method = request.getMethod();
+        for (NetsSsoRoute candidate : candidates) {
+            if (candidate.matchesMethod(method)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return route(request) != null;
+    }
+
+    /**
+     * 등록된 엔드포인트 경로 목록을 반환합니다.
+     *
+     * @return 엔드포인트 경로 목록 (추가된 순서)
+     */
+    public List<NetsSsoRoute> getRoutes() {
+        return routes;
+    }
+
+    @Override
+    public String toString() {
+        return "NetsSsoRouter " + routes;
+    }
+}
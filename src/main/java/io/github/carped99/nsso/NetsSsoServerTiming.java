@@ -0,0 +1,238 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청별 단계 처리 시간을 {@code Server-Timing} 헤더로 보고하는 스톱워치
+ *
+ * <p>필터가 요청을 받으면 {@link #start(HttpServletRequest)}로 만들어 요청 속성에 보관하고,
+ * 인증 서비스, 인증 제공자 등은 {@link #of(HttpServletRequest)}로 꺼내 {@link #begin(Stage)}, {@link #end(Stage)}로 단계를 기록합니다.
+ * 단계 시간은 단조 시계({@link System#nanoTime()})로 재서 고정 크기 배열에 누적하므로 기록 중에는 객체를 만들지 않습니다.
+ * 사용하지 않는 요청은 공유 인스턴스({@link #of(HttpServletRequest)}의 반환값)가 아무 일도 하지 않습니다.</p>
+ *
+ * <p>헤더는 응답 본문을 쓰기 직전에 추가해야 하므로, {@link #wrap(HttpServletResponse)}로 감싼 응답이
+ * 출력 스트림을 처음 얻거나 리다이렉트, 오류 응답을 보낼 때 열린 단계를 닫고 헤더를 씁니다.
+ * 본문 없이 끝나는 응답(예: {@code 304 Not Modified})은 필터가 처리를 마칠 때 {@link #writeHeader(HttpServletResponse)}로 씁니다.</p>
+ *
+ * <pre>
+ * Server-Timing: agent;dur=12.4, user;dur=1.1, ser;dur=0.3, total;dur=14.2
+ * </pre>
+ *
+ * <p>다른 출처(origin)의 화면에서 값을 보려면 애플리케이션이 {@code Timing-Allow-Origin} 헤더를 추가해야 합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoServerTiming {
+    /**
+     * 헤더 이름
+     */
+    public static final String HEADER = "Server-Timing";
+
+    /**
+     * 요청별 스톱워치를 보관하는 요청 속성 이름
+     */
+    public static final String ATTRIBUTE = NetsSsoServerTiming.class.getName();
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final NetsSsoServerTiming NOOP = new NetsSsoServerTiming(0, false);
+
+    private final boolean enabled;
+    private final long startNanos;
+    private final long[] started = new long[STAGES.length];
+    private final long[] elapsed = new long[STAGES.length];
+    private int recorded;
+    private volatile boolean written;
+
+    private NetsSsoServerTiming(long startNanos, boolean enabled) {
+        this.startNanos = startNanos;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 요청의 스톱워치를 시작하고 요청 속성에 보관합니다.
+     *
+     * @param request HTTP 요청
+     * @return 시작한 스톱워치
+     */
+    public static NetsSsoServerTiming start(HttpServletRequest request) {
+        NetsSsoServerTiming timing = new NetsSsoServerTiming(System.nanoTime(), true);
+        request.setAttribute(ATTRIBUTE, timing);
+        return timing;
+    }
+
+    /**
+     * 요청의 스톱워치를 반환합니다.
+     *
+     * @param request HTTP 요청 (null 허용)
+     * @return 스톱워치 (시작하지 않았으면 아무 일도 하지 않는 공유 인스턴스)
+     */
+    public static NetsSsoServerTiming of(@Nullable HttpServletRequest request) {
+        return request != null && request.getAttribute(ATTRIBUTE) instanceof NetsSsoServerTiming timing ? timing : NOOP;
+    }
+
+    /**
+     * 단계를 시작합니다.
+     *
+     * @param stage 단계
+     */
+    public void begin(Stage stage) {
+        if (enabled) {
+            started[stage.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * 단계를 끝내고 처리 시간을 누적합니다. 시작하지 않은 단계는 무시합니다.
+     *
+     * @param stage 단계
+     */
+    public void end(Stage stage) {
+        if (!enabled) {
+            return;
+        }
+        int index = stage.ordinal();
+        long begin = started[index];
+        if (begin != 0) {
+            elapsed[index] += System.nanoTime() - begin;
+            started[index] = 0;
+            recorded |= 1 << index;
+        }
+    }
+
+    /**
+     * 본문을 쓰기 직전에 헤더를 추가하도록 응답을 감쌉니다.
+     *
+     * @param response HTTP 응답
+     * @return 감싼 응답 (사용하지 않으면 그대로)
+     */
+    public HttpServletResponse wrap(HttpServletResponse response) {
+        return enabled ? new TimingResponse(response, this) : response;
+    }
+
+    /**
+     * 열린 단계를 닫고 {@code Server-Timing} 헤더를 추가합니다. 이미 추가했거나 응답이 확정되었으면 무시합니다.
+     *
+     * @param response HTTP 응답
+     */
+    public void writeHeader(HttpServletResponse response) {
+        if (!enabled || written || response.isCommitted()) {
+            return;
+        }
+        written = true;
+        for (Stage stage : STAGES) {
+            end(stage);
+        }
+        response.setHeader(HEADER, toHeaderValue());
+    }
+
+    /**
+     * 지금까지 기록한 단계와 전체 처리 시간을 헤더 값으로 만듭니다.
+     *
+     * @return 헤더 값
+     */
+    public String toHeaderValue() {
+        StringBuilder builder = new StringBuilder(80);
+        for (Stage stage : STAGES) {
+            if ((recorded & (1 << stage.ordinal())) != 0) {
+                appendMetric(builder, stage.getName(), elapsed[stage.ordinal()]);
+            }
+        }
+        appendMetric(builder, "total", System.nanoTime() - startNanos);
+        return builder.toString();
+    }
+
+    private static void appendMetric(StringBuilder builder, String name, long nanos) {
+        if (!builder.isEmpty()) {
+            builder.append(", ");
+        }
+        // 밀리초, 소수점 한 자리
+        long tenths = Math.max(0, nanos) / 100_000;
+        builder.append(name).append(";dur=").append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * 처리 단계
+     */
+    public enum Stage {
+        /**
+         * SSO 에이전트 호출
+         */
+        AGENT("agent"),
+        /**
+         * 사용자 정보 조회
+         */
+        USER("user"),
+        /**
+         * 응답 생성 (직렬화, 성공 핸들러)
+         */
+        SERIALIZATION("ser");
+
+        private final String name;
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 헤더에 쓰는 지표 이름을 반환합니다.
+         *
+         * @return 지표 이름
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+        private final NetsSsoServerTiming timing;
+
+        TimingResponse(HttpServletResponse response, NetsSsoServerTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            timing.writeHeader(this);
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            timing.writeHeader(this);
+            return super.getWriter();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            timing.writeHeader(this);
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            timing.writeHeader(this);
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            timing.writeHeader(this);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            timing.writeHeader(this);
+            super.flushBuffer();
+        }
+    }
+}
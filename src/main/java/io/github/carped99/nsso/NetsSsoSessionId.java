@@ -0,0 +1,95 @@
+package io.github.carped99.nsso;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * 사용자별 세션 색인에 저장되는 식별자
+ *
+ * <p>SSO 세션 키, 액세스 토큰 ID 또는 HTTP 세션 ID와 만료 시각을 함께 보관합니다.
+ * 같은 종류와 값이면 만료 시각이 달라도 같은 식별자로 취급합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoSessionIndex
+ * @since 0.0.1
+ */
+@Value
+public class NetsSsoSessionId implements Serializable {
+    /**
+     * 식별자 종류
+     */
+    Type type;
+    /**
+     * 식별자 값
+     */
+    String value;
+    /**
+     * 만료 시각
+     */
+    @EqualsAndHashCode.Exclude
+    Instant expiresAt;
+
+    /**
+     * SSO 세션 식별자를 생성합니다.
+     *
+     * @param sessionKey SSO 세션 키 ({@link NetsSsoSessionKeyResolver}로 추출한 값)
+     * @param expiresAt  만료 시각
+     * @return SSO 세션 식별자
+     */
+    public static NetsSsoSessionId session(String sessionKey, Instant expiresAt) {
+        return new NetsSsoSessionId(Type.SESSION, sessionKey, expiresAt);
+    }
+
+    /**
+     * 액세스 토큰 식별자를 생성합니다.
+     *
+     * @param tokenId   액세스 토큰 ID ({@code jti})
+     * @param expiresAt 만료 시각
+     * @return 액세스 토큰 식별자
+     */
+    public static NetsSsoSessionId token(String tokenId, Instant expiresAt) {
+        return new NetsSsoSessionId(Type.TOKEN, tokenId, expiresAt);
+    }
+
+    /**
+     * HTTP 세션 식별자를 생성합니다.
+     *
+     * @param sessionId HTTP 세션 ID (로그인 엔드포인트가 보안 컨텍스트를 저장한 세션)
+     * @param expiresAt 만료 시각
+     * @return HTTP 세션 식별자
+     */
+    public static NetsSsoSessionId httpSession(String sessionId, Instant expiresAt) {
+        return new NetsSsoSessionId(Type.HTTP_SESSION, sessionId, expiresAt);
+    }
+
+    /**
+     * 주어진 시각에 만료되었는지 확인합니다.
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 식별자 종류
+     */
+    public enum Type {
+        /**
+         * SSO 세션 (인증 결과 캐시 키)
+         */
+        SESSION,
+        /**
+         * 액세스 토큰
+         */
+        TOKEN,
+        /**
+         * HTTP 세션 (로그인 엔드포인트가 보안 컨텍스트를 저장한 세션)
+         */
+        HTTP_SESSION
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.carped99.nsso;
+
+import java.util.Collection;
+
+/**
+ * 사용자별 세션 색인 인터페이스
+ *
+ * <p>사용자 ID에서 살아있는 SSO 세션, 액세스 토큰, HTTP 세션 식별자를 찾는 보조 색인입니다.
+ * 로그인, 토큰 발급, 로그아웃 경로가 색인을 갱신하며, 백채널 로그아웃이나 관리자의 사용자 차단 시
+ * 전체를 훑지 않고 해당 사용자의 세션만 무효화하는 데 사용합니다.</p>
+ *
+ * <p>구현체는 다음 조건을 만족해야 합니다:</p>
+ * <ul>
+ *   <li>여러 스레드에서 동시에 호출해도 안전해야 함</li>
+ *   <li>한 사용자에 대한 작업은 그 사용자의 세션 수에 비례하는 비용으로 끝나야 함</li>
+ *   <li>만료된 식별자는 언젠가 제거되어야 함</li>
+ * </ul>
+ *
+ * @author carped99
+ * @see NetsSsoBackChannelLogoutFilter
+ * @since 0.0.1
+ */
+public interface NetsSsoSessionIndex {
+    /**
+     * 사용자의 세션 식별자를 등록합니다.
+     *
+     * @param username 사용자 ID
+     * @param id       세션 식별자
+     */
+    void register(String username, NetsSsoSessionId id);
+
+    /**
+     * 사용자의 세션 식별자를 제거합니다.
+     *
+     * @param username 사용자 ID
+     * @param id       세션 식별자
+     */
+    void unregister(String username, NetsSsoSessionId id);
+
+    /**
+     * 사용자의 모든 세션 식별자를 제거하고 반환합니다.
+     *
+     * <p>제거된 액세스 토큰과 HTTP 세션은 만료 시각까지 {@link #isRevoked(String)}가 true를 반환해야 합니다.</p>
+     *
+     * @param username 사용자 ID
+     * @return 제거된 세션 식별자 (없으면 빈 컬렉션)
+     */
+    Collection<NetsSsoSessionId> removeAll(String username);
+
+    /**
+     * 액세스 토큰 또는 HTTP 세션이 폐기되었는지 확인합니다.
+     *
+     * @param id 액세스 토큰 ID 또는 HTTP 세션 ID
+     * @return 폐기되었으면 true
+     */
+    boolean isRevoked(String id);
+}
@@ -0,0 +1,76 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletRequest;
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Enumeration;
+
+/**
+ * SSO 세션 키 추출 인터페이스
+ *
+ * <p>HTTP 요청에서 SSO 세션을 식별하는 키를 추출합니다.
+ * 추출된 키는 인증 결과 캐시 등 세션 단위로 동작하는 기능에서 사용됩니다.</p>
+ *
+ * <p>키를 추출할 수 없거나 캐시를 사용하면 안 되는 요청은 null을 반환해야 합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoPrincipalCache
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface NetsSsoSessionKeyResolver {
+    /**
+     * 요청에서 SSO 세션 키를 추출합니다.
+     *
+     * @param request HTTP 요청
+     * @return SSO 세션 키 (없으면 null)
+     */
+    @Nullable
+    String resolve(HttpServletRequest request);
+
+    /**
+     * Cookie 헤더의 해시값을 세션 키로 사용하는 기본 구현을 반환합니다.
+     *
+     * <p>SSO 세션은 브라우저 쿠키로 유지되므로 쿠키가 하나라도 바뀌면 다른 세션으로 취급합니다.
+     * 로그인 요청(ssosite 또는 ssoResponse 파라미터 포함)은 SSO 에이전트가 반드시 처리해야 하므로 null을 반환합니다.</p>
+     *
+     * @return 쿠키 기반 세션 키 추출기
+     */
+    static NetsSsoSessionKeyResolver cookies() {
+        return request -> {
+            if (request.getParameter(SSOConst.SITE_ID) != null || request.getParameter(SSOConst.SSO_RESPONSE) != null) {
+                return null;
+            }
+
+            Enumeration<String> values = request.getHeaders(HttpHeaders.COOKIE);
+            if (values == null || !values.hasMoreElements()) {
+                return null;
+            }
+
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+
+            boolean empty = true;
+            while (values.hasMoreElements()) {
+                String value = values.nextElement();
+                if (StringUtils.hasText(value)) {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) ';');
+                    empty = false;
+                }
+            }
+            return empty ? null : Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        };
+    }
+}
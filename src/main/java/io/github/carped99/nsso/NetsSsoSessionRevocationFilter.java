@@ -0,0 +1,152 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * NSSO 세션 폐기 필터
+ *
+ * <p>백채널 로그아웃으로 폐기된 HTTP 세션을 그 세션의 다음 요청에서 무효화합니다.
+ * 서버 간 요청에서는 다른 사용자의 HTTP 세션에 접근할 수 없으므로, 로그인 엔드포인트가 {@link #registerSession(NetsSsoSessionIndex, HttpServletRequest, String)}으로
+ * 등록한 세션을 요청마다 {@link NetsSsoSessionIndex}에서 확인합니다. 등록된 세션이 쓰이는 동안에는 색인에서 만료되지 않도록 다시 등록합니다.</p>
+ *
+ * <p>NSSO 필터 체인은 NSSO 엔드포인트에만 적용되므로, 로그인한 사용자가 실제로 요청하는 애플리케이션 필터 체인에도 이 필터를 추가해야 합니다.
+ * 보안 컨텍스트를 읽기 전에 무효화하도록 {@code SecurityContextHolderFilter} 앞에 두고, NSSO 필터 체인과 같은 세션 색인을 사용합니다.</p>
+ *
+ * <pre>{@code
+ * @Bean
+ * NetsSsoSessionIndex sessionIndex() {
+ *     return new NetsSsoLocalSessionIndex();
+ * }
+ *
+ * @Bean
+ * SecurityFilterChain applicationFilterChain(HttpSecurity http, NetsSsoSessionIndex sessionIndex) throws Exception {
+ *     http.addFilterBefore(new NetsSsoSessionRevocationFilter(sessionIndex), SecurityContextHolderFilter.class);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoBackChannelLogoutFilter
+ * @since 0.0.1
+ */
+public class NetsSsoSessionRevocationFilter extends OncePerRequestFilter {
+    /**
+     * 색인에 등록한 HTTP 세션 정보를 보관하는 세션 속성 이름
+     */
+    public static final String SESSION_ATTRIBUTE = NetsSsoSessionRevocationFilter.class.getName() + ".SESSION";
+
+    /**
+     * 세션 유휴 제한 시간이 없는 HTTP 세션의 색인 유효 기간
+     */
+    private static final Duration UNBOUNDED_SESSION_TIME_TO_LIVE = Duration.ofDays(1);
+
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final NetsSsoSessionIndex sessionIndex;
+
+    /**
+     * 세션 폐기 필터를 생성합니다.
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     */
+    public NetsSsoSessionRevocationFilter(NetsSsoSessionIndex sessionIndex) {
+        Assert.notNull(sessionIndex, "sessionIndex must not be null");
+        this.sessionIndex = sessionIndex;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        checkSession(request);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 로그인한 HTTP 세션을 사용자별 세션 색인에 등록합니다.
+     *
+     * <p>세션이 없으면(보안 컨텍스트를 세션에 저장하지 않으면) 등록하지 않습니다.
+     * 색인 유효 기간은 세션의 유휴 제한 시간이며, 세션이 쓰이는 동안 이 필터가 다시 등록합니다.</p>
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     * @param request      로그인 요청
+     * @param username     사용자 ID
+     */
+    public static void registerSession(NetsSsoSessionIndex sessionIndex, HttpServletRequest request, String username) {
+        Assert.notNull(sessionIndex, "sessionIndex must not be null");
+        Assert.notNull(username, "username must not be null");
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            register(sessionIndex, session, username, Instant.now());
+        }
+    }
+
+    /**
+     * 로그아웃하는 HTTP 세션을 사용자별 세션 색인에서 제거합니다.
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     * @param request      로그아웃 요청
+     */
+    public static void unregisterSession(NetsSsoSessionIndex sessionIndex, HttpServletRequest request) {
+        Assert.notNull(sessionIndex, "sessionIndex must not be null");
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(SESSION_ATTRIBUTE) instanceof Registration registration) {
+            sessionIndex.unregister(registration.username(), NetsSsoSessionId.httpSession(session.getId(), registration.expiresAt()));
+            session.removeAttribute(SESSION_ATTRIBUTE);
+        }
+    }
+
+    /**
+     * 등록된 HTTP 세션이 폐기되었으면 무효화하고, 아니면 필요할 때 색인 유효 기간을 연장합니다.
+     */
+    private void checkSession(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null || !(session.getAttribute(SESSION_ATTRIBUTE) instanceof Registration registration)) {
+            return;
+        }
+
+        if (sessionIndex.isRevoked(session.getId())) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalidating HTTP session of " + registration.username() + " revoked by back-channel logout");
+            }
+            // 보안 컨텍스트를 읽기 전에 무효화하므로 이 요청부터 인증되지 않은 요청으로 처리된다.
+            session.invalidate();
+            return;
+        }
+
+        // 남은 유효 기간이 절반 아래로 내려가면 다시 등록한다.
+        Instant now = Instant.now();
+        Duration timeToLive = timeToLive(session);
+        if (now.plus(timeToLive.dividedBy(2)).isAfter(registration.expiresAt())) {
+            register(sessionIndex, session, registration.username(), now);
+        }
+    }
+
+    private static void register(NetsSsoSessionIndex sessionIndex, HttpSession session, String username, Instant now) {
+        Instant expiresAt = now.plus(timeToLive(session));
+        sessionIndex.register(username, NetsSsoSessionId.httpSession(session.getId(), expiresAt));
+        session.setAttribute(SESSION_ATTRIBUTE, new Registration(username, expiresAt));
+    }
+
+    private static Duration timeToLive(HttpSession session) {
+        int maxInactiveInterval = session.getMaxInactiveInterval();
+        return maxInactiveInterval > 0 ? Duration.ofSeconds(maxInactiveInterval) : UNBOUNDED_SESSION_TIME_TO_LIVE;
+    }
+
+    /**
+     * 색인에 등록한 HTTP 세션 정보
+     */
+    private record Registration(String username, Instant expiresAt) implements Serializable {
+    }
+}
@@ -1,10 +1,14 @@
 package io.github.carped99.nsso;
 
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
@@ -13,6 +17,9 @@ import org.springframework.util.Assert;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * NSSO 리프레시 토큰 처리 필터
@@ -29,17 +36,28 @@ import java.io.IOException;
  *
  * <p>기본 URL: /nsso/refresh_token</p>
  *
+ * <p>{@link #setAsyncAuthenticationService(NetsSsoAsyncAuthenticationService)}를 설정하고 요청이 비동기 처리를 지원하면,
+ * 서블릿 비동기 처리({@link AsyncContext})로 전환하여 SSO 에이전트 응답을 기다리는 동안 컨테이너 스레드를 반환합니다.
+ * 이 경우 성공/실패 핸들러는 인증 실행기 스레드에서 호출되므로 {@code SecurityContextHolder}에 의존하지 않아야 합니다.</p>
+ *
  * @author carped99
  * @see org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter
  * @see NetsSsoAuthentication
  * @since 0.0.1
  */
 public class NetsSsoTokenFilter extends OncePerRequestFilter {
+    private static final String ENDPOINT = "token";
+
     private final RequestMatcher requestMatcher;
     private final NetsSsoAuthenticationService authenticationService;
     private final UserDetailsService userDetailsService;
     private AuthenticationSuccessHandler successHandler;
     private AuthenticationFailureHandler failureHandler;
+    @Nullable
+    private NetsSsoAsyncAuthenticationService asyncAuthenticationService;
+    private Duration asyncTimeout = Duration.ofSeconds(30);
+    private NetsSsoObserver observer = NetsSsoObserver.NOOP;
+    private boolean serverTiming;
 
     /**
      * 지정된 RequestMatcher로 NetsSsoRefreshTokenFilter를 생성합니다.
@@ -56,22 +74,138 @@ public class NetsSsoTokenFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        request.setAttribute(NetsSsoObserver.ENDPOINT_ATTRIBUTE, ENDPOINT);
+        NetsSsoServerTiming timing = serverTiming ? NetsSsoServerTiming.start(request) : NetsSsoServerTiming.of(request);
+        response = timing.wrap(response);
+        if (asyncAuthenticationService != null && request.isAsyncSupported()) {
+            doFilterAsync(request, response, asyncAuthenticationService, timing);
+            return;
+        }
+
+        Authentication authenticated = null;
+        AuthenticationException failure = null;
+        NetsSsoObserver.Stage stage = observer.start("authenticate", ENDPOINT);
+        timing.begin(NetsSsoServerTiming.Stage.AGENT);
+        try {
+            authenticated = authenticationService.authenticate(request, response);
+        } catch (AuthenticationException e) {
+            stage.error(e);
+            failure = e;
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            timing.end(NetsSsoServerTiming.Stage.AGENT);
+            stage.stop();
+        }
+
+        if (failure != null) {
+            failureHandler.onAuthenticationFailure(request, response, failure);
+        } else {
+            onAuthenticated(request, response, authenticated, timing);
+        }
+        // 핸들러가 본문 없이 응답을 끝낸 경우에도 헤더를 추가한다.
+        timing.writeHeader(response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !requestMatcher.matches(request);
+    }
+
+    private void doFilterAsync(HttpServletRequest request, HttpServletResponse response, NetsSsoAsyncAuthenticationService service, NetsSsoServerTiming timing) {
+        AsyncContext asyncContext = request.startAsync(request, response);
+        // 기한은 인증 서비스가 관리하므로 컨테이너의 비동기 타임아웃은 사용하지 않는다.
+        asyncContext.setTimeout(0);
+
+        // 기한을 넘긴 인증 작업이 쓰는 쿠키와 헤더는 버리고, 작업이 요청 사용을 마친 뒤에 비동기 처리를 끝낸다.
+        NetsSsoDetachableResponse agentResponse = new NetsSsoDetachableResponse(response);
+        timing.begin(NetsSsoServerTiming.Stage.AGENT);
+        CompletableFuture<Authentication> result = service.authenticateAsync(request, agentResponse, asyncTimeout);
+        CompletableFuture<?> released = NetsSsoAsyncAuthenticationService.released(request);
+        result.whenComplete((authenticated, ex) -> {
+            timing.end(NetsSsoServerTiming.Stage.AGENT);
+            agentResponse.detach();
+            Throwable failure = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            try {
+                if (failure == null) {
+                    onAuthenticated(request, response, authenticated, timing);
+                } else if (failure instanceof AuthenticationException authenticationException) {
+                    failureHandler.onAuthenticationFailure(request, response, authenticationException);
+                } else {
+                    throw failure;
+                }
+            } catch (Throwable e) {
+                logger.error("NSSO token authentication failed", e);
+                if (!response.isCommitted()) {
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
+            } finally {
+                timing.writeHeader(response);
+                released.whenComplete((unused, e) -> asyncContext.complete());
+            }
+        });
+    }
+
+    private void onAuthenticated(HttpServletRequest request, HttpServletResponse response, Authentication authenticated, NetsSsoServerTiming timing) throws IOException, ServletException {
         try {
-            var authenticated = authenticationService.authenticate(request, response);
-            var userDetails = userDetailsService.loadUserByUsername(authenticated.getName());
+            UserDetails userDetails;
+            NetsSsoObserver.Stage stage = observer.start("loadUserByUsername", ENDPOINT);
+            timing.begin(NetsSsoServerTiming.Stage.USER);
+            try {
+                userDetails = userDetailsService.loadUserByUsername(authenticated.getName());
+            } catch (RuntimeException e) {
+                stage.error(e);
+                throw e;
+            } finally {
+                timing.end(NetsSsoServerTiming.Stage.USER);
+                stage.stop();
+            }
 
             var result = NetsSsoAuthentication.authenticated(userDetails, userDetails.getAuthorities());
             result.setDetails(authenticated.getDetails());
 
-            successHandler.onAuthenticationSuccess(request, response, result);
+            stage = observer.start("successHandler", ENDPOINT);
+            // 성공 핸들러가 응답 본문을 쓰기 시작하면 헤더를 추가하면서 끝난다.
+            timing.begin(NetsSsoServerTiming.Stage.SERIALIZATION);
+            try {
+                successHandler.onAuthenticationSuccess(request, response, result);
+            } catch (IOException | ServletException | RuntimeException e) {
+                stage.error(e);
+                throw e;
+            } finally {
+                timing.end(NetsSsoServerTiming.Stage.SERIALIZATION);
+                stage.stop();
+            }
         } catch (AuthenticationException e) {
             failureHandler.onAuthenticationFailure(request, response, e);
         }
     }
 
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        return !requestMatcher.matches(request);
+    /**
+     * 인증 단계 관찰기를 설정한다.
+     *
+     * <p>인증({@code authenticate}, 동기 처리만), 사용자 정보 조회({@code loadUserByUsername}), 성공 핸들러({@code successHandler}) 단계를
+     * 엔드포인트 {@code token}으로 관찰한다.</p>
+     *
+     * @param observer 인증 단계 관찰기
+     */
+    public void setObserver(NetsSsoObserver observer) {
+        Assert.notNull(observer, "observer must not be null");
+        this.observer = observer;
+    }
+
+    /**
+     * 응답에 단계별 처리 시간({@code Server-Timing} 헤더)을 추가할지 설정한다. 기본값은 false다.
+     *
+     * <p>SSO 인증({@code agent}), 사용자 정보 조회({@code user}), 성공 핸들러의 응답 생성({@code ser}), 전체({@code total}) 시간을 보고한다.
+     * 헤더는 성공/실패 핸들러가 응답 본문을 쓰기 직전에 추가하며, 본문 없이 끝난 응답에는 처리를 마칠 때 추가한다.</p>
+     *
+     * @param serverTiming 추가 여부
+     * @see NetsSsoServerTiming
+     */
+    public void setServerTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
     }
 
     /**
@@ -93,4 +227,26 @@ public class NetsSsoTokenFilter extends OncePerRequestFilter {
         Assert.notNull(failureHandler, "failureHandler must not be null");
         this.failureHandler = failureHandler;
     }
+
+    /**
+     * 비동기 인증 서비스를 설정한다.
+     *
+     * <p>설정하면 비동기 처리를 지원하는 요청은 이 서비스로 인증한다.</p>
+     *
+     * @param asyncAuthenticationService 비동기 인증 서비스 (null이면 동기 처리)
+     */
+    public void setAsyncAuthenticationService(@Nullable NetsSsoAsyncAuthenticationService asyncAuthenticationService) {
+        this.asyncAuthenticationService = asyncAuthenticationService;
+    }
+
+    /**
+     * 비동기 인증의 기한을 설정한다. 기본값은 30초다.
+     *
+     * @param asyncTimeout 비동기 인증 기한
+     */
+    public void setAsyncTimeout(Duration asyncTimeout) {
+        Assert.notNull(asyncTimeout, "asyncTimeout must not be null");
+        Assert.isTrue(!asyncTimeout.isNegative() && !asyncTimeout.isZero(), "asyncTimeout must be positive");
+        this.asyncTimeout = asyncTimeout;
+    }
 }
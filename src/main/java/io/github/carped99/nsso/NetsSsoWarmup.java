@@ -0,0 +1,343 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NSSO 필터 체인 예열 단계
+ *
+ * <p>애플리케이션 시작 시 등록된 단계를 실행하여 첫 사용자가 부담하던 초기화 비용을 미리 치릅니다.</p>
+ * <ul>
+ *   <li>초기화 단계 ({@link #addInitializer(String, Runnable)}) - 한 번 실행하며, 실패하면 시작을 중단합니다. 예: {@code SSOConf} 초기화</li>
+ *   <li>반복 단계 ({@link #addStep(String, Runnable)}) - {@link #setIterations(int)}만큼 실행하여 JIT 컴파일을 유도합니다.
+ *       실패하면 기록만 하고 다음 단계로 진행합니다.</li>
+ * </ul>
+ *
+ * <p>{@link SmartLifecycle}로 동작하며, 기본 단계({@link #DEFAULT_PHASE})는 웹 서버가 시작되는 단계보다 앞서므로
+ * 예열이 끝나기 전에는 요청을 받지 않고, 준비 상태(readiness)도 예열이 끝난 뒤에 바뀝니다.
+ * 예열 시간은 로그와 {@code nsso.warmup.duration} 게이지(초)로 보고합니다.</p>
+ *
+ * <p>합성 요청({@link #syntheticRequest(HttpMethod, String)})과 응답({@link #syntheticResponse()})은
+ * 실제 네트워크 입출력 없이 필터와 서비스를 실행하는 데 사용합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoWarmup implements SmartLifecycle {
+    /**
+     * 기본 수명 주기 단계 (웹 서버 시작 단계보다 앞)
+     */
+    public static final int DEFAULT_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /**
+     * 기본 반복 횟수
+     */
+    public static final int DEFAULT_ITERATIONS = 2000;
+
+    private final Log log = LogFactory.getLog(getClass());
+    private final List<Step> steps = new ArrayList<>();
+    private final Map<String, Duration> stepDurations = new LinkedHashMap<>();
+    private int iterations = DEFAULT_ITERATIONS;
+    private int phase = DEFAULT_PHASE;
+    private NetsSsoMetrics metrics = NetsSsoMetrics.NOOP;
+    private volatile boolean running;
+    private volatile boolean warmedUp;
+    private volatile Duration duration = Duration.ZERO;
+
+    /**
+     * 한 번 실행할 초기화 단계를 추가합니다.
+     *
+     * @param name 단계 이름
+     * @param task 실행할 작업 (실패하면 시작을 중단)
+     * @return 현재 인스턴스
+     */
+    public NetsSsoWarmup addInitializer(String name, Runnable task) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.notNull(task, "task must not be null");
+        steps.add(new Step(name, task, false));
+        return this;
+    }
+
+    /**
+     * 반복 실행할 단계를 추가합니다.
+     *
+     * @param name 단계 이름
+     * @param task 실행할 작업
+     * @return 현재 인스턴스
+     */
+    public NetsSsoWarmup addStep(String name, Runnable task) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.notNull(task, "task must not be null");
+        steps.add(new Step(name, task, true));
+        return this;
+    }
+
+    /**
+     * 주어진 경로마다 합성 요청을 필터에 전달하는 반복 단계를 추가합니다.
+     *
+     * <p>다음 필터는 호출하지 않으며, 메서드가 없는 경로는 POST로 요청합니다.</p>
+     *
+     * @param name   단계 이름
+     * @param filter 실행할 필터
+     * @param routes 요청할 경로 목록
+     * @return 현재 인스턴스
+     */
+    public NetsSsoWarmup addFilterStep(String name, Filter filter, Collection<NetsSsoRoute> routes) {
+        Assert.notNull(filter, "filter must not be null");
+        Assert.notNull(routes, "routes must not be null");
+        List<NetsSsoRoute> targets = List.copyOf(routes);
+        return addStep(name, () -> {
+            for (NetsSsoRoute route : targets) {
+                HttpMethod method = route.getMethod() != null ? route.getMethod() : HttpMethod.POST;
+                try {
+                    filter.doFilter(syntheticRequest(method, route.getPath()), syntheticResponse(), (request, response) -> {
+                    });
+                } catch (Exception e) {
+                    throw new IllegalStateException("Warm-up request failed: " + route, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        long start = System.nanoTime();
+        for (Step step : steps) {
+            long stepStart = System.nanoTime();
+            if (step.repeat()) {
+                runRepeated(step);
+            } else {
+                try {
+                    step.task().run();
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("NSSO warm-up failed: " + step.name(), e);
+                }
+            }
+            stepDurations.put(step.name(), Duration.ofNanos(System.nanoTime() - stepStart));
+        }
+        this.duration = Duration.ofNanos(System.nanoTime() - start);
+        this.metrics.gauge("nsso.warmup.duration", this, w -> w.getDuration().toNanos() / 1e9);
+        this.warmedUp = true;
+        this.running = true;
+
+        if (log.isInfoEnabled()) {
+            log.info("NSSO warm-up completed in " + duration.toMillis() + "ms " + stepDurations);
+        }
+    }
+
+    private void runRepeated(Step step) {
+        for (int i = 0; i < iterations; i++) {
+            try {
+                step.task().run();
+            } catch (RuntimeException e) {
+                // 예열 실패로 시작을 막지 않는다.
+                log.warn("NSSO warm-up step skipped: " + step.name(), e);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return phase;
+    }
+
+    /**
+     * 예열이 끝났는지 반환합니다.
+     *
+     * @return 예열 완료 여부
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    /**
+     * 전체 예열 시간을 반환합니다.
+     *
+     * @return 예열 시간 (예열 전에는 0)
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * 단계별 예열 시간을 반환합니다.
+     *
+     * @return 단계 이름별 예열 시간 (실행 순서)
+     */
+    public Map<String, Duration> getStepDurations() {
+        return Collections.unmodifiableMap(stepDurations);
+    }
+
+    /**
+     * 반복 단계의 반복 횟수를 설정합니다. 기본값은 {@value #DEFAULT_ITERATIONS}입니다.
+     *
+     * @param iterations 반복 횟수
+     * @return 현재 인스턴스
+     */
+    public NetsSsoWarmup setIterations(int iterations) {
+        Assert.isTrue(iterations > 0, "iterations must be positive");
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * 수명 주기 단계를 설정합니다. 기본값은 {@link #DEFAULT_PHASE}입니다.
+     *
+     * @param phase 수명 주기 단계
+     * @return 현재 인스턴스
+     */
+    public NetsSsoWarmup setPhase(int phase) {
+        this.phase = phase;
+        return this;
+    }
+
+    /**
+     * 예열 시간을 보고할 지표 수집기를 설정합니다.
+     *
+     * @param metrics 지표 수집기
+     * @return 현재 인스턴스
+     */
+    public NetsSsoWarmup setMetrics(NetsSsoMetrics metrics) {
+        Assert.notNull(metrics, "metrics must not be null");
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * 합성 요청을 생성합니다.
+     *
+     * <p>localhost에 대한 요청으로, 헤더와 파라미터는 없고 요청 속성만 보관합니다.</p>
+     *
+     * @param method HTTP 메서드
+     * @param path   요청 경로 (servletPath)
+     * @return 합성 요청
+     */
+    public static HttpServletRequest syntheticRequest(HttpMethod method, String path) {
+        Assert.notNull(method, "method must not be null");
+        Assert.notNull(path, "path must not be null");
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(NetsSsoWarmup.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class}, (proxy, m, args) -> switch (m.getName()) {
+            case "getMethod" -> method.name();
+            case "getServletPath", "getRequestURI" -> path;
+            case "getRequestURL" -> new StringBuffer("http://localhost").append(path);
+            case "getContextPath" -> "";
+            case "getScheme" -> "http";
+            case "getServerName", "getRemoteHost" -> "localhost";
+            case "getServerPort" -> 80;
+            case "getRemoteAddr", "getLocalAddr" -> "127.0.0.1";
+            case "getDispatcherType" -> DispatcherType.REQUEST;
+            case "getAttribute" -> attributes.get((String) args[0]);
+            case "setAttribute" -> args[1] != null ? attributes.put((String) args[0], args[1]) : attributes.remove((String) args[0]);
+            case "removeAttribute" -> attributes.remove((String) args[0]);
+            case "getAttributeNames" -> Collections.enumeration(new ArrayList<>(attributes.keySet()));
+            case "getHeaders", "getHeaderNames", "getParameterNames", "getLocales" -> Collections.emptyEnumeration();
+            case "getParameterMap" -> Map.of();
+            case "getIntHeader", "getContentLength" -> -1;
+            case "getDateHeader", "getContentLengthLong" -> -1L;
+            case "toString" -> "NetsSsoWarmup " + method + " " + path;
+            default -> defaultValue(proxy, m, args);
+        });
+    }
+
+    /**
+     * 본문을 버리는 합성 응답을 생성합니다.
+     *
+     * @return 합성 응답
+     */
+    public static HttpServletResponse syntheticResponse() {
+        int[] status = {HttpServletResponse.SC_OK};
+        return (HttpServletResponse) Proxy.newProxyInstance(NetsSsoWarmup.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class}, (proxy, m, args) -> switch (m.getName()) {
+            case "getOutputStream" -> DiscardingOutputStream.INSTANCE;
+            case "getWriter" -> new PrintWriter(Writer.nullWriter());
+            case "getCharacterEncoding" -> StandardCharsets.UTF_8.name();
+            case "setStatus" -> {
+                status[0] = (int) args[0];
+                yield null;
+            }
+            case "getStatus" -> status[0];
+            case "getHeaderNames", "getHeaders" -> List.of();
+            case "toString" -> "NetsSsoWarmup response";
+            default -> defaultValue(proxy, m, args);
+        });
+    }
+
+    @Nullable
+    private static Object defaultValue(Object proxy, Method method, @Nullable Object[] args) {
+        Class<?> type = method.getReturnType();
+        if (method.getName().equals("equals") && args != null) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    private record Step(String name, Runnable task, boolean repeat) {
+    }
+
+    private static final class DiscardingOutputStream extends ServletOutputStream {
+        static final DiscardingOutputStream INSTANCE = new DiscardingOutputStream();
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -2,12 +2,23 @@ package io.github.carped99.nsso.configure;
 
 import io.github.carped99.nsso.NetsSsoAgentFilter;
 import io.github.carped99.nsso.NetsSsoAgentService;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.github.carped99.nsso.NetsSsoResponseCache;
+import io.github.carped99.nsso.NetsSsoRouter;
 import io.github.carped99.nsso.impl.NetsSsoAgentServiceImpl;
+import io.github.carped99.nsso.impl.NetsSsoResilience;
+import nets.sso.agent.web.v9.core.SSOConf;
+import org.springframework.http.CacheControl;
+import org.springframework.lang.Nullable;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.csrf.CsrfFilter;
-import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static io.github.carped99.nsso.configure.NetsSsoConfigurerUtils.getBean;
 
@@ -36,7 +47,24 @@ import static io.github.carped99.nsso.configure.NetsSsoConfigurerUtils.getBean;
  */
 public class NetsSsoAgentFilterConfigurer<B extends HttpSecurityBuilder<B>> extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, B> {
     private String prefixPath;
-    private RequestMatcher requestMatcher;
+    private NetsSsoRouter router;
+    @Nullable
+    private Executor executor;
+    @Nullable
+    private Duration timeout;
+    @Nullable
+    private NetsSsoMetrics metrics;
+    @Nullable
+    private CacheControl configCacheControl;
+    @Nullable
+    private CacheControl keyCacheControl;
+    @Nullable
+    private Duration keyRefreshAfter;
+    @Nullable
+    private NetsSsoResilience resilience;
+    @Nullable
+    private NetsSsoObserver observer;
+    private boolean serverTiming;
 
     /**
      * NSSO 에이전트 필터를 Spring Security 설정에 추가합니다.
@@ -44,9 +72,8 @@ public class NetsSsoAgentFilterConfigurer<B extends HttpSecurityBuilder<B>> exte
      * <p>설정 과정:</p>
      * <ol>
      *   <li>NetsSsoAgentFilter 인스턴스 생성</li>
-     *   <li>각 서비스별 RequestMatcher 생성 (POST 요청)</li>
+     *   <li>각 서비스별 경로 테이블 생성 (POST 요청)</li>
      *   <li>필터에 각 서비스 설정</li>
-     *   <li>전체 RequestMatcher 생성</li>
      *   <li>CSRF 필터 이후에 필터 추가</li>
      * </ol>
      *
@@ -56,18 +83,54 @@ public class NetsSsoAgentFilterConfigurer<B extends HttpSecurityBuilder<B>> exte
     @Override
     public void configure(B builder) throws Exception {
         NetsSsoAgentService agentService = getBean(builder, NetsSsoAgentService.class, NetsSsoAgentServiceImpl::new);
+        if (this.metrics != null && agentService instanceof NetsSsoAgentServiceImpl agentServiceImpl) {
+            agentServiceImpl.setMetrics(this.metrics);
+        }
+        if (this.observer != null && agentService instanceof NetsSsoAgentServiceImpl agentServiceImpl) {
+            agentServiceImpl.setObserver(this.observer);
+        }
+        // 기본 구현체는 에이전트 설정(SSOConf, 키 포함)이 다시 로드되면 응답을 새로 만든다.
+        NetsSsoAgentService baseService = agentService;
+        Supplier<?> version = baseService instanceof NetsSsoAgentServiceImpl ? SSOConf::getInstance : () -> baseService;
+        if (this.resilience != null) {
+            agentService = this.resilience.decorate(agentService);
+        }
         var agentFilter = new NetsSsoAgentFilter(prefixPath, agentService);
-        this.requestMatcher = agentFilter.getRequestMatcher();
+        agentFilter.setServerTiming(this.serverTiming);
+        if (this.executor != null && this.timeout != null) {
+            agentFilter.setExecutor(this.executor);
+            agentFilter.setTimeout(this.timeout);
+        }
+        if (this.configCacheControl != null) {
+            var configCache = new NetsSsoResponseCache(version, this.configCacheControl);
+            if (this.metrics != null) {
+                configCache.setMetrics(this.metrics, "config");
+            }
+            agentFilter.setConfigCache(configCache);
+        }
+        if (this.keyCacheControl != null) {
+            var keyCache = new NetsSsoResponseCache(version, this.keyCacheControl, 1);
+            // 공개키는 호스트와 관계없이 같다.
+            keyCache.setKeyResolver(request -> "key");
+            if (this.keyRefreshAfter != null) {
+                keyCache.setRefreshAfter(this.keyRefreshAfter);
+            }
+            if (this.metrics != null) {
+                keyCache.setMetrics(this.metrics, "key");
+            }
+            agentFilter.setKeyCache(keyCache);
+        }
+        this.router = agentFilter.getRouter();
         builder.addFilterAfter(postProcess(agentFilter), CsrfFilter.class);
     }
 
     /**
-     * 설정된 RequestMatcher를 반환합니다.
+     * 에이전트 엔드포인트 경로 테이블을 반환합니다.
      *
-     * @return 모든 에이전트 서비스 요청을 매칭하는 RequestMatcher
+     * @return 모든 에이전트 서비스 요청의 경로 테이블
      */
-    RequestMatcher getRequestMatcher() {
-        return requestMatcher;
+    NetsSsoRouter getRouter() {
+        return router;
     }
 
     /**
@@ -80,4 +143,85 @@ public class NetsSsoAgentFilterConfigurer<B extends HttpSecurityBuilder<B>> exte
         this.prefixPath = prefixPath;
         return this;
     }
+
+    /**
+     * 비동기 에이전트 호출을 설정합니다.
+     *
+     * @param executor 에이전트 호출 실행기
+     * @param timeout  에이전트 호출 기한
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setAsync(Executor executor, Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * 설정 정보 응답 캐시를 설정합니다.
+     *
+     * @param configCacheControl 설정 정보 응답의 Cache-Control
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setConfigCacheControl(CacheControl configCacheControl) {
+        this.configCacheControl = configCacheControl;
+        return this;
+    }
+
+    /**
+     * 공개키 응답 캐시를 설정합니다.
+     *
+     * @param refreshAfter    공개키 갱신 주기 (null이면 버전이 바뀔 때만 갱신)
+     * @param keyCacheControl 공개키 응답의 Cache-Control
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setKeyCache(@Nullable Duration refreshAfter, CacheControl keyCacheControl) {
+        this.keyRefreshAfter = refreshAfter;
+        this.keyCacheControl = keyCacheControl;
+        return this;
+    }
+
+    /**
+     * 에이전트 호출 보호 설정을 지정합니다.
+     *
+     * @param resilience 호출 보호 설정
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setResilience(NetsSsoResilience resilience) {
+        this.resilience = resilience;
+        return this;
+    }
+
+    /**
+     * 에이전트 호출 단계 관찰기를 설정합니다.
+     *
+     * @param observer 에이전트 호출 단계 관찰기
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setObserver(NetsSsoObserver observer) {
+        this.observer = observer;
+        return this;
+    }
+
+    /**
+     * 응답에 단계별 처리 시간({@code Server-Timing} 헤더)을 추가할지 설정합니다.
+     *
+     * @param serverTiming 추가 여부
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setServerTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
+        return this;
+    }
+
+    /**
+     * 지표 수집기를 설정합니다.
+     *
+     * @param metrics 지표 수집기
+     * @return 현재 설정 객체
+     */
+    NetsSsoAgentFilterConfigurer<B> setMetrics(NetsSsoMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
@@ -1,22 +1,64 @@
 package io.github.carped99.nsso.configure;
 
+import io.github.carped99.nsso.NetsSsoAgentFilter;
+import io.github.carped99.nsso.NetsSsoAgentService;
+import io.github.carped99.nsso.NetsSsoAuthentication;
 import io.github.carped99.nsso.NetsSsoAuthenticationFilter;
+import io.github.carped99.nsso.NetsSsoAuthenticationProvider;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoBackChannelLogoutFilter;
+import io.github.carped99.nsso.NetsSsoLimitFilter;
+import io.github.carped99.nsso.NetsSsoLimiter;
+import io.github.carped99.nsso.NetsSsoLimits;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoMetricsFilter;
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import io.github.carped99.nsso.NetsSsoRoute;
+import io.github.carped99.nsso.NetsSsoRouter;
+import io.github.carped99.nsso.NetsSsoServerTiming;
+import io.github.carped99.nsso.NetsSsoSessionIndex;
+import io.github.carped99.nsso.NetsSsoSessionRevocationFilter;
 import io.github.carped99.nsso.NetsSsoTokenFilter;
+import io.github.carped99.nsso.NetsSsoWarmup;
+import io.github.carped99.nsso.impl.NetsSsoAgentServiceImpl;
+import io.github.carped99.nsso.impl.NetsSsoAuthenticationServiceImpl;
+import io.github.carped99.nsso.impl.NetsSsoCachingAuthenticationService;
+import io.github.carped99.nsso.impl.NetsSsoCachingUserDetailsService;
+import io.github.carped99.nsso.impl.NetsSsoExecutorAuthenticationService;
+import io.github.carped99.nsso.impl.NetsSsoLocalSessionIndex;
 import io.github.carped99.nsso.impl.NetsSsoLogoutHandler;
+import io.github.carped99.nsso.impl.NetsSsoResilience;
+import io.github.carped99.nsso.impl.NetsSsoResilientAuthenticationService;
+import io.github.carped99.nsso.impl.NetsSsoSingleFlightAuthenticationService;
+import io.github.carped99.nsso.impl.NetsSsoWarmupStubs;
+import io.github.carped99.nsso.mock.NetsSsoMockAgentService;
 import io.github.carped99.nsso.mock.NetsSsoMockLogoutHandler;
 import jakarta.servlet.http.HttpServletRequest;
+import nets.sso.agent.web.v9.core.SSOConf;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpMethod;
 import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.AuthenticationDetailsSource;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.*;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -24,19 +66,24 @@ import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.csrf.CsrfFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
-import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+import static io.github.carped99.nsso.configure.NetsSsoConfigurerUtils.getBean;
 
 /**
  * NSSO 인증 설정의 메인 컨피규러
@@ -81,8 +128,9 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
 
     private String prefixPath = "/nsso";
     private boolean ignoreCsrf = false;
+    private boolean singleFlight = false;
 
-    private RequestMatcher endpointsMatcher;
+    private NetsSsoRouter endpointsMatcher;
 
     private AuthenticationDetailsSource<HttpServletRequest, ?> authenticationDetailsSource;
     private AuthenticationSuccessHandler loginSuccessHandler;
@@ -97,8 +145,65 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
     @Nullable
     private NetsSsoMockServerConfigurer<B> mockServerConfigurer;
 
-    private RequestMatcher loginProcessRequestMatcher;
-    private RequestMatcher logoutProcessRequestMatcher;
+    @Nullable
+    private NetsSsoPrincipalCache principalCache;
+
+    @Nullable
+    private NetsSsoCachingAuthenticationService cachingAuthenticationService;
+
+    @Nullable
+    private Customizer<NetsSsoCachingUserDetailsService> userDetailsCacheCustomizer;
+
+    @Nullable
+    private ExecutorService asyncExecutor;
+
+    private boolean ownsAsyncExecutor;
+
+    @Nullable
+    private Duration asyncTimeout;
+
+    @Nullable
+    private NetsSsoMetrics metrics;
+
+    @Nullable
+    private CacheControl configCacheControl;
+
+    @Nullable
+    private CacheControl keyCacheControl;
+
+    @Nullable
+    private Duration keyRefreshAfter;
+
+    @Nullable
+    private NetsSsoWarmup warmup;
+
+    @Nullable
+    private NetsSsoSessionIndex sessionIndex;
+
+    @Nullable
+    private String backChannelLogoutSecret;
+
+    @Nullable
+    private NetsSsoResilience resilience;
+
+    @Nullable
+    private NetsSsoLimits limits;
+
+    @Nullable
+    private NetsSsoObserver observer;
+
+    private boolean serverTiming;
+
+    @Nullable
+    private NetsSsoResilientAuthenticationService resilientAuthenticationService;
+
+    @Nullable
+    private NetsSsoAuthenticationService loginAuthenticationService;
+
+    private NetsSsoRoute loginProcessRequestMatcher;
+    private NetsSsoRoute logoutProcessRequestMatcher;
+    @Nullable
+    private NetsSsoRoute backChannelLogoutRequestMatcher;
     private LogoutHandler[] logoutHandlers;
 
     /**
@@ -158,6 +263,9 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
     /**
      * 엔드포인트 매처를 반환한다.
      *
+     * <p>설정이 끝나면 모든 NSSO 엔드포인트로 구성한 경로 테이블({@link NetsSsoRouter})로 매칭하므로,
+     * NSSO 요청이 아닌 요청은 엔드포인트 수와 관계없이 한 번의 경로 조회로 걸러진다.</p>
+     *
      * @return 모든 NSSO 엔드포인트를 매칭하는 RequestMatcher
      */
     public RequestMatcher getEndpointsMatcher() {
@@ -249,6 +357,343 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
         return this;
     }
 
+    /**
+     * 인증 결과 캐시를 설정한다.
+     *
+     * <p>설정하면 NSSO 인증 서비스를 {@link NetsSsoCachingAuthenticationService}로 감싸서
+     * 이미 검증된 SSO 세션의 반복 인증을 캐시에서 처리하고, 로그아웃 시 해당 세션의 캐시를 제거한다.
+     * 토큰 엔드포인트와 로그인 엔드포인트 모두 감싼 서비스를 사용하며, 로그인은 이 컨피규러가 구성한 {@link NetsSsoAuthenticationProvider}로 처리하고
+     * 애플리케이션의 인증 매니저는 상위 매니저로 둔다.
+     * 여러 노드가 인증 결과를 공유하려면 {@link io.github.carped99.nsso.impl.NetsSsoNearPrincipalCache}를 사용한다.</p>
+     *
+     * @param principalCache 인증 결과 캐시
+     * @return 현재 컨피규러 인스턴스
+     */
+    public NetsSsoAuthenticationConfigurer<B> principalCache(NetsSsoPrincipalCache principalCache) {
+        Assert.notNull(principalCache, "principalCache must not be null");
+        this.principalCache = principalCache;
+        return this;
+    }
+
+    /**
+     * 같은 SSO 세션의 동시 인증을 하나로 합칠지 설정한다.
+     *
+     * <p>활성화하면 NSSO 인증 서비스를 {@link NetsSsoSingleFlightAuthenticationService}로 감싼다.
+     * 인증 결과 캐시와 함께 사용하면 캐시에 없는 세션의 동시 인증만 합쳐진다.
+     * 토큰 엔드포인트와 로그인 엔드포인트 모두 합쳐지며, 결과를 기다리는 요청은 첫 번째 요청의 에이전트 호출 기한
+     * (호출 보호의 {@code authenticate} 기한, 없으면 비동기 처리 기한, 둘 다 없으면 30초)까지만 기다린다.</p>
+     *
+     * @param singleFlight 동시 인증 병합 여부
+     * @return 현재 컨피규러 인스턴스
+     */
+    public NetsSsoAuthenticationConfigurer<B> singleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+        return this;
+    }
+
+    /**
+     * 기본 실행기로 비동기 처리를 설정한다.
+     *
+     * <p>기본 실행기({@link NetsSsoExecutorAuthenticationService#newDefaultExecutor()})는 이 컨피규러가 만들었으므로
+     * 애플리케이션 컨텍스트가 닫힐 때 종료한다.</p>
+     *
+     * @param timeout SSO 에이전트 호출 기한
+     * @return 현재 컨피규러 인스턴스
+     * @see #async(ExecutorService, Duration)
+     */
+    public NetsSsoAuthenticationConfigurer<B> async(Duration timeout) {
+        async(NetsSsoExecutorAuthenticationService.newDefaultExecutor(), timeout);
+        this.ownsAsyncExecutor = true;
+        return this;
+    }
+
+    /**
+     * 비동기 처리를 설정한다.
+     *
+     * <p>설정하면 토큰 필터와 에이전트 필터가 서블릿 비동기 처리로 전환되어 SSO 에이전트 호출을 주어진 실행기에서 수행한다.
+     * NSSO 인증 서비스는 {@link NetsSsoExecutorAuthenticationService}로 감싸진다.</p>
+     *
+     * <p>로그인 필터는 {@link org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter}의
+     * 동기 처리 흐름(세션 전략, 보안 컨텍스트 저장, 핸들러 호출)을 따르므로 동기로 처리한다.</p>
+     *
+     * <p>주어진 실행기의 종료는 호출자가 관리한다.</p>
+     *
+     * @param executor SSO 에이전트 호출 실행기
+     * @param timeout  SSO 에이전트 호출 기한
+     * @return 현재 컨피규러 인스턴스
+     */
+    public NetsSsoAuthenticationConfigurer<B> async(ExecutorService executor, Duration timeout) {
+        Assert.notNull(executor, "executor must not be null");
+        Assert.notNull(timeout, "timeout must not be null");
+        Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        this.asyncExecutor = executor;
+        this.asyncTimeout = timeout;
+        this.ownsAsyncExecutor = false;
+        return this;
+    }
+
+    /**
+     * 지표 수집기를 설정한다.
+     *
+     * <p>설정하면 다음 지표를 수집한다.</p>
+     * <ul>
+     *   <li>엔드포인트(check, config, duplication, tfa, key, login, logout, token, 활성화된 Mock 서버 엔드포인트)별 처리 시간</li>
+     *   <li>기본 구현체({@link NetsSsoAuthenticationServiceImpl}, {@link io.github.carped99.nsso.impl.NetsSsoAgentServiceImpl})의 SSO 에이전트 호출 시간</li>
+     *   <li>SSO 오류 코드별 인증 실패 횟수</li>
+     *   <li>인증 결과 캐시, 사용자 정보 캐시, 동시 인증 병합의 상태 값</li>
+     *   <li>설정 정보, 공개키 응답 캐시의 적중, 갱신, 이전 응답 사용 횟수</li>
+     *   <li>호출 보호를 설정하면 작업별 회로 상태 변경 횟수와 저하 모드 응답 횟수</li>
+     * </ul>
+     *
+     * @param metrics 지표 수집기
+     * @return 현재 컨피규러 인스턴스
+     * @see io.github.carped99.nsso.impl.NetsSsoMicrometerMetrics
+     */
+    public NetsSsoAuthenticationConfigurer<B> metrics(NetsSsoMetrics metrics) {
+        Assert.notNull(metrics, "metrics must not be null");
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * 설정 정보(/config) 응답 캐시를 설정한다.
+     *
+     * <p>설정하면 설정 정보 응답을 호스트와 컨텍스트 경로별로 저장해 두고, 강한 ETag와 주어진 Cache-Control로 응답한다.
+     * 조건부 요청({@code If-None-Match})을 위해 설정 정보 엔드포인트에 GET 요청도 허용하며, 일치하면 304로 응답한다.
+     * 기본 에이전트 서비스를 사용하면 에이전트 설정(SSOConf)이 다시 로드될 때 저장된 응답을 무효화한다.</p>
+     *
+     * <pre>{@code
+     * sso.configCache(CacheControl.noCache())
+     * sso.configCache(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+     * }</pre>
+     *
+     * @param cacheControl 설정 정보 응답의 Cache-Control
+     * @return 현재 컨피규러 인스턴스
+     * @see io.github.carped99.nsso.NetsSsoResponseCache
+     */
+    public NetsSsoAuthenticationConfigurer<B> configCache(CacheControl cacheControl) {
+        Assert.notNull(cacheControl, "cacheControl must not be null");
+        this.configCacheControl = cacheControl;
+        return this;
+    }
+
+    /**
+     * 공개키(/key) 응답 캐시를 설정한다.
+     *
+     * <p>설정하면 공개키 응답을 메모리에 저장해 두고, 본문 지문으로 만든 ETag와 주어진 Cache-Control로 응답한다.
+     * 조건부 요청({@code If-None-Match})을 위해 공개키 엔드포인트에 GET 요청도 허용하며, 일치하면 304로 응답한다.</p>
+     *
+     * <p>기본 에이전트 서비스를 사용하면 에이전트 설정(SSOConf)이 다시 로드될 때 즉시 무효화하고,
+     * 갱신 주기가 지나면 다음 요청이 공개키를 다시 조회한다. 조회하는 동안이나 조회에 실패하면 이전 공개키로 응답한다.
+     * 공개키 조회에는 요청이 필요하므로 요청 없이 갱신하지 않는다. 오류 응답은 저장하지 않는다.</p>
+     *
+     * <pre>{@code
+     * sso.keyCache(Duration.ofMinutes(10), CacheControl.noCache())
+     * }</pre>
+     *
+     * @param refreshAfter 공개키 갱신 주기
+     * @param cacheControl 공개키 응답의 Cache-Control
+     * @return 현재 컨피규러 인스턴스
+     * @see io.github.carped99.nsso.NetsSsoResponseCache
+     */
+    public NetsSsoAuthenticationConfigurer<B> keyCache(Duration refreshAfter, CacheControl cacheControl) {
+        Assert.notNull(refreshAfter, "refreshAfter must not be null");
+        Assert.isTrue(!refreshAfter.isNegative() && !refreshAfter.isZero(), "refreshAfter must be positive");
+        Assert.notNull(cacheControl, "cacheControl must not be null");
+        this.keyRefreshAfter = refreshAfter;
+        this.keyCacheControl = cacheControl;
+        return this;
+    }
+
+    /**
+     * 사용자 정보 캐시를 설정한다.
+     *
+     * <p>설정하면 UserDetailsService를 {@link NetsSsoCachingUserDetailsService}로 감싸서 공유 객체로 등록하므로,
+     * 토큰 필터와 로그인 엔드포인트가 같은 캐시를 사용한다. 로그인은 이 컨피규러가 캐시로 구성한 {@link NetsSsoAuthenticationProvider}로 처리하고
+     * 애플리케이션의 인증 매니저는 상위 매니저로 둔다.</p>
+     *
+     * <p>Mock 서버의 비밀번호 검증에는 캐시를 사용하지 않는다.</p>
+     *
+     * @param customizer 사용자 정보 캐시 커스터마이저
+     * @return 현재 컨피규러 인스턴스
+     */
+    public NetsSsoAuthenticationConfigurer<B> userDetailsCache(Customizer<NetsSsoCachingUserDetailsService> customizer) {
+        Assert.notNull(customizer, "customizer must not be null");
+        this.userDetailsCacheCustomizer = customizer;
+        return this;
+    }
+
+    /**
+     * 시작 시 NSSO 필터 체인을 예열하도록 설정한다.
+     *
+     * <p>설정하면 {@link NetsSsoWarmup}을 애플리케이션 컨텍스트에 등록하여, 웹 서버가 요청을 받기 전에 다음을 수행한다.</p>
+     * <ul>
+     *   <li>기본 구현체를 사용하면 에이전트 설정(SSOConf) 초기화 - 실패하면 시작을 중단한다.</li>
+     *   <li>모든 NSSO 엔드포인트 경로 테이블 조회</li>
+     *   <li>합성 요청으로 에이전트 필터와 인증 제공자 실행 - SSO 에이전트와 사용자 정보 조회는 예열용 서비스로 대체하며,
+     *       Mock 서버를 사용하면 Mock 에이전트 서비스를 그대로 사용한다.</li>
+     * </ul>
+     *
+     * <p>예열 시간은 로그로 남기며, 지표 수집기를 설정하면 {@code nsso.warmup.duration} 게이지로도 보고한다.
+     * 컨텍스트가 이미 시작된 뒤에 구성되면 자동으로 실행되지 않는다.</p>
+     *
+     * <pre>{@code
+     * sso.warmup(warmup -> warmup.setIterations(500))
+     * }</pre>
+     *
+     * @param customizer 예열 커스터마이저
+     * @return 현재 컨피규러 인스턴스
+     */
+    public NetsSsoAuthenticationConfigurer<B> warmup(Customizer<NetsSsoWarmup> customizer) {
+        Assert.notNull(customizer, "customizer must not be null");
+        this.warmup = Objects.requireNonNullElseGet(this.warmup, NetsSsoWarmup::new);
+        customizer.customize(this.warmup);
+        return this;
+    }
+
+    /**
+     * 사용자별 세션 색인을 설정한다.
+     *
+     * <p>설정하면 인증 결과 캐시에 저장한 SSO 세션, 토큰 엔드포인트가 발급한 액세스 토큰, 로그인 엔드포인트가 보안 컨텍스트를 저장한
+     * HTTP 세션을 사용자 ID별로 색인하고, 로그아웃 시 색인에서 제거한다. 백채널 로그아웃만 설정하면 {@link NetsSsoSessionIndex} 빈을,
+     * 빈이 없으면 {@link NetsSsoLocalSessionIndex}를 사용한다.</p>
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     * @return 현재 컨피규러 인스턴스
+     * @see #backChannelLogout(String)
+     */
+    public NetsSsoAuthenticationConfigurer<B> sessionIndex(NetsSsoSessionIndex sessionIndex) {
+        Assert.notNull(sessionIndex, "sessionIndex must not be null");
+        this.sessionIndex = sessionIndex;
+        return this;
+    }
+
+    /**
+     * 백채널 로그아웃 엔드포인트({@code {prefix}/backchannel-logout})를 활성화한다.
+     *
+     * <p>SSO 서버나 관리 도구가 공유 비밀값과 사용자 ID로 요청하면, 해당 사용자의 캐시된 인증 결과를 제거하고
+     * 발급한 액세스 토큰과 로그인 엔드포인트가 만든 HTTP 세션을 폐기한다. 서버 간 요청이므로 이 엔드포인트는 CSRF 보호에서 제외한다.</p>
+     *
+     * <pre>{@code
+     * curl -X POST -H 'X-NSSO-Logout-Secret: ...' -d 'userID=alice&userID=bob' https://app/nsso/backchannel-logout
+     * }</pre>
+     *
+     * <p>폐기된 HTTP 세션은 그 세션의 다음 요청에서 {@link NetsSsoSessionRevocationFilter}가 무효화한다.
+     * 이 컨피규러는 NSSO 엔드포인트 필터 체인에만 필터를 추가하므로, 애플리케이션 필터 체인에도 같은 세션 색인으로 필터를 추가해야 한다.
+     * 세션 색인을 {@link NetsSsoSessionIndex} 빈으로 등록하면 두 필터 체인이 같은 색인을 사용한다.</p>
+     *
+     * <pre>{@code
+     * http.addFilterBefore(new NetsSsoSessionRevocationFilter(sessionIndex), SecurityContextHolderFilter.class);
+     * }</pre>
+     *
+     * @param sharedSecret 공유 비밀값
+     * @return 현재 컨피규러 인스턴스
+     * @see NetsSsoBackChannelLogoutFilter
+     */
+    public NetsSsoAuthenticationConfigurer<B> backChannelLogout(String sharedSecret) {
+        Assert.hasText(sharedSecret, "sharedSecret must not be empty");
+        this.backChannelLogoutSecret = sharedSecret;
+        return this;
+    }
+
+    /**
+     * SSO 에이전트 호출 보호를 설정한다.
+     *
+     * <p>설정하면 에이전트 서비스, 인증 서비스, 로그아웃 핸들러의 에이전트 호출에 작업별 동시 호출 수 제한(격벽), 호출 기한,
+     * 회로 차단기를 적용한다. 에이전트가 멈춰도 요청 스레드가 고갈되지 않게 하는 것은 격벽이며, 멈춘 호출이 자리를 채우면 이후 호출은 바로 실패한다.
+     * 보호 규칙으로 실패한 호출은 오류 코드 {@value NetsSsoResilience#CIRCUIT_OPEN_CODE}(회로 열림),
+     * {@value NetsSsoResilience#BULKHEAD_FULL_CODE}(동시 호출 수 초과), {@value NetsSsoExecutorAuthenticationService#TIMEOUT_CODE}(기한 초과)로 응답한다.
+     * 토큰 엔드포인트와 로그인 엔드포인트 모두 보호된 인증 서비스를 사용하며, 저하 모드를 활성화하면 에이전트를 사용할 수 없는 동안
+     * 최근 검증된 인증 결과로 토큰 인증과 로그인을 처리한다.
+     * 호출 기한은 {@link NetsSsoResilience#executor(ExecutorService)}가 있어야 하며, 멈춘 호출을 일찍 실패로 기록하고 중단하지만
+     * 요청 스레드는 중단한 호출이 끝날 때까지 기다린다.</p>
+     *
+     * <pre>{@code
+     * sso.resilience(resilience -> resilience
+     *     .executor(agentExecutor)
+     *     .defaults(policy -> policy.setDeadline(Duration.ofSeconds(3)))
+     *     .degraded(Duration.ofMinutes(5), 10_000))
+     * }</pre>
+     *
+     * @param customizer 호출 보호 커스터마이저
+     * @return 현재 컨피규러 인스턴스
+     * @see NetsSsoResilience
+     */
+    public NetsSsoAuthenticationConfigurer<B> resilience(Customizer<NetsSsoResilience> customizer) {
+        Assert.notNull(customizer, "customizer must not be null");
+        this.resilience = Objects.requireNonNullElseGet(this.resilience, NetsSsoResilience::new);
+        customizer.customize(this.resilience);
+        return this;
+    }
+
+    /**
+     * NSSO 엔드포인트의 동시 처리 수 제한을 설정한다.
+     *
+     * <p>설정하면 모든 NSSO 엔드포인트(에이전트 엔드포인트, 로그인, 로그아웃, 토큰 등) 앞에 {@link NetsSsoLimitFilter}를 두고,
+     * 엔드포인트마다 처리 시간으로 감당할 수 있는 동시 처리 수를 찾아 넘치는 요청은 바로 503과 {@code Retry-After}로 응답한다.
+     * 장애 복구 직후 로그인이 몰려도 컨테이너 스레드가 NSSO 요청으로 가득 차지 않게 한다.
+     * 기본 제한기는 {@link io.github.carped99.nsso.impl.NetsSsoVegasLimiter}이며 엔드포인트별로 바꿀 수 있다.</p>
+     *
+     * <pre>{@code
+     * sso.concurrencyLimit(limits -> limits
+     *     .route("login", () -> new NetsSsoGradientLimiter().setLimitRange(4, 100)))
+     * }</pre>
+     *
+     * <p>지표 수집기를 설정하면 엔드포인트별 현재 제한을 {@code nsso.limit.{엔드포인트}} 게이지로 보고한다.</p>
+     *
+     * @param customizer 동시 처리 수 제한 커스터마이저
+     * @return 현재 컨피규러 인스턴스
+     * @see NetsSsoLimits
+     */
+    public NetsSsoAuthenticationConfigurer<B> concurrencyLimit(Customizer<NetsSsoLimits> customizer) {
+        Assert.notNull(customizer, "customizer must not be null");
+        this.limits = Objects.requireNonNullElseGet(this.limits, NetsSsoLimits::new);
+        customizer.customize(this.limits);
+        return this;
+    }
+
+    /**
+     * 인증 단계 관찰기를 설정한다.
+     *
+     * <p>설정하면 기본 인증 서비스와 에이전트 서비스의 SSO 에이전트 호출 단계({@code sso.get}, {@code sso.authnLoginStay},
+     * {@code sso.authn} 등), 토큰 필터와 로그인 필터의 사용자 정보 조회, 세션 전략, 성공 핸들러 단계를 관찰한다.
+     * 설정하지 않으면 {@link NetsSsoObserver} 빈을 사용하며, 빈도 없으면 관찰하지 않는다.
+     * 인증 서비스를 감싸면(인증 결과 캐시, 동시 인증 병합, 호출 보호) 로그인은 이 컨피규러가 관찰기를 설정한 {@link NetsSsoAuthenticationProvider}로 처리하며,
+     * 그 외에는 애플리케이션의 {@link NetsSsoAuthenticationProvider}에 관찰기를 직접 설정한다.</p>
+     *
+     * <pre>{@code
+     * sso.observer(new NetsSsoObservationObserver(observationRegistry))
+     * }</pre>
+     *
+     * @param observer 인증 단계 관찰기
+     * @return 현재 컨피규러 인스턴스
+     * @see io.github.carped99.nsso.impl.NetsSsoObservationObserver
+     */
+    public NetsSsoAuthenticationConfigurer<B> observer(NetsSsoObserver observer) {
+        Assert.notNull(observer, "observer must not be null");
+        this.observer = observer;
+        return this;
+    }
+
+    /**
+     * 응답에 단계별 처리 시간({@code Server-Timing} 헤더)을 추가할지 설정한다. 기본값은 false다.
+     *
+     * <p>에이전트 엔드포인트, 토큰 엔드포인트, 로그인 엔드포인트의 응답에 SSO 에이전트 호출({@code agent}),
+     * 사용자 정보 조회({@code user}), 응답 생성({@code ser}), 전체({@code total}) 시간을 밀리초로 보고한다.
+     * 로그인 엔드포인트의 {@code agent}, {@code user} 값은 {@link NetsSsoAuthenticationProvider}가 기록한다.</p>
+     *
+     * <p>브라우저 개발자 도구와 Resource Timing API에서 확인할 수 있으며, 다른 출처(origin)의 화면에서 읽으려면
+     * 애플리케이션이 {@code Timing-Allow-Origin} 헤더를 추가해야 한다. 내부 처리 시간이 드러나므로 운영 환경에서는 신중히 사용한다.</p>
+     *
+     * @param serverTiming 추가 여부
+     * @return 현재 컨피규러 인스턴스
+     * @see NetsSsoServerTiming
+     */
+    public NetsSsoAuthenticationConfigurer<B> serverTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
+        return this;
+    }
+
     public NetsSsoAuthenticationConfigurer<B> tokenFilter(Customizer<NetsSsoTokenFilterConfigurer<B>> customizer) {
         Assert.notNull(customizer, "customizer must not be null");
         this.tokenFilterConfigurer = Objects.requireNonNullElseGet(this.tokenFilterConfigurer, NetsSsoTokenFilterConfigurer::new);
@@ -270,14 +715,144 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
             this.mockServerConfigurer.configure(http);
         }
 
+        if (this.observer == null) {
+            this.observer = getBean(http, NetsSsoObserver.class);
+        }
+        if (this.observer != null) {
+            this.agentFilterConfigurer.setObserver(this.observer);
+        }
+        this.agentFilterConfigurer.setServerTiming(this.serverTiming);
+        if (this.asyncExecutor != null) {
+            this.agentFilterConfigurer.setAsync(this.asyncExecutor, this.asyncTimeout);
+            if (this.ownsAsyncExecutor) {
+                registerShutdown(http, this.asyncExecutor);
+            }
+        }
+        if (this.metrics != null) {
+            this.agentFilterConfigurer.setMetrics(this.metrics);
+        }
+        if (this.resilience != null) {
+            if (this.metrics != null) {
+                this.resilience.setMetrics(this.metrics);
+            }
+            this.agentFilterConfigurer.setResilience(this.resilience);
+        }
+        if (this.configCacheControl != null) {
+            this.agentFilterConfigurer.setConfigCacheControl(this.configCacheControl);
+        }
+        if (this.keyCacheControl != null) {
+            this.agentFilterConfigurer.setKeyCache(this.keyRefreshAfter, this.keyCacheControl);
+        }
         this.agentFilterConfigurer.setPrefixPath(this.prefixPath).configure(http);
 
+        if (this.backChannelLogoutSecret != null && this.sessionIndex == null) {
+            this.sessionIndex = getBean(http, NetsSsoSessionIndex.class, NetsSsoLocalSessionIndex::new);
+        }
+
+        configureAuthenticationService(http);
+        configureUserDetailsService(http);
         configureTokenFilter(http);
 
         configureAuthenticationFilter(http);
         configureLogoutFilter(http);
+        configureBackChannelLogoutFilter(http);
 
         configureEndpointsMatcher();
+        configureMetricsFilter(http);
+        configureLimitFilter(http);
+        configureWarmup(http);
+    }
+
+    private void configureAuthenticationService(B http) {
+        if (this.principalCache == null && !this.singleFlight && this.asyncExecutor == null && this.metrics == null && this.resilience == null
+                && this.observer == null) {
+            return;
+        }
+
+        NetsSsoAuthenticationService authenticationService = getBean(http, NetsSsoAuthenticationService.class);
+        Assert.state(authenticationService != null, "NetsSsoAuthenticationService required");
+
+        if (this.metrics != null && authenticationService instanceof NetsSsoAuthenticationServiceImpl authenticationServiceImpl) {
+            authenticationServiceImpl.setMetrics(this.metrics);
+        }
+        if (this.observer != null && authenticationService instanceof NetsSsoAuthenticationServiceImpl authenticationServiceImpl) {
+            authenticationServiceImpl.setObserver(this.observer);
+        }
+
+        if (this.resilience != null) {
+            this.resilientAuthenticationService = this.resilience.decorate(authenticationService);
+            authenticationService = this.resilientAuthenticationService;
+        }
+
+        if (this.singleFlight) {
+            var singleFlightService = new NetsSsoSingleFlightAuthenticationService(authenticationService);
+            Duration timeout = followerTimeout();
+            if (timeout != null) {
+                singleFlightService.setTimeout(timeout);
+            }
+            if (this.metrics != null) {
+                this.metrics.gauge("nsso.authentication.inflight", singleFlightService, NetsSsoSingleFlightAuthenticationService::getInFlightCount);
+            }
+            authenticationService = singleFlightService;
+        }
+
+        if (this.principalCache != null) {
+            this.cachingAuthenticationService = new NetsSsoCachingAuthenticationService(authenticationService, this.principalCache);
+            this.cachingAuthenticationService.setSessionIndex(this.sessionIndex);
+            if (this.metrics != null) {
+                var cache = this.principalCache;
+                this.metrics.gauge("nsso.principal.cache.size", cache, c -> c.getStats().getSize());
+                this.metrics.gauge("nsso.principal.cache.hits", cache, c -> c.getStats().getHitCount());
+                this.metrics.gauge("nsso.principal.cache.misses", cache, c -> c.getStats().getMissCount());
+            }
+            authenticationService = this.cachingAuthenticationService;
+        }
+
+        // 로그인 필터는 동기로 처리하므로 실행기로 감싸기 전의 서비스를 사용한다.
+        // 지표 수집기와 관찰기는 기본 구현체를 그대로 바꾸므로, 서비스를 감싼 경우에만 로그인 인증 제공자를 따로 구성한다.
+        if (this.resilience != null || this.singleFlight || this.principalCache != null) {
+            this.loginAuthenticationService = authenticationService;
+        }
+
+        if (this.asyncExecutor != null) {
+            authenticationService = new NetsSsoExecutorAuthenticationService(authenticationService, this.asyncExecutor);
+        }
+
+        http.setSharedObject(NetsSsoAuthenticationService.class, authenticationService);
+    }
+
+    /**
+     * 동시 인증 병합에서 진행 중인 인증을 기다릴 기한을 반환한다. 첫 번째 요청의 에이전트 호출 기한과 같게 한다.
+     */
+    @Nullable
+    private Duration followerTimeout() {
+        if (this.resilience != null) {
+            Duration deadline = this.resilience.guard(NetsSsoResilience.AUTHENTICATE).getDeadline();
+            if (deadline != null) {
+                return deadline;
+            }
+        }
+        return this.asyncExecutor != null ? this.asyncTimeout : null;
+    }
+
+    private void configureUserDetailsService(B http) {
+        if (this.userDetailsCacheCustomizer == null) {
+            return;
+        }
+
+        UserDetailsService userDetailsService = getBean(http, UserDetailsService.class);
+        Assert.state(userDetailsService != null, "UserDetailsService required");
+
+        NetsSsoCachingUserDetailsService cachingUserDetailsService = userDetailsService instanceof NetsSsoCachingUserDetailsService caching
+                ? caching
+                : new NetsSsoCachingUserDetailsService(userDetailsService);
+        this.userDetailsCacheCustomizer.customize(cachingUserDetailsService);
+        if (this.metrics != null) {
+            this.metrics.gauge("nsso.userdetails.cache.size", cachingUserDetailsService, c -> c.getStats().getSize());
+            this.metrics.gauge("nsso.userdetails.cache.hits", cachingUserDetailsService, c -> c.getStats().getHitCount());
+            this.metrics.gauge("nsso.userdetails.cache.misses", cachingUserDetailsService, c -> c.getStats().getMissCount());
+        }
+        http.setSharedObject(UserDetailsService.class, cachingUserDetailsService);
     }
 
     private void configureTokenFilter(B http) throws Exception {
@@ -286,6 +861,11 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
         }
 
         this.tokenFilterConfigurer.setPrefixPath(this.prefixPath);
+        this.tokenFilterConfigurer.setAsyncTimeout(this.asyncTimeout);
+        this.tokenFilterConfigurer.setSecurityContextHolderStrategy(getSecurityContextHolderStrategy());
+        this.tokenFilterConfigurer.setSessionIndex(this.sessionIndex);
+        this.tokenFilterConfigurer.setObserver(this.observer);
+        this.tokenFilterConfigurer.setServerTiming(this.serverTiming);
         if (this.tokenFilterConfigurer.getSuccessHandler() == null) {
             this.tokenFilterConfigurer.successHandler(getSuccessHandler());
         }
@@ -299,10 +879,15 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
 
     private void configureAuthenticationFilter(B http) {
         String url = normalizePath(this.prefixPath, "/login");
-        this.loginProcessRequestMatcher = antMatcher(HttpMethod.POST, url);
+        this.loginProcessRequestMatcher = NetsSsoRoute.of("login", HttpMethod.POST, url);
         var filter = new NetsSsoAuthenticationFilter(loginProcessRequestMatcher);
 
-        filter.setAuthenticationManager(http.getSharedObject(AuthenticationManager.class));
+        filter.setAuthenticationManager(getLoginAuthenticationManager(http));
+        if (this.observer != null) {
+            filter.setObserver(this.observer);
+        }
+        filter.setServerTiming(this.serverTiming);
+        filter.setSessionIndex(this.sessionIndex);
         filter.setAuthenticationSuccessHandler(getSuccessHandler());
         filter.setAuthenticationFailureHandler(getFailureHandler());
         if (this.authenticationDetailsSource != null) {
@@ -318,42 +903,219 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
         http.addFilterBefore(postProcess(filter), UsernamePasswordAuthenticationFilter.class);
     }
 
+    /**
+     * 로그인 필터의 인증 매니저를 반환한다.
+     *
+     * <p>인증 서비스를 감쌌으면(인증 결과 캐시, 동시 인증 병합, 호출 보호) 로그인도 토큰 엔드포인트와 같은 서비스를 거치도록
+     * 감싼 서비스와 사용자 정보 서비스로 {@link NetsSsoAuthenticationProvider}를 구성하고, 애플리케이션의 인증 매니저를 상위 매니저로 둔다.
+     * 사용자 정보 캐시만 설정한 경우에도 캐시를 사용하도록 인증 서비스와 캐시로 같은 제공자를 구성한다.
+     * 감싼 서비스가 거부한 인증은 요청 속성에 남겨, 상위 매니저의 인증 제공자가 감싸기 전의 서비스로 에이전트를 다시 호출하지 않게 한다.
+     * 그 외에는 애플리케이션의 인증 매니저를 그대로 사용한다.</p>
+     */
+    private AuthenticationManager getLoginAuthenticationManager(B http) {
+        AuthenticationManager parent = http.getSharedObject(AuthenticationManager.class);
+        NetsSsoAuthenticationService loginService = this.loginAuthenticationService;
+        if (loginService == null && this.userDetailsCacheCustomizer != null) {
+            loginService = getBean(http, NetsSsoAuthenticationService.class);
+            Assert.state(loginService != null, "NetsSsoAuthenticationService required");
+        }
+        if (loginService == null) {
+            return parent;
+        }
+
+        UserDetailsService userDetailsService = getBean(http, UserDetailsService.class);
+        Assert.state(userDetailsService != null, "UserDetailsService required");
+
+        NetsSsoAuthenticationService service = loginService;
+        NetsSsoAuthenticationService memoizingService = (request, response) -> {
+            try {
+                return service.authenticate(request, response);
+            } catch (AuthenticationException e) {
+                if (request.getAttribute(NetsSsoAuthenticationServiceImpl.AUTHENTICATION_ATTRIBUTE) == null) {
+                    request.setAttribute(NetsSsoAuthenticationServiceImpl.AUTHENTICATION_ATTRIBUTE, e);
+                }
+                throw e;
+            }
+        };
+        var provider = new NetsSsoAuthenticationProvider(memoizingService, userDetailsService);
+        if (this.observer != null) {
+            provider.setObserver(this.observer);
+        }
+        var authenticationManager = new ProviderManager(List.of(provider), parent);
+        AuthenticationEventPublisher eventPublisher = getBean(http, AuthenticationEventPublisher.class);
+        if (eventPublisher != null) {
+            authenticationManager.setAuthenticationEventPublisher(eventPublisher);
+        }
+        return postProcess(authenticationManager);
+    }
+
     private void configureLogoutFilter(B http) {
         String url = normalizePath(this.prefixPath, "/logout");
-        this.logoutProcessRequestMatcher = antMatcher(url);
+        this.logoutProcessRequestMatcher = NetsSsoRoute.of("logout", null, url);
         var handlers = getLogoutHandlers();
         var filter = new LogoutFilter(this.logoutSuccessHandler, handlers);
         filter.setLogoutRequestMatcher(this.logoutProcessRequestMatcher);
         http.addFilter(filter);
     }
 
+    private void configureBackChannelLogoutFilter(B http) {
+        if (this.backChannelLogoutSecret == null) {
+            return;
+        }
+
+        this.backChannelLogoutRequestMatcher = NetsSsoRoute.of("backchannel-logout", HttpMethod.POST, normalizePath(this.prefixPath, "/backchannel-logout"));
+        var filter = new NetsSsoBackChannelLogoutFilter(this.backChannelLogoutRequestMatcher, this.sessionIndex, this.backChannelLogoutSecret);
+        if (this.principalCache != null) {
+            filter.addPrincipalCache(this.principalCache);
+        }
+        if (this.resilientAuthenticationService != null && this.resilientAuthenticationService.getStaleCache() != null) {
+            filter.addPrincipalCache(this.resilientAuthenticationService.getStaleCache());
+        }
+        http.addFilterBefore(postProcess(filter), LogoutFilter.class);
+        http.addFilterBefore(postProcess(new NetsSsoSessionRevocationFilter(this.sessionIndex)), SecurityContextHolderFilter.class);
+    }
+
     private void configureEndpointsMatcher() {
-        List<RequestMatcher> requestMatchers = new ArrayList<>();
-        requestMatchers.add(this.loginProcessRequestMatcher);
-        requestMatchers.add(this.logoutProcessRequestMatcher);
-        requestMatchers.add(this.agentFilterConfigurer.getRequestMatcher());
+        List<NetsSsoRoute> routes = new ArrayList<>(this.agentFilterConfigurer.getRouter().getRoutes());
+        routes.add(this.loginProcessRequestMatcher);
+        routes.add(this.logoutProcessRequestMatcher);
 
         if (this.tokenFilterConfigurer != null) {
-            requestMatchers.add(this.tokenFilterConfigurer.getRequestMatcher());
+            routes.add(this.tokenFilterConfigurer.getRoute());
+        }
+
+        if (this.backChannelLogoutRequestMatcher != null) {
+            routes.add(this.backChannelLogoutRequestMatcher);
         }
 
         if (this.mockServerConfigurer != null && this.mockServerConfigurer.isEnabled()) {
-            requestMatchers.add(this.mockServerConfigurer.getRequestMatcher());
+            routes.addAll(this.mockServerConfigurer.getRoutes());
         }
 
-        this.endpointsMatcher = new OrRequestMatcher(requestMatchers);
+        this.endpointsMatcher = NetsSsoRouter.of(routes);
 
         log.info("NetsSsoAuthentication endpoints:  " + this.endpointsMatcher);
     }
 
+    private void configureMetricsFilter(B http) {
+        if (this.metrics == null) {
+            return;
+        }
+
+        // 모든 NSSO 필터보다 앞에서 처리 시간을 측정한다.
+        http.addFilterBefore(postProcess(new NetsSsoMetricsFilter(this.endpointsMatcher, this.metrics)), CsrfFilter.class);
+    }
+
+    private void configureLimitFilter(B http) {
+        if (this.limits == null) {
+            return;
+        }
+
+        if (this.metrics != null) {
+            Set<String> names = new LinkedHashSet<>();
+            this.endpointsMatcher.getRoutes().forEach(route -> names.add(route.getName()));
+            for (String name : names) {
+                NetsSsoLimiter limiter = this.limits.getLimiter(name);
+                if (limiter != null) {
+                    this.metrics.gauge("nsso.limit." + name, limiter, NetsSsoLimiter::getLimit);
+                }
+            }
+        }
+
+        // 지표 필터 다음, 다른 NSSO 필터보다 앞에서 제한한다.
+        http.addFilterBefore(postProcess(new NetsSsoLimitFilter(this.endpointsMatcher, this.limits)), CsrfFilter.class);
+    }
+
+    private void configureWarmup(B http) {
+        if (this.warmup == null) {
+            return;
+        }
+
+        NetsSsoWarmup warmup = this.warmup;
+        if (this.metrics != null) {
+            warmup.setMetrics(this.metrics);
+        }
+
+        ApplicationContext context = http.getSharedObject(ApplicationContext.class);
+        NetsSsoAgentService agentService = http.getSharedObject(NetsSsoAgentService.class);
+        boolean usesAgent = agentService instanceof NetsSsoAgentServiceImpl
+                || context.getBeanProvider(NetsSsoAuthenticationService.class).getIfUnique() instanceof NetsSsoAuthenticationServiceImpl;
+        if (usesAgent) {
+            warmup.addInitializer("SSOConf", SSOConf::getInstance);
+        }
+
+        NetsSsoRouter router = this.endpointsMatcher;
+        List<HttpServletRequest> routeRequests = new ArrayList<>();
+        for (NetsSsoRoute route : router.getRoutes()) {
+            routeRequests.add(NetsSsoWarmup.syntheticRequest(route.getMethod() != null ? route.getMethod() : HttpMethod.POST, route.getPath()));
+        }
+        // NSSO 요청이 아닌 요청
+        routeRequests.add(NetsSsoWarmup.syntheticRequest(HttpMethod.GET, "/"));
+        warmup.addStep("router", () -> routeRequests.forEach(router::route));
+
+        // Mock 에이전트 서비스는 메모리에서 처리하므로 그대로 사용한다.
+        NetsSsoAgentService warmupAgentService = agentService instanceof NetsSsoMockAgentService ? agentService : NetsSsoWarmupStubs.agentService();
+        NetsSsoAgentFilter agentFilter = new NetsSsoAgentFilter(this.prefixPath, warmupAgentService);
+        warmup.addFilterStep("agent", agentFilter, agentFilter.getRouter().getRoutes());
+
+        var provider = new NetsSsoAuthenticationProvider(NetsSsoWarmupStubs.authenticationService(),
+                username -> User.withUsername(username).password("").authorities(AuthorityUtils.NO_AUTHORITIES).build());
+        String loginPath = this.loginProcessRequestMatcher.getPath();
+        warmup.addStep("authentication", () -> provider.authenticate(NetsSsoAuthentication.unauthenticated(
+                NetsSsoWarmup.syntheticRequest(HttpMethod.POST, loginPath), NetsSsoWarmup.syntheticResponse())));
+
+        if (context instanceof ConfigurableApplicationContext configurableContext) {
+            String beanName = NetsSsoWarmup.class.getName() + "#" + Integer.toHexString(System.identityHashCode(warmup));
+            if (!configurableContext.getBeanFactory().containsSingleton(beanName)) {
+                // 수명 주기 처리기가 시작하도록 싱글톤으로 등록한다.
+                configurableContext.getBeanFactory().registerSingleton(beanName, warmup);
+            }
+        }
+    }
+
+    /**
+     * 이 컨피규러가 만든 실행기를 애플리케이션 컨텍스트가 닫힐 때 종료한다.
+     */
+    private void registerShutdown(B http, ExecutorService executor) {
+        ApplicationContext context = http.getSharedObject(ApplicationContext.class);
+        if (context instanceof ConfigurableApplicationContext configurableContext) {
+            // 람다는 이벤트 타입을 알 수 없으므로 익명 클래스로 등록한다.
+            configurableContext.addApplicationListener(new ApplicationListener<ContextClosedEvent>() {
+                @Override
+                public void onApplicationEvent(ContextClosedEvent event) {
+                    if (event.getApplicationContext() == configurableContext) {
+                        executor.shutdown();
+                    }
+                }
+            });
+        }
+    }
+
     private LogoutHandler[] getLogoutHandlers() {
         List<LogoutHandler> handlers = new ArrayList<>();
 
+        // 로그인 엔드포인트가 등록한 HTTP 세션을 색인에서 제거
+        if (this.sessionIndex != null) {
+            var index = this.sessionIndex;
+            handlers.add((request, response, authentication) -> NetsSsoSessionRevocationFilter.unregisterSession(index, request));
+        }
+
+        // 캐시된 인증 결과 제거
+        if (this.cachingAuthenticationService != null) {
+            var cachingService = this.cachingAuthenticationService;
+            handlers.add((request, response, authentication) -> cachingService.evict(request));
+        }
+        if (this.resilientAuthenticationService != null) {
+            var resilientService = this.resilientAuthenticationService;
+            handlers.add((request, response, authentication) -> resilientService.evict(request));
+        }
+
         // 기본 로그아웃 핸들러 추가
         if (this.mockServerConfigurer != null && this.mockServerConfigurer.isEnabled()) {
             handlers.add(new NetsSsoMockLogoutHandler());
         } else {
-            handlers.add(new NetsSsoLogoutHandler());
+            LogoutHandler logoutHandler = new NetsSsoLogoutHandler();
+            handlers.add(this.resilience != null ? this.resilience.decorate(logoutHandler) : logoutHandler);
         }
 
         if (this.logoutHandlers != null) {
@@ -364,12 +1126,17 @@ public final class NetsSsoAuthenticationConfigurer<B extends HttpSecurityBuilder
 
     @SuppressWarnings("unchecked")
     private void registerDefaultCsrfOverride(B http) {
+        CsrfConfigurer<B> csrf = http.getConfigurer(CsrfConfigurer.class);
+        if (csrf == null) {
+            return;
+        }
+
         if (ignoreCsrf) {
-            CsrfConfigurer<B> csrf = http.getConfigurer(CsrfConfigurer.class);
-            if (csrf != null) {
-                AntPathRequestMatcher matcher = new AntPathRequestMatcher(this.prefixPath + "/**", "POST");
-                csrf.ignoringRequestMatchers(matcher);
-            }
+            AntPathRequestMatcher matcher = new AntPathRequestMatcher(this.prefixPath + "/**", "POST");
+            csrf.ignoringRequestMatchers(matcher);
+        } else if (this.backChannelLogoutSecret != null) {
+            // 서버 간 요청은 CSRF 토큰을 가질 수 없으며, 공유 비밀값으로 보호한다.
+            csrf.ignoringRequestMatchers(new AntPathRequestMatcher(normalizePath(this.prefixPath, "/backchannel-logout"), "POST"));
         }
     }
 
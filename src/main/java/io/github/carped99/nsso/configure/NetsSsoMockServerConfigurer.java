@@ -2,20 +2,25 @@ package io.github.carped99.nsso.configure;
 
 import io.github.carped99.nsso.NetsSsoAgentService;
 import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoRoute;
 import io.github.carped99.nsso.mock.NetsSsoMockAgentService;
 import io.github.carped99.nsso.mock.NetsSsoMockAuthenticationService;
 import io.github.carped99.nsso.mock.NetsSsoMockAuthenticationSuccessHandler;
+import io.github.carped99.nsso.mock.NetsSsoMockFaults;
 import io.github.carped99.nsso.mock.NetsSsoMockServer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
-import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 
+import java.util.List;
+
 import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
 
 /**
@@ -29,6 +34,7 @@ import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
  *   <li>프로파일 기반 Mock 서버 활성화</li>
  *   <li>Mock 인증 서비스 자동 등록</li>
  *   <li>Mock 에이전트 서비스 자동 등록</li>
+ *   <li>엔드포인트별 응답 지연 및 장애 주입</li>
  *   <li>커스터마이저를 통한 응답 데이터 커스터마이징</li>
  * </ul>
  *
@@ -60,10 +66,13 @@ import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
  * @since 0.0.1
  */
 public class NetsSsoMockServerConfigurer<B extends HttpSecurityBuilder<B>> extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, B> {
+    private final NetsSsoMockFaults faults = new NetsSsoMockFaults();
     private boolean enabled = false;
     private String[] profiles;
     private String prefixPath;
     private NetsSsoMockServer mockServer;
+    private PasswordEncoder passwordEncoder;
+    private int credentialCacheSize;
 
     @Override
     public void configure(B builder) throws Exception {
@@ -76,7 +85,12 @@ public class NetsSsoMockServerConfigurer<B extends HttpSecurityBuilder<B>> exten
         String serverPath = normalizePath(prefixPath, "/server");
 
         this.mockServer = NetsSsoConfigurerUtils.getBean(builder, NetsSsoMockServer.class, NetsSsoMockServer::new)
-                .setPrefixPath(serverPath);
+                .setPrefixPath(serverPath)
+                .setFaults(this.faults)
+                .setCredentialCacheSize(this.credentialCacheSize);
+        if (this.passwordEncoder != null) {
+            this.mockServer.setPasswordEncoder(this.passwordEncoder);
+        }
 
         UserDetailsService userDetailsService = NetsSsoConfigurerUtils.getBean(builder, UserDetailsService.class);
         if (userDetailsService == null) {
@@ -87,7 +101,10 @@ public class NetsSsoMockServerConfigurer<B extends HttpSecurityBuilder<B>> exten
 
         // Bean 등록
         NetsSsoConfigurerUtils.getBean(builder, NetsSsoAuthenticationService.class, NetsSsoMockAuthenticationService::new);
-        NetsSsoConfigurerUtils.getBean(builder, NetsSsoAgentService.class, () -> new NetsSsoMockAgentService(serverPath));
+        NetsSsoAgentService agentService = NetsSsoConfigurerUtils.getBean(builder, NetsSsoAgentService.class, () -> new NetsSsoMockAgentService(serverPath));
+        if (agentService instanceof NetsSsoMockAgentService mockAgentService) {
+            mockAgentService.setFaults(this.faults);
+        }
     }
 
     /**
@@ -101,6 +118,48 @@ public class NetsSsoMockServerConfigurer<B extends HttpSecurityBuilder<B>> exten
         return this;
     }
 
+    /**
+     * Mock 로그인에서 비밀번호를 검증할 인코더를 설정한다.
+     *
+     * <p>부하 테스트에서 bcrypt 비용 대신 애플리케이션의 처리량을 측정하려면 비용이 작은 인코더를 지정한다.</p>
+     *
+     * @param passwordEncoder 비밀번호 인코더
+     * @return 현재 컨피규러 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoMockServerConfigurer<B> passwordEncoder(PasswordEncoder passwordEncoder) {
+        Assert.notNull(passwordEncoder, "passwordEncoder must not be null");
+        this.passwordEncoder = passwordEncoder;
+        return this;
+    }
+
+    /**
+     * Mock 로그인에서 검증된 자격 증명을 캐시한다.
+     *
+     * @param maximumSize 최대 항목 수 (0이면 사용하지 않음)
+     * @return 현재 컨피규러 인스턴스 (메서드 체이닝 지원)
+     * @see NetsSsoMockServer#setCredentialCacheSize(int)
+     */
+    public NetsSsoMockServerConfigurer<B> credentialCache(int maximumSize) {
+        Assert.isTrue(maximumSize >= 0, "maximumSize must not be negative");
+        this.credentialCacheSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Mock 서버와 Mock 에이전트의 응답 지연 및 장애 주입을 설정한다.
+     *
+     * <p>설정은 Mock 서버 필터와 Mock 에이전트 서비스가 공유합니다.</p>
+     *
+     * @param customizer 장애 주입 설정 커스터마이저
+     * @return 현재 컨피규러 인스턴스 (메서드 체이닝 지원)
+     * @see NetsSsoMockFaults
+     */
+    public NetsSsoMockServerConfigurer<B> faults(Customizer<NetsSsoMockFaults> customizer) {
+        Assert.notNull(customizer, "customizer must not be null");
+        customizer.customize(this.faults);
+        return this;
+    }
+
     private boolean isEnabled(Environment environment) {
         if (profiles == null || profiles.length == 0) {
             return false;
@@ -112,11 +171,11 @@ public class NetsSsoMockServerConfigurer<B extends HttpSecurityBuilder<B>> exten
         return this.enabled;
     }
 
-    RequestMatcher getRequestMatcher() {
+    List<NetsSsoRoute> getRoutes() {
         if (this.mockServer == null) {
-            return (request) -> false;
+            return List.of();
         }
-        return this.mockServer.getRequestMatcher();
+        return this.mockServer.getRouter().getRoutes();
     }
 
     void setPrefixPath(String prefixPath) {
@@ -1,22 +1,32 @@
 package io.github.carped99.nsso.configure;
 
+import io.github.carped99.nsso.NetsSsoAccessTokenCodec;
+import io.github.carped99.nsso.NetsSsoAccessTokenSuccessHandler;
 import io.github.carped99.nsso.NetsSsoAgentFilter;
+import io.github.carped99.nsso.NetsSsoAsyncAuthenticationService;
 import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoBearerTokenFilter;
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.github.carped99.nsso.NetsSsoRoute;
+import io.github.carped99.nsso.NetsSsoSessionIndex;
 import io.github.carped99.nsso.NetsSsoTokenFilter;
 import org.springframework.lang.Nullable;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationFilter;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
-import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
+
 import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
+
 import static io.github.carped99.nsso.configure.NetsSsoConfigurerUtils.getBean;
-import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 /**
  * NSSO 에이전트 필터 설정 클래스
@@ -36,6 +46,13 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
  *
  * <p>모든 서비스는 POST 요청으로 처리되며, CSRF 필터 이후에 추가됩니다.</p>
  *
+ * <p>{@link #accessToken(NetsSsoAccessTokenCodec, Duration)}를 설정하면 토큰 엔드포인트가 서명된 액세스 토큰을 발급하고,
+ * 같은 체인에 {@link NetsSsoBearerTokenFilter}를 추가하여 {@code Authorization: Bearer} 요청을 로컬에서 검증합니다.
+ * 다른 체인이나 서비스에서는 같은 검증기로 필터를 직접 추가합니다.</p>
+ * <pre>{@code
+ * http.addFilterBefore(new NetsSsoBearerTokenFilter(codec), AuthorizationFilter.class);
+ * }</pre>
+ *
  * @author carped99
  * @see NetsSsoAgentFilter
  * @see SecurityConfigurerAdapter
@@ -43,11 +60,21 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
  */
 public class NetsSsoTokenFilterConfigurer<B extends HttpSecurityBuilder<B>> extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, B> {
     private String prefixPath;
-    private RequestMatcher requestMatcher;
+    private NetsSsoRoute route;
     @Nullable
     private AuthenticationSuccessHandler successHandler;
     @Nullable
     private AuthenticationFailureHandler failureHandler;
+    @Nullable
+    private Duration asyncTimeout;
+    @Nullable
+    private NetsSsoAccessTokenCodec accessTokenCodec;
+    private SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+    @Nullable
+    private NetsSsoSessionIndex sessionIndex;
+    @Nullable
+    private NetsSsoObserver observer;
+    private boolean serverTiming;
 
     /**
      * NSSO 에이전트 필터를 Spring Security 설정에 추가합니다.
@@ -72,15 +99,50 @@ public class NetsSsoTokenFilterConfigurer<B extends HttpSecurityBuilder<B>> exte
         UserDetailsService userDetailsService = getBean(builder, UserDetailsService.class);
         Assert.state(userDetailsService != null, "UserDetailsService required");
 
-        this.requestMatcher = antMatcher(normalizePath(this.prefixPath, "/token"));
-        var filter = new NetsSsoTokenFilter(this.requestMatcher, authenticationService, userDetailsService);
+        this.route = NetsSsoRoute.of("token", null, normalizePath(this.prefixPath, "/token"));
+        var filter = new NetsSsoTokenFilter(this.route, authenticationService, userDetailsService);
 
         Assert.state(successHandler != null, "successHandler must not be null");
         Assert.state(failureHandler != null, "failureHandler must not be null");
+        if (this.successHandler instanceof NetsSsoAccessTokenSuccessHandler accessTokenSuccessHandler) {
+            accessTokenSuccessHandler.setSessionIndex(this.sessionIndex);
+        }
         filter.setSuccessHandler(this.successHandler);
         filter.setFailureHandler(this.failureHandler);
+        if (this.observer != null) {
+            filter.setObserver(this.observer);
+        }
+        filter.setServerTiming(this.serverTiming);
+
+        if (this.asyncTimeout != null && authenticationService instanceof NetsSsoAsyncAuthenticationService asyncAuthenticationService) {
+            filter.setAsyncAuthenticationService(asyncAuthenticationService);
+            filter.setAsyncTimeout(this.asyncTimeout);
+        }
 
         builder.addFilterAfter(postProcess(filter), AuthenticationFilter.class);
+
+        if (this.accessTokenCodec != null) {
+            var bearerTokenFilter = new NetsSsoBearerTokenFilter(this.accessTokenCodec);
+            bearerTokenFilter.setSecurityContextHolderStrategy(this.securityContextHolderStrategy);
+            bearerTokenFilter.setSessionIndex(this.sessionIndex);
+            builder.addFilterAfter(postProcess(bearerTokenFilter), AuthenticationFilter.class);
+        }
+    }
+
+    /**
+     * 토큰 엔드포인트가 서명된 액세스 토큰을 발급하도록 설정한다.
+     *
+     * <p>성공 핸들러를 {@link NetsSsoAccessTokenSuccessHandler}로 바꾸고,
+     * 발급한 토큰을 검증하는 {@link NetsSsoBearerTokenFilter}를 체인에 추가한다.</p>
+     *
+     * @param codec      토큰 발급 및 검증기
+     * @param timeToLive 토큰 유효 기간
+     * @return 현재 컨피규러 인스턴스
+     */
+    public NetsSsoTokenFilterConfigurer<B> accessToken(NetsSsoAccessTokenCodec codec, Duration timeToLive) {
+        Assert.notNull(codec, "codec must not be null");
+        this.accessTokenCodec = codec;
+        return successHandler(new NetsSsoAccessTokenSuccessHandler(codec, timeToLive));
     }
 
     /**
@@ -108,12 +170,12 @@ public class NetsSsoTokenFilterConfigurer<B extends HttpSecurityBuilder<B>> exte
     }
 
     /**
-     * 설정된 RequestMatcher를 반환합니다.
+     * 토큰 엔드포인트 경로를 반환합니다.
      *
-     * @return 모든 에이전트 서비스 요청을 매칭하는 RequestMatcher
+     * @return 토큰 엔드포인트 경로
      */
-    RequestMatcher getRequestMatcher() {
-        return requestMatcher;
+    NetsSsoRoute getRoute() {
+        return route;
     }
 
     /**
@@ -125,6 +187,51 @@ public class NetsSsoTokenFilterConfigurer<B extends HttpSecurityBuilder<B>> exte
         this.prefixPath = prefixPath;
     }
 
+    /**
+     * 비동기 인증 기한을 설정합니다.
+     *
+     * @param asyncTimeout 비동기 인증 기한
+     */
+    void setAsyncTimeout(@Nullable Duration asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * 보안 컨텍스트 전략을 설정합니다.
+     *
+     * @param securityContextHolderStrategy 보안 컨텍스트 전략
+     */
+    void setSecurityContextHolderStrategy(SecurityContextHolderStrategy securityContextHolderStrategy) {
+        this.securityContextHolderStrategy = securityContextHolderStrategy;
+    }
+
+    /**
+     * 사용자별 세션 색인을 설정합니다.
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     */
+    void setSessionIndex(@Nullable NetsSsoSessionIndex sessionIndex) {
+        this.sessionIndex = sessionIndex;
+    }
+
+    /**
+     * 인증 단계 관찰기를 설정합니다.
+     *
+     * @param observer 인증 단계 관찰기
+     */
+    void setObserver(@Nullable NetsSsoObserver observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * 응답에 단계별 처리 시간({@code Server-Timing} 헤더)을 추가할지 설정합니다.
+     *
+     * @param serverTiming 추가 여부
+     */
+    void setServerTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
+    }
+
     @Nullable
     AuthenticationSuccessHandler getSuccessHandler() {
         return successHandler;
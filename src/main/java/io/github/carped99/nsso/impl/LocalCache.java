@@ -0,0 +1,277 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoCacheStats;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한과 항목별 만료 시간을 지원하는 로컬 캐시
+ *
+ * <p>세그먼트 LRU(SLRU) 정책으로 최대 크기를 유지합니다.
+ * 새 항목은 수습(probation) 구간에 들어가고, 다시 조회되면 보호(protected) 구간으로 승격됩니다.
+ * 보호 구간이 가득 차면 가장 오래된 항목이 수습 구간으로 강등되며, 제거는 항상 수습 구간에서 일어납니다.
+ * 따라서 한 번만 조회되는 항목이 대량으로 들어와도 자주 조회되는 항목이 밀려나지 않습니다.</p>
+ *
+ * <p>각 항목은 저장 시 지정된 시간이 지나면 만료되며, 만료된 항목은 조회 시점에 제거됩니다.</p>
+ *
+ * <p>NSSO 구성 요소들이 공유하는 내부 캐시이며, 애플리케이션이 직접 사용하는 것을 의도하지 않습니다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ * @author carped99
+ * @since 0.0.1
+ */
+public final class LocalCache<K, V> {
+    /**
+     * 전체 용량 중 보호 구간이 차지하는 비율
+     */
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final int maximumSize;
+    private final int protectedMaximumSize;
+    private final LongSupplier ticker;
+    private final ReentrantLock lock = new ReentrantLock();
+    // 조회만으로 순서가 바뀌지 않도록 삽입 순서를 사용하고, 사용 순서는 직접 갱신한다.
+    private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Entry<V>> protectedSegment = new LinkedHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 주어진 최대 크기로 캐시를 생성합니다.
+     *
+     * @param maximumSize 최대 항목 수
+     */
+    public LocalCache(int maximumSize) {
+        this(maximumSize, System::nanoTime);
+    }
+
+    /**
+     * 주어진 최대 크기와 시간 공급자로 캐시를 생성합니다.
+     *
+     * @param maximumSize 최대 항목 수
+     * @param ticker      나노초 단위 단조 증가 시간 공급자
+     */
+    public LocalCache(int maximumSize, LongSupplier ticker) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+        Assert.notNull(ticker, "ticker must not be null");
+        this.maximumSize = maximumSize;
+        this.protectedMaximumSize = (int) (maximumSize * PROTECTED_RATIO);
+        this.ticker = ticker;
+    }
+
+    /**
+     * 캐시된 값을 조회합니다.
+     *
+     * @param key 키
+     * @return 값 (없거나 만료되었으면 null)
+     */
+    @Nullable
+    public V get(K key) {
+        long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            Entry<V> entry = protectedSegment.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(now)) {
+                    moveToEnd(protectedSegment, key, entry);
+                }
+            } else {
+                entry = probation.get(key);
+                if (entry != null && !entry.isExpired(now)) {
+                    promote(key, entry);
+                }
+            }
+
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                remove(key);
+                evictionCount.increment();
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시된 값을 부수 효과 없이 조회합니다.
+     *
+     * <p>{@link #get(Object)}와 달리 적중/실패 횟수를 집계하지 않고, 항목을 승격하거나 사용 순서를 바꾸거나 만료된 항목을 제거하지 않습니다.</p>
+     *
+     * @param key 키
+     * @return 값 (없거나 만료되었으면 null)
+     */
+    @Nullable
+    public V peek(K key) {
+        long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            Entry<V> entry = protectedSegment.get(key);
+            if (entry == null) {
+                entry = probation.get(key);
+            }
+            return entry == null || entry.isExpired(now) ? null : entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 값을 저장합니다.
+     *
+     * <p>이미 보호 구간에 있는 키는 보호 구간에서 값만 교체하고, 그 외에는 수습 구간에 저장합니다.</p>
+     *
+     * @param key             키
+     * @param value           값
+     * @param timeToLiveNanos 만료 시간 (나노초)
+     */
+    public void put(K key, V value, long timeToLiveNanos) {
+        if (timeToLiveNanos <= 0) {
+            invalidate(key);
+            return;
+        }
+
+        long now = ticker.getAsLong();
+        Entry<V> entry = new Entry<>(value, now + timeToLiveNanos);
+        lock.lock();
+        try {
+            if (protectedSegment.containsKey(key)) {
+                moveToEnd(protectedSegment, key, entry);
+            } else {
+                moveToEnd(probation, key, entry);
+                evictExcess(now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정된 키의 값을 제거합니다.
+     *
+     * @param key 키
+     * @return 제거된 값 (없으면 null)
+     */
+    @Nullable
+    public V invalidate(K key) {
+        lock.lock();
+        try {
+            Entry<V> removed = remove(key);
+            return removed == null ? null : removed.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 값을 제거합니다.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다.
+     *
+     * @return 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return probation.size() + protectedSegment.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public NetsSsoCacheStats stats() {
+        return new NetsSsoCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+    }
+
+    @Nullable
+    private Entry<V> remove(K key) {
+        Entry<V> removed = protectedSegment.remove(key);
+        return removed != null ? removed : probation.remove(key);
+    }
+
+    private static <K, V> void moveToEnd(LinkedHashMap<K, Entry<V>> segment, K key, Entry<V> entry) {
+        segment.remove(key);
+        segment.put(key, entry);
+    }
+
+    private void promote(K key, Entry<V> entry) {
+        probation.remove(key);
+        protectedSegment.put(key, entry);
+
+        // 보호 구간이 가득 차면 가장 오래 사용되지 않은 항목을 수습 구간으로 강등한다.
+        if (protectedSegment.size() > protectedMaximumSize) {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = protectedSegment.entrySet().iterator();
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            iterator.remove();
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evictExcess(long now) {
+        if (probation.size() + protectedSegment.size() <= maximumSize) {
+            return;
+        }
+
+        // 만료된 항목을 먼저 제거하고, 그래도 초과하면 수습 구간에서 가장 오래 사용되지 않은 항목을 제거한다.
+        Iterator<Map.Entry<K, Entry<V>>> iterator = probation.entrySet().iterator();
+        while (probation.size() + protectedSegment.size() > maximumSize && iterator.hasNext()) {
+            if (iterator.next().getValue().isExpired(now)) {
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+
+        iterator = probation.entrySet().iterator();
+        while (probation.size() + protectedSegment.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoLimiter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 처리 시간을 관찰하여 동시 처리 수 제한을 조정하는 제한기의 기본 구현
+ *
+ * <p>자리 획득은 처리 중인 요청 수에 대한 CAS 한 번으로 끝나며, 제한 계산({@link #update(double, long, int, boolean)})만
+ * 짧게 동기화합니다. 하위 클래스는 표본 하나를 받아 새 제한을 계산합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoVegasLimiter
+ * @see NetsSsoGradientLimiter
+ * @since 0.0.1
+ */
+public abstract class NetsSsoAdaptiveLimiter implements NetsSsoLimiter {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongSupplier ticker;
+    private volatile double limit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+
+    /**
+     * 생성자
+     *
+     * @param ticker 나노초 단위 단조 증가 시간 공급자
+     */
+    protected NetsSsoAdaptiveLimiter(LongSupplier ticker) {
+        Assert.notNull(ticker, "ticker must not be null");
+        this.ticker = ticker;
+    }
+
+    @Nullable
+    @Override
+    public Permit acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return new LimiterPermit(ticker.getAsLong(), current + 1);
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 초기 동시 처리 수 제한을 설정합니다. 기본값은 20입니다.
+     *
+     * @param initialLimit 초기 제한
+     * @return 현재 인스턴스
+     */
+    public NetsSsoAdaptiveLimiter setInitialLimit(int initialLimit) {
+        Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit, "initialLimit must be between minLimit and maxLimit");
+        this.limit = initialLimit;
+        return this;
+    }
+
+    /**
+     * 동시 처리 수 제한의 범위를 설정합니다. 기본값은 1 ~ 200입니다.
+     *
+     * @param minLimit 최소 제한
+     * @param maxLimit 최대 제한
+     * @return 현재 인스턴스
+     */
+    public NetsSsoAdaptiveLimiter setLimitRange(int minLimit, int maxLimit) {
+        Assert.isTrue(minLimit > 0, "minLimit must be greater than 0");
+        Assert.isTrue(maxLimit >= minLimit, "maxLimit must not be less than minLimit");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, this.limit));
+        return this;
+    }
+
+    /**
+     * 표본 하나로 새 제한을 계산합니다.
+     *
+     * @param limit    현재 제한
+     * @param rttNanos 처리 시간 (나노초)
+     * @param inFlight 자리를 얻을 때 처리 중이던 요청 수 (자신 포함)
+     * @param dropped  과부하로 실패했는지 여부
+     * @return 새 제한 (범위는 호출하는 쪽에서 맞춤)
+     */
+    protected abstract double update(double limit, long rttNanos, int inFlight, boolean dropped);
+
+    private synchronized void sample(long rttNanos, int inFlight, boolean dropped) {
+        double next = update(this.limit, rttNanos, inFlight, dropped);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private final class LimiterPermit implements Permit {
+        private final long start;
+        private final int inFlightAtStart;
+
+        LimiterPermit(long start, int inFlightAtStart) {
+            this.start = start;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            sample(ticker.getAsLong() - start, inFlightAtStart, false);
+        }
+
+        @Override
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            sample(ticker.getAsLong() - start, inFlightAtStart, true);
+        }
+
+        @Override
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.carped99.nsso.impl;
 
 import io.github.carped99.nsso.NetsSsoAgentService;
+import io.github.carped99.nsso.NetsSsoJsonWriter;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.github.carped99.nsso.NetsSsoResponseCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import nets.sso.agent.web.common.constant.SSOConst;
@@ -8,7 +12,9 @@ import nets.sso.agent.web.common.exception.SSOException;
 import nets.sso.agent.web.v9.SSOAuthn;
 import nets.sso.agent.web.v9.SSOMfa;
 import nets.sso.agent.web.v9.SSOStatus;
+import nets.sso.agent.web.v9.SSOUser;
 import nets.sso.agent.web.v9.core.AuthnOperation;
+import org.springframework.util.Assert;
 
 /**
  * NSSO 에이전트 서비스의 기본 구현체
@@ -19,6 +25,10 @@ import nets.sso.agent.web.v9.core.AuthnOperation;
  * @since 0.0.1
  */
 public class NetsSsoAgentServiceImpl implements NetsSsoAgentService {
+    private static final byte[] NO_STATUS = NetsSsoJsonWriter.errorResult("50000000", "NSSO agent returned no authentication status");
+
+    private NetsSsoMetrics metrics = NetsSsoMetrics.NOOP;
+    private NetsSsoObserver observer = NetsSsoObserver.NOOP;
 
     @Override
     public String check(HttpServletRequest request, HttpServletResponse response) {
@@ -26,25 +36,57 @@ public class NetsSsoAgentServiceImpl implements NetsSsoAgentService {
                 .addSsoAgentType()
                 .addHeader(SSOConst.OP, AuthnOperation.AUTHN.getValue());
 
-        SSOAuthn authn = SSOAuthn.get(wrappedRequest, response);
-        authn.authn();
-        return authn.getUserJson();
+        SSOAuthn authn = get(wrappedRequest, response, "check");
+        NetsSsoObserver.Stage stage = observer.start("sso.authn", "check");
+        long start = System.nanoTime();
+        try {
+            SSOUser user = authn.authn();
+            metrics.recordAgentCall("authn", user != null, System.nanoTime() - start);
+            return authn.getUserJson();
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            stage.stop();
+        }
     }
 
     @Override
     public String config(HttpServletRequest request, HttpServletResponse response) {
         var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request).addSsoAgentType();
-        return SSOAuthn.get(wrappedRequest, response).getConfJson();
+        long start = System.nanoTime();
+        SSOAuthn authn = get(wrappedRequest, response, "config");
+        NetsSsoObserver.Stage stage = observer.start("sso.getConfJson", "config");
+        try {
+            String result = authn.getConfJson();
+            metrics.recordAgentCall("getConfJson", true, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            stage.stop();
+        }
     }
 
     @Override
     public String duplicate(HttpServletRequest request, HttpServletResponse response) {
         var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request).addSsoAgentType();
 
+        long start = System.nanoTime();
+        NetsSsoObserver.Stage stage = NetsSsoObserver.Stage.NOOP;
         try {
-            return SSOAuthn.get(wrappedRequest, response).getDup().toJson();
+            SSOAuthn authn = get(wrappedRequest, response, "duplication");
+            stage = observer.start("sso.getDup", "duplication");
+            String result = authn.getDup().toJson();
+            metrics.recordAgentCall("getDup", true, System.nanoTime() - start);
+            return result;
         } catch (SSOException e) {
+            stage.tag("nsso.status", e.getExceptionCode().getValue());
+            metrics.recordAgentCall("getDup", false, System.nanoTime() - start);
             return e.toJson();
+        } finally {
+            stage.stop();
         }
     }
 
@@ -52,40 +94,96 @@ public class NetsSsoAgentServiceImpl implements NetsSsoAgentService {
     public String key(HttpServletRequest request, HttpServletResponse response) {
         var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request).addSsoAgentType();
 
+        long start = System.nanoTime();
+        NetsSsoObserver.Stage stage = NetsSsoObserver.Stage.NOOP;
         try {
-            return SSOAuthn.get(wrappedRequest, response).getPublicKey();
+            SSOAuthn authn = get(wrappedRequest, response, "key");
+            stage = observer.start("sso.getPublicKey", "key");
+            String result = authn.getPublicKey();
+            metrics.recordAgentCall("getPublicKey", true, System.nanoTime() - start);
+            return result;
         } catch (SSOException e) {
+            stage.tag("nsso.status", e.getExceptionCode().getValue());
+            metrics.recordAgentCall("getPublicKey", false, System.nanoTime() - start);
+            // 에이전트 오류의 JSON 형식과 관계없이 응답 캐시에 저장하지 않도록 표시한다.
+            request.setAttribute(NetsSsoResponseCache.NO_STORE_ATTRIBUTE, Boolean.TRUE);
             return e.toJson();
+        } finally {
+            stage.stop();
         }
     }
 
     @Override
-    public String tfa(HttpServletRequest request, HttpServletResponse response) {
+    public byte[] tfa(HttpServletRequest request, HttpServletResponse response) {
         var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request).addSsoAgentType();
 
-        SSOAuthn authn = SSOAuthn.get(wrappedRequest, response);
-        SSOMfa mfa = authn.getMfa();
+        SSOAuthn authn = get(wrappedRequest, response, "tfa");
+        NetsSsoObserver.Stage stage = observer.start("sso.getMfa", "tfa");
+        long start = System.nanoTime();
+        SSOMfa mfa;
+        try {
+            mfa = authn.getMfa();
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            stage.stop();
+        }
+        metrics.recordAgentCall("getMfa", mfa != null, System.nanoTime() - start);
 
-        StringBuilder sb = new StringBuilder();
+        NetsSsoJsonWriter writer = new NetsSsoJsonWriter().beginObject();
         if (mfa != null) {
-            sb.append("{")
-                    .append("\"result\": true,")
-                    .append("\"errorCode\": 0,")
-                    .append("\"tfaID\": \"").append(mfa.getMfaID()).append("\",")
-                    .append("\"targetYN\": true,")
-                    .append("\"device\": \"").append(mfa.getMfaDevice()).append("\",")
-                    .append("\"code\": \"\",")
-                    .append("\"method\": \"").append(mfa.getMfaMethod()).append("\",")
-                    .append("\"timeoutMinutes\": ").append(mfa.getMfaTimeoutMin())
-                    .append("}");
+            writer.field("result", true)
+                    .field("errorCode", 0)
+                    .field("tfaID", mfa.getMfaID())
+                    .field("targetYN", true)
+                    .field("device", mfa.getMfaDevice())
+                    .field("code", "")
+                    .field("method", mfa.getMfaMethod())
+                    .field("timeoutMinutes", mfa.getMfaTimeoutMin());
         } else {
             SSOStatus status = authn.getLastStatus();
-            sb.append("{")
-                    .append("\"result\": false,")
-                    .append("\"errorCode\": ").append(status.getCode()).append(",")
-                    .append("\"errorMessage\": \"").append(status.getMessage()).append("\",")
-                    .append("}");
+            if (status == null) {
+                return NO_STATUS;
+            }
+            writer.field("result", false)
+                    .field("errorCode", status.getCode())
+                    .field("errorMessage", status.getMessage());
         }
-        return sb.toString();
+        return writer.endObject().toByteArray();
+    }
+
+    private SSOAuthn get(HttpServletRequest wrappedRequest, HttpServletResponse response, String endpoint) {
+        NetsSsoObserver.Stage stage = observer.start("sso.get", endpoint);
+        try {
+            return SSOAuthn.get(wrappedRequest, response);
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            stage.stop();
+        }
+    }
+
+    /**
+     * 에이전트 호출 단계 관찰기를 설정합니다.
+     *
+     * <p>작업마다 {@code sso.get}과 에이전트 호출 단계(예: {@code sso.authn}, {@code sso.getPublicKey})를 관찰합니다.</p>
+     *
+     * @param observer 에이전트 호출 단계 관찰기
+     */
+    public void setObserver(NetsSsoObserver observer) {
+        Assert.notNull(observer, "observer must not be null");
+        this.observer = observer;
+    }
+
+    /**
+     * SSO 에이전트 호출 지표 수집기를 설정합니다.
+     *
+     * @param metrics 지표 수집기
+     */
+    public void setMetrics(NetsSsoMetrics metrics) {
+        Assert.notNull(metrics, "metrics must not be null");
+        this.metrics = metrics;
     }
 }
@@ -1,7 +1,10 @@
 package io.github.carped99.nsso.impl;
 
 import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
 import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoObserver;
 import io.github.carped99.nsso.NetsSsoUser;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,9 +16,12 @@ import nets.sso.agent.web.v9.core.AuthnStatus;
 import nets.sso.agent.web.v9.core.SSOConf;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.util.Assert;
 
 /**
  * NSSO 인증 서비스의 기본 구현체
@@ -33,12 +39,21 @@ import org.springframework.security.web.authentication.WebAuthenticationDetails;
  *
  * <p>처리 과정:</p>
  * <ol>
+ *   <li>같은 요청에서 이미 인증한 결과가 있으면 재사용</li>
  *   <li>HTTP 요청을 NSSO 에이전트 타입으로 래핑</li>
  *   <li>SSO 인증 객체 초기화</li>
  *   <li>로그인 상태 확인</li>
  *   <li>사용자 정보 추출 및 토큰 생성</li>
  * </ol>
  *
+ * <p>기본적으로 {@link SSOAuthn#authnLoginStay()}로 로그인 상태를 확인(및 연장)한 후
+ * {@link SSOAuthn#authn()}으로 사용자 정보를 가져오므로, 성공한 인증마다 에이전트를 두 번 거칩니다.
+ * {@link #setLoginStay(boolean)}를 {@code false}로 설정하면 {@link SSOAuthn#authn()}을 한 번만 호출하고
+ * {@link SSOAuthn#getLastStatus()}로 상태를 판단합니다. 이 경우 로그인 유지 시간은 연장되지 않습니다.</p>
+ *
+ * <p>인증 결과(또는 인증 실패)는 요청 속성에 보관되므로, 같은 요청 안에서 인증 제공자와 토큰 필터 등이
+ * 다시 인증을 요청해도 에이전트를 다시 호출하지 않습니다.</p>
+ *
  * <p>사용 예시:</p>
  * <pre>{@code
  * @Service
@@ -54,28 +69,167 @@ import org.springframework.security.web.authentication.WebAuthenticationDetails;
  * @since 0.0.1
  */
 public class NetsSsoAuthenticationServiceImpl implements NetsSsoAuthenticationService {
+    /**
+     * 같은 요청의 인증 결과를 보관하는 요청 속성 이름
+     */
+    public static final String AUTHENTICATION_ATTRIBUTE = NetsSsoAuthenticationServiceImpl.class.getName() + ".AUTHENTICATION";
+
     private final Log log = LogFactory.getLog(getClass());
+    private boolean loginStay = true;
+    private NetsSsoMetrics metrics = NetsSsoMetrics.NOOP;
+    private NetsSsoObserver observer = NetsSsoObserver.NOOP;
 
     @Override
     public Authentication authenticate(HttpServletRequest request, HttpServletResponse response) {
+        Object memo = request.getAttribute(AUTHENTICATION_ATTRIBUTE);
+        if (memo instanceof Authentication authentication) {
+            return authentication;
+        }
+        if (memo instanceof AuthenticationException exception) {
+            throw exception;
+        }
+
+        try {
+            Authentication authenticated = doAuthenticate(request, response);
+            request.setAttribute(AUTHENTICATION_ATTRIBUTE, authenticated);
+            return authenticated;
+        } catch (AuthenticationException e) {
+            request.setAttribute(AUTHENTICATION_ATTRIBUTE, e);
+            throw e;
+        }
+    }
+
+    private Authentication doAuthenticate(HttpServletRequest request, HttpServletResponse response) {
+        String endpoint = NetsSsoObserver.endpoint(request, "authenticate");
+
+        NetsSsoObserver.Stage stage = observer.start("request.wrap", endpoint);
         var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request)
                 .addSsoAgentType();
+        stage.stop();
 
         // 1) SSO 인증 객체 초기화
-        SSOAuthn authn = SSOAuthn.get(wrappedRequest, response);
-        SSOStatus status = authn.authnLoginStay();
+        SSOAuthn authn;
+        stage = observer.start("sso.get", endpoint);
+        try {
+            authn = getAuthn(wrappedRequest, response);
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            stage.stop();
+        }
 
-        log.debug(String.format("NSSO authenticaion result: code=%s, status=%s, message=%s", status.getCode(), status.getStatus(), status.getMessage()));
+        // 2) 로그인 상태 확인 및 사용자 정보 추출
+        SSOUser ssoUser;
+        SSOStatus status;
+        if (loginStay) {
+            stage = observer.start("sso.authnLoginStay", endpoint);
+            long start = System.nanoTime();
+            try {
+                status = requireStatus(authn.authnLoginStay());
+                stage.tag("nsso.status", status.getCode());
+            } catch (RuntimeException e) {
+                stage.error(e);
+                throw e;
+            } finally {
+                stage.stop();
+            }
+            metrics.recordAgentCall("authnLoginStay", status.getStatus() == AuthnStatus.SSO_SUCCESS, System.nanoTime() - start);
+            ssoUser = status.getStatus() == AuthnStatus.SSO_SUCCESS ? authn(authn, endpoint) : null;
+        } else {
+            ssoUser = authn(authn, endpoint);
+            status = requireStatus(authn.getLastStatus());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("NSSO authenticaion result: code=%s, status=%s, message=%s", status.getCode(), status.getStatus(), status.getMessage()));
+        }
 
-        if (status.getStatus() == AuthnStatus.SSO_SUCCESS) {
-            SSOUser ssoUser = authn.authn();
+        if (status.getStatus() == AuthnStatus.SSO_SUCCESS && ssoUser != null) {
             NetsSsoUser principal = new NetsSsoUser(ssoUser, AuthorityUtils.NO_AUTHORITIES);
             NetsSsoAuthentication authenticated = NetsSsoAuthentication.authenticated(principal, principal.getAuthorities());
             authenticated.setDetails(new WebAuthenticationDetails(ssoUser.getUserIP(), ssoUser.getSessionID()));
             return authenticated;
         }
 
-        throw ExceptionUtil.from(status);
+        AuthenticationException exception = ExceptionUtil.from(status);
+        metrics.recordFailure(Integer.toString(status.getCode()), exception.getClass());
+        throw exception;
+    }
+
+    /**
+     * 에이전트가 상태를 반환하지 않으면 인증 실패로 처리합니다.
+     */
+    private SSOStatus requireStatus(@Nullable SSOStatus status) {
+        if (status == null) {
+            NetsSsoAuthenticationException exception = new NetsSsoAuthenticationException("50000000", "NSSO agent returned no authentication status");
+            metrics.recordFailure(exception.getCode(), exception.getClass());
+            throw exception;
+        }
+        return status;
+    }
+
+    /**
+     * SSO 인증 객체를 반환합니다.
+     *
+     * @param request  NSSO 에이전트 타입이 추가된 HTTP 요청
+     * @param response HTTP 응답
+     * @return SSO 인증 객체
+     */
+    protected SSOAuthn getAuthn(HttpServletRequest request, HttpServletResponse response) {
+        return SSOAuthn.get(request, response);
+    }
+
+    private SSOUser authn(SSOAuthn authn, String endpoint) {
+        NetsSsoObserver.Stage stage = observer.start("sso.authn", endpoint);
+        long start = System.nanoTime();
+        SSOUser ssoUser;
+        try {
+            ssoUser = authn.authn();
+            if (ssoUser == null && authn.getLastStatus() != null) {
+                stage.tag("nsso.status", authn.getLastStatus().getCode());
+            }
+        } catch (RuntimeException e) {
+            stage.error(e);
+            throw e;
+        } finally {
+            stage.stop();
+        }
+        metrics.recordAgentCall("authn", ssoUser != null, System.nanoTime() - start);
+        return ssoUser;
+    }
+
+    /**
+     * 인증 시 로그인 유지 시간을 연장할지 설정합니다. 기본값은 {@code true}입니다.
+     *
+     * <p>{@code false}로 설정하면 상태 확인과 사용자 정보 추출을 한 번의 에이전트 호출로 처리합니다.</p>
+     *
+     * @param loginStay 로그인 유지 시간 연장 여부
+     */
+    public void setLoginStay(boolean loginStay) {
+        this.loginStay = loginStay;
+    }
+
+    /**
+     * SSO 에이전트 호출 지표 수집기를 설정합니다.
+     *
+     * @param metrics 지표 수집기
+     */
+    public void setMetrics(NetsSsoMetrics metrics) {
+        Assert.notNull(metrics, "metrics must not be null");
+        this.metrics = metrics;
+    }
+
+    /**
+     * 인증 단계 관찰기를 설정합니다.
+     *
+     * <p>요청 래핑({@code request.wrap}), {@code sso.get}, {@code sso.authnLoginStay}, {@code sso.authn} 단계를 관찰합니다.</p>
+     *
+     * @param observer 인증 단계 관찰기
+     */
+    public void setObserver(NetsSsoObserver observer) {
+        Assert.notNull(observer, "observer must not be null");
+        this.observer = observer;
     }
 
     /**
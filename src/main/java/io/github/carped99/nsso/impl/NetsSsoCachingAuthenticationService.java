@@ -0,0 +1,204 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoCachedPrincipal;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import io.github.carped99.nsso.NetsSsoSessionId;
+import io.github.carped99.nsso.NetsSsoSessionIndex;
+import io.github.carped99.nsso.NetsSsoSessionKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 결과를 캐시하는 NSSO 인증 서비스
+ *
+ * <p>이 클래스는 다른 {@link NetsSsoAuthenticationService}를 감싸서,
+ * 이미 검증된 SSO 세션에 대한 반복 인증을 SSO 에이전트 호출 없이 캐시에서 처리합니다.</p>
+ *
+ * <p>처리 과정:</p>
+ * <ol>
+ *   <li>요청에서 SSO 세션 키 추출 (키가 없으면 위임 서비스 호출)</li>
+ *   <li>캐시에 유효한 인증 결과가 있으면 반환</li>
+ *   <li>만료가 임박했으면 현재 요청이 SSO 에이전트를 통해 미리 갱신 (다른 요청은 기존 결과 사용)</li>
+ *   <li>캐시에 없으면 위임 서비스로 인증 후 저장</li>
+ * </ol>
+ *
+ * <p>인증 실패는 캐시하지 않으며, 갱신 중 인증이 실패하면 캐시된 결과를 제거합니다.
+ * {@link #setSessionIndex(NetsSsoSessionIndex)}를 설정하면 캐시한 세션 키를 사용자별로 색인하고, 제거할 때 색인에서도 뺍니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * @Bean
+ * public NetsSsoAuthenticationService netsSsoAuthenticationService() {
+ *     return new NetsSsoCachingAuthenticationService(
+ *             new NetsSsoAuthenticationServiceImpl(),
+ *             new NetsSsoLocalPrincipalCache(10_000));
+ * }
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoPrincipalCache
+ * @see NetsSsoSessionKeyResolver
+ * @since 0.0.1
+ */
+public class NetsSsoCachingAuthenticationService implements NetsSsoAuthenticationService {
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final NetsSsoAuthenticationService delegate;
+    private final NetsSsoPrincipalCache cache;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private NetsSsoSessionKeyResolver keyResolver = NetsSsoSessionKeyResolver.cookies();
+    private Duration timeToLive = Duration.ofMinutes(1);
+    private Duration refreshAhead = Duration.ofSeconds(10);
+    private Clock clock = Clock.systemUTC();
+    @Nullable
+    private NetsSsoSessionIndex sessionIndex;
+
+    /**
+     * 생성자
+     *
+     * @param delegate 실제 인증을 수행할 서비스
+     * @param cache    인증 결과 캐시
+     */
+    public NetsSsoCachingAuthenticationService(NetsSsoAuthenticationService delegate, NetsSsoPrincipalCache cache) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(cache, "cache must not be null");
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Authentication authenticate(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        String key = keyResolver.resolve(request);
+        if (key == null) {
+            return delegate.authenticate(request, response);
+        }
+
+        NetsSsoCachedPrincipal cached = cache.get(key);
+        if (cached == null) {
+            return load(key, request, response);
+        }
+
+        if (!cached.isRefreshDue(clock.instant(), refreshAhead) || !refreshing.add(key)) {
+            return cached.getAuthentication();
+        }
+
+        try {
+            log.debug("Refreshing cached NSSO authentication ahead of expiry");
+            return load(key, request, response);
+        } catch (AuthenticationException e) {
+            cache.evict(key);
+            throw e;
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * 요청의 SSO 세션에 해당하는 인증 결과를 캐시에서 제거합니다.
+     *
+     * @param request HTTP 요청
+     */
+    public void evict(HttpServletRequest request) {
+        String key = keyResolver.resolve(request);
+        if (key == null) {
+            return;
+        }
+
+        if (sessionIndex != null) {
+            // 제거할 항목이므로 적중으로 집계하거나 승격하지 않는다.
+            NetsSsoCachedPrincipal cached = cache.peek(key);
+            if (cached != null) {
+                sessionIndex.unregister(cached.getAuthentication().getName(), NetsSsoSessionId.session(key, cached.getExpiresAt()));
+            }
+        }
+        cache.evict(key);
+    }
+
+    /**
+     * 인증 결과 캐시를 반환합니다.
+     *
+     * @return 인증 결과 캐시
+     */
+    public NetsSsoPrincipalCache getCache() {
+        return cache;
+    }
+
+    /**
+     * SSO 세션 키 추출기를 설정합니다.
+     * 기본값은 {@link NetsSsoSessionKeyResolver#cookies()}입니다.
+     *
+     * @param keyResolver SSO 세션 키 추출기
+     */
+    public void setKeyResolver(NetsSsoSessionKeyResolver keyResolver) {
+        Assert.notNull(keyResolver, "keyResolver must not be null");
+        this.keyResolver = keyResolver;
+    }
+
+    /**
+     * 인증 결과의 캐시 유지 시간을 설정합니다. 기본값은 1분입니다.
+     *
+     * <p>SSO 세션의 유휴 만료 시간보다 짧게 설정해야 합니다.</p>
+     *
+     * @param timeToLive 캐시 유지 시간
+     */
+    public void setTimeToLive(Duration timeToLive) {
+        Assert.notNull(timeToLive, "timeToLive must not be null");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * 만료 전 미리 갱신을 시작할 시간을 설정합니다. 기본값은 10초입니다.
+     *
+     * @param refreshAhead 만료 전 갱신 시간 (0이면 미리 갱신하지 않음)
+     */
+    public void setRefreshAhead(Duration refreshAhead) {
+        Assert.notNull(refreshAhead, "refreshAhead must not be null");
+        Assert.isTrue(!refreshAhead.isNegative(), "refreshAhead must not be negative");
+        this.refreshAhead = refreshAhead;
+    }
+
+    /**
+     * 만료 시각 계산에 사용할 시계를 설정합니다.
+     *
+     * @param clock 시계
+     */
+    public void setClock(Clock clock) {
+        Assert.notNull(clock, "clock must not be null");
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시한 세션 키를 등록할 사용자별 세션 색인을 설정합니다.
+     *
+     * @param sessionIndex 사용자별 세션 색인
+     */
+    public void setSessionIndex(@Nullable NetsSsoSessionIndex sessionIndex) {
+        this.sessionIndex = sessionIndex;
+    }
+
+    private Authentication load(String key, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authenticated = delegate.authenticate(request, response);
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(timeToLive);
+        cache.put(key, new NetsSsoCachedPrincipal(authenticated, now, expiresAt));
+        if (sessionIndex != null) {
+            sessionIndex.register(authenticated.getName(), NetsSsoSessionId.session(key, expiresAt));
+        }
+        return authenticated;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoCacheStats;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자 정보를 캐시하는 UserDetailsService
+ *
+ * <p>이 클래스는 다른 {@link UserDetailsService}를 감싸서 SSO 인증 후 매번 발생하는 사용자 조회를 캐시합니다.
+ * {@link io.github.carped99.nsso.NetsSsoAuthenticationProvider}와 {@link io.github.carped99.nsso.NetsSsoTokenFilter}가
+ * 같은 인스턴스를 사용하면 두 경로가 캐시를 공유합니다.</p>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>세그먼트 LRU 정책의 크기 제한 캐시</li>
+ *   <li>항목별 만료 시간</li>
+ *   <li>{@link UsernameNotFoundException}의 짧은 부정 캐시</li>
+ *   <li>같은 사용자에 대한 동시 조회 병합</li>
+ *   <li>사용자 단위 및 전체 무효화</li>
+ *   <li>캐시 통계</li>
+ * </ul>
+ *
+ * <p>캐시된 {@link UserDetails}는 여러 요청이 공유하므로 호출마다 복사본을 반환합니다. 인증 후 자격 증명을 지우는 설정
+ * ({@code eraseCredentialsAfterAuthentication})이 반환된 객체를 바꿔도 캐시된 값은 바뀌지 않습니다.
+ * {@link CredentialsContainer}를 구현하지 않은 사용자 정보는 바뀌지 않으므로 그대로 공유하고, {@link User}는 복사합니다.
+ * 그 외의 {@link CredentialsContainer} 구현체는 복사할 수 없으므로 캐시하지 않으며, 캐시하려면 {@link #setCopier(UnaryOperator)}로 복사 방법을 지정합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .userDetailsCache(cache -> cache
+ *         .setTimeToLive(Duration.ofMinutes(5))
+ *         .setNegativeTimeToLive(Duration.ofSeconds(10))
+ *     )
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see UserDetailsService
+ * @since 0.0.1
+ */
+public class NetsSsoCachingUserDetailsService implements UserDetailsService {
+    /**
+     * 존재하지 않는 사용자를 나타내는 캐시 값
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    private final UserDetailsService delegate;
+    private final LocalCache<String, Object> cache;
+    private final SingleFlight<String, UserDetails> singleFlight = new SingleFlight<>();
+
+    private Duration timeToLive = Duration.ofMinutes(5);
+    private Duration negativeTimeToLive = Duration.ofSeconds(10);
+    @Nullable
+    private UnaryOperator<UserDetails> copier;
+
+    /**
+     * 기본 최대 크기(10,000)로 생성합니다.
+     *
+     * @param delegate 실제 사용자 조회를 수행할 서비스
+     */
+    public NetsSsoCachingUserDetailsService(UserDetailsService delegate) {
+        this(delegate, 10_000);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param delegate    실제 사용자 조회를 수행할 서비스
+     * @param maximumSize 최대 캐시 항목 수
+     */
+    public NetsSsoCachingUserDetailsService(UserDetailsService delegate, int maximumSize) {
+        Assert.notNull(delegate, "delegate must not be null");
+        this.delegate = delegate;
+        this.cache = new LocalCache<>(maximumSize);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Object cached = cache.get(username);
+        if (cached == NOT_FOUND) {
+            throw new UsernameNotFoundException(username);
+        }
+        if (cached != null) {
+            return copy((UserDetails) cached);
+        }
+        UserDetails userDetails = singleFlight.execute(username, () -> load(username));
+        // 동시 조회를 기다린 요청도 같은 인스턴스를 받으므로 복사본을 반환한다.
+        return isCacheable(userDetails) ? copy(userDetails) : userDetails;
+    }
+
+    private UserDetails load(String username) {
+        UserDetails userDetails;
+        try {
+            userDetails = delegate.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            cache.put(username, NOT_FOUND, negativeTimeToLive.toNanos());
+            throw e;
+        }
+
+        if (isCacheable(userDetails)) {
+            cache.put(username, userDetails, timeToLive.toNanos());
+        }
+        return userDetails;
+    }
+
+    private boolean isCacheable(UserDetails userDetails) {
+        return copier != null || !(userDetails instanceof CredentialsContainer) || userDetails.getClass() == User.class;
+    }
+
+    private UserDetails copy(UserDetails userDetails) {
+        if (copier != null) {
+            return copier.apply(userDetails);
+        }
+        if (userDetails instanceof CredentialsContainer) {
+            return User.withUserDetails(userDetails).build();
+        }
+        return userDetails;
+    }
+
+    /**
+     * 지정된 사용자의 캐시를 제거합니다.
+     *
+     * <p>사용자의 권한이나 상태가 변경되었을 때 호출합니다.</p>
+     *
+     * @param username 사용자 이름
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * 모든 사용자의 캐시를 제거합니다.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public NetsSsoCacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * 사용자 정보의 캐시 유지 시간을 설정합니다. 기본값은 5분입니다.
+     *
+     * @param timeToLive 캐시 유지 시간
+     * @return 현재 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoCachingUserDetailsService setTimeToLive(Duration timeToLive) {
+        Assert.notNull(timeToLive, "timeToLive must not be null");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * 존재하지 않는 사용자의 캐시 유지 시간을 설정합니다. 기본값은 10초입니다.
+     *
+     * @param negativeTimeToLive 부정 캐시 유지 시간 (0이면 부정 캐시를 사용하지 않음)
+     * @return 현재 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoCachingUserDetailsService setNegativeTimeToLive(Duration negativeTimeToLive) {
+        Assert.notNull(negativeTimeToLive, "negativeTimeToLive must not be null");
+        Assert.isTrue(!negativeTimeToLive.isNegative(), "negativeTimeToLive must not be negative");
+        this.negativeTimeToLive = negativeTimeToLive;
+        return this;
+    }
+
+    /**
+     * 캐시된 사용자 정보의 복사본을 만드는 함수를 설정합니다.
+     *
+     * <p>설정하면 모든 사용자 정보를 캐시하고 반환할 때마다 이 함수로 복사합니다.
+     * 반환된 객체를 바꿔도 캐시된 값이 바뀌지 않도록 새 인스턴스를 만들어야 합니다.</p>
+     *
+     * @param copier 복사 함수
+     * @return 현재 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoCachingUserDetailsService setCopier(UnaryOperator<UserDetails> copier) {
+        Assert.notNull(copier, "copier must not be null");
+        this.copier = copier;
+        return this;
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * SSO 에이전트 작업별 호출 보호기
+ *
+ * <p>하나의 작업(예: {@code check}, {@code authenticate})에 대해 다음을 순서대로 적용합니다.</p>
+ * <ol>
+ *   <li>회로 차단기 - 열려 있으면 오류 코드 {@value NetsSsoResilience#CIRCUIT_OPEN_CODE}로 즉시 실패</li>
+ *   <li>격벽(동시 호출 수 제한) - 자리가 없으면 오류 코드 {@value NetsSsoResilience#BULKHEAD_FULL_CODE}로 즉시 실패</li>
+ *   <li>기한 - 기한을 설정하면 실행기에서 호출하고, 기한을 넘기면 회로 차단기에 실패를 바로 기록하고 호출을 중단(interrupt)한 뒤
+ *       오류 코드 {@value NetsSsoExecutorAuthenticationService#TIMEOUT_CODE}로 실패</li>
+ * </ol>
+ *
+ * <p>기한은 실행기가 있어야 하며, 실행기 없이 기한을 설정하면 보호기를 생성할 때 {@link IllegalStateException}이 발생합니다.
+ * 기한은 호출 스레드가 기다리는 시간을 제한하지 않습니다. 호출이 요청과 응답을 사용하고 있으므로 호출 스레드는 중단한 호출이
+ * 실제로 끝날 때까지 기다린 뒤 실패합니다. 호출 스레드가 먼저 컨테이너로 돌아가면 요청과 응답이 다른 요청에 재사용될 수 있기 때문입니다.
+ * 아직 시작하지 않은 호출은 실행하지 않고 버립니다.</p>
+ *
+ * <p>요청 스레드 고갈은 격벽이 막습니다. 에이전트가 멈추면 멈춘 호출이 격벽 자리를 채우고, 이후 호출은 스레드를 붙잡지 않고 바로 실패합니다.
+ * 실행기에서 호출한 경우 격벽 자리는 기한이 아니라 실제 호출이 끝날 때 반납합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoResilience
+ * @see NetsSsoCircuitBreaker
+ * @since 0.0.1
+ */
+public class NetsSsoCallGuard {
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    private final String operation;
+    private final NetsSsoCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long maxWaitNanos;
+    @Nullable
+    private final Duration deadline;
+    @Nullable
+    private final ExecutorService executor;
+    private final Predicate<Throwable> recordFailure;
+    private final NetsSsoMetrics metrics;
+
+    NetsSsoCallGuard(String operation, NetsSsoResilience.Policy policy, @Nullable ExecutorService executor, NetsSsoMetrics metrics) {
+        Assert.hasText(operation, "operation must not be empty");
+        Assert.state(policy.getDeadline() == null || executor != null, "NSSO agent call deadline requires an executor: " + operation);
+        this.operation = operation;
+        this.circuitBreaker = new NetsSsoCircuitBreaker(policy.getSlidingWindowSize(), policy.getMinimumCalls(),
+                policy.getFailureRateThreshold(), policy.getOpenDuration(), policy.getHalfOpenCalls());
+        this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+        this.maxWaitNanos = policy.getMaxWait().toNanos();
+        this.deadline = policy.getDeadline();
+        this.executor = executor;
+        this.recordFailure = policy.getRecordFailure();
+        this.metrics = metrics;
+        this.circuitBreaker.setStateListener((from, to) -> metrics.recordCircuitStateChange(operation, to.name().toLowerCase()));
+    }
+
+    /**
+     * 보호 규칙을 적용하여 호출합니다.
+     *
+     * @param callable 에이전트 호출
+     * @param <T>      결과 타입
+     * @return 호출 결과
+     * @throws NetsSsoAuthenticationException 회로가 열렸거나, 격벽이 가득 찼거나, 기한을 넘긴 경우
+     */
+    public <T> T call(Callable<T> callable) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw reject(NetsSsoResilience.CIRCUIT_OPEN_CODE, "NSSO agent circuit is open: " + operation);
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.release();
+            throw reject(NetsSsoResilience.BULKHEAD_FULL_CODE, "NSSO agent bulkhead is full: " + operation);
+        }
+
+        if (deadline != null) {
+            return callWithDeadline(callable, deadline, executor);
+        }
+
+        try {
+            T result = callable.call();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (Exception e) {
+            recordOutcome(e);
+            throw propagate(e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 회로 차단기를 반환합니다.
+     *
+     * @return 회로 차단기
+     */
+    public NetsSsoCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * 호출 기한을 반환합니다.
+     *
+     * @return 호출 기한 (null이면 기한 없음)
+     */
+    @Nullable
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * 남은 격벽 자리 수를 반환합니다.
+     *
+     * @return 남은 동시 호출 수
+     */
+    public int getAvailableCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    private <T> T callWithDeadline(Callable<T> callable, Duration deadline, ExecutorService executor) {
+        AtomicInteger state = new AtomicInteger(PENDING);
+        CountDownLatch finished = new CountDownLatch(1);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // 실행 전에 기한을 넘겼으면 호출하지 않는다.
+                if (!state.compareAndSet(PENDING, RUNNING)) {
+                    return null;
+                }
+                try {
+                    return callable.call();
+                } finally {
+                    bulkhead.release();
+                    finished.countDown();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.release();
+            throw reject(NetsSsoExecutorAuthenticationService.REJECTED_CODE, "NSSO agent call rejected: " + operation);
+        }
+
+        try {
+            T result = future.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            circuitBreaker.onFailure();
+            abandon(future, state, finished);
+            throw reject(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE, "NSSO agent timed out after " + deadline.toMillis() + "ms: " + operation);
+        } catch (InterruptedException e) {
+            circuitBreaker.release();
+            abandon(future, state, finished);
+            Thread.currentThread().interrupt();
+            throw reject(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE, "NSSO agent call interrupted: " + operation);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            recordOutcome(cause);
+            throw propagate(cause);
+        }
+    }
+
+    /**
+     * 기한을 넘긴 호출을 버립니다. 시작하지 않은 호출은 격벽 자리를 반납하고, 진행 중인 호출은 중단한 뒤 끝날 때까지 기다립니다.
+     */
+    private void abandon(Future<?> future, AtomicInteger state, CountDownLatch finished) {
+        if (state.compareAndSet(PENDING, ABANDONED)) {
+            bulkhead.release();
+            return;
+        }
+        future.cancel(true);
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        if (maxWaitNanos <= 0) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordOutcome(Throwable e) {
+        if (recordFailure.test(e)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private NetsSsoAuthenticationException reject(String code, String message) {
+        metrics.recordFailure(code, NetsSsoAuthenticationException.class);
+        return new NetsSsoAuthenticationException(code, message);
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new NetsSsoAuthenticationException("50000000", e.getMessage(), e);
+    }
+}
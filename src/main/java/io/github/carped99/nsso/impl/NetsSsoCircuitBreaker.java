@@ -0,0 +1,236 @@
+package io.github.carped99.nsso.impl;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도 회로 차단기
+ *
+ * <p>최근 {@code windowSize}번의 호출 결과를 원형 버퍼에 기록하고, 최소 호출 수를 채운 상태에서 실패율이 임계값 이상이면 열립니다.
+ * 열린 동안에는 호출을 허용하지 않으며, 대기 시간이 지나면 반열림 상태에서 정해진 수의 시험 호출만 허용합니다.
+ * 시험 호출이 모두 성공하면 닫히고, 하나라도 실패하면 다시 열립니다.</p>
+ *
+ * <p>닫힌 상태의 허용 확인은 잠금 없이 volatile 읽기로 끝나며, 결과 기록만 짧게 동기화합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoCallGuard
+ * @since 0.0.1
+ */
+public class NetsSsoCircuitBreaker {
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier ticker;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    @Nullable
+    private StateListener listener;
+
+    /**
+     * 회로 차단기를 생성합니다.
+     *
+     * @param windowSize           결과를 기록할 최근 호출 수
+     * @param minimumCalls         실패율을 계산하기 위한 최소 호출 수
+     * @param failureRateThreshold 회로를 여는 실패율 (0.0 초과 1.0 이하)
+     * @param openDuration         열린 상태 유지 시간
+     * @param halfOpenCalls        반열림 상태에서 허용할 시험 호출 수
+     */
+    public NetsSsoCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration, int halfOpenCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    /**
+     * 주어진 시간 공급자로 회로 차단기를 생성합니다.
+     *
+     * @param windowSize           결과를 기록할 최근 호출 수
+     * @param minimumCalls         실패율을 계산하기 위한 최소 호출 수
+     * @param failureRateThreshold 회로를 여는 실패율 (0.0 초과 1.0 이하)
+     * @param openDuration         열린 상태 유지 시간
+     * @param halfOpenCalls        반열림 상태에서 허용할 시험 호출 수
+     * @param ticker               나노초 단위 단조 증가 시간 공급자
+     */
+    public NetsSsoCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration, int halfOpenCalls, LongSupplier ticker) {
+        Assert.isTrue(windowSize > 0, "windowSize must be greater than 0");
+        Assert.isTrue(minimumCalls > 0 && minimumCalls <= windowSize, "minimumCalls must be between 1 and windowSize");
+        Assert.isTrue(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0, "failureRateThreshold must be in (0.0, 1.0]");
+        Assert.isTrue(openDuration != null && !openDuration.isNegative() && !openDuration.isZero(), "openDuration must be positive");
+        Assert.isTrue(halfOpenCalls > 0, "halfOpenCalls must be greater than 0");
+        Assert.notNull(ticker, "ticker must not be null");
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.ticker = ticker;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * 호출을 허용하는지 확인합니다.
+     *
+     * <p>true를 반환하면 호출 결과를 {@link #onSuccess()}, {@link #onFailure()}, {@link #release()} 중 하나로 알려야 합니다.</p>
+     *
+     * @return 허용하면 true
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (ticker.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 허용된 호출이 성공했음을 기록합니다.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                resetWindow();
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * 허용된 호출이 실패했음을 기록합니다.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures >= failureRateThreshold * windowCount) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * 허용된 호출을 결과 없이 반납합니다. 반열림 상태의 시험 호출 기회를 되돌립니다.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls - halfOpenSuccesses) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * 현재 상태를 반환합니다.
+     *
+     * @return 현재 상태
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 상태 변경 수신기를 설정합니다.
+     *
+     * @param listener 상태 변경 수신기
+     */
+    public void setStateListener(@Nullable StateListener listener) {
+        this.listener = listener;
+    }
+
+    private void open() {
+        openedAt = ticker.getAsLong();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        if (previous == next) {
+            return;
+        }
+        state = next;
+        if (listener != null) {
+            listener.onStateChange(previous, next);
+        }
+    }
+
+    /**
+     * 회로 상태
+     */
+    public enum State {
+        /**
+         * 닫힘 - 모든 호출 허용
+         */
+        CLOSED,
+        /**
+         * 열림 - 모든 호출 거부
+         */
+        OPEN,
+        /**
+         * 반열림 - 정해진 수의 시험 호출만 허용
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * 상태 변경 수신기
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        /**
+         * 상태가 바뀌었을 때 호출됩니다.
+         *
+         * @param from 이전 상태
+         * @param to   새 상태
+         */
+        void onStateChange(State from, State to);
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAsyncAuthenticationService;
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 별도 실행기에서 인증을 수행하는 NSSO 인증 서비스
+ *
+ * <p>이 클래스는 다른 {@link NetsSsoAuthenticationService}를 감싸서 {@link NetsSsoAsyncAuthenticationService}를 제공합니다.
+ * 동기 호출({@link #authenticate(HttpServletRequest, HttpServletResponse)})은 그대로 위임하고,
+ * 비동기 호출은 주어진 실행기에서 위임 서비스를 실행합니다.</p>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>호출별 기한 - 기한을 넘기면 오류 코드 {@value #TIMEOUT_CODE}로 실패</li>
+ *   <li>취소 - 결과를 취소하거나 기한을 넘기면 진행 중인 작업을 중단하고, 아직 시작하지 않은 작업은 버림</li>
+ *   <li>작업 종료 - 작업이 요청과 응답 사용을 마치면 {@link #RELEASED_ATTRIBUTE} 요청 속성의 결과를 완료</li>
+ *   <li>작업 거부 - 실행기가 작업을 거부하면 오류 코드 {@value #REJECTED_CODE}로 실패</li>
+ * </ul>
+ *
+ * <p>{@link #newDefaultExecutor()}는 Java 21 이상에서 가상 스레드 실행기를,
+ * 그 외에는 크기가 제한된 플랫폼 스레드 풀을 생성합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .async(Duration.ofSeconds(5))
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoAsyncAuthenticationService
+ * @since 0.0.1
+ */
+public class NetsSsoExecutorAuthenticationService implements NetsSsoAuthenticationService, NetsSsoAsyncAuthenticationService {
+    /**
+     * 인증 기한 초과 오류 코드
+     */
+    public static final String TIMEOUT_CODE = "50000001";
+
+    /**
+     * 인증 작업 거부 오류 코드
+     */
+    public static final String REJECTED_CODE = "50000002";
+
+    private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+    private static final int DONE = 3;
+
+    private final NetsSsoAuthenticationService delegate;
+    private final ExecutorService executor;
+
+    /**
+     * 생성자
+     *
+     * @param delegate 실제 인증을 수행할 서비스
+     * @param executor 인증을 실행할 실행기
+     */
+    public NetsSsoExecutorAuthenticationService(NetsSsoAuthenticationService delegate, ExecutorService executor) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(executor, "executor must not be null");
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public Authentication authenticate(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        return delegate.authenticate(request, response);
+    }
+
+    @Override
+    public CompletableFuture<Authentication> authenticateAsync(HttpServletRequest request, HttpServletResponse response, Duration timeout) {
+        Assert.notNull(timeout, "timeout must not be null");
+        Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+
+        CompletableFuture<Authentication> result = new CompletableFuture<>();
+        CompletableFuture<Void> released = new CompletableFuture<>();
+        AtomicInteger state = new AtomicInteger(PENDING);
+        request.setAttribute(RELEASED_ATTRIBUTE, released);
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                // 실행 전에 기한을 넘겼거나 취소되었으면 에이전트를 호출하지 않는다.
+                if (!state.compareAndSet(PENDING, RUNNING)) {
+                    return;
+                }
+                Authentication authentication = null;
+                Throwable failure = null;
+                try {
+                    authentication = delegate.authenticate(request, response);
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                // 결과를 완료하기 전에 종료 상태로 바꿔야 작업 자신의 실패가 작업을 중단시키지 않는다.
+                synchronized (state) {
+                    if (!state.compareAndSet(RUNNING, DONE)) {
+                        // 기한 초과나 취소로 중단된 작업은 전달된 중단 신호를 지운 뒤 요청을 놓아준다.
+                        Thread.interrupted();
+                    }
+                }
+                if (failure == null) {
+                    result.complete(authentication);
+                } else {
+                    result.completeExceptionally(failure);
+                }
+                released.complete(null);
+            });
+        } catch (RejectedExecutionException e) {
+            released.complete(null);
+            result.completeExceptionally(new NetsSsoAuthenticationException(REJECTED_CODE, "NSSO authentication rejected", e));
+            return result;
+        }
+
+        ScheduledFuture<?> timer = TIMER.schedule(
+                () -> result.completeExceptionally(new NetsSsoAuthenticationException(TIMEOUT_CODE, "NSSO authentication timed out after " + timeout.toMillis() + "ms")),
+                timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        result.whenComplete((authentication, ex) -> {
+            timer.cancel(false);
+            if (ex == null) {
+                return;
+            }
+            // 기한 초과 또는 취소로 끝난 경우, 시작하지 않은 작업은 버리고 진행 중인 작업은 중단한다.
+            // 작업이 이미 끝났으면(작업 자신이 실패를 전달한 경우 포함) 아무것도 하지 않는다.
+            if (state.compareAndSet(PENDING, ABANDONED)) {
+                released.complete(null);
+                return;
+            }
+            synchronized (state) {
+                if (state.compareAndSet(RUNNING, ABANDONED)) {
+                    task.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 기본 인증 실행기를 생성합니다.
+     *
+     * <p>Java 21 이상에서는 작업마다 가상 스레드를 사용하는 실행기를 생성하고,
+     * 그 외에는 CPU 수에 비례하는 크기 제한 스레드 풀을 생성합니다.
+     * 스레드 풀의 대기열이 가득 차면 작업을 거부합니다.</p>
+     *
+     * @return 인증 실행기
+     */
+    public static ExecutorService newDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(16, Runtime.getRuntime().availableProcessors() * 8);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads * 16), daemonThreadFactory("nsso-agent-"));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor newTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("nsso-timer-"));
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.carped99.nsso.impl;
+
+import org.springframework.util.Assert;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 처리 시간 기울기 방식의 동시 처리 수 제한기
+ *
+ * <p>장기 평균 처리 시간과 현재 처리 시간의 비율(기울기)로 제한을 조정합니다.
+ * 현재 처리 시간이 장기 평균보다 길어지면 기울기가 1보다 작아져 제한이 줄고,
+ * 같거나 짧으면 제한의 제곱근만큼 대기 여유를 더해 조금씩 늘립니다. 과부하로 실패하면 기울기를 최소값으로 봅니다.</p>
+ *
+ * <p>장기 평균은 지수 이동 평균이며, 부하가 길게 이어지면 평균이 높아진 처리 시간을 따라가지 않도록
+ * 현재 처리 시간의 두 배를 넘으면 빠르게 낮춥니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoGradientLimiter extends NetsSsoAdaptiveLimiter {
+    private static final double LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private double tolerance = 1.5;
+    private double longRttNanos;
+
+    /**
+     * 생성자
+     */
+    public NetsSsoGradientLimiter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * 주어진 시간 공급자로 제한기를 생성합니다.
+     *
+     * @param ticker 나노초 단위 단조 증가 시간 공급자
+     */
+    public NetsSsoGradientLimiter(LongSupplier ticker) {
+        super(ticker);
+    }
+
+    /**
+     * 장기 평균 대비 허용할 처리 시간 증가 비율을 설정합니다. 기본값은 1.5입니다.
+     *
+     * @param tolerance 허용 비율 (1.0 이상)
+     * @return 현재 인스턴스
+     */
+    public NetsSsoGradientLimiter setTolerance(double tolerance) {
+        Assert.isTrue(tolerance >= 1.0, "tolerance must be at least 1.0");
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    @Override
+    protected double update(double limit, long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return limit;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+            if (longRttNanos > rttNanos * 2) {
+                longRttNanos *= 0.95;
+            }
+        }
+
+        if (!dropped && inFlight * 2 < limit) {
+            return limit;
+        }
+
+        double gradient = dropped ? MIN_GRADIENT : Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double next = limit * gradient + Math.sqrt(limit);
+        return limit * (1 - SMOOTHING) + next * SMOOTHING;
+    }
+}
@@ -3,10 +3,6 @@ package io.github.carped99.nsso.impl;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import org.springframework.lang.Nullable;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.LinkedCaseInsensitiveMap;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 
 import java.util.*;
 
@@ -26,6 +22,10 @@ import java.util.*;
  *
  * <p>기본적으로 "SSOAgent-Type" 헤더를 "SPA" 값으로 설정합니다.</p>
  *
+ * <p>요청마다 추가되는 값은 한두 개뿐이므로 이름과 값을 작은 배열에 보관하고 순차 탐색합니다.
+ * 추가된 값이 없는 이름을 조회할 때는 객체를 생성하지 않고 원본 요청에 위임하며,
+ * 헤더 이름 목록, 파라미터 이름 목록, 파라미터 맵처럼 원본과 병합해야 하는 값은 처음 조회할 때 한 번만 계산하여 재사용합니다.</p>
+ *
  * <p>사용 예시:</p>
  * <pre>{@code
  * HttpServletRequest request = ...;
@@ -39,8 +39,25 @@ import java.util.*;
  * @since 0.0.1
  */
 final class NetsSsoHttpServletRequestWrapper extends HttpServletRequestWrapper {
-    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
-    private final MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+    private static final int INITIAL_CAPACITY = 4;
+
+    // 추가된 헤더 (이름은 대소문자를 구분하지 않음)
+    private String[] headerNames;
+    private String[] headerValues;
+    private int headerCount;
+
+    // 추가된 파라미터
+    private String[] paramNames;
+    private String[] paramValues;
+    private int paramCount;
+
+    // 원본 요청과 병합한 값 (처음 조회할 때 계산)
+    @Nullable
+    private List<String> mergedHeaderNames;
+    @Nullable
+    private List<String> mergedParameterNames;
+    @Nullable
+    private Map<String, String[]> mergedParameterMap;
 
     /**
      * 주어진 HTTP 요청으로 래퍼를 생성합니다.
@@ -70,7 +87,17 @@ final class NetsSsoHttpServletRequestWrapper extends HttpServletRequestWrapper {
      * @return 현재 래퍼 (메서드 체이닝 지원)
      */
     public NetsSsoHttpServletRequestWrapper addHeader(String name, String value) {
-        this.headers.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+        if (headerNames == null) {
+            headerNames = new String[INITIAL_CAPACITY];
+            headerValues = new String[INITIAL_CAPACITY];
+        } else if (headerCount == headerNames.length) {
+            headerNames = Arrays.copyOf(headerNames, headerCount * 2);
+            headerValues = Arrays.copyOf(headerValues, headerCount * 2);
+        }
+        headerNames[headerCount] = name;
+        headerValues[headerCount] = value;
+        headerCount++;
+        mergedHeaderNames = null;
         return this;
     }
 
@@ -84,11 +111,11 @@ final class NetsSsoHttpServletRequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public String getHeader(String name) {
-        var values = this.headers.get(name);
-        if (CollectionUtils.isEmpty(values)) {
+        int index = indexOfHeader(name);
+        if (index < 0) {
             return super.getHeader(name);
         }
-        return values.get(0);
+        return headerValues[index];
     }
 
     /**
@@ -101,10 +128,17 @@ final class NetsSsoHttpServletRequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public Enumeration<String> getHeaders(String name) {
-        var values = this.headers.get(name);
-        if (CollectionUtils.isEmpty(values)) {
+        int index = indexOfHeader(name);
+        if (index < 0) {
             return Objects.requireNonNullElseGet(super.getHeaders(name), Collections::emptyEnumeration);
         }
+
+        List<String> values = new ArrayList<>(headerCount - index);
+        for (int i = index; i < headerCount; i++) {
+            if (headerNames[i].equalsIgnoreCase(name)) {
+                values.add(headerValues[i]);
+            }
+        }
         return Collections.enumeration(values);
     }
 
@@ -117,12 +151,24 @@ final class NetsSsoHttpServletRequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public Enumeration<String> getHeaderNames() {
-        HashSet<String> names = new HashSet<>(this.headers.keySet());
-        Enumeration<String> headerNames = super.getHeaderNames();
-        if (headerNames != null) {
-            while (headerNames.hasMoreElements()) {
-                names.add(headerNames.nextElement());
+        List<String> names = mergedHeaderNames;
+        if (names == null) {
+            names = new ArrayList<>();
+            for (int i = 0; i < headerCount; i++) {
+                if (indexOfHeader(headerNames[i]) == i) {
+                    names.add(headerNames[i]);
+                }
             }
+            Enumeration<String> headerNames = super.getHeaderNames();
+            if (headerNames != null) {
+                while (headerNames.hasMoreElements()) {
+                    String name = headerNames.nextElement();
+                    if (indexOfHeader(name) < 0) {
+                        names.add(name);
+                    }
+                }
+            }
+            mergedHeaderNames = names;
         }
         return Collections.enumeration(names);
     }
@@ -137,48 +183,118 @@ final class NetsSsoHttpServletRequestWrapper extends HttpServletRequestWrapper {
      * @return 현재 래퍼 인스턴스 (메서드 체이닝 지원)
      */
     public NetsSsoHttpServletRequestWrapper addParameter(String name, String value) {
-        params.add(name, value);
+        if (paramNames == null) {
+            paramNames = new String[INITIAL_CAPACITY];
+            paramValues = new String[INITIAL_CAPACITY];
+        } else if (paramCount == paramNames.length) {
+            paramNames = Arrays.copyOf(paramNames, paramCount * 2);
+            paramValues = Arrays.copyOf(paramValues, paramCount * 2);
+        }
+        paramNames[paramCount] = name;
+        paramValues[paramCount] = value;
+        paramCount++;
+        mergedParameterNames = null;
+        mergedParameterMap = null;
         return this;
     }
 
     @Nullable
     @Override
     public String getParameter(String name) {
-        List<String> vals = params.get(name);
-        if (vals != null && !vals.isEmpty()) {
-            return vals.get(0);
+        int index = indexOfParameter(name);
+        if (index < 0) {
+            return super.getParameter(name);
         }
-        return super.getParameter(name);
+        return paramValues[index];
     }
 
     @Nullable
     @Override
     public String[] getParameterValues(String name) {
-        List<String> vals = params.get(name);
-        if (vals != null) {
-            return vals.toArray(String[]::new);
+        int index = indexOfParameter(name);
+        if (index < 0) {
+            return super.getParameterValues(name);
         }
-        return super.getParameterValues(name);
+        return parameterValues(index);
     }
 
     @Override
     public Enumeration<String> getParameterNames() {
-        Set<String> names = new LinkedHashSet<>(params.keySet());
-        Enumeration<String> orig = super.getParameterNames();
-        if (orig != null) {
-            while (orig.hasMoreElements()) {
-                names.add(orig.nextElement());
+        List<String> names = mergedParameterNames;
+        if (names == null) {
+            names = new ArrayList<>();
+            for (int i = 0; i < paramCount; i++) {
+                if (indexOfParameter(paramNames[i]) == i) {
+                    names.add(paramNames[i]);
+                }
             }
+            Enumeration<String> orig = super.getParameterNames();
+            if (orig != null) {
+                while (orig.hasMoreElements()) {
+                    String name = orig.nextElement();
+                    if (indexOfParameter(name) < 0) {
+                        names.add(name);
+                    }
+                }
+            }
+            mergedParameterNames = names;
         }
         return Collections.enumeration(names);
     }
 
     @Override
     public Map<String, String[]> getParameterMap() {
-        Map<String, String[]> map = new LinkedHashMap<>(super.getParameterMap());
-        params.forEach((k, vList) ->
-                map.put(k, vList.toArray(String[]::new))
-        );
-        return Collections.unmodifiableMap(map);
+        if (paramCount == 0) {
+            return super.getParameterMap();
+        }
+
+        Map<String, String[]> map = mergedParameterMap;
+        if (map == null) {
+            map = new LinkedHashMap<>(super.getParameterMap());
+            for (int i = 0; i < paramCount; i++) {
+                if (indexOfParameter(paramNames[i]) == i) {
+                    map.put(paramNames[i], parameterValues(i));
+                }
+            }
+            map = Collections.unmodifiableMap(map);
+            mergedParameterMap = map;
+        }
+        return map;
+    }
+
+    private int indexOfHeader(String name) {
+        for (int i = 0; i < headerCount; i++) {
+            if (headerNames[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfParameter(String name) {
+        for (int i = 0; i < paramCount; i++) {
+            if (paramNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String[] parameterValues(int index) {
+        String name = paramNames[index];
+        int size = 0;
+        for (int i = index; i < paramCount; i++) {
+            if (paramNames[i].equals(name)) {
+                size++;
+            }
+        }
+
+        String[] values = new String[size];
+        for (int i = index, j = 0; i < paramCount; i++) {
+            if (paramNames[i].equals(name)) {
+                values[j++] = paramValues[i];
+            }
+        }
+        return values;
     }
 }
@@ -0,0 +1,41 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoInvalidationChannel;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JVM 내부에서 동작하는 NSSO 무효화 채널
+ *
+ * <p>발행한 메시지를 같은 JVM의 구독자에게 호출 스레드에서 바로 전달합니다.
+ * 하나의 JVM에 여러 필터 체인을 두거나, 여러 노드를 흉내 내는 테스트에서 사용합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoInvalidationChannel
+ * @since 0.0.1
+ */
+public class NetsSsoLocalInvalidationChannel implements NetsSsoInvalidationChannel {
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publishEvict(String key) {
+        for (Listener listener : listeners) {
+            listener.onEvict(key);
+        }
+    }
+
+    @Override
+    public void publishClear() {
+        for (Listener listener : listeners) {
+            listener.onClear();
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        Assert.notNull(listener, "listener must not be null");
+        listeners.add(listener);
+    }
+}
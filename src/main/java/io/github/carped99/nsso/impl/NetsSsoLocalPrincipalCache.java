@@ -0,0 +1,92 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoCacheStats;
+import io.github.carped99.nsso.NetsSsoCachedPrincipal;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * JVM 내부 메모리를 사용하는 NSSO 인증 결과 캐시
+ *
+ * <p>최대 크기를 초과하면 가장 오래 사용되지 않은 항목부터 제거하며,
+ * 각 항목은 {@link NetsSsoCachedPrincipal#getExpiresAt()}에 만료됩니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .principalCache(new NetsSsoLocalPrincipalCache(10_000))
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoPrincipalCache
+ * @since 0.0.1
+ */
+public class NetsSsoLocalPrincipalCache implements NetsSsoPrincipalCache {
+    private final LocalCache<String, NetsSsoCachedPrincipal> cache;
+    private final Clock clock;
+
+    /**
+     * 주어진 최대 크기로 캐시를 생성합니다.
+     *
+     * @param maximumSize 최대 항목 수
+     */
+    public NetsSsoLocalPrincipalCache(int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * 주어진 최대 크기와 시계로 캐시를 생성합니다.
+     *
+     * @param maximumSize 최대 항목 수
+     * @param clock       만료 시각 계산에 사용할 시계
+     */
+    public NetsSsoLocalPrincipalCache(int maximumSize, Clock clock) {
+        Assert.notNull(clock, "clock must not be null");
+        this.cache = new LocalCache<>(maximumSize);
+        this.clock = clock;
+    }
+
+    @Nullable
+    @Override
+    public NetsSsoCachedPrincipal get(String key) {
+        NetsSsoCachedPrincipal principal = cache.get(key);
+        if (principal != null && principal.isExpired(clock.instant())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return principal;
+    }
+
+    @Nullable
+    @Override
+    public NetsSsoCachedPrincipal peek(String key) {
+        NetsSsoCachedPrincipal principal = cache.peek(key);
+        return principal == null || principal.isExpired(clock.instant()) ? null : principal;
+    }
+
+    @Override
+    public void put(String key, NetsSsoCachedPrincipal principal) {
+        Duration timeToLive = Duration.between(clock.instant(), principal.getExpiresAt());
+        cache.put(key, principal, timeToLive.toNanos());
+    }
+
+    @Override
+    public void evict(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public NetsSsoCacheStats getStats() {
+        return cache.stats();
+    }
+}
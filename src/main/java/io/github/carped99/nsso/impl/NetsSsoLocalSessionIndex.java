@@ -0,0 +1,137 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoSessionId;
+import io.github.carped99.nsso.NetsSsoSessionIndex;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JVM 내부 메모리를 사용하는 사용자별 세션 색인
+ *
+ * <p>사용자 ID별 식별자 집합을 {@link ConcurrentHashMap}에 보관하며, 한 사용자에 대한 갱신은 해당 키에서만 원자적으로 일어납니다.
+ * 등록할 때 그 사용자의 만료된 식별자를 정리하고, 일정 횟수의 등록마다 전체 색인에서 만료된 항목을 정리합니다.</p>
+ *
+ * <p>여러 노드가 각자 색인을 가지므로, 클러스터에서는 백채널 로그아웃 요청을 모든 노드에 전달하거나
+ * 공유 저장소를 사용하는 구현체를 사용해야 합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoSessionIndex
+ * @since 0.0.1
+ */
+public class NetsSsoLocalSessionIndex implements NetsSsoSessionIndex {
+    /**
+     * 전체 정리 주기 (등록 횟수)
+     */
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final ConcurrentHashMap<String, Set<NetsSsoSessionId>> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+    private final Clock clock;
+
+    /**
+     * 세션 색인을 생성합니다.
+     */
+    public NetsSsoLocalSessionIndex() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * 주어진 시계로 세션 색인을 생성합니다.
+     *
+     * @param clock 만료 확인에 사용할 시계
+     */
+    public NetsSsoLocalSessionIndex(Clock clock) {
+        Assert.notNull(clock, "clock must not be null");
+        this.clock = clock;
+    }
+
+    @Override
+    public void register(String username, NetsSsoSessionId id) {
+        Assert.notNull(username, "username must not be null");
+        Assert.notNull(id, "id must not be null");
+        Instant now = clock.instant();
+        sessions.compute(username, (key, ids) -> {
+            if (ids == null) {
+                ids = new HashSet<>(4);
+            } else {
+                ids.removeIf(existing -> existing.isExpired(now));
+            }
+            // 만료 시각이 갱신될 수 있으므로 교체한다.
+            ids.remove(id);
+            ids.add(id);
+            return ids;
+        });
+
+        if (registrations.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            sweep(now);
+        }
+    }
+
+    @Override
+    public void unregister(String username, NetsSsoSessionId id) {
+        sessions.computeIfPresent(username, (key, ids) -> ids.remove(id) && ids.isEmpty() ? null : ids);
+    }
+
+    @Override
+    public Collection<NetsSsoSessionId> removeAll(String username) {
+        Set<NetsSsoSessionId> ids = sessions.remove(username);
+        if (ids == null) {
+            return List.of();
+        }
+
+        Instant now = clock.instant();
+        List<NetsSsoSessionId> removed = new ArrayList<>(ids.size());
+        for (NetsSsoSessionId id : ids) {
+            if (id.isExpired(now)) {
+                continue;
+            }
+            if (id.getType() != NetsSsoSessionId.Type.SESSION) {
+                revoked.put(id.getValue(), id.getExpiresAt());
+            }
+            removed.add(id);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean isRevoked(String id) {
+        Instant expiresAt = revoked.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(expiresAt)) {
+            // 만료된 토큰은 서명 검증에서 거부되고, 만료 시각이 지난 HTTP 세션은 컨테이너가 이미 만료시켰으므로 더 이상 보관하지 않는다.
+            revoked.remove(id, expiresAt);
+        }
+        return true;
+    }
+
+    /**
+     * 색인된 사용자 수를 반환합니다.
+     *
+     * @return 사용자 수
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private void sweep(Instant now) {
+        for (String username : sessions.keySet()) {
+            sessions.computeIfPresent(username, (key, ids) -> {
+                ids.removeIf(id -> id.isExpired(now));
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        revoked.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+    }
+}
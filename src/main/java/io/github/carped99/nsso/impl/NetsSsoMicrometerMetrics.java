@@ -0,0 +1,109 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer 기반 NSSO 지표 수집 구현체
+ *
+ * <p>다음 지표를 등록합니다.</p>
+ * <ul>
+ *   <li>{@code nsso.endpoint} 타이머 - 태그: {@code endpoint}, {@code status}</li>
+ *   <li>{@code nsso.agent.call} 타이머 - 태그: {@code operation}, {@code outcome}</li>
+ *   <li>{@code nsso.authentication.failures} 카운터 - 태그: {@code code}, {@code exception}</li>
+ *   <li>{@code nsso.response.cache} 카운터 - 태그: {@code cache}, {@code event}</li>
+ *   <li>{@code nsso.agent.circuit} 카운터 - 회로 상태 변경 횟수, 태그: {@code operation}, {@code state}</li>
+ *   <li>{@link #gauge(String, Object, ToDoubleFunction)}로 등록된 게이지</li>
+ * </ul>
+ *
+ * <p>같은 태그 조합의 지표는 한 번만 생성하여 재사용합니다.</p>
+ *
+ * <p>이 클래스를 사용하려면 {@code io.micrometer:micrometer-core}가 클래스패스에 있어야 합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoMetrics
+ * @since 0.0.1
+ */
+public class NetsSsoMicrometerMetrics implements NetsSsoMetrics {
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Timer> endpointTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> agentCallTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> failureCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> cacheCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> circuitCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param registry 지표 레지스트리
+     */
+    public NetsSsoMicrometerMetrics(MeterRegistry registry) {
+        Assert.notNull(registry, "registry must not be null");
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordEndpoint(String endpoint, int status, long durationNanos) {
+        endpointTimers.computeIfAbsent(endpoint + ':' + status, key -> Timer.builder("nsso.endpoint")
+                        .description("NSSO endpoint processing time")
+                        .tag("endpoint", endpoint)
+                        .tag("status", Integer.toString(status))
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAgentCall(String operation, boolean success, long durationNanos) {
+        String outcome = success ? "success" : "failure";
+        agentCallTimers.computeIfAbsent(operation + ':' + outcome, key -> Timer.builder("nsso.agent.call")
+                        .description("NSSO agent call time")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordFailure(String code, Class<?> exception) {
+        failureCounters.computeIfAbsent(code, key -> Counter.builder("nsso.authentication.failures")
+                        .description("NSSO authentication failures by SSO error code")
+                        .tag("code", code)
+                        .tag("exception", exception.getSimpleName())
+                        .register(registry))
+                .increment();
+    }
+
+    @Override
+    public void recordCacheEvent(String cache, String event) {
+        cacheCounters.computeIfAbsent(cache + ':' + event, key -> Counter.builder("nsso.response.cache")
+                        .description("NSSO response cache events")
+                        .tag("cache", cache)
+                        .tag("event", event)
+                        .register(registry))
+                .increment();
+    }
+
+    @Override
+    public void recordCircuitStateChange(String operation, String state) {
+        circuitCounters.computeIfAbsent(operation + ':' + state, key -> Counter.builder("nsso.agent.circuit")
+                        .description("NSSO agent circuit breaker state changes")
+                        .tag("operation", operation)
+                        .tag("state", state)
+                        .register(registry))
+                .increment();
+    }
+
+    @Override
+    public <T> void gauge(String name, T obj, ToDoubleFunction<T> value) {
+        Gauge.builder(name, obj, value).strongReference(true).register(registry);
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoCacheStats;
+import io.github.carped99.nsso.NetsSsoCachedPrincipal;
+import io.github.carped99.nsso.NetsSsoInvalidationChannel;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 근거리 캐시를 갖는 클러스터 NSSO 인증 결과 캐시
+ *
+ * <p>여러 노드가 공유하는 인증 결과 캐시 앞에 노드별 메모리 캐시를 둡니다.
+ * 한 노드에서 인증한 세션은 공유 캐시를 통해 다른 노드에서도 SSO 에이전트 호출 없이 처리되고,
+ * 한 번 조회한 뒤로는 근거리 캐시에서 네트워크 왕복 없이 처리됩니다.</p>
+ *
+ * <p>제거({@link #evict(String)}, {@link #clear()})는 공유 캐시에 반영한 뒤 {@link NetsSsoInvalidationChannel}로
+ * 발행하므로, 로그아웃한 세션은 메시지 전달 즉시 모든 노드의 근거리 캐시에서 사라집니다.
+ * 메시지가 유실되더라도 근거리 캐시의 항목은 {@link #setNearTimeToLive(Duration)} 이후 공유 캐시에서 다시 읽습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * NetsSsoPrincipalCache shared = new NetsSsoSpringCachePrincipalCache(cacheManager.getCache("nsso-principals"));
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .principalCache(new NetsSsoNearPrincipalCache(shared, invalidationChannel, 10_000))
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoSpringCachePrincipalCache
+ * @see NetsSsoInvalidationChannel
+ * @since 0.0.1
+ */
+public class NetsSsoNearPrincipalCache implements NetsSsoPrincipalCache {
+    private final NetsSsoPrincipalCache shared;
+    private final NetsSsoInvalidationChannel channel;
+    private final LocalCache<String, NetsSsoCachedPrincipal> near;
+    private final Clock clock;
+    private final LongAdder sharedHitCount = new LongAdder();
+    private final LongAdder sharedMissCount = new LongAdder();
+    private Duration nearTimeToLive = Duration.ofSeconds(30);
+
+    /**
+     * 클러스터 인증 결과 캐시를 생성합니다.
+     *
+     * @param shared          여러 노드가 공유하는 인증 결과 캐시
+     * @param channel         무효화 채널
+     * @param nearMaximumSize 근거리 캐시 최대 항목 수
+     */
+    public NetsSsoNearPrincipalCache(NetsSsoPrincipalCache shared, NetsSsoInvalidationChannel channel, int nearMaximumSize) {
+        this(shared, channel, nearMaximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * 주어진 시계로 클러스터 인증 결과 캐시를 생성합니다.
+     *
+     * @param shared          여러 노드가 공유하는 인증 결과 캐시
+     * @param channel         무효화 채널
+     * @param nearMaximumSize 근거리 캐시 최대 항목 수
+     * @param clock           만료 시각 계산에 사용할 시계
+     */
+    public NetsSsoNearPrincipalCache(NetsSsoPrincipalCache shared, NetsSsoInvalidationChannel channel, int nearMaximumSize, Clock clock) {
+        Assert.notNull(shared, "shared must not be null");
+        Assert.notNull(channel, "channel must not be null");
+        Assert.notNull(clock, "clock must not be null");
+        this.shared = shared;
+        this.channel = channel;
+        this.near = new LocalCache<>(nearMaximumSize);
+        this.clock = clock;
+
+        channel.subscribe(new NetsSsoInvalidationChannel.Listener() {
+            @Override
+            public void onEvict(String key) {
+                near.invalidate(key);
+            }
+
+            @Override
+            public void onClear() {
+                near.invalidateAll();
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public NetsSsoCachedPrincipal get(String key) {
+        NetsSsoCachedPrincipal principal = near.get(key);
+        if (principal != null) {
+            if (!principal.isExpired(clock.instant())) {
+                return principal;
+            }
+            near.invalidate(key);
+        }
+
+        principal = shared.get(key);
+        if (principal == null) {
+            sharedMissCount.increment();
+            return null;
+        }
+        sharedHitCount.increment();
+        putNear(key, principal);
+        return principal;
+    }
+
+    /**
+     * 캐시된 인증 결과를 부수 효과 없이 조회합니다.
+     *
+     * <p>근거리 캐시에 없으면 공유 캐시를 확인하지만, 읽은 결과를 근거리 캐시에 저장하지 않습니다.</p>
+     *
+     * @param key SSO 세션 키
+     * @return 캐시된 인증 결과 (없거나 만료되었으면 null)
+     */
+    @Nullable
+    @Override
+    public NetsSsoCachedPrincipal peek(String key) {
+        NetsSsoCachedPrincipal principal = near.peek(key);
+        if (principal != null && !principal.isExpired(clock.instant())) {
+            return principal;
+        }
+        return shared.peek(key);
+    }
+
+    @Override
+    public void put(String key, NetsSsoCachedPrincipal principal) {
+        shared.put(key, principal);
+        putNear(key, principal);
+    }
+
+    @Override
+    public void evict(String key) {
+        near.invalidate(key);
+        try {
+            shared.evict(key);
+        } finally {
+            channel.publishEvict(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        near.invalidateAll();
+        try {
+            shared.clear();
+        } finally {
+            channel.publishClear();
+        }
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * <p>근거리 캐시 적중과 공유 캐시 적중을 합한 값을 적중 횟수로, 두 캐시 모두 실패한 횟수를 실패 횟수로 집계합니다.</p>
+     *
+     * @return 캐시 통계
+     */
+    @Override
+    public NetsSsoCacheStats getStats() {
+        NetsSsoCacheStats nearStats = near.stats();
+        return new NetsSsoCacheStats(nearStats.getHitCount() + sharedHitCount.sum(), sharedMissCount.sum(),
+                nearStats.getEvictionCount(), nearStats.getSize());
+    }
+
+    /**
+     * 근거리 캐시 유지 시간을 설정합니다. 기본값은 30초입니다.
+     *
+     * <p>무효화 메시지가 유실되었을 때 다른 노드의 변경이 반영되기까지 걸리는 최대 시간입니다.</p>
+     *
+     * @param nearTimeToLive 근거리 캐시 유지 시간
+     */
+    public void setNearTimeToLive(Duration nearTimeToLive) {
+        Assert.notNull(nearTimeToLive, "nearTimeToLive must not be null");
+        Assert.isTrue(!nearTimeToLive.isNegative() && !nearTimeToLive.isZero(), "nearTimeToLive must be positive");
+        this.nearTimeToLive = nearTimeToLive;
+    }
+
+    private void putNear(String key, NetsSsoCachedPrincipal principal) {
+        Duration timeToLive = Duration.between(clock.instant(), principal.getExpiresAt());
+        if (timeToLive.compareTo(nearTimeToLive) > 0) {
+            timeToLive = nearTimeToLive;
+        }
+        near.put(key, principal, timeToLive.toNanos());
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer Observation 기반 NSSO 인증 단계 관찰 구현체
+ *
+ * <p>단계마다 {@code nsso.stage} 관찰을 만들고 범위(scope)를 열어 두므로,
+ * 같은 스레드에서 이어지는 단계는 바깥 단계의 하위 구간이 됩니다.
+ * Micrometer Tracing(OpenTelemetry, Brave)을 연결하면 추적 구간으로, 타이머 처리기를 연결하면 지표로 보고됩니다.</p>
+ *
+ * <p>태그(모두 low cardinality):</p>
+ * <ul>
+ *   <li>{@code nsso.stage} - 단계 이름</li>
+ *   <li>{@code nsso.endpoint} - 엔드포인트 이름</li>
+ *   <li>{@code nsso.status} - SSO 상태 코드 (에이전트 호출 단계)</li>
+ * </ul>
+ *
+ * <p>레지스트리가 비어 있으면({@link ObservationRegistry#isNoop()}) 아무것도 만들지 않습니다.</p>
+ *
+ * <pre>{@code
+ * sso.observer(new NetsSsoObservationObserver(observationRegistry))
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoObserver
+ * @since 0.0.1
+ */
+public class NetsSsoObservationObserver implements NetsSsoObserver {
+    /**
+     * 관찰 이름
+     */
+    public static final String NAME = "nsso.stage";
+
+    private final ObservationRegistry registry;
+
+    /**
+     * 생성자
+     *
+     * @param registry 관찰 레지스트리
+     */
+    public NetsSsoObservationObserver(ObservationRegistry registry) {
+        Assert.notNull(registry, "registry must not be null");
+        this.registry = registry;
+    }
+
+    @Override
+    public Stage start(String stage, String endpoint) {
+        if (registry.isNoop()) {
+            return Stage.NOOP;
+        }
+        Observation observation = Observation.createNotStarted(NAME, registry)
+                .contextualName("nsso " + stage)
+                .lowCardinalityKeyValue("nsso.stage", stage)
+                .lowCardinalityKeyValue("nsso.endpoint", endpoint)
+                .start();
+        return new ObservationStage(observation, observation.openScope());
+    }
+
+    private record ObservationStage(Observation observation, Observation.Scope scope) implements Stage {
+        @Override
+        public Stage tag(String key, String value) {
+            observation.lowCardinalityKeyValue(key, value);
+            return this;
+        }
+
+        @Override
+        public void error(Throwable error) {
+            observation.error(error);
+        }
+
+        @Override
+        public void stop() {
+            scope.close();
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAgentService;
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+
+/**
+ * SSO 에이전트 호출 보호 설정
+ *
+ * <p>SSO 에이전트가 멈추면 {@code SSOAuthn} 호출이 에이전트 라이브러리의 제한 시간까지 요청 스레드를 붙잡습니다.
+ * 이 클래스는 작업({@link #CHECK}, {@link #CONFIG}, {@link #DUPLICATION}, {@link #TFA}, {@link #KEY},
+ * {@link #AUTHENTICATE}, {@link #LOGOUT})별로 {@link NetsSsoCallGuard}를 만들어 다음을 적용합니다.</p>
+ * <ul>
+ *   <li>동시 호출 수 제한(격벽) - 가득 차면 오류 코드 {@value #BULKHEAD_FULL_CODE}로 즉시 실패</li>
+ *   <li>호출 기한(선택) - {@link #executor(ExecutorService)}에서 호출하고, 기한을 넘기면 회로 차단기에 실패를 바로 기록하고 호출을 중단한 뒤
+ *       {@value NetsSsoExecutorAuthenticationService#TIMEOUT_CODE}로 실패</li>
+ *   <li>호출 횟수 기반 회로 차단기 - 열리면 오류 코드 {@value #CIRCUIT_OPEN_CODE}로 즉시 실패</li>
+ *   <li>저하 모드({@link #degraded(Duration, int)}) - 에이전트를 사용할 수 없는 동안 최근 검증된 인증 결과로 응답</li>
+ * </ul>
+ *
+ * <p>요청 스레드 고갈은 격벽이 막습니다. 호출 기한은 멈춘 호출을 일찍 실패로 기록하고 중단하지만,
+ * 호출이 요청과 응답을 사용하므로 요청 스레드는 중단한 호출이 끝날 때까지 기다립니다.</p>
+ *
+ * <p>회로 상태 변경은 {@link NetsSsoMetrics#recordCircuitStateChange(String, String)}로 보고합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .resilience(resilience -> resilience
+ *         .executor(Executors.newFixedThreadPool(128))
+ *         .defaults(policy -> policy.setMaxConcurrentCalls(64).setDeadline(Duration.ofSeconds(3)))
+ *         .operation(NetsSsoResilience.KEY, policy -> policy.setMaxConcurrentCalls(4))
+ *         .degraded(Duration.ofMinutes(5), 10_000)
+ *     )
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoCallGuard
+ * @see NetsSsoCircuitBreaker
+ * @since 0.0.1
+ */
+public class NetsSsoResilience {
+    /**
+     * 회로가 열려 호출하지 않은 경우의 오류 코드
+     */
+    public static final String CIRCUIT_OPEN_CODE = "50000004";
+
+    /**
+     * 동시 호출 수 제한으로 호출하지 않은 경우의 오류 코드
+     */
+    public static final String BULKHEAD_FULL_CODE = "50000005";
+
+    /**
+     * SSO 세션 확인 작업
+     */
+    public static final String CHECK = "check";
+
+    /**
+     * 설정 정보 조회 작업
+     */
+    public static final String CONFIG = "config";
+
+    /**
+     * 중복 로그인 확인 작업
+     */
+    public static final String DUPLICATION = "duplication";
+
+    /**
+     * 2차 인증 작업
+     */
+    public static final String TFA = "tfa";
+
+    /**
+     * 공개키 조회 작업
+     */
+    public static final String KEY = "key";
+
+    /**
+     * 로그인 인증 작업
+     */
+    public static final String AUTHENTICATE = "authenticate";
+
+    /**
+     * 로그아웃 작업
+     */
+    public static final String LOGOUT = "logout";
+
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final Policy defaults = new Policy();
+    private final Map<String, Customizer<Policy>> operationCustomizers = new ConcurrentHashMap<>();
+    private final Map<String, NetsSsoCallGuard> guards = new ConcurrentHashMap<>();
+    @Nullable
+    private ExecutorService executor;
+    @Nullable
+    private NetsSsoPrincipalCache staleCache;
+    @Nullable
+    private Duration staleTimeToLive;
+    private NetsSsoMetrics metrics = NetsSsoMetrics.NOOP;
+
+    /**
+     * 모든 작업에 적용할 기본 정책을 변경합니다.
+     *
+     * @param customizer 정책 커스터마이저
+     * @return 현재 인스턴스
+     */
+    public NetsSsoResilience defaults(Customizer<Policy> customizer) {
+        Assert.notNull(customizer, "customizer must not be null");
+        customizer.customize(this.defaults);
+        return this;
+    }
+
+    /**
+     * 특정 작업의 정책을 변경합니다. 기본 정책을 복사한 뒤 커스터마이저를 적용합니다.
+     *
+     * @param operation  작업 이름
+     * @param customizer 정책 커스터마이저
+     * @return 현재 인스턴스
+     */
+    public NetsSsoResilience operation(String operation, Customizer<Policy> customizer) {
+        Assert.hasText(operation, "operation must not be empty");
+        Assert.notNull(customizer, "customizer must not be null");
+        this.operationCustomizers.merge(operation, customizer, (previous, next) -> policy -> {
+            previous.customize(policy);
+            next.customize(policy);
+        });
+        return this;
+    }
+
+    /**
+     * 호출 기한에 사용할 실행기를 설정합니다. 호출 기한을 설정한 정책이 있으면 반드시 설정해야 합니다.
+     *
+     * <p>기한이 있는 작업의 에이전트 호출을 이 실행기에서 수행하고, 기한을 넘기면 회로 차단기에 실패를 바로 기록하고 호출을 중단(interrupt)합니다.
+     * 호출이 요청과 응답을 사용하므로 요청 스레드는 호출이 실제로 끝난 뒤에 실패를 반환합니다.
+     * 격벽 자리는 실제 호출이 끝날 때 반납하므로, 실행기는 격벽 크기의 합보다 작지 않게 구성합니다.
+     * 비동기 처리({@code async})의 실행기와 공유하면 실행기 스레드가 같은 실행기를 기다릴 수 있으므로 별도 실행기를 사용합니다.</p>
+     *
+     * @param executor 에이전트 호출 실행기
+     * @return 현재 인스턴스
+     */
+    public NetsSsoResilience executor(ExecutorService executor) {
+        Assert.notNull(executor, "executor must not be null");
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * JVM 내부 메모리를 사용하는 저하 모드를 활성화합니다.
+     *
+     * @param staleTimeToLive 마지막 성공 후 보관된 인증 결과를 사용할 수 있는 시간
+     * @param maximumSize     보관할 최대 SSO 세션 수
+     * @return 현재 인스턴스
+     * @see #degraded(Duration, NetsSsoPrincipalCache)
+     */
+    public NetsSsoResilience degraded(Duration staleTimeToLive, int maximumSize) {
+        return degraded(staleTimeToLive, new NetsSsoLocalPrincipalCache(maximumSize));
+    }
+
+    /**
+     * 저하 모드를 활성화합니다.
+     *
+     * <p>토큰 엔드포인트와 로그인 엔드포인트에서 인증에 성공한 결과를 SSO 세션별로 보관해 두고, 회로가 열렸거나 격벽이 가득 찼거나 기한을 넘겨
+     * 에이전트를 사용할 수 없을 때 보관된 결과로 응답합니다. 로그아웃하거나 에이전트가 세션을 거부하면 제거합니다.</p>
+     *
+     * @param staleTimeToLive 마지막 성공 후 보관된 인증 결과를 사용할 수 있는 시간
+     * @param staleCache      인증 결과 보관소
+     * @return 현재 인스턴스
+     */
+    public NetsSsoResilience degraded(Duration staleTimeToLive, NetsSsoPrincipalCache staleCache) {
+        Assert.notNull(staleTimeToLive, "staleTimeToLive must not be null");
+        Assert.isTrue(!staleTimeToLive.isNegative() && !staleTimeToLive.isZero(), "staleTimeToLive must be positive");
+        Assert.notNull(staleCache, "staleCache must not be null");
+        this.staleTimeToLive = staleTimeToLive;
+        this.staleCache = staleCache;
+        return this;
+    }
+
+    /**
+     * 지표 수집기를 설정합니다. 작업별 보호기를 만들기 전에 설정해야 합니다.
+     *
+     * @param metrics 지표 수집기
+     * @return 현재 인스턴스
+     */
+    public NetsSsoResilience setMetrics(NetsSsoMetrics metrics) {
+        Assert.notNull(metrics, "metrics must not be null");
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * 작업의 호출 보호기를 반환합니다. 처음 요청할 때 작업 정책으로 생성합니다.
+     *
+     * @param operation 작업 이름
+     * @return 호출 보호기
+     */
+    public NetsSsoCallGuard guard(String operation) {
+        return this.guards.computeIfAbsent(operation, this::createGuard);
+    }
+
+    /**
+     * 에이전트 서비스의 모든 작업에 호출 보호를 적용합니다.
+     *
+     * @param agentService 에이전트 서비스
+     * @return 보호된 에이전트 서비스
+     */
+    public NetsSsoAgentService decorate(NetsSsoAgentService agentService) {
+        Assert.notNull(agentService, "agentService must not be null");
+        return new GuardedAgentService(agentService, guard(CHECK), guard(CONFIG), guard(DUPLICATION), guard(TFA), guard(KEY));
+    }
+
+    /**
+     * 인증 서비스에 호출 보호와 저하 모드를 적용합니다.
+     *
+     * @param authenticationService 인증 서비스
+     * @return 보호된 인증 서비스
+     */
+    public NetsSsoResilientAuthenticationService decorate(NetsSsoAuthenticationService authenticationService) {
+        Assert.notNull(authenticationService, "authenticationService must not be null");
+        var service = new NetsSsoResilientAuthenticationService(authenticationService, guard(AUTHENTICATE));
+        service.setMetrics(this.metrics);
+        if (this.staleCache != null) {
+            service.setStaleCache(this.staleCache, this.staleTimeToLive);
+        }
+        return service;
+    }
+
+    /**
+     * 로그아웃 핸들러에 호출 보호를 적용합니다.
+     *
+     * <p>에이전트를 사용할 수 없어 호출하지 못한 경우 기록만 하고 나머지 로그아웃 처리를 계속합니다.</p>
+     *
+     * @param logoutHandler 로그아웃 핸들러
+     * @return 보호된 로그아웃 핸들러
+     */
+    public LogoutHandler decorate(LogoutHandler logoutHandler) {
+        Assert.notNull(logoutHandler, "logoutHandler must not be null");
+        NetsSsoCallGuard guard = guard(LOGOUT);
+        return (request, response, authentication) -> {
+            try {
+                guard.call(() -> {
+                    logoutHandler.logout(request, response, authentication);
+                    return null;
+                });
+            } catch (NetsSsoAuthenticationException e) {
+                if (!isUnavailable(e)) {
+                    throw e;
+                }
+                log.warn("NSSO agent logout skipped (" + e.getCode() + "): " + e.getMessage());
+            }
+        };
+    }
+
+    private NetsSsoCallGuard createGuard(String operation) {
+        Policy policy = this.defaults.copy();
+        Customizer<Policy> customizer = this.operationCustomizers.get(operation);
+        if (customizer != null) {
+            customizer.customize(policy);
+        }
+        return new NetsSsoCallGuard(operation, policy, this.executor, this.metrics);
+    }
+
+    private static boolean isUnavailable(NetsSsoAuthenticationException e) {
+        String code = e.getCode();
+        return CIRCUIT_OPEN_CODE.equals(code) || BULKHEAD_FULL_CODE.equals(code)
+                || NetsSsoExecutorAuthenticationService.TIMEOUT_CODE.equals(code)
+                || NetsSsoExecutorAuthenticationService.REJECTED_CODE.equals(code);
+    }
+
+    /**
+     * 작업별 보호 정책
+     *
+     * <p>기본값:</p>
+     * <ul>
+     *   <li>최대 동시 호출 수 32, 자리 대기 없음</li>
+     *   <li>호출 기한 없음</li>
+     *   <li>최근 50회 중 20회 이상 호출했고 실패율이 50% 이상이면 30초 동안 열림, 반열림 시험 호출 5회</li>
+     *   <li>실패로 기록하는 예외 - {@link AuthenticationException}이 아닌 예외와 {@link AuthenticationServiceException}</li>
+     * </ul>
+     */
+    public static class Policy {
+        private int maxConcurrentCalls = 32;
+        private Duration maxWait = Duration.ZERO;
+        @Nullable
+        private Duration deadline;
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+        private Predicate<Throwable> recordFailure = e -> !(e instanceof AuthenticationException) || e instanceof AuthenticationServiceException;
+
+        /**
+         * 최대 동시 호출 수를 설정합니다.
+         *
+         * @param maxConcurrentCalls 최대 동시 호출 수
+         * @return 현재 정책
+         */
+        public Policy setMaxConcurrentCalls(int maxConcurrentCalls) {
+            Assert.isTrue(maxConcurrentCalls > 0, "maxConcurrentCalls must be greater than 0");
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            return this;
+        }
+
+        /**
+         * 격벽 자리를 기다릴 최대 시간을 설정합니다.
+         *
+         * @param maxWait 최대 대기 시간 (0이면 기다리지 않음)
+         * @return 현재 정책
+         */
+        public Policy setMaxWait(Duration maxWait) {
+            Assert.isTrue(maxWait != null && !maxWait.isNegative(), "maxWait must not be negative");
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * 호출 기한을 설정합니다. 기한을 설정하면 {@link NetsSsoResilience#executor(ExecutorService)}도 설정해야 합니다.
+         *
+         * @param deadline 호출 기한 (null이면 기한 없음)
+         * @return 현재 정책
+         */
+        public Policy setDeadline(@Nullable Duration deadline) {
+            Assert.isTrue(deadline == null || (!deadline.isNegative() && !deadline.isZero()), "deadline must be positive");
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * 회로 차단기의 슬라이딩 윈도 크기와 최소 호출 수를 설정합니다.
+         *
+         * @param slidingWindowSize 결과를 기록할 최근 호출 수
+         * @param minimumCalls      실패율을 계산하기 위한 최소 호출 수
+         * @return 현재 정책
+         */
+        public Policy setSlidingWindow(int slidingWindowSize, int minimumCalls) {
+            Assert.isTrue(slidingWindowSize > 0, "slidingWindowSize must be greater than 0");
+            Assert.isTrue(minimumCalls > 0 && minimumCalls <= slidingWindowSize, "minimumCalls must be between 1 and slidingWindowSize");
+            this.slidingWindowSize = slidingWindowSize;
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * 회로를 여는 실패율을 설정합니다.
+         *
+         * @param failureRateThreshold 실패율 (0.0 초과 1.0 이하)
+         * @return 현재 정책
+         */
+        public Policy setFailureRateThreshold(double failureRateThreshold) {
+            Assert.isTrue(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0, "failureRateThreshold must be in (0.0, 1.0]");
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * 회로가 열린 상태를 유지할 시간을 설정합니다.
+         *
+         * @param openDuration 열린 상태 유지 시간
+         * @return 현재 정책
+         */
+        public Policy setOpenDuration(Duration openDuration) {
+            Assert.isTrue(openDuration != null && !openDuration.isNegative() && !openDuration.isZero(), "openDuration must be positive");
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * 반열림 상태에서 허용할 시험 호출 수를 설정합니다.
+         *
+         * @param halfOpenCalls 시험 호출 수
+         * @return 현재 정책
+         */
+        public Policy setHalfOpenCalls(int halfOpenCalls) {
+            Assert.isTrue(halfOpenCalls > 0, "halfOpenCalls must be greater than 0");
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * 회로 차단기에 실패로 기록할 예외 조건을 설정합니다.
+         *
+         * @param recordFailure 실패 조건
+         * @return 현재 정책
+         */
+        public Policy setRecordFailure(Predicate<Throwable> recordFailure) {
+            Assert.notNull(recordFailure, "recordFailure must not be null");
+            this.recordFailure = recordFailure;
+            return this;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        @Nullable
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public Predicate<Throwable> getRecordFailure() {
+            return recordFailure;
+        }
+
+        Policy copy() {
+            Policy copy = new Policy();
+            copy.maxConcurrentCalls = this.maxConcurrentCalls;
+            copy.maxWait = this.maxWait;
+            copy.deadline = this.deadline;
+            copy.slidingWindowSize = this.slidingWindowSize;
+            copy.minimumCalls = this.minimumCalls;
+            copy.failureRateThreshold = this.failureRateThreshold;
+            copy.openDuration = this.openDuration;
+            copy.halfOpenCalls = this.halfOpenCalls;
+            copy.recordFailure = this.recordFailure;
+            return copy;
+        }
+    }
+
+    private record GuardedAgentService(NetsSsoAgentService delegate, NetsSsoCallGuard check, NetsSsoCallGuard config,
+                                       NetsSsoCallGuard duplicate, NetsSsoCallGuard tfa, NetsSsoCallGuard key) implements NetsSsoAgentService {
+        @Override
+        public String check(HttpServletRequest request, HttpServletResponse response) {
+            return check.call(() -> delegate.check(request, response));
+        }
+
+        @Override
+        public String config(HttpServletRequest request, HttpServletResponse response) {
+            return config.call(() -> delegate.config(request, response));
+        }
+
+        @Override
+        public String duplicate(HttpServletRequest request, HttpServletResponse response) {
+            return duplicate.call(() -> delegate.duplicate(request, response));
+        }
+
+        @Override
+        public String key(HttpServletRequest request, HttpServletResponse response) {
+            return key.call(() -> delegate.key(request, response));
+        }
+
+        @Override
+        public byte[] tfa(HttpServletRequest request, HttpServletResponse response) {
+            return tfa.call(() -> delegate.tfa(request, response));
+        }
+    }
+}
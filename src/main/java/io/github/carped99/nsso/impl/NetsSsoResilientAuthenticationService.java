@@ -0,0 +1,168 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoCachedPrincipal;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import io.github.carped99.nsso.NetsSsoSessionKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * SSO 에이전트 장애에 대비한 NSSO 인증 서비스
+ *
+ * <p>이 클래스는 다른 {@link NetsSsoAuthenticationService}를 감싸서 {@link NetsSsoCallGuard}의 회로 차단기, 격벽, 기한을 적용합니다.</p>
+ *
+ * <p>저하 모드({@link #setStaleCache(NetsSsoPrincipalCache, Duration)})를 설정하면 성공한 인증 결과를 세션 키별로 보관해 두고,
+ * 회로가 열렸거나 격벽이 가득 찼거나 기한을 넘겨 에이전트를 사용할 수 없을 때 보관된 결과로 응답합니다.
+ * 에이전트가 세션을 거부하거나 로그아웃하면 보관된 결과를 제거합니다.</p>
+ *
+ * @author carped99
+ * @see NetsSsoResilience
+ * @since 0.0.1
+ */
+public class NetsSsoResilientAuthenticationService implements NetsSsoAuthenticationService {
+    private static final Set<String> UNAVAILABLE_CODES = Set.of(
+            NetsSsoResilience.CIRCUIT_OPEN_CODE,
+            NetsSsoResilience.BULKHEAD_FULL_CODE,
+            NetsSsoExecutorAuthenticationService.TIMEOUT_CODE,
+            NetsSsoExecutorAuthenticationService.REJECTED_CODE);
+
+    private final Log log = LogFactory.getLog(getClass());
+
+    private final NetsSsoAuthenticationService delegate;
+    private final NetsSsoCallGuard guard;
+    private NetsSsoSessionKeyResolver keyResolver = NetsSsoSessionKeyResolver.cookies();
+    private NetsSsoMetrics metrics = NetsSsoMetrics.NOOP;
+    private Clock clock = Clock.systemUTC();
+    @Nullable
+    private NetsSsoPrincipalCache staleCache;
+    private Duration staleTimeToLive = Duration.ZERO;
+
+    /**
+     * 생성자
+     *
+     * @param delegate 실제 인증을 수행할 서비스
+     * @param guard    호출 보호기
+     */
+    public NetsSsoResilientAuthenticationService(NetsSsoAuthenticationService delegate, NetsSsoCallGuard guard) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(guard, "guard must not be null");
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public Authentication authenticate(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        String key = staleCache != null ? keyResolver.resolve(request) : null;
+        Authentication authenticated;
+        try {
+            authenticated = guard.call(() -> delegate.authenticate(request, response));
+        } catch (NetsSsoAuthenticationException e) {
+            if (key != null && UNAVAILABLE_CODES.contains(e.getCode())) {
+                NetsSsoCachedPrincipal stale = staleCache.get(key);
+                if (stale != null) {
+                    log.debug("NSSO agent unavailable (" + e.getCode() + "), serving recently validated authentication");
+                    metrics.recordCacheEvent("stale-principal", "hit");
+                    return stale.getAuthentication();
+                }
+                metrics.recordCacheEvent("stale-principal", "miss");
+            } else if (key != null) {
+                staleCache.evict(key);
+            }
+            throw e;
+        } catch (AuthenticationException e) {
+            if (key != null) {
+                staleCache.evict(key);
+            }
+            throw e;
+        }
+
+        if (key != null) {
+            Instant now = clock.instant();
+            staleCache.put(key, new NetsSsoCachedPrincipal(authenticated, now, now.plus(staleTimeToLive)));
+        }
+        return authenticated;
+    }
+
+    /**
+     * 요청의 SSO 세션에 해당하는 보관된 인증 결과를 제거합니다.
+     *
+     * @param request HTTP 요청
+     */
+    public void evict(HttpServletRequest request) {
+        if (staleCache == null) {
+            return;
+        }
+        String key = keyResolver.resolve(request);
+        if (key != null) {
+            staleCache.evict(key);
+        }
+    }
+
+    /**
+     * 저하 모드에서 사용할 인증 결과 보관소를 설정합니다.
+     *
+     * @param staleCache      인증 결과 보관소
+     * @param staleTimeToLive 마지막 성공 후 보관된 결과를 사용할 수 있는 시간
+     */
+    public void setStaleCache(NetsSsoPrincipalCache staleCache, Duration staleTimeToLive) {
+        Assert.notNull(staleCache, "staleCache must not be null");
+        Assert.isTrue(staleTimeToLive != null && !staleTimeToLive.isNegative() && !staleTimeToLive.isZero(), "staleTimeToLive must be positive");
+        this.staleCache = staleCache;
+        this.staleTimeToLive = staleTimeToLive;
+    }
+
+    /**
+     * 저하 모드의 인증 결과 보관소를 반환합니다.
+     *
+     * @return 인증 결과 보관소 (저하 모드가 아니면 null)
+     */
+    @Nullable
+    public NetsSsoPrincipalCache getStaleCache() {
+        return staleCache;
+    }
+
+    /**
+     * SSO 세션 키 추출기를 설정합니다.
+     * 기본값은 {@link NetsSsoSessionKeyResolver#cookies()}입니다.
+     *
+     * @param keyResolver SSO 세션 키 추출기
+     */
+    public void setKeyResolver(NetsSsoSessionKeyResolver keyResolver) {
+        Assert.notNull(keyResolver, "keyResolver must not be null");
+        this.keyResolver = keyResolver;
+    }
+
+    /**
+     * 지표 수집기를 설정합니다.
+     *
+     * @param metrics 지표 수집기
+     */
+    public void setMetrics(NetsSsoMetrics metrics) {
+        Assert.notNull(metrics, "metrics must not be null");
+        this.metrics = metrics;
+    }
+
+    /**
+     * 만료 시각 계산에 사용할 시계를 설정합니다.
+     *
+     * @param clock 시계
+     */
+    public void setClock(Clock clock) {
+        Assert.notNull(clock, "clock must not be null");
+        this.clock = clock;
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoSessionKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 같은 SSO 세션의 동시 인증을 하나로 합치는 NSSO 인증 서비스
+ *
+ * <p>SPA가 여러 탭에서 같은 세션 쿠키로 동시에 인증 요청을 보내면,
+ * 첫 번째 요청만 SSO 에이전트를 호출하고 나머지 요청은 그 결과(또는 인증 실패)를 공유합니다.</p>
+ *
+ * <p>세션 키를 추출할 수 없는 요청(로그인 요청 등)은 합치지 않고 그대로 위임합니다.
+ * 결과를 공유받은 요청의 응답에는 SSO 에이전트가 설정하는 쿠키가 추가되지 않으며,
+ * 같은 브라우저의 첫 번째 요청 응답으로 전달됩니다.</p>
+ *
+ * <p>결과를 기다리는 요청은 기한({@link #setTimeout(Duration)})까지만 기다리고, 기한을 넘기면 오류 코드
+ * {@value NetsSsoExecutorAuthenticationService#TIMEOUT_CODE}로 실패합니다.
+ * 첫 번째 요청의 에이전트 호출 기한과 같게 설정하면 뒤따른 요청이 첫 번째 요청보다 오래 기다리지 않습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * http.with(NetsSsoAuthenticationConfigurer.ssoConfigurer(), sso -> sso
+ *     .singleFlight(true)
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoCachingAuthenticationService
+ * @since 0.0.1
+ */
+public class NetsSsoSingleFlightAuthenticationService implements NetsSsoAuthenticationService {
+    private final NetsSsoAuthenticationService delegate;
+    private final SingleFlight<String, Authentication> singleFlight = new SingleFlight<>();
+    private NetsSsoSessionKeyResolver keyResolver = NetsSsoSessionKeyResolver.cookies();
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * 생성자
+     *
+     * @param delegate 실제 인증을 수행할 서비스
+     */
+    public NetsSsoSingleFlightAuthenticationService(NetsSsoAuthenticationService delegate) {
+        Assert.notNull(delegate, "delegate must not be null");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Authentication authenticate(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        String key = keyResolver.resolve(request);
+        if (key == null) {
+            return delegate.authenticate(request, response);
+        }
+        return singleFlight.execute(key, () -> delegate.authenticate(request, response), timeout,
+                () -> new NetsSsoAuthenticationException(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE,
+                        "NSSO authentication in flight did not complete within " + timeout.toMillis() + "ms"));
+    }
+
+    /**
+     * 진행 중인 인증 수를 반환합니다.
+     *
+     * @return 진행 중인 인증 수
+     */
+    public int getInFlightCount() {
+        return singleFlight.inFlight();
+    }
+
+    /**
+     * SSO 세션 키 추출기를 설정합니다.
+     * 기본값은 {@link NetsSsoSessionKeyResolver#cookies()}입니다.
+     *
+     * @param keyResolver SSO 세션 키 추출기
+     */
+    public void setKeyResolver(NetsSsoSessionKeyResolver keyResolver) {
+        Assert.notNull(keyResolver, "keyResolver must not be null");
+        this.keyResolver = keyResolver;
+    }
+
+    /**
+     * 진행 중인 인증의 결과를 기다릴 기한을 설정합니다. 기본값은 30초입니다.
+     *
+     * @param timeout 결과를 기다릴 기한
+     */
+    public void setTimeout(Duration timeout) {
+        Assert.notNull(timeout, "timeout must not be null");
+        Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoCacheStats;
+import io.github.carped99.nsso.NetsSsoCachedPrincipal;
+import io.github.carped99.nsso.NetsSsoPrincipalCache;
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spring {@link Cache}를 사용하는 NSSO 인증 결과 캐시
+ *
+ * <p>Redis, Hazelcast 등 Spring 캐시 추상화를 지원하는 저장소를 여러 노드가 공유하는 캐시로 사용합니다.
+ * 만료 여부는 조회 시 {@link NetsSsoCachedPrincipal#getExpiresAt()}으로 확인하므로,
+ * 저장소의 항목 유지 시간은 인증 결과 캐시 유지 시간 이상으로 설정해야 합니다.
+ * 저장소가 값을 직렬화한다면 인증 객체와 사용자 정보도 직렬화할 수 있어야 합니다.</p>
+ *
+ * <p>보통 {@link NetsSsoNearPrincipalCache}의 공유 저장소로 사용합니다.</p>
+ * <pre>{@code
+ * Cache shared = redisCacheManager.getCache("nsso-principals");
+ * sso.principalCache(new NetsSsoNearPrincipalCache(new NetsSsoSpringCachePrincipalCache(shared), channel, 10_000));
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoNearPrincipalCache
+ * @since 0.0.1
+ */
+public class NetsSsoSpringCachePrincipalCache implements NetsSsoPrincipalCache {
+    private final Cache cache;
+    private final Clock clock;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * 주어진 Spring 캐시로 인증 결과 캐시를 생성합니다.
+     *
+     * @param cache Spring 캐시
+     */
+    public NetsSsoSpringCachePrincipalCache(Cache cache) {
+        this(cache, Clock.systemUTC());
+    }
+
+    /**
+     * 주어진 Spring 캐시와 시계로 인증 결과 캐시를 생성합니다.
+     *
+     * @param cache Spring 캐시
+     * @param clock 만료 확인에 사용할 시계
+     */
+    public NetsSsoSpringCachePrincipalCache(Cache cache, Clock clock) {
+        Assert.notNull(cache, "cache must not be null");
+        Assert.notNull(clock, "clock must not be null");
+        this.cache = cache;
+        this.clock = clock;
+    }
+
+    @Nullable
+    @Override
+    public NetsSsoCachedPrincipal get(String key) {
+        NetsSsoCachedPrincipal principal = cache.get(key, NetsSsoCachedPrincipal.class);
+        if (principal == null || principal.isExpired(clock.instant())) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return principal;
+    }
+
+    @Nullable
+    @Override
+    public NetsSsoCachedPrincipal peek(String key) {
+        NetsSsoCachedPrincipal principal = cache.get(key, NetsSsoCachedPrincipal.class);
+        return principal == null || principal.isExpired(clock.instant()) ? null : principal;
+    }
+
+    @Override
+    public void put(String key, NetsSsoCachedPrincipal principal) {
+        cache.put(key, principal);
+    }
+
+    @Override
+    public void evict(String key) {
+        cache.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * <p>적중/실패 횟수는 현재 노드의 조회만 집계하며, 공유 저장소의 항목 수는 알 수 없으므로 0입니다.</p>
+     *
+     * @return 캐시 통계
+     */
+    @Override
+    public NetsSsoCacheStats getStats() {
+        return new NetsSsoCacheStats(hitCount.sum(), missCount.sum(), 0, 0);
+    }
+}
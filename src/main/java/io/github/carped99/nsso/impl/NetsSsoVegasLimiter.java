@@ -0,0 +1,67 @@
+package io.github.carped99.nsso.impl;
+
+import java.util.function.LongSupplier;
+
+/**
+ * TCP Vegas 방식의 동시 처리 수 제한기
+ *
+ * <p>부하가 없을 때의 처리 시간(관찰한 최소 처리 시간)과 현재 처리 시간의 비율로 대기열 길이를 추정합니다.
+ * 추정 대기열이 짧으면 제한을 늘리고, 길면 줄이며, 과부하로 실패하면 바로 줄입니다.
+ * 처리 중인 요청이 제한의 절반에도 못 미치면 제한이 병목이 아니므로 늘리지 않습니다.</p>
+ *
+ * <p>기준 처리 시간이 오래된 값에 머물지 않도록 일정 표본 수마다 현재 처리 시간으로 다시 측정합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoVegasLimiter extends NetsSsoAdaptiveLimiter {
+    private static final int PROBE_INTERVAL = 1000;
+
+    private long noLoadRttNanos;
+    private int samples;
+
+    /**
+     * 생성자
+     */
+    public NetsSsoVegasLimiter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * 주어진 시간 공급자로 제한기를 생성합니다.
+     *
+     * @param ticker 나노초 단위 단조 증가 시간 공급자
+     */
+    public NetsSsoVegasLimiter(LongSupplier ticker) {
+        super(ticker);
+    }
+
+    @Override
+    protected double update(double limit, long rttNanos, int inFlight, boolean dropped) {
+        if (++samples >= PROBE_INTERVAL) {
+            samples = 0;
+            noLoadRttNanos = 0;
+        }
+        if (rttNanos > 0 && (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos)) {
+            noLoadRttNanos = rttNanos;
+        }
+
+        double log = Math.max(1, Math.log10(limit));
+        if (dropped) {
+            return limit - log;
+        }
+        if (inFlight * 2 < limit || rttNanos <= 0) {
+            return limit;
+        }
+
+        double queueSize = Math.ceil(limit * (1 - (double) noLoadRttNanos / rttNanos));
+        if (queueSize <= log) {
+            return limit + 6 * log;
+        } else if (queueSize < 3 * log) {
+            return limit + log;
+        } else if (queueSize > 6 * log) {
+            return limit - log;
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAgentService;
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoJsonWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import nets.sso.agent.web.common.constant.SSOConst;
+import nets.sso.agent.web.v9.core.AuthnOperation;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 예열용 NSSO 서비스
+ *
+ * <p>SSO 에이전트를 호출하지 않고 기본 구현체와 같은 요청 래핑을 수행한 뒤 고정된 결과를 반환합니다.
+ * {@link io.github.carped99.nsso.NetsSsoWarmup}에서 필터와 인증 경로를 예열할 때 사용합니다.</p>
+ *
+ * @author carped99
+ * @see io.github.carped99.nsso.NetsSsoWarmup
+ * @since 0.0.1
+ */
+public final class NetsSsoWarmupStubs {
+    /**
+     * 예열 사용자 ID
+     */
+    public static final String USERNAME = "nsso-warmup";
+
+    private static final String RESULT = new NetsSsoJsonWriter()
+            .beginObject()
+            .field("result", true)
+            .field("errorCode", 0)
+            .endObject()
+            .toString();
+    private static final byte[] RESULT_BODY = RESULT.getBytes(StandardCharsets.UTF_8);
+
+    private NetsSsoWarmupStubs() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 예열용 에이전트 서비스를 반환합니다.
+     *
+     * @return 고정된 결과를 반환하는 에이전트 서비스
+     */
+    public static NetsSsoAgentService agentService() {
+        return new NetsSsoAgentService() {
+            @Override
+            public String check(HttpServletRequest request, HttpServletResponse response) {
+                var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request)
+                        .addSsoAgentType()
+                        .addHeader(SSOConst.OP, AuthnOperation.AUTHN.getValue());
+                return wrappedRequest.getHeader(SSOConst.OP) != null ? RESULT : null;
+            }
+
+            @Override
+            public String config(HttpServletRequest request, HttpServletResponse response) {
+                return touch(request);
+            }
+
+            @Override
+            public String duplicate(HttpServletRequest request, HttpServletResponse response) {
+                return touch(request);
+            }
+
+            @Override
+            public String key(HttpServletRequest request, HttpServletResponse response) {
+                return touch(request);
+            }
+
+            @Override
+            public byte[] tfa(HttpServletRequest request, HttpServletResponse response) {
+                return touch(request) != null ? RESULT_BODY : null;
+            }
+        };
+    }
+
+    /**
+     * 예열용 인증 서비스를 반환합니다.
+     *
+     * @return 항상 {@link #USERNAME} 사용자로 인증하는 인증 서비스
+     */
+    public static NetsSsoAuthenticationService authenticationService() {
+        return (request, response) -> {
+            touch(request);
+            return NetsSsoAuthentication.authenticated(USERNAME, AuthorityUtils.NO_AUTHORITIES);
+        };
+    }
+
+    private static String touch(HttpServletRequest request) {
+        var wrappedRequest = new NetsSsoHttpServletRequestWrapper(request).addSsoAgentType();
+        return wrappedRequest.getHeader("SSOAgent-Type") != null ? RESULT : null;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.carped99.nsso.impl;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 유틸리티
+ *
+ * <p>같은 키로 진행 중인 호출이 있으면 새 호출은 작업을 수행하지 않고 진행 중인 호출의 결과(또는 예외)를 공유합니다.
+ * 호출이 끝나면 키가 해제되므로 결과를 보관하지는 않습니다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ * @author carped99
+ * @since 0.0.1
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * 주어진 키로 작업을 수행하거나, 진행 중인 작업의 결과를 기다립니다.
+     *
+     * @param key      작업 키
+     * @param supplier 수행할 작업
+     * @return 작업 결과
+     */
+    V execute(K key, Supplier<V> supplier) {
+        return execute(key, supplier, null, null);
+    }
+
+    /**
+     * 주어진 키로 작업을 수행하거나, 진행 중인 작업의 결과를 기한까지 기다립니다.
+     *
+     * <p>기한은 결과를 기다리는 호출에만 적용되며, 작업을 수행하는 호출은 작업이 끝날 때까지 진행합니다.</p>
+     *
+     * @param key              작업 키
+     * @param supplier         수행할 작업
+     * @param timeout          진행 중인 작업을 기다릴 기한 (null이면 끝날 때까지)
+     * @param timeoutException 기한을 넘겼을 때 던질 예외
+     * @return 작업 결과
+     */
+    V execute(K key, Supplier<V> supplier, @Nullable Duration timeout, @Nullable Supplier<? extends RuntimeException> timeoutException) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            return timeout != null && timeoutException != null ? await(inFlight, timeout, timeoutException) : await(inFlight);
+        }
+
+        try {
+            V result = supplier.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 진행 중인 작업 수를 반환합니다.
+     *
+     * @return 진행 중인 작업 수
+     */
+    int inFlight() {
+        return calls.size();
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause(), e);
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight, Duration timeout, Supplier<? extends RuntimeException> timeoutException) {
+        try {
+            return inFlight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw timeoutException.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw timeoutException.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause(), new CompletionException(e.getCause()));
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause, RuntimeException fallback) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return fallback;
+    }
+}
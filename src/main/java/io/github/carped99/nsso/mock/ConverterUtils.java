@@ -1,9 +1,15 @@
 package io.github.carped99.nsso.mock;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.carped99.nsso.NetsSsoJsonWriter;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.lang.Nullable;
 import org.springframework.web.util.WebUtils;
 
@@ -12,9 +18,26 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Mock 서버 공용 변환 유틸리티
+ *
+ * <p>Mock 서버의 모든 응답은 하나의 {@link ObjectMapper}를 공유하며, 응답 타입별로 만든 {@link ObjectWriter}를 재사용합니다.
+ * 응답은 문자열을 거치지 않고 출력 스트림에 직접 쓰며, 고정된 응답은 {@link #writeAsBytes(Object)}로 한 번만 직렬화합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
 class ConverterUtils {
-    private static final HttpMessageConverter<Object> converter = new MappingJackson2HttpMessageConverter();
+    // MappingJackson2HttpMessageConverter와 같은 설정을 사용하되, 출력 스트림은 닫지 않는다.
+    private static final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     public static final String MOCK_COOKIE_NAME = "mocking-nsso-auth";
 
@@ -23,13 +46,33 @@ class ConverterUtils {
     }
 
     public static String writeAsString(Object value) {
-        StringHttpOutputMessage outputMessage = new StringHttpOutputMessage();
         try {
-            converter.write(value, null, outputMessage);
-        } catch (IOException e) {
+            return writerFor(value).writeValueAsString(value);
+        } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
-        return outputMessage.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] writeAsBytes(Object value) {
+        try {
+            return writerFor(value).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(HttpServletResponse response, Object value) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        writerFor(value).writeValue(response.getOutputStream(), value);
+    }
+
+    public static void write(HttpServletResponse response, byte[] body) throws IOException {
+        NetsSsoJsonWriter.writeTo(response, body);
+    }
+
+    private static ObjectWriter writerFor(Object value) {
+        return writers.computeIfAbsent(value.getClass(), objectMapper::writerFor);
     }
 
     public static String encodeUsername(String username) {
@@ -48,6 +91,21 @@ class ConverterUtils {
                 .orElse(null);
     }
 
+    /**
+     * 무작위 UUID(버전 4) 문자열을 생성합니다.
+     *
+     * <p>Mock 응답의 식별자에만 사용하므로 {@link UUID#randomUUID()}의 {@code SecureRandom} 대신
+     * 스레드별 {@link ThreadLocalRandom}을 사용하여 스레드 간 경합을 없앱니다.</p>
+     *
+     * @return UUID 문자열
+     */
+    public static String randomUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
     public static String generateUserToken(String username) {
         return Base64.getUrlEncoder()
                 .withoutPadding()
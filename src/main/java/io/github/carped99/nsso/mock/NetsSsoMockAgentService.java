@@ -6,15 +6,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import nets.sso.agent.web.v9.core.AuthnStatus;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.ForwardedHeaderUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.github.carped99.nsso.NetsSsoUtils.normalizePath;
 import static io.github.carped99.nsso.mock.ConverterUtils.generateUserToken;
@@ -22,14 +24,33 @@ import static io.github.carped99.nsso.mock.ConverterUtils.generateUserToken;
 /**
  * NSSO Mock 에이전트 서비스
  *
- * <p>이 클래스는 NSSO Mock 서버에서 에이전트 관련 요청을 처리합니다.</p>
+ * <p>이 클래스는 NSSO Mock 서버에서 에이전트 관련 요청을 처리합니다.
+ * {@link #setFaults(NetsSsoMockFaults)}로 요청별 응답 지연과 오류 응답을 주입할 수 있습니다.</p>
  *
  * @author carped99
  * @since 0.0.1
  */
 public class NetsSsoMockAgentService implements NetsSsoAgentService {
+    private static final String UNAUTHENTICATED = ConverterUtils.writeAsString(NetsSsoServerCheckResponse.builder()
+            .result(false)
+            .authStatus(AuthnStatus.SSO_FIRST.name())
+            .errorCode(50000000)
+            .errorMessage("인증되지 않은 사용자입니다.")
+            .build());
+    private static final String NOT_IMPLEMENTED = ConverterUtils.writeAsString(NetsSsoServerLogoutResponse.builder()
+            .result(false)
+            .errorCode(50000000)
+            .errorMessage("NotImplemented")
+            .build());
+    private static final DateTimeFormatter LAST_LOGON_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
     private final String prefixUrl;
 
+    // 컨텍스트 경로별 Mock 서버 경로 (logon, logoff, check)
+    private final Map<String, String[]> servicePaths = new ConcurrentHashMap<>();
+
+    private NetsSsoMockFaults faults = new NetsSsoMockFaults();
+
     /**
      * 생성자
      *
@@ -39,33 +60,46 @@ public class NetsSsoMockAgentService implements NetsSsoAgentService {
         this.prefixUrl = prefixUrl;
     }
 
+    /**
+     * 장애 주입 설정을 지정합니다.
+     *
+     * @param faults 장애 주입 설정
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockAgentService setFaults(NetsSsoMockFaults faults) {
+        Assert.notNull(faults, "faults must not be null");
+        this.faults = faults;
+        return this;
+    }
+
     @Override
     public String check(HttpServletRequest request, HttpServletResponse response) {
+        String fault = faults.inject(NetsSsoMockFaults.AGENT_CHECK);
+        if (fault != null) {
+            return fault;
+        }
+
         String username = ConverterUtils.obtainUsername(request);
-        Map<String, Object> result = new HashMap<>();
-
-        if (StringUtils.hasText(username)) {
-            var userAttributes = Map.of(
-                    "LastLogonTime", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
-            );
-
-            result.put("result", true);
-            result.put("authStatus", AuthnStatus.SSO_SUCCESS.name());
-            result.put("userId", username);
-            result.put("userAttribute", userAttributes);
-            result.put("token", generateUserToken(username));
-        } else {
-            result.put("result", false);
-            result.put("authStatus", AuthnStatus.SSO_FIRST.name());
-            result.put("errorCode", 50000000);
-            result.put("errorMessage", "인증되지 않은 사용자입니다.");
+        if (!StringUtils.hasText(username)) {
+            return UNAUTHENTICATED;
         }
 
-        return ConverterUtils.writeAsString(result);
+        return ConverterUtils.writeAsString(NetsSsoServerCheckResponse.builder()
+                .result(true)
+                .authStatus(AuthnStatus.SSO_SUCCESS.name())
+                .userId(username)
+                .userAttribute(Map.of("LastLogonTime", LocalDateTime.now().format(LAST_LOGON_FORMAT)))
+                .token(generateUserToken(username))
+                .build());
     }
 
     @Override
     public String config(HttpServletRequest request, HttpServletResponse response) {
+        String fault = faults.inject(NetsSsoMockFaults.AGENT_CONFIG);
+        if (fault != null) {
+            return fault;
+        }
+
         // 1. Spring이 제공하는 HttpRequest로 래핑
         ServletServerHttpRequest serverHttpRequest = new ServletServerHttpRequest(request);
 
@@ -76,42 +110,39 @@ public class NetsSsoMockAgentService implements NetsSsoAgentService {
         // 3. Forwarded 헤더 기반으로 URI 재작성
         UriComponentsBuilder uriBuilder = ForwardedHeaderUtils.adaptFromForwardedHeaders(uri, headers);
 
-        String contextPath = request.getContextPath();
+        String[] paths = servicePaths.computeIfAbsent(request.getContextPath(), contextPath -> new String[]{
+                normalizePath(contextPath, prefixUrl, NetsSsoMockServer.LOGON_PATH),
+                normalizePath(contextPath, prefixUrl, NetsSsoMockServer.LOGOFF_PATH),
+                normalizePath(contextPath, prefixUrl, NetsSsoMockServer.CHECK_PATH)
+        });
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("ssosite", "nets-sso-mock");
-        result.put("urlSSOLogonService", normalizePath(contextPath, prefixUrl, NetsSsoMockServer.LOGON_PATH));
-        result.put("urlSSOLogoffService", normalizePath(contextPath, prefixUrl, NetsSsoMockServer.LOGOFF_PATH));
-        result.put("urlSSOCheckService", normalizePath(contextPath, prefixUrl, NetsSsoMockServer.CHECK_PATH));
-        result.put("defaultUrl", uriBuilder.toUriString());
-
-        return ConverterUtils.writeAsString(result);
+        return ConverterUtils.writeAsString(new NetsSsoMockConfigResponse("nets-sso-mock", paths[0], paths[1], paths[2], uriBuilder.toUriString()));
     }
 
     @Override
     public String duplicate(HttpServletRequest request, HttpServletResponse response) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("result", false);
-        result.put("errorCode", 50000000);
-        result.put("errorMessage", "NotImplemented");
-        return ConverterUtils.writeAsString(result);
+        String fault = faults.inject(NetsSsoMockFaults.AGENT_DUPLICATION);
+        if (fault != null) {
+            return fault;
+        }
+        return NOT_IMPLEMENTED;
     }
 
     @Override
     public String key(HttpServletRequest request, HttpServletResponse response) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("result", false);
-        result.put("errorCode", 50000000);
-        result.put("errorMessage", "NotImplemented");
-        return ConverterUtils.writeAsString(result);
+        String fault = faults.inject(NetsSsoMockFaults.AGENT_KEY);
+        if (fault != null) {
+            return fault;
+        }
+        return NOT_IMPLEMENTED;
     }
 
     @Override
-    public String tfa(HttpServletRequest request, HttpServletResponse response) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("result", false);
-        result.put("errorCode", 50000000);
-        result.put("errorMessage", "NotImplemented");
-        return ConverterUtils.writeAsString(result);
+    public byte[] tfa(HttpServletRequest request, HttpServletResponse response) {
+        String fault = faults.inject(NetsSsoMockFaults.AGENT_TFA);
+        if (fault != null) {
+            return fault.getBytes(StandardCharsets.UTF_8);
+        }
+        return NOT_IMPLEMENTED.getBytes(StandardCharsets.UTF_8);
     }
 }
@@ -0,0 +1,10 @@
+package io.github.carped99.nsso.mock;
+
+record NetsSsoMockConfigResponse(
+        String ssosite,
+        String urlSSOLogonService,
+        String urlSSOLogoffService,
+        String urlSSOCheckService,
+        String defaultUrl
+) {
+}
@@ -0,0 +1,158 @@
+package io.github.carped99.nsso.mock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mock 서버 장애 주입 설정
+ *
+ * <p>하나의 엔드포인트에 적용할 응답 지연과 실패 비율을 정의합니다. 요청마다 다음 순서로 적용합니다.</p>
+ * <ol>
+ *   <li>{@link #latency(NetsSsoMockLatency)} 분포에서 뽑은 시간만큼 지연</li>
+ *   <li>{@link #timeout(double, Duration)} 비율만큼 추가로 기한까지 지연한 뒤 시간 초과 오류 코드("50000001")로 응답</li>
+ *   <li>{@link #error(double, int, String)} 비율만큼 지정한 SSO 오류 코드로 응답</li>
+ * </ol>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * new NetsSsoMockFault()
+ *     .latency(NetsSsoMockLatency.logNormal(Duration.ofMillis(20), Duration.ofMillis(250)))
+ *     .error(0.01, 11020004, "BadCredentials")
+ *     .timeout(0.001, Duration.ofSeconds(5));
+ * }</pre>
+ *
+ * @author carped99
+ * @see NetsSsoMockFaults
+ * @since 0.0.1
+ */
+public class NetsSsoMockFault {
+    /**
+     * 기본 오류 코드
+     */
+    public static final int DEFAULT_ERROR_CODE = 50000000;
+
+    /**
+     * 시간 초과 오류 코드
+     */
+    public static final int TIMEOUT_ERROR_CODE = 50000001;
+
+    private NetsSsoMockLatency latency = NetsSsoMockLatency.none();
+    private double errorRate;
+    private int errorCode = DEFAULT_ERROR_CODE;
+    private String errorMessage = "Injected fault";
+    private double timeoutRate;
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * 응답 지연 분포를 설정합니다.
+     *
+     * @param latency 지연 분포
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFault latency(NetsSsoMockLatency latency) {
+        Assert.notNull(latency, "latency must not be null");
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * 오류 응답 비율과 오류 코드를 설정합니다.
+     *
+     * @param rate      오류 응답 비율 (0.0 ~ 1.0)
+     * @param errorCode SSO 오류 코드
+     * @param message   오류 메시지
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFault error(double rate, int errorCode, String message) {
+        Assert.notNull(message, "message must not be null");
+        assertRates(rate, this.timeoutRate);
+        this.errorRate = rate;
+        this.errorCode = errorCode;
+        this.errorMessage = message;
+        return this;
+    }
+
+    /**
+     * 기본 오류 코드({@value #DEFAULT_ERROR_CODE})로 응답할 비율을 설정합니다.
+     *
+     * @param rate 오류 응답 비율 (0.0 ~ 1.0)
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFault error(double rate) {
+        return error(rate, DEFAULT_ERROR_CODE, "Injected fault");
+    }
+
+    /**
+     * 시간 초과 비율과 기한을 설정합니다.
+     *
+     * @param rate  시간 초과 비율 (0.0 ~ 1.0)
+     * @param after 응답하기까지 지연할 시간
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFault timeout(double rate, Duration after) {
+        Assert.isTrue(after != null && !after.isNegative(), "after must not be negative");
+        assertRates(this.errorRate, rate);
+        this.timeoutRate = rate;
+        this.timeout = after;
+        return this;
+    }
+
+    private static void assertRates(double errorRate, double timeoutRate) {
+        Assert.isTrue(errorRate >= 0.0 && errorRate <= 1.0, "error rate must be between 0.0 and 1.0");
+        Assert.isTrue(timeoutRate >= 0.0 && timeoutRate <= 1.0, "timeout rate must be between 0.0 and 1.0");
+        Assert.isTrue(errorRate + timeoutRate <= 1.0, "sum of error rate and timeout rate must not exceed 1.0");
+    }
+
+    /**
+     * 장애를 주입합니다.
+     *
+     * <p>지연은 현재 스레드에서 수행하며, 대기 중 인터럽트되면 인터럽트 상태를 복원하고 시간 초과로 응답합니다.</p>
+     *
+     * @return 주입한 오류 응답 (JSON), 정상 처리해야 하면 null
+     */
+    @Nullable
+    String inject() {
+        if (!sleep(latency.nextNanos())) {
+            return timeoutResult();
+        }
+
+        double roll = (timeoutRate > 0.0 || errorRate > 0.0) ? ThreadLocalRandom.current().nextDouble() : 1.0;
+        if (roll < timeoutRate) {
+            sleep(timeout.toNanos());
+            return timeoutResult();
+        }
+        if (roll < timeoutRate + errorRate) {
+            return errorResult(errorCode, errorMessage);
+        }
+        return null;
+    }
+
+    private String timeoutResult() {
+        return errorResult(TIMEOUT_ERROR_CODE, "Injected timeout after " + timeout.toMillis() + "ms");
+    }
+
+    private static String errorResult(int errorCode, String errorMessage) {
+        return ConverterUtils.writeAsString(NetsSsoServerLogoutResponse.builder()
+                .result(false)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build());
+    }
+
+    private static boolean sleep(long nanos) {
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.carped99.nsso.mock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mock 서버 엔드포인트별 장애 주입 설정
+ *
+ * <p>엔드포인트 이름별로 {@link NetsSsoMockFault}를 등록합니다. 이름별 설정이 없으면 {@link #all(NetsSsoMockFault)}로
+ * 등록한 기본 설정을 적용하며, 둘 다 없으면 장애를 주입하지 않습니다.</p>
+ *
+ * <p>엔드포인트 이름:</p>
+ * <ul>
+ *   <li>Mock 서버 - {@link #SERVER_LOGON}, {@link #SERVER_CHECK}, {@link #SERVER_LOGOFF}</li>
+ *   <li>Mock 에이전트 - {@link #AGENT_CHECK}, {@link #AGENT_CONFIG}, {@link #AGENT_DUPLICATION}, {@link #AGENT_TFA}, {@link #AGENT_KEY}</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>{@code
+ * sso.mockServer(server -> server
+ *     .profiles("mocking-nsso")
+ *     .faults(faults -> faults
+ *         .route(NetsSsoMockFaults.SERVER_LOGON, new NetsSsoMockFault()
+ *             .latency(NetsSsoMockLatency.logNormal(Duration.ofMillis(80), Duration.ofMillis(900)))
+ *             .error(0.02, 11020004, "BadCredentials"))
+ *         .route(NetsSsoMockFaults.AGENT_CHECK, new NetsSsoMockFault()
+ *             .timeout(0.01, Duration.ofSeconds(5)))
+ *     )
+ * );
+ * }</pre>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoMockFaults {
+    /**
+     * Mock 서버 로그인 ({@code /logonService})
+     */
+    public static final String SERVER_LOGON = "server.logon";
+    /**
+     * Mock 서버 체크 ({@code /checkService})
+     */
+    public static final String SERVER_CHECK = "server.check";
+    /**
+     * Mock 서버 로그아웃 ({@code /logoffService})
+     */
+    public static final String SERVER_LOGOFF = "server.logoff";
+    /**
+     * Mock 에이전트 체크
+     */
+    public static final String AGENT_CHECK = "agent.check";
+    /**
+     * Mock 에이전트 설정
+     */
+    public static final String AGENT_CONFIG = "agent.config";
+    /**
+     * Mock 에이전트 중복 로그인
+     */
+    public static final String AGENT_DUPLICATION = "agent.duplication";
+    /**
+     * Mock 에이전트 2FA
+     */
+    public static final String AGENT_TFA = "agent.tfa";
+    /**
+     * Mock 에이전트 키
+     */
+    public static final String AGENT_KEY = "agent.key";
+
+    private final Map<String, NetsSsoMockFault> routes = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile NetsSsoMockFault defaultFault;
+
+    /**
+     * 엔드포인트에 장애 주입 설정을 등록합니다.
+     *
+     * @param name  엔드포인트 이름
+     * @param fault 장애 주입 설정
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFaults route(String name, NetsSsoMockFault fault) {
+        Assert.hasText(name, "name must not be empty");
+        Assert.notNull(fault, "fault must not be null");
+        this.routes.put(name, fault);
+        return this;
+    }
+
+    /**
+     * 이름별 설정이 없는 모든 엔드포인트에 적용할 장애 주입 설정을 등록합니다.
+     *
+     * @param fault 장애 주입 설정
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFaults all(NetsSsoMockFault fault) {
+        Assert.notNull(fault, "fault must not be null");
+        this.defaultFault = fault;
+        return this;
+    }
+
+    /**
+     * 등록된 장애 주입 설정을 모두 제거합니다.
+     *
+     * @return 현재 인스턴스
+     */
+    public NetsSsoMockFaults clear() {
+        this.routes.clear();
+        this.defaultFault = null;
+        return this;
+    }
+
+    /**
+     * 엔드포인트에 장애를 주입합니다.
+     *
+     * @param name 엔드포인트 이름
+     * @return 주입한 오류 응답 (JSON), 정상 처리해야 하면 null
+     */
+    @Nullable
+    String inject(String name) {
+        NetsSsoMockFault fault = routes.get(name);
+        if (fault == null) {
+            fault = defaultFault;
+        }
+        return fault != null ? fault.inject() : null;
+    }
+}
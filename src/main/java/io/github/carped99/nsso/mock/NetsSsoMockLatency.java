@@ -0,0 +1,88 @@
+package io.github.carped99.nsso.mock;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mock 서버 응답 지연 분포
+ *
+ * <p>요청마다 {@link #nextNanos()}로 지연 시간을 뽑습니다. 다음 분포를 제공합니다.</p>
+ * <ul>
+ *   <li>{@link #fixed(Duration)} - 고정 지연</li>
+ *   <li>{@link #uniform(Duration, Duration)} - 구간 내 균등 분포</li>
+ *   <li>{@link #logNormal(Duration, Duration)} - 중앙값과 p99로 지정하는 로그 정규 분포 (실제 네트워크 지연과 비슷한 긴 꼬리)</li>
+ * </ul>
+ *
+ * @author carped99
+ * @see NetsSsoMockFault
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface NetsSsoMockLatency {
+    /**
+     * 표준 정규 분포의 99번째 백분위수
+     */
+    double Z_99 = 2.3263478740408408;
+
+    /**
+     * 다음 지연 시간을 반환합니다.
+     *
+     * @return 지연 시간 (나노초)
+     */
+    long nextNanos();
+
+    /**
+     * 지연이 없는 분포를 반환합니다.
+     *
+     * @return 항상 0을 반환하는 분포
+     */
+    static NetsSsoMockLatency none() {
+        return () -> 0L;
+    }
+
+    /**
+     * 고정 지연 분포를 반환합니다.
+     *
+     * @param delay 지연 시간
+     * @return 항상 같은 지연 시간을 반환하는 분포
+     */
+    static NetsSsoMockLatency fixed(Duration delay) {
+        Assert.isTrue(delay != null && !delay.isNegative(), "delay must not be negative");
+        long nanos = delay.toNanos();
+        return () -> nanos;
+    }
+
+    /**
+     * 균등 분포를 반환합니다.
+     *
+     * @param min 최소 지연 시간
+     * @param max 최대 지연 시간
+     * @return min 이상 max 이하의 지연 시간을 균등하게 반환하는 분포
+     */
+    static NetsSsoMockLatency uniform(Duration min, Duration max) {
+        Assert.isTrue(min != null && !min.isNegative(), "min must not be negative");
+        Assert.isTrue(max != null && max.compareTo(min) >= 0, "max must not be less than min");
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        return () -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * 로그 정규 분포를 반환합니다.
+     *
+     * <p>중앙값이 {@code median}, 99번째 백분위수가 {@code p99}가 되도록 분포의 모수를 정합니다.</p>
+     *
+     * @param median 중앙값 (p50)
+     * @param p99    99번째 백분위수
+     * @return 로그 정규 분포
+     */
+    static NetsSsoMockLatency logNormal(Duration median, Duration p99) {
+        Assert.isTrue(median != null && median.toNanos() > 0, "median must be positive");
+        Assert.isTrue(p99 != null && p99.compareTo(median) >= 0, "p99 must not be less than median");
+        double mu = Math.log(median.toNanos());
+        double sigma = (Math.log(p99.toNanos()) - mu) / Z_99;
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+}
@@ -1,15 +1,18 @@
 package io.github.carped99.nsso.mock;
 
+import io.github.carped99.nsso.NetsSsoRoute;
+import io.github.carped99.nsso.NetsSsoRouter;
 import io.github.carped99.nsso.NetsSsoUtils;
 import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.csrf.CsrfFilter;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 
-import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+import java.util.List;
 
 /**
  * 개발 환경에서 사용할 NSSO Mock 서버
@@ -24,6 +27,7 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
  *   <li>Mock 체크 필터 (/check)</li>
  *   <li>Mock 에이전트 설정 서비스</li>
  *   <li>Mock 에이전트 체크 서비스</li>
+ *   <li>엔드포인트별 응답 지연 및 장애 주입 ({@link NetsSsoMockFaults})</li>
  * </ul>
  *
  * <p>사용 예시:</p>
@@ -65,9 +69,11 @@ public class NetsSsoMockServer {
 
     private String prefixPath;
     private UserDetailsService userDetailsService;
-    private NetsSsoServerLogonFilter logonFilter;
-    private NetsSsoServerLogoutFilter logoffFilter;
-    private NetsSsoServerCheckFilter checkFilter;
+    private NetsSsoRouter router;
+    private NetsSsoMockFaults faults = new NetsSsoMockFaults();
+    @Nullable
+    private PasswordEncoder passwordEncoder;
+    private int credentialCacheSize;
 
     /**
      * Mock 서버를 Spring Security 설정에 추가합니다.
@@ -76,25 +82,34 @@ public class NetsSsoMockServer {
      * <ol>
      *   <li>로그인, 로그아웃, 체크 요청 매처 생성</li>
      *   <li>각각의 Mock 필터 생성 및 설정</li>
+     *   <li>장애 주입 설정 연결</li>
      *   <li>CSRF 필터 이후에 필터 추가</li>
-     *   <li>전체 RequestMatcher 생성</li>
+     *   <li>전체 경로 테이블 생성</li>
      * </ol>
      *
      * @param http HttpSecurity 빌더
      */
     public void configure(HttpSecurityBuilder<?> http) {
-        RequestMatcher logonRequestMatcher = antMatcher(HttpMethod.POST, NetsSsoUtils.normalizePath(prefixPath, LOGON_PATH));
-        RequestMatcher logoffRequestMatcher = antMatcher(HttpMethod.POST, NetsSsoUtils.normalizePath(prefixPath, LOGOFF_PATH));
-        RequestMatcher checkRequestMatcher = antMatcher(HttpMethod.POST, NetsSsoUtils.normalizePath(prefixPath, CHECK_PATH));
+        NetsSsoRoute logonRoute = NetsSsoRoute.of(NetsSsoMockFaults.SERVER_LOGON, HttpMethod.POST, NetsSsoUtils.normalizePath(prefixPath, LOGON_PATH));
+        NetsSsoRoute logoffRoute = NetsSsoRoute.of(NetsSsoMockFaults.SERVER_LOGOFF, HttpMethod.POST, NetsSsoUtils.normalizePath(prefixPath, LOGOFF_PATH));
+        NetsSsoRoute checkRoute = NetsSsoRoute.of(NetsSsoMockFaults.SERVER_CHECK, HttpMethod.POST, NetsSsoUtils.normalizePath(prefixPath, CHECK_PATH));
 
-        this.logonFilter = new NetsSsoServerLogonFilter(logonRequestMatcher, this.userDetailsService);
-        http.addFilterAfter(logonFilter, CsrfFilter.class);
-
-        this.logoffFilter = new NetsSsoServerLogoutFilter(logoffRequestMatcher);
-        http.addFilterAfter(logoffFilter, CsrfFilter.class);
+        NetsSsoServerLogonFilter logonFilter = new NetsSsoServerLogonFilter(logonRoute, this.userDetailsService);
+        NetsSsoServerLogoutFilter logoutFilter = new NetsSsoServerLogoutFilter(logoffRoute);
+        NetsSsoServerCheckFilter checkFilter = new NetsSsoServerCheckFilter(checkRoute);
+        logonFilter.setFaults(this.faults);
+        logonFilter.setCredentialCacheSize(this.credentialCacheSize);
+        if (this.passwordEncoder != null) {
+            logonFilter.setPasswordEncoder(this.passwordEncoder);
+        }
+        logoutFilter.setFaults(this.faults);
+        checkFilter.setFaults(this.faults);
 
-        this.checkFilter = new NetsSsoServerCheckFilter(checkRequestMatcher);
+        http.addFilterAfter(logonFilter, CsrfFilter.class);
+        http.addFilterAfter(logoutFilter, CsrfFilter.class);
         http.addFilterAfter(checkFilter, CsrfFilter.class);
+
+        this.router = NetsSsoRouter.of(List.of(logonRoute, checkRoute, logoffRoute));
     }
 
     /**
@@ -103,11 +118,16 @@ public class NetsSsoMockServer {
      * @return 모든 Mock 엔드포인트를 매칭하는 RequestMatcher
      */
     public RequestMatcher getRequestMatcher() {
-        return new OrRequestMatcher(
-                logonFilter.getRequestMatcher(),
-                checkFilter.getRequestMatcher(),
-                logoffFilter.getRequestMatcher()
-        );
+        return this.router;
+    }
+
+    /**
+     * Mock 서버의 엔드포인트 경로 테이블을 반환합니다.
+     *
+     * @return 모든 Mock 엔드포인트의 경로 테이블
+     */
+    public NetsSsoRouter getRouter() {
+        return this.router;
     }
 
     /**
@@ -133,4 +153,49 @@ public class NetsSsoMockServer {
         this.userDetailsService = userDetailsService;
         return this;
     }
+
+    /**
+     * 로그인 시 비밀번호를 검증할 인코더를 설정합니다.
+     *
+     * <p>기본값은 {@link org.springframework.security.crypto.factory.PasswordEncoderFactories#createDelegatingPasswordEncoder()}이며,
+     * bcrypt 비용이 부하 테스트 처리량을 제한하면 비용이 작은 인코더를 지정합니다.</p>
+     *
+     * @param passwordEncoder 비밀번호 인코더
+     * @return 현재 Mock 서버 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoMockServer setPasswordEncoder(PasswordEncoder passwordEncoder) {
+        Assert.notNull(passwordEncoder, "passwordEncoder must not be null");
+        this.passwordEncoder = passwordEncoder;
+        return this;
+    }
+
+    /**
+     * 검증된 자격 증명 캐시의 최대 항목 수를 설정합니다.
+     *
+     * <p>한 번 검증한 (사용자, 비밀번호) 쌍은 해시로만 보관하며, 사용자의 인코딩된 비밀번호가 그대로면 다시 검증하지 않습니다.
+     * 가득 차면 더 이상 저장하지 않습니다. 0이면 사용하지 않으며, 기본값은 0입니다.</p>
+     *
+     * @param credentialCacheSize 최대 항목 수
+     * @return 현재 Mock 서버 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoMockServer setCredentialCacheSize(int credentialCacheSize) {
+        Assert.isTrue(credentialCacheSize >= 0, "credentialCacheSize must not be negative");
+        this.credentialCacheSize = credentialCacheSize;
+        return this;
+    }
+
+    /**
+     * 장애 주입 설정을 지정합니다.
+     *
+     * <p>{@link #configure(HttpSecurityBuilder)} 이전에 호출해야 하며, 지정한 인스턴스를 필터가 공유하므로
+     * 실행 중에 설정을 바꾸면 다음 요청부터 반영됩니다.</p>
+     *
+     * @param faults 장애 주입 설정
+     * @return 현재 Mock 서버 인스턴스 (메서드 체이닝 지원)
+     */
+    public NetsSsoMockServer setFaults(NetsSsoMockFaults faults) {
+        Assert.notNull(faults, "faults must not be null");
+        this.faults = faults;
+        return this;
+    }
 }
@@ -5,24 +5,28 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import nets.sso.agent.web.v9.core.AuthnStatus;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static io.github.carped99.nsso.mock.ConverterUtils.generateUserToken;
 import static io.github.carped99.nsso.mock.ConverterUtils.obtainUsername;
 
 class NetsSsoServerCheckFilter extends OncePerRequestFilter {
+    private static final byte[] UNAUTHENTICATED = ConverterUtils.writeAsBytes(NetsSsoServerCheckResponse.builder()
+            .result(false)
+            .authStatus(AuthnStatus.SSO_FIRST.name())
+            .errorCode(50000000)
+            .errorMessage("인증되지 않은 사용자입니다.")
+            .build());
+
     private final RequestMatcher requestMatcher;
-    private final HttpMessageConverter<Object> converter = new MappingJackson2HttpMessageConverter();
+    private NetsSsoMockFaults faults = new NetsSsoMockFaults();
 
     public NetsSsoServerCheckFilter(RequestMatcher requestMatcher) {
         Assert.notNull(requestMatcher, "requestMatcher may not be null");
@@ -31,23 +35,25 @@ class NetsSsoServerCheckFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        Map<String, Object> result = new HashMap<>();
-        String username = obtainUsername(request);
+        String fault = faults.inject(NetsSsoMockFaults.SERVER_CHECK);
+        if (fault != null) {
+            ConverterUtils.write(response, fault.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
 
+        String username = obtainUsername(request);
         if (!StringUtils.hasText(username)) {
-            result.put("result", false);
-            result.put("authStatus", AuthnStatus.SSO_FIRST.name());
-            result.put("errorCode", 50000000);
-            result.put("errorMessage", "인증되지 않은 사용자입니다.");
-        } else {
-            result.put("result", true);
-            result.put("authStatus", AuthnStatus.SSO_SUCCESS.name());
-            result.put("userId", username);
-            result.put("userAttribute", Map.of());
-            result.put("token", generateUserToken(username));
+            ConverterUtils.write(response, UNAUTHENTICATED);
+            return;
         }
 
-        converter.write(result, null, new ServletServerHttpResponse(response));
+        ConverterUtils.write(response, NetsSsoServerCheckResponse.builder()
+                .result(true)
+                .authStatus(AuthnStatus.SSO_SUCCESS.name())
+                .userId(username)
+                .userAttribute(Map.of())
+                .token(generateUserToken(username))
+                .build());
     }
 
     @Override
@@ -55,6 +61,11 @@ class NetsSsoServerCheckFilter extends OncePerRequestFilter {
         return !requestMatcher.matches(request);
     }
 
+    void setFaults(NetsSsoMockFaults faults) {
+        Assert.notNull(faults, "faults must not be null");
+        this.faults = faults;
+    }
+
     RequestMatcher getRequestMatcher() {
         return requestMatcher;
     }
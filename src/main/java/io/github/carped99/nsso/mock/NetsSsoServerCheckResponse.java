@@ -2,17 +2,18 @@ package io.github.carped99.nsso.mock;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
-import lombok.Value;
 
-@Value
+import java.util.Map;
+
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
-class NetsSsoServerCheckResponse {
-    boolean result;
-    int errorCode;
-    String errorMessage;
-    String authStatus;
-    String userId;
-    String userAttribute;
-    String token;
+record NetsSsoServerCheckResponse(
+        boolean result,
+        Integer errorCode,
+        String errorMessage,
+        String authStatus,
+        String userId,
+        Map<String, String> userAttribute,
+        String token
+) {
 }
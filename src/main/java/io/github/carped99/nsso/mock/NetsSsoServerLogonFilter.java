@@ -5,9 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import nets.sso.agent.web.common.constant.SSOConst;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -22,13 +20,22 @@ import org.springframework.web.bind.ServletRequestUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 class NetsSsoServerLogonFilter extends OncePerRequestFilter {
     private final RequestMatcher requestMatcher;
-    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
     private final UserDetailsService userDetailsService;
-    private final HttpMessageConverter<Object> converter = new MappingJackson2HttpMessageConverter();
+    private PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private NetsSsoMockFaults faults = new NetsSsoMockFaults();
+    // 검증된 (사용자, 비밀번호) 해시 -> 검증에 사용한 인코딩된 비밀번호
+    @Nullable
+    private Map<String, String> verifiedCredentials;
+    private int credentialCacheSize;
 
     public NetsSsoServerLogonFilter(RequestMatcher requestMatcher, UserDetailsService userDetailsService) {
         Assert.notNull(requestMatcher, "requestMatcher may not be null");
@@ -39,6 +46,12 @@ class NetsSsoServerLogonFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String fault = faults.inject(NetsSsoMockFaults.SERVER_LOGON);
+        if (fault != null) {
+            ConverterUtils.write(response, fault.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
         NetsSsoServerLogonResponse result;
 
         try {
@@ -51,14 +64,45 @@ class NetsSsoServerLogonFilter extends OncePerRequestFilter {
             ServletRequestUtils.getRequiredStringParameter(request, SSOConst.CRED_TYPE);
 
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (StringUtils.hasLength(userDetails.getPassword()) && !passwordEncoder.matches(password, userDetails.getPassword())) {
+            if (StringUtils.hasLength(userDetails.getPassword()) && !matches(username, password, userDetails.getPassword())) {
                 throw new BadCredentialsException(username);
             }
             result = getSuccessResponse(userDetails);
         } catch (Exception e) {
             result = getFailureResponse(e);
         }
-        converter.write(result, null, new ServletServerHttpResponse(response));
+        ConverterUtils.write(response, result);
+    }
+
+    private boolean matches(String username, String password, String encodedPassword) {
+        Map<String, String> verified = this.verifiedCredentials;
+        if (verified == null) {
+            return passwordEncoder.matches(password, encodedPassword);
+        }
+
+        // 저장된 인코딩 값과 같을 때만 재사용하므로, 비밀번호가 바뀌면 다시 검증한다.
+        String key = credentialKey(username, password);
+        if (encodedPassword.equals(verified.get(key))) {
+            return true;
+        }
+        if (!passwordEncoder.matches(password, encodedPassword)) {
+            return false;
+        }
+        if (verified.size() < credentialCacheSize) {
+            verified.put(key, encodedPassword);
+        }
+        return true;
+    }
+
+    private static String credentialKey(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     private NetsSsoServerLogonResponse getSuccessResponse(UserDetails userDetails) {
@@ -75,7 +119,7 @@ class NetsSsoServerLogonFilter extends OncePerRequestFilter {
                 .policyVersion("456")
                 .pathESSO("https://localhost:57291/")
                 .ssoResponse(ssoResponse)
-                .artifactESSO(UUID.randomUUID().toString())
+                .artifactESSO(ConverterUtils.randomUuid())
                 .build();
     }
 
@@ -111,6 +155,22 @@ class NetsSsoServerLogonFilter extends OncePerRequestFilter {
         return !requestMatcher.matches(request);
     }
 
+    void setPasswordEncoder(PasswordEncoder passwordEncoder) {
+        Assert.notNull(passwordEncoder, "passwordEncoder must not be null");
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    void setCredentialCacheSize(int credentialCacheSize) {
+        Assert.isTrue(credentialCacheSize >= 0, "credentialCacheSize must not be negative");
+        this.credentialCacheSize = credentialCacheSize;
+        this.verifiedCredentials = credentialCacheSize > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    void setFaults(NetsSsoMockFaults faults) {
+        Assert.notNull(faults, "faults must not be null");
+        this.faults = faults;
+    }
+
     RequestMatcher getRequestMatcher() {
         return requestMatcher;
     }
@@ -4,18 +4,18 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.Assert;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 class NetsSsoServerLogoutFilter extends OncePerRequestFilter {
+    private static final byte[] RESULT = ConverterUtils.writeAsBytes(NetsSsoServerLogoutResponse.builder().build());
+
     private final RequestMatcher requestMatcher;
-    private final HttpMessageConverter<Object> converter = new MappingJackson2HttpMessageConverter();
+    private NetsSsoMockFaults faults = new NetsSsoMockFaults();
 
     public NetsSsoServerLogoutFilter(RequestMatcher requestMatcher) {
         Assert.notNull(requestMatcher, "requestMatcher may not be null");
@@ -24,8 +24,13 @@ class NetsSsoServerLogoutFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        NetsSsoServerLogoutResponse result = NetsSsoServerLogoutResponse.builder().build();
-        converter.write(result, null, new ServletServerHttpResponse(response));
+        String fault = faults.inject(NetsSsoMockFaults.SERVER_LOGOFF);
+        if (fault != null) {
+            ConverterUtils.write(response, fault.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        ConverterUtils.write(response, RESULT);
     }
 
     @Override
@@ -33,6 +38,11 @@ class NetsSsoServerLogoutFilter extends OncePerRequestFilter {
         return !requestMatcher.matches(request);
     }
 
+    void setFaults(NetsSsoMockFaults faults) {
+        Assert.notNull(faults, "faults must not be null");
+        this.faults = faults;
+    }
+
     RequestMatcher getRequestMatcher() {
         return requestMatcher;
     }
@@ -0,0 +1,179 @@
+package io.github.carped99.nsso;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NetsSsoAccessTokenCodec 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoAccessTokenCodecTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void decode_WithHmacToken_ShouldReturnClaims() {
+        // given
+        NetsSsoAccessTokenCodec codec = NetsSsoAccessTokenCodec.hmac(SECRET).setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = codec.encode("사용자\"1", AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"), Duration.ofMinutes(5));
+
+        // when
+        NetsSsoAccessToken accessToken = codec.decode(token);
+
+        // then
+        assertThat(accessToken.getSubject()).isEqualTo("사용자\"1");
+        assertThat(accessToken.getAuthorities()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(accessToken.getIssuedAt()).isEqualTo(NOW);
+        assertThat(accessToken.getExpiresAt()).isEqualTo(NOW.plusSeconds(300));
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        assertThat(header).isEqualTo("{\"alg\":\"HS256\",\"typ\":\"JWT\"}");
+    }
+
+    @Test
+    void decode_WithEd25519Token_ShouldVerifyWithPublicKeyOnly() throws Exception {
+        // given
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String token = NetsSsoAccessTokenCodec.ed25519(keyPair).encode("user", AuthorityUtils.NO_AUTHORITIES, Duration.ofMinutes(5));
+        NetsSsoAccessTokenCodec verifier = NetsSsoAccessTokenCodec.ed25519(keyPair.getPublic());
+
+        // when
+        NetsSsoAccessToken accessToken = verifier.decode(token);
+
+        // then
+        assertThat(accessToken.getSubject()).isEqualTo("user");
+        assertThat(accessToken.getAuthorities()).isEmpty();
+        assertThatThrownBy(() -> verifier.encode("user", AuthorityUtils.NO_AUTHORITIES, Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void decode_WithTamperedPayload_ShouldThrowException() {
+        // given
+        NetsSsoAccessTokenCodec codec = NetsSsoAccessTokenCodec.hmac(SECRET);
+        String token = codec.encode("user", AuthorityUtils.createAuthorityList("ROLE_USER"), Duration.ofMinutes(5));
+        String[] parts = token.split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                        .replace("ROLE_USER", "ROLE_ADMIN")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(parts[0] + "." + forged + "." + parts[2]))
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .hasMessageContaining("signature")
+                .extracting("code").isEqualTo(NetsSsoAccessTokenCodec.INVALID_TOKEN_CODE);
+    }
+
+    @Test
+    void decode_WithExpiredToken_ShouldThrowException() {
+        // given
+        NetsSsoAccessTokenCodec codec = NetsSsoAccessTokenCodec.hmac(SECRET).setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = codec.encode("user", AuthorityUtils.NO_AUTHORITIES, Duration.ofMinutes(5));
+        codec.setClock(Clock.fixed(NOW.plusSeconds(300), ZoneOffset.UTC));
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(token))
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    void decode_WithOtherAlgorithm_ShouldThrowException() throws Exception {
+        // given
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String token = NetsSsoAccessTokenCodec.hmac(SECRET).encode("user", AuthorityUtils.NO_AUTHORITIES, Duration.ofMinutes(5));
+
+        // when & then
+        assertThatThrownBy(() -> NetsSsoAccessTokenCodec.ed25519(keyPair.getPublic()).decode(token))
+                .isInstanceOf(NetsSsoAuthenticationException.class);
+        assertThatThrownBy(() -> NetsSsoAccessTokenCodec.hmac(SECRET).decode("not-a-token"))
+                .isInstanceOf(NetsSsoAuthenticationException.class);
+    }
+
+    @Test
+    void decode_WithEscapesAndUnknownFields_ShouldReadClaims() {
+        // given
+        NetsSsoAccessTokenCodec codec = NetsSsoAccessTokenCodec.hmac(SECRET).setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = signed("{\"aud\":[\"a\",\"b\"],\"sub\":\"u\\\"s\\\\e\\u0072\\uD83D\\uDE00\\n\",\"nbf\":-1,\"x\":true,"
+                + "\"y\":null,\"auth\":[],\"exp\":" + NOW.plusSeconds(60).getEpochSecond() + "} ");
+
+        // when
+        NetsSsoAccessToken accessToken = codec.decode(token);
+
+        // then
+        assertThat(accessToken.getSubject()).isEqualTo("u\"s\\er\uD83D\uDE00\n");
+        assertThat(accessToken.getAuthorities()).isEmpty();
+        assertThat(accessToken.getId()).isNull();
+    }
+
+    @Test
+    void decode_WithDuplicateField_ShouldThrowException() {
+        assertMalformedPayload("{\"sub\":\"user\",\"sub\":\"admin\",\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"user\",\"x\":1,\"x\":2,\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+    }
+
+    @Test
+    void decode_WithInvalidEscape_ShouldThrowException() {
+        assertMalformedPayload("{\"sub\":\"\\x\",\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"\\u12G4\",\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"\\u+041\",\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"\\u00");
+    }
+
+    @Test
+    void decode_WithNestedValue_ShouldThrowException() {
+        assertMalformedPayload("{\"sub\":\"user\",\"x\":{\"a\":1},\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"user\",\"x\":[[\"a\"]],\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"user\",\"auth\":[1],\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+    }
+
+    @Test
+    void decode_WithInvalidStructure_ShouldThrowException() {
+        assertMalformedPayload("{\"sub\":\"user\",\"exp\":" + Long.MAX_VALUE / 1000 + "}{}");
+        assertMalformedPayload("{\"sub\":\"user\",\"x\":bogus,\"exp\":" + Long.MAX_VALUE / 1000 + "}");
+        assertMalformedPayload("{\"sub\":\"user\",\"exp\":1.5}");
+        assertMalformedPayload("{\"sub\":\"user\"}");
+        assertMalformedPayload("[]");
+    }
+
+    private static void assertMalformedPayload(String payload) {
+        NetsSsoAccessTokenCodec codec = NetsSsoAccessTokenCodec.hmac(SECRET);
+        assertThatThrownBy(() -> codec.decode(signed(payload)))
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .hasMessage("Malformed access token payload");
+    }
+
+    /**
+     * 임의의 페이로드에 HS256으로 서명한 토큰을 만든다.
+     */
+    private static String signed(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + '.' + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+            return signingInput + '.' + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
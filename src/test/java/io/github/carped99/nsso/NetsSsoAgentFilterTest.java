@@ -0,0 +1,223 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NetsSsoAgentFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoAgentFilterTest {
+
+    @Mock
+    private NetsSsoAgentService agentService;
+
+    private NetsSsoAgentFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new NetsSsoAgentFilter("/nsso", agentService);
+    }
+
+    @Test
+    void doFilter_WithCheckRequest_ShouldWriteJsonWithContentLength() throws Exception {
+        // given
+        when(agentService.check(any(), any())).thenReturn("{\"result\":true}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("POST", "/nsso/check"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("{\"result\":true}");
+        assertThat(response.getContentLength()).isEqualTo(15);
+        assertThat(response.getContentType()).startsWith("application/json");
+    }
+
+    @Test
+    void doFilter_WhenServiceFails_ShouldWriteEscapedError() throws Exception {
+        // given
+        when(agentService.key(any(), any())).thenThrow(new IllegalStateException("bad \"key\""));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("POST", "/nsso/key"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getContentAsString())
+                .isEqualTo("{\"result\":false,\"errorCode\":\"50000000\",\"errorMessage\":\"bad \\\"key\\\"\"}");
+    }
+
+    @Test
+    void doFilter_WithConfigCache_ShouldCallAgentOnceAndHonourEtag() throws Exception {
+        // given
+        filter.setConfigCache(new NetsSsoResponseCache(() -> "v1", CacheControl.noCache()));
+        when(agentService.config(any(), any())).thenReturn("{\"ssosite\":\"site\"}");
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/nsso/config"), first, new MockFilterChain());
+        String etag = first.getHeader("ETag");
+
+        MockHttpServletRequest conditional = request("GET", "/nsso/config");
+        conditional.addHeader("If-None-Match", etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(conditional, second, new MockFilterChain());
+
+        // then
+        assertThat(etag).isNotNull();
+        assertThat(first.getContentAsString()).isEqualTo("{\"ssosite\":\"site\"}");
+        assertThat(second.getStatus()).isEqualTo(304);
+        verify(agentService, times(1)).config(any(), any());
+    }
+
+    @Test
+    void doFilter_WithKeyCache_ShouldServeKeyFromMemory() throws Exception {
+        // given
+        filter.setKeyCache(new NetsSsoResponseCache(() -> "v1", CacheControl.noCache()));
+        when(agentService.key(any(), any())).thenReturn("{\"publicKey\":\"abc\"}");
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/nsso/key"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("POST", "/nsso/key"), second, new MockFilterChain());
+
+        // then
+        assertThat(second.getContentAsString()).isEqualTo("{\"publicKey\":\"abc\"}");
+        assertThat(second.getHeader("ETag")).isEqualTo(first.getHeader("ETag")).isNotNull();
+        assertThat(filter.getRouter().matches(request("GET", "/nsso/key"))).isTrue();
+        verify(agentService, times(1)).key(any(), any());
+    }
+
+    @Test
+    void getRouter_WithoutConfigCache_ShouldNotMatchGetConfig() {
+        // when & then
+        assertThat(filter.getRouter().matches(request("GET", "/nsso/config"))).isFalse();
+        assertThat(filter.getRouter().matches(request("POST", "/nsso/config"))).isTrue();
+    }
+
+    @Test
+    void doFilter_WithServerTiming_ShouldAddTimingHeaderBeforeBody() throws Exception {
+        // given
+        filter.setServerTiming(true);
+        when(agentService.check(any(), any())).thenReturn("{\"result\":true}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("POST", "/nsso/check"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader(NetsSsoServerTiming.HEADER))
+                .matches("agent;dur=\\d+\\.\\d, ser;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d");
+        assertThat(response.getContentAsString()).isEqualTo("{\"result\":true}");
+    }
+
+    @Test
+    void doFilter_WithServerTimingOnNotModified_ShouldAddTimingHeaderWithoutBody() throws Exception {
+        // given
+        filter.setServerTiming(true);
+        filter.setConfigCache(new NetsSsoResponseCache(() -> "v1", CacheControl.noCache()));
+        when(agentService.config(any(), any())).thenReturn("{\"ssosite\":\"site\"}");
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/nsso/config"), first, new MockFilterChain());
+
+        MockHttpServletRequest conditional = request("GET", "/nsso/config");
+        conditional.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(conditional, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(NetsSsoServerTiming.HEADER)).matches("total;dur=\\d+\\.\\d");
+    }
+
+    @Test
+    void doFilter_WithoutServerTiming_ShouldNotAddTimingHeader() throws Exception {
+        // given
+        when(agentService.check(any(), any())).thenReturn("{\"result\":true}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("POST", "/nsso/check"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.containsHeader(NetsSsoServerTiming.HEADER)).isFalse();
+    }
+
+    @Test
+    void doFilter_WhenAsyncCallOutlivesTimeout_ShouldRespondButKeepAsyncOpenUntilCallEnds() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        when(agentService.check(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            invocation.<HttpServletResponse>getArgument(1).addCookie(new Cookie("late", "value"));
+            return "{\"result\":true}";
+        });
+        filter.setExecutor(executor);
+        filter.setTimeout(Duration.ofMillis(50));
+        MockHttpServletRequest request = request("POST", "/nsso/check");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            // when
+            filter.doFilter(request, response, new MockFilterChain());
+            awaitUntil(() -> response.getContentLength() > 0);
+
+            // then
+            assertThat(response.getContentAsString()).contains("\"errorCode\":\"50000001\"");
+            assertThat(request.isAsyncStarted()).isTrue();
+
+            release.countDown();
+            awaitUntil(() -> !request.isAsyncStarted());
+            assertThat(response.getCookie("late")).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoLocalSessionIndex;
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * NetsSsoBackChannelLogoutFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoBackChannelLogoutFilterTest {
+    private static final String SECRET = "s3cret";
+
+    @Mock
+    private NetsSsoPrincipalCache principalCache;
+
+    private NetsSsoLocalSessionIndex sessionIndex;
+    private NetsSsoBackChannelLogoutFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        sessionIndex = new NetsSsoLocalSessionIndex();
+        filter = new NetsSsoBackChannelLogoutFilter(NetsSsoRoute.of("backchannel-logout", HttpMethod.POST, "/nsso/backchannel-logout"), sessionIndex, SECRET);
+        filter.addPrincipalCache(principalCache);
+    }
+
+    @Test
+    void doFilter_WithValidSecret_ShouldInvalidateSessionsOfUsers() throws Exception {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        sessionIndex.register("alice", NetsSsoSessionId.session("s1", expiresAt));
+        sessionIndex.register("alice", NetsSsoSessionId.token("t1", expiresAt));
+        sessionIndex.register("bob", NetsSsoSessionId.session("s2", expiresAt));
+        MockHttpServletRequest request = request(SECRET);
+        request.addParameter(SSOConst.USER_ID, "alice", "bob", "carol");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("{\"result\":true,\"users\":3,\"sessions\":3}");
+        verify(principalCache).evict("s1");
+        verify(principalCache).evict("s2");
+        assertThat(sessionIndex.isRevoked("t1")).isTrue();
+        assertThat(sessionIndex.size()).isZero();
+    }
+
+    @Test
+    void doFilter_AfterBackChannelLogout_ShouldLetRevocationFilterInvalidateLoginSession() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest login = new MockHttpServletRequest("POST", "/nsso/login");
+        login.setSession(session);
+        NetsSsoSessionRevocationFilter.registerSession(sessionIndex, login, "alice");
+
+        MockHttpServletRequest logout = request(SECRET);
+        logout.addParameter(SSOConst.USER_ID, "alice");
+        MockHttpServletResponse logoutResponse = new MockHttpServletResponse();
+        filter.doFilter(logout, logoutResponse, new MockFilterChain());
+
+        MockHttpServletRequest next = new MockHttpServletRequest("GET", "/app");
+        next.setSession(session);
+
+        // when
+        new NetsSsoSessionRevocationFilter(sessionIndex).doFilter(next, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(logoutResponse.getContentAsString()).isEqualTo("{\"result\":true,\"users\":1,\"sessions\":1}");
+        assertThat(session.isInvalid()).isTrue();
+    }
+
+    @Test
+    void doFilter_WithWrongSecret_ShouldRespondUnauthorized() throws Exception {
+        // given
+        sessionIndex.register("alice", NetsSsoSessionId.session("s1", Instant.now().plusSeconds(60)));
+        MockHttpServletRequest request = request("wrong");
+        request.addParameter(SSOConst.USER_ID, "alice");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(sessionIndex.size()).isEqualTo(1);
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    void doFilter_WithoutUsers_ShouldRespondBadRequest() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(SECRET), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    private static MockHttpServletRequest request(String secret) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/backchannel-logout");
+        request.setServletPath("/nsso/backchannel-logout");
+        request.addHeader(NetsSsoBackChannelLogoutFilter.SECRET_HEADER, secret);
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoLocalSessionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoBearerTokenFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoBearerTokenFilterTest {
+
+    private final NetsSsoAccessTokenCodec codec = NetsSsoAccessTokenCodec.hmac("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+    private final NetsSsoBearerTokenFilter filter = new NetsSsoBearerTokenFilter(codec);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WithValidToken_ShouldAuthenticate() throws Exception {
+        // given
+        String token = codec.encode("user", AuthorityUtils.createAuthorityList("ROLE_USER"), Duration.ofMinutes(5));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        // then
+        assertThat(authentication.get()).isInstanceOf(NetsSsoAuthentication.class);
+        assertThat(authentication.get().isAuthenticated()).isTrue();
+        assertThat(authentication.get().getName()).isEqualTo("user");
+        assertThat(AuthorityUtils.authorityListToSet(authentication.get().getAuthorities())).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void doFilter_WithInvalidToken_ShouldRespondUnauthorized() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer invalid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader(HttpHeaders.WWW_AUTHENTICATE)).contains("invalid_token");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_WithRevokedToken_ShouldRespondUnauthorized() throws Exception {
+        // given
+        NetsSsoLocalSessionIndex sessionIndex = new NetsSsoLocalSessionIndex();
+        filter.setSessionIndex(sessionIndex);
+        NetsSsoAccessToken accessToken = codec.newToken("user", AuthorityUtils.NO_AUTHORITIES, Duration.ofMinutes(5));
+        sessionIndex.register("user", NetsSsoSessionId.token(accessToken.getId(), accessToken.getExpiresAt()));
+        sessionIndex.removeAll("user");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + codec.encode(accessToken));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void doFilter_WithoutHeader_ShouldContinueChain() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api"), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.carped99.nsso;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoJsonWriter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void field_ShouldWriteCommaSeparatedObject() {
+        // when
+        String json = new NetsSsoJsonWriter()
+                .beginObject()
+                .field("result", true)
+                .field("errorCode", 0)
+                .field("timeoutMinutes", -15)
+                .field("tfaID", "abc")
+                .field("code", null)
+                .endObject()
+                .toString();
+
+        // then
+        assertThat(json).isEqualTo("{\"result\":true,\"errorCode\":0,\"timeoutMinutes\":-15,\"tfaID\":\"abc\",\"code\":null}");
+    }
+
+    @Test
+    void field_WithSpecialCharacters_ShouldEscape() throws Exception {
+        // given
+        String message = "\"quoted\" \\ back\nline\ttab\u0001 한글 😀";
+
+        // when
+        byte[] json = new NetsSsoJsonWriter(16).beginObject().field("errorMessage", message).endObject().toByteArray();
+
+        // then
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.get("errorMessage").asText()).isEqualTo(message);
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\\u0001", "\\n", "\\\"");
+    }
+
+    @Test
+    void field_WithLongBoundaries_ShouldWriteDigits() throws Exception {
+        // when
+        byte[] json = new NetsSsoJsonWriter()
+                .beginObject()
+                .field("max", Long.MAX_VALUE)
+                .field("min", Long.MIN_VALUE)
+                .endObject()
+                .toByteArray();
+
+        // then
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.get("max").asLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(node.get("min").asLong()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void errorResult_WithNullMessage_ShouldWriteNull() throws Exception {
+        // when
+        JsonNode node = objectMapper.readTree(NetsSsoJsonWriter.errorResult("50000000", null));
+
+        // then
+        assertThat(node.get("result").asBoolean()).isFalse();
+        assertThat(node.get("errorCode").asText()).isEqualTo("50000000");
+        assertThat(node.get("errorMessage").isNull()).isTrue();
+    }
+
+    @Test
+    void writeTo_ShouldSetContentLengthAndType() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        NetsSsoJsonWriter writer = new NetsSsoJsonWriter().beginObject().field("userId", "홍길동").endObject();
+
+        // when
+        writer.writeTo(response);
+
+        // then
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getCharacterEncoding()).isEqualTo("UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(writer.size());
+        assertThat(response.getContentAsString()).isEqualTo("{\"userId\":\"홍길동\"}");
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoVegasLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoLimitFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoLimitFilterTest {
+    private final NetsSsoRouter router = NetsSsoRouter.of(List.of(
+            NetsSsoRoute.of("login", HttpMethod.POST, "/nsso/login"),
+            NetsSsoRoute.of("check", HttpMethod.POST, "/nsso/check")));
+
+    private final NetsSsoLimits limits = new NetsSsoLimits()
+            .route("login", () -> new NetsSsoVegasLimiter().setLimitRange(1, 1))
+            .setRetryAfter(Duration.ofMillis(1500));
+
+    private final NetsSsoLimitFilter filter = new NetsSsoLimitFilter(router, limits);
+
+    @Test
+    void doFilter_WhenLimitReached_ShouldRespondServiceUnavailable() throws Exception {
+        // given
+        NetsSsoLimiter.Permit held = limits.getLimiter("login").acquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("/nsso/login"), response, chain);
+
+        // then
+        assertThat(held).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains(NetsSsoLimitFilter.LIMIT_EXCEEDED_CODE);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_WithinLimit_ShouldContinueChainAndReleasePermit() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("/nsso/login"), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limits.getLimiter("login").getInFlight()).isZero();
+        assertThat(limits.getLimiter("check").getInFlight()).isZero();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
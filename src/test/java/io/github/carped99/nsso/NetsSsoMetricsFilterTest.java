@@ -0,0 +1,80 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoMicrometerMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+/**
+ * NetsSsoMetricsFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoMetricsFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private NetsSsoMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new NetsSsoMetricsFilter(NetsSsoRouter.of(List.of(
+                NetsSsoRoute.of("check", HttpMethod.POST, "/nsso/check"),
+                NetsSsoRoute.of("login", HttpMethod.POST, "/nsso/login")
+        )), new NetsSsoMicrometerMetrics(registry));
+    }
+
+    @Test
+    void doFilter_WithEndpointRequest_ShouldRecordTimer() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/check");
+        request.setServletPath("/nsso/check");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        Timer timer = registry.find("nsso.endpoint").tags("endpoint", "check", "status", "200").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(registry.get("nsso.endpoint.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void doFilter_WithErrorStatus_ShouldTagStatus() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/login");
+        request.setServletPath("/nsso/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(401));
+
+        // then
+        assertThat(registry.find("nsso.endpoint").tags("endpoint", "login", "status", "401").timer()).isNotNull();
+    }
+
+    @Test
+    void doFilter_WithOtherRequest_ShouldNotRecord() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.setServletPath("/api/users");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(registry.find("nsso.endpoint").timers()).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.carped99.nsso;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 관찰한 단계를 순서대로 기록하는 테스트용 인증 단계 관찰기
+ *
+ * <p>이벤트는 {@code start 단계@엔드포인트}, {@code tag 단계 키=값}, {@code error 단계 예외클래스}, {@code stop 단계} 형식으로 기록합니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+public class NetsSsoRecordingObserver implements NetsSsoObserver {
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Stage start(String stage, String endpoint) {
+        events.add("start " + stage + "@" + endpoint);
+        return new Stage() {
+            @Override
+            public Stage tag(String key, String value) {
+                events.add("tag " + stage + " " + key + "=" + value);
+                return this;
+            }
+
+            @Override
+            public void error(Throwable error) {
+                events.add("error " + stage + " " + error.getClass().getSimpleName());
+            }
+
+            @Override
+            public void stop() {
+                events.add("stop " + stage);
+            }
+        };
+    }
+
+    /**
+     * 기록한 이벤트를 반환합니다.
+     *
+     * @return 기록 순서대로의 이벤트
+     */
+    public List<String> getEvents() {
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+}
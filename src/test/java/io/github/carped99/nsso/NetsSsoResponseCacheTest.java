@@ -0,0 +1,290 @@
+package io.github.carped99.nsso;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NetsSsoResponseCache 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoResponseCacheTest {
+
+    private final AtomicReference<Object> version = new AtomicReference<>(new Object());
+    private final AtomicInteger loads = new AtomicInteger();
+    private NetsSsoResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NetsSsoResponseCache(version::get, CacheControl.noCache(), 2);
+    }
+
+    @Test
+    void getOrLoad_SecondCall_ShouldReturnStoredEntryWithStrongEtag() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when
+        NetsSsoResponseCache.Entry first = cache.getOrLoad(request, this::load);
+        NetsSsoResponseCache.Entry second = cache.getOrLoad(request, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"").doesNotStartWith("W/").hasSize(66);
+    }
+
+    @Test
+    void getOrLoad_WhenVersionChanged_ShouldLoadAgain() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        NetsSsoResponseCache.Entry first = cache.getOrLoad(request, this::load);
+
+        // when
+        version.set(new Object());
+        NetsSsoResponseCache.Entry second = cache.getOrLoad(request, this::load);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getOrLoad_BeyondMaxEntries_ShouldEvictOnlyOnceUsedEntries() {
+        // given
+        cache.getOrLoad(request("a"), this::load);
+        cache.getOrLoad(request("a"), this::load);
+
+        // when
+        cache.getOrLoad(request("b"), this::load);
+        cache.getOrLoad(request("c"), this::load);
+        cache.getOrLoad(request("d"), this::load);
+        cache.getOrLoad(request("a"), this::load);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void getOrLoad_WithUnresolvedForwardedHeader_ShouldNotStoreAndWriteNoStore() throws Exception {
+        // given
+        cache.getOrLoad(request("a"), this::load);
+        MockHttpServletRequest forwarded = request("a");
+        forwarded.addHeader("X-Forwarded-Host", "evil.example.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        NetsSsoResponseCache.Entry entry = cache.getOrLoad(forwarded, this::load);
+        cache.write(forwarded, response, entry);
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(entry.getEtag()).isNull();
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+    }
+
+    @Test
+    void getOrLoad_AfterRefreshInterval_ShouldRefreshAndRecordEvents() throws Exception {
+        // given
+        NetsSsoMetrics metrics = mock(NetsSsoMetrics.class);
+        cache.setMetrics(metrics, "key");
+        cache.setRefreshAfter(Duration.ofNanos(1));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        NetsSsoResponseCache.Entry first = cache.getOrLoad(request, this::load);
+        Thread.sleep(1);
+
+        // when
+        NetsSsoResponseCache.Entry second = cache.getOrLoad(request, this::load);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEtag()).isNotEqualTo(first.getEtag());
+        verify(metrics).recordCacheEvent("key", "miss");
+        verify(metrics).recordCacheEvent("key", "refresh");
+    }
+
+    @Test
+    void getOrLoad_WhenRefreshFails_ShouldServeStaleEntry() throws Exception {
+        // given
+        NetsSsoMetrics metrics = mock(NetsSsoMetrics.class);
+        cache.setMetrics(metrics, "key");
+        cache.setRefreshAfter(Duration.ofNanos(1));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        NetsSsoResponseCache.Entry first = cache.getOrLoad(request, this::load);
+        Thread.sleep(1);
+
+        // when
+        NetsSsoResponseCache.Entry second = cache.getOrLoad(request, () -> {
+            throw new IllegalStateException("agent down");
+        });
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(metrics).recordCacheEvent("key", "stale");
+    }
+
+    @Test
+    void getOrLoad_WhileAnotherRequestRefreshes_ShouldServeStaleEntry() throws Exception {
+        // given
+        cache.setRefreshAfter(Duration.ofNanos(1));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        NetsSsoResponseCache.Entry first = cache.getOrLoad(request, this::load);
+        Thread.sleep(1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<NetsSsoResponseCache.Entry> refresher = CompletableFuture.supplyAsync(() -> cache.getOrLoad(request, () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load();
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        NetsSsoResponseCache.Entry concurrent = cache.getOrLoad(request, this::load);
+        release.countDown();
+
+        // then
+        assertThat(concurrent).isSameAs(first);
+        assertThat(refresher.get(5, TimeUnit.SECONDS)).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getOrLoad_WithoutStaleEntryWhenLoaderFails_ShouldThrow() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when & then
+        assertThatThrownBy(() -> cache.getOrLoad(request, () -> null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getOrLoad_WithNoStoreAttribute_ShouldNotStoreAndWriteNoStore() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/nsso/key");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        NetsSsoResponseCache.Entry entry = cache.getOrLoad(request, () -> {
+            request.setAttribute(NetsSsoResponseCache.NO_STORE_ATTRIBUTE, Boolean.TRUE);
+            return "{\"errorCode\":1}";
+        });
+        cache.write(request, response, entry);
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(entry.getEtag()).isNull();
+        assertThat(response.getHeader("ETag")).isNull();
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(response.getContentAsString()).isEqualTo("{\"errorCode\":1}");
+    }
+
+    @Test
+    void getOrLoad_WithErrorResult_ShouldNotStoreWithoutNoStoreAttribute() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/nsso/config");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        NetsSsoResponseCache.Entry entry = cache.getOrLoad(request, () -> "{\"result\": false,\"errorCode\":50000000}");
+        cache.write(request, response, entry);
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(entry.getEtag()).isNull();
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+    }
+
+    @Test
+    void write_WithMatchingIfNoneMatchOnGet_ShouldReturnNotModified() throws Exception {
+        // given
+        NetsSsoResponseCache.Entry entry = cache.getOrLoad(new MockHttpServletRequest(), () -> "{\"a\":1}");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/nsso/config");
+        request.addHeader("If-None-Match", "\"other\", W/" + entry.getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        cache.write(request, response, entry);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+        assertThat(response.getHeader("ETag")).isEqualTo(entry.getEtag());
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+    }
+
+    @Test
+    void write_WithMatchingIfNoneMatchOnPost_ShouldWriteBody() throws Exception {
+        // given
+        NetsSsoResponseCache.Entry entry = cache.getOrLoad(new MockHttpServletRequest(), () -> "{\"a\":1}");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/config");
+        request.addHeader("If-None-Match", entry.getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        cache.write(request, response, entry);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("{\"a\":1}");
+        assertThat(response.getHeader("ETag")).isEqualTo(entry.getEtag());
+    }
+
+    @Test
+    void cacheKey_ShouldDistinguishResolvedHostAndPort() {
+        // given
+        MockHttpServletRequest first = request("a.example.com");
+        MockHttpServletRequest second = request("b.example.com");
+        MockHttpServletRequest third = request("a.example.com");
+        third.setServerPort(8443);
+
+        // when & then
+        assertThat(NetsSsoResponseCache.cacheKey(first))
+                .isNotEqualTo(NetsSsoResponseCache.cacheKey(second))
+                .isNotEqualTo(NetsSsoResponseCache.cacheKey(third));
+    }
+
+    @Test
+    void cacheKey_WithUnresolvedForwardedHeader_ShouldReturnNull() {
+        // given
+        MockHttpServletRequest request = request("a.example.com");
+        request.addHeader("Forwarded", "host=b.example.com");
+
+        // when & then
+        assertThat(NetsSsoResponseCache.cacheKey(request)).isNull();
+    }
+
+    private String load() {
+        return "{\"load\":" + loads.incrementAndGet() + "}";
+    }
+
+    private static MockHttpServletRequest request(String serverName) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName(serverName);
+        return request;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.carped99.nsso;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NetsSsoRouter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoRouterTest {
+
+    private NetsSsoRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = NetsSsoRouter.of(List.of(
+                NetsSsoRoute.of("check", HttpMethod.POST, "/nsso/check"),
+                NetsSsoRoute.of("config", HttpMethod.POST, "/nsso/config"),
+                NetsSsoRoute.of("logout", null, "/nsso/logout")
+        ));
+    }
+
+    @Test
+    void route_WithMatchingPathAndMethod_ShouldReturnRoute() {
+        // given
+        MockHttpServletRequest request = request("POST", "/nsso/check");
+
+        // when
+        NetsSsoRoute route = router.route(request);
+
+        // then
+        assertThat(route).isNotNull();
+        assertThat(route.getName()).isEqualTo("check");
+    }
+
+    @Test
+    void route_WithOtherMethod_ShouldReturnNull() {
+        // when & then
+        assertThat(router.route(request("GET", "/nsso/check"))).isNull();
+        assertThat(router.matches(request("GET", "/nsso/check"))).isFalse();
+    }
+
+    @Test
+    void route_WithAnyMethodRoute_ShouldMatchAllMethods() {
+        // when & then
+        assertThat(router.route(request("GET", "/nsso/logout")).getName()).isEqualTo("logout");
+        assertThat(router.route(request("POST", "/nsso/logout")).getName()).isEqualTo("logout");
+    }
+
+    @Test
+    void route_WithOtherPath_ShouldReturnNull() {
+        // when & then
+        assertThat(router.route(request("POST", "/api/users"))).isNull();
+        assertThat(router.route(request("POST", "/nsso/check/"))).isNull();
+    }
+
+    @Test
+    void route_WithPathInfo_ShouldCombineServletPath() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/config");
+        request.setServletPath("/nsso");
+        request.setPathInfo("/config");
+
+        // when & then
+        assertThat(router.route(request).getName()).isEqualTo("config");
+    }
+
+    @Test
+    void route_WithSamePathAndDifferentMethods_ShouldSelectByMethod() {
+        // given
+        NetsSsoRouter router = NetsSsoRouter.of(List.of(
+                NetsSsoRoute.of("config", HttpMethod.POST, "/nsso/config"),
+                NetsSsoRoute.of("config.get", HttpMethod.GET, "/nsso/config")
+        ));
+
+        // when & then
+        assertThat(router.route(request("POST", "/nsso/config")).getName()).isEqualTo("config");
+        assertThat(router.route(request("GET", "/nsso/config")).getName()).isEqualTo("config.get");
+    }
+
+    @Test
+    void of_WithDuplicatePathAndMethod_ShouldThrowException() {
+        // when & then
+        assertThatThrownBy(() -> NetsSsoRouter.of(List.of(
+                NetsSsoRoute.of("check", HttpMethod.POST, "/nsso/check"),
+                NetsSsoRoute.of("other", HttpMethod.POST, "/nsso/check")
+        ))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
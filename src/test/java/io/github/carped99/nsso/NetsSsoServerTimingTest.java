@@ -0,0 +1,64 @@
+package io.github.carped99.nsso;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoServerTiming 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoServerTimingTest {
+
+    @Test
+    void toHeaderValue_WithRecordedStages_ShouldSkipStagesNeverBegun() {
+        // given
+        NetsSsoServerTiming timing = NetsSsoServerTiming.start(new MockHttpServletRequest());
+        timing.begin(NetsSsoServerTiming.Stage.AGENT);
+        timing.end(NetsSsoServerTiming.Stage.AGENT);
+        timing.begin(NetsSsoServerTiming.Stage.USER);
+        timing.end(NetsSsoServerTiming.Stage.USER);
+
+        // when
+        String value = timing.toHeaderValue();
+
+        // then
+        assertThat(value).matches("agent;dur=\\d+\\.\\d, user;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d");
+    }
+
+    @Test
+    void wrap_WhenRedirected_ShouldCloseOpenStageAndWriteHeaderOnce() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        NetsSsoServerTiming timing = NetsSsoServerTiming.start(request);
+        HttpServletResponse wrapped = timing.wrap(response);
+        NetsSsoServerTiming.of(request).begin(NetsSsoServerTiming.Stage.SERIALIZATION);
+
+        // when
+        wrapped.sendRedirect("/home");
+        wrapped.flushBuffer();
+
+        // then
+        assertThat(response.getHeaders(NetsSsoServerTiming.HEADER)).singleElement()
+                .asString().startsWith("ser;dur=");
+    }
+
+    @Test
+    void of_WithoutStartedTiming_ShouldNotWrapResponse() {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        NetsSsoServerTiming timing = NetsSsoServerTiming.of(new MockHttpServletRequest());
+
+        // then
+        assertThat(timing.wrap(response)).isSameAs(response);
+        assertThat(NetsSsoServerTiming.of(null)).isSameAs(timing);
+    }
+}
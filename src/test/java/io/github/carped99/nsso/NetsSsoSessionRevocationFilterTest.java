@@ -0,0 +1,97 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoLocalSessionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoSessionRevocationFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoSessionRevocationFilterTest {
+    private NetsSsoLocalSessionIndex sessionIndex;
+    private NetsSsoSessionRevocationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        sessionIndex = new NetsSsoLocalSessionIndex();
+        filter = new NetsSsoSessionRevocationFilter(sessionIndex);
+    }
+
+    @Test
+    void doFilter_WithRevokedSession_ShouldInvalidateSessionAndContinue() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        NetsSsoSessionRevocationFilter.registerSession(sessionIndex, login(session), "alice");
+        sessionIndex.removeAll("alice");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(next(session), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(session.isInvalid()).isTrue();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void doFilter_WithRegisteredSessionNotRevoked_ShouldKeepSession() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        NetsSsoSessionRevocationFilter.registerSession(sessionIndex, login(session), "alice");
+
+        // when
+        filter.doFilter(next(session), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(session.isInvalid()).isFalse();
+        assertThat(sessionIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_WithUnregisteredSession_ShouldKeepSession() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+
+        // when
+        filter.doFilter(next(session), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(session.isInvalid()).isFalse();
+        assertThat(sessionIndex.size()).isZero();
+    }
+
+    @Test
+    void unregisterSession_ShouldRemoveLoginSessionFromIndex() {
+        // given
+        MockHttpServletRequest request = login(new MockHttpSession());
+        NetsSsoSessionRevocationFilter.registerSession(sessionIndex, request, "alice");
+
+        // when
+        NetsSsoSessionRevocationFilter.unregisterSession(sessionIndex, request);
+
+        // then
+        assertThat(sessionIndex.size()).isZero();
+        assertThat(request.getSession().getAttribute(NetsSsoSessionRevocationFilter.SESSION_ATTRIBUTE)).isNull();
+    }
+
+    private static MockHttpServletRequest login(MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/login");
+        request.setSession(session);
+        return request;
+    }
+
+    private static MockHttpServletRequest next(MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app");
+        request.setSession(session);
+        return request;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.carped99.nsso;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NetsSsoTokenFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoTokenFilterTest {
+
+    @Mock
+    private NetsSsoAuthenticationService authenticationService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private AuthenticationSuccessHandler successHandler;
+
+    @Mock
+    private AuthenticationFailureHandler failureHandler;
+
+    private NetsSsoRecordingObserver observer;
+    private NetsSsoTokenFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        observer = new NetsSsoRecordingObserver();
+        filter = new NetsSsoTokenFilter(request -> true, authenticationService, userDetailsService);
+        filter.setSuccessHandler(successHandler);
+        filter.setFailureHandler(failureHandler);
+        filter.setObserver(observer);
+    }
+
+    @Test
+    void doFilter_WhenAuthenticated_ShouldObserveStagesInOrder() throws Exception {
+        // given
+        when(authenticationService.authenticate(any(), any()))
+                .thenReturn(NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES));
+        when(userDetailsService.loadUserByUsername("testUser"))
+                .thenReturn(User.withUsername("testUser").password("").authorities(AuthorityUtils.NO_AUTHORITIES).build());
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/nsso/token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(observer.getEvents()).containsExactly(
+                "start authenticate@token", "stop authenticate",
+                "start loadUserByUsername@token", "stop loadUserByUsername",
+                "start successHandler@token", "stop successHandler");
+        verify(successHandler).onAuthenticationSuccess(any(), any(), any());
+    }
+
+    @Test
+    void doFilter_WhenAuthenticationFails_ShouldRecordErrorAndCallFailureHandler() throws Exception {
+        // given
+        BadCredentialsException failure = new BadCredentialsException("rejected");
+        when(authenticationService.authenticate(any(), any())).thenThrow(failure);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/nsso/token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(observer.getEvents()).containsExactly(
+                "start authenticate@token", "error authenticate BadCredentialsException", "stop authenticate");
+        verify(failureHandler).onAuthenticationFailure(any(), any(), eq(failure));
+    }
+
+    @Test
+    void doFilter_WhenUserIsNotFound_ShouldRecordErrorAndCallFailureHandler() throws Exception {
+        // given
+        when(authenticationService.authenticate(any(), any()))
+                .thenReturn(NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES));
+        when(userDetailsService.loadUserByUsername("testUser")).thenThrow(new UsernameNotFoundException("testUser"));
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/nsso/token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(observer.getEvents()).containsExactly(
+                "start authenticate@token", "stop authenticate",
+                "start loadUserByUsername@token", "error loadUserByUsername UsernameNotFoundException", "stop loadUserByUsername");
+        verify(failureHandler).onAuthenticationFailure(any(), any(), any(UsernameNotFoundException.class));
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.carped99.nsso;
+
+import io.github.carped99.nsso.impl.NetsSsoWarmupStubs;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NetsSsoWarmup 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoWarmupTest {
+
+    @Mock
+    private NetsSsoAgentService agentService;
+
+    @Test
+    void start_ShouldRunInitializersOnceAndStepsRepeatedly() {
+        // given
+        AtomicInteger initialized = new AtomicInteger();
+        AtomicInteger executed = new AtomicInteger();
+        NetsSsoWarmup warmup = new NetsSsoWarmup()
+                .setIterations(10)
+                .addInitializer("init", initialized::incrementAndGet)
+                .addStep("step", executed::incrementAndGet);
+
+        // when
+        warmup.start();
+
+        // then
+        assertThat(initialized).hasValue(1);
+        assertThat(executed).hasValue(10);
+        assertThat(warmup.isWarmedUp()).isTrue();
+        assertThat(warmup.isRunning()).isTrue();
+        assertThat(warmup.getStepDurations()).containsOnlyKeys("init", "step");
+        assertThat(warmup.getDuration()).isPositive();
+    }
+
+    @Test
+    void start_WhenInitializerFails_ShouldThrowAndStayNotReady() {
+        // given
+        NetsSsoWarmup warmup = new NetsSsoWarmup().addInitializer("SSOConf", () -> {
+            throw new IllegalArgumentException("no config");
+        });
+
+        // when & then
+        assertThatThrownBy(warmup::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SSOConf");
+        assertThat(warmup.isWarmedUp()).isFalse();
+    }
+
+    @Test
+    void start_WhenStepFails_ShouldContinueWithNextStep() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        NetsSsoWarmup warmup = new NetsSsoWarmup()
+                .setIterations(5)
+                .addStep("broken", () -> {
+                    throw new IllegalStateException("broken");
+                })
+                .addStep("step", executed::incrementAndGet);
+
+        // when
+        warmup.start();
+
+        // then
+        assertThat(executed).hasValue(5);
+        assertThat(warmup.isWarmedUp()).isTrue();
+    }
+
+    @Test
+    void addFilterStep_WithAgentFilter_ShouldDispatchSyntheticRequests() {
+        // given
+        when(agentService.check(any(), any())).thenReturn("{\"result\":true}");
+        when(agentService.key(any(), any())).thenReturn("{\"result\":true}");
+        NetsSsoAgentFilter filter = new NetsSsoAgentFilter("/nsso", agentService);
+        NetsSsoWarmup warmup = new NetsSsoWarmup()
+                .setIterations(3)
+                .addFilterStep("agent", filter, filter.getRouter().getRoutes().stream()
+                        .filter(route -> route.getName().equals("check") || route.getName().equals("key"))
+                        .toList());
+
+        // when
+        warmup.start();
+
+        // then
+        verify(agentService, times(3)).check(any(), any());
+        verify(agentService, times(3)).key(any(), any());
+    }
+
+    @Test
+    void syntheticRequest_ShouldExposePathMethodAndAttributes() {
+        // given
+        HttpServletRequest request = NetsSsoWarmup.syntheticRequest(HttpMethod.POST, "/nsso/login");
+
+        // when
+        request.setAttribute("a", 1);
+
+        // then
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(NetsSsoRoute.of("login", HttpMethod.POST, "/nsso/login").matches(request)).isTrue();
+        assertThat(request.getAttribute("a")).isEqualTo(1);
+        assertThat(request.getHeader("SSOAgent-Type")).isNull();
+    }
+
+    @Test
+    void warmupStubs_ShouldAuthenticateWithoutAgent() {
+        // given
+        NetsSsoAuthenticationProvider provider = new NetsSsoAuthenticationProvider(NetsSsoWarmupStubs.authenticationService(),
+                username -> User.withUsername(username).password("").authorities("ROLE_USER").build());
+
+        // when
+        Authentication result = provider.authenticate(NetsSsoAuthentication.unauthenticated(
+                NetsSsoWarmup.syntheticRequest(HttpMethod.POST, "/nsso/login"), NetsSsoWarmup.syntheticResponse()));
+
+        // then
+        assertThat(result.getName()).isEqualTo(NetsSsoWarmupStubs.USERNAME);
+        assertThat(result.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void getPhase_ShouldStartBeforeWebServer() {
+        // when & then
+        assertThat(new NetsSsoWarmup().getPhase()).isLessThan(Integer.MAX_VALUE - 2048);
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.carped99.nsso.configure;
+
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import io.github.carped99.nsso.NetsSsoBackChannelLogoutFilter;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.github.carped99.nsso.NetsSsoSessionIndex;
+import io.github.carped99.nsso.NetsSsoSessionRevocationFilter;
+import io.github.carped99.nsso.impl.NetsSsoAuthenticationServiceImpl;
+import io.github.carped99.nsso.impl.NetsSsoLocalPrincipalCache;
+import io.github.carped99.nsso.impl.NetsSsoLocalSessionIndex;
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.FilterChainProxy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * NetsSsoAuthenticationConfigurer 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoAuthenticationConfigurerTest {
+
+    @Mock
+    private NetsSsoAuthenticationService authenticationService;
+
+    @Mock
+    private AuthenticationProvider applicationProvider;
+
+    private final AtomicInteger userLoads = new AtomicInteger();
+
+    private final UserDetailsService userDetailsService = username -> {
+        userLoads.incrementAndGet();
+        return User.withUsername(username).password("").authorities(AuthorityUtils.NO_AUTHORITIES).build();
+    };
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(NetsSsoAuthenticationService.class, () -> authenticationService);
+        context.registerBean(UserDetailsService.class, () -> userDetailsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void login_WithMetricsOnly_ShouldUseApplicationAuthenticationManager() throws Exception {
+        // given
+        givenApplicationProviderAuthenticates();
+        FilterChainProxy chain = build(sso -> sso.metrics(mock(NetsSsoMetrics.class)));
+
+        // when
+        MockHttpServletResponse response = login(chain);
+
+        // then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/");
+        verify(applicationProvider).authenticate(any());
+        verifyNoInteractions(authenticationService);
+    }
+
+    @Test
+    void login_WithObserverBeanOnly_ShouldUseApplicationAuthenticationManager() throws Exception {
+        // given
+        context.registerBean(NetsSsoObserver.class, () -> NetsSsoObserver.NOOP);
+        givenApplicationProviderAuthenticates();
+        FilterChainProxy chain = build(Customizer.withDefaults());
+
+        // when
+        MockHttpServletResponse response = login(chain);
+
+        // then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/");
+        verify(applicationProvider).authenticate(any());
+        verifyNoInteractions(authenticationService);
+    }
+
+    @Test
+    void login_WithPrincipalCache_ShouldAuthenticateThroughDecoratedService() throws Exception {
+        // given
+        when(authenticationService.authenticate(any(), any()))
+                .thenReturn(NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES));
+        FilterChainProxy chain = build(sso -> sso.principalCache(new NetsSsoLocalPrincipalCache(16)));
+
+        // when
+        MockHttpServletResponse response = login(chain);
+
+        // then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/");
+        verify(authenticationService).authenticate(any(), any());
+        verifyNoInteractions(applicationProvider);
+    }
+
+    @Test
+    void login_WithPrincipalCacheWhenDecoratedServiceFails_ShouldFallBackToApplicationManagerWithRecordedFailure() throws Exception {
+        // given
+        BadCredentialsException failure = new BadCredentialsException("rejected");
+        when(authenticationService.authenticate(any(), any())).thenThrow(failure);
+        when(applicationProvider.supports(any())).thenReturn(true);
+        when(applicationProvider.authenticate(any())).thenAnswer(invocation -> {
+            // 애플리케이션의 제공자가 감싸기 전의 서비스로 다시 인증해도 같은 실패를 재사용해야 한다.
+            NetsSsoAuthentication token = invocation.getArgument(0);
+            assertThat(token.getRequest().getAttribute(NetsSsoAuthenticationServiceImpl.AUTHENTICATION_ATTRIBUTE)).isSameAs(failure);
+            throw failure;
+        });
+        FilterChainProxy chain = build(sso -> sso.principalCache(new NetsSsoLocalPrincipalCache(16)));
+
+        // when
+        MockHttpServletResponse response = login(chain);
+
+        // then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/login?error");
+        verify(authenticationService).authenticate(any(), any());
+        verify(applicationProvider).authenticate(any());
+    }
+
+    @Test
+    void login_WithUserDetailsCache_ShouldLoadUserThroughCache() throws Exception {
+        // given
+        when(authenticationService.authenticate(any(), any()))
+                .thenReturn(NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES));
+        FilterChainProxy chain = build(sso -> sso.userDetailsCache(Customizer.withDefaults()));
+
+        // when
+        login(chain);
+        MockHttpServletResponse response = login(chain);
+
+        // then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/");
+        assertThat(userLoads).hasValue(1);
+        verifyNoInteractions(applicationProvider);
+    }
+
+    @Test
+    void backChannelLogout_WithSessionIndexBean_ShouldShareIndexWithApplicationRevocationFilter() throws Exception {
+        // given
+        NetsSsoLocalSessionIndex sessionIndex = new NetsSsoLocalSessionIndex();
+        context.registerBean(NetsSsoSessionIndex.class, () -> sessionIndex);
+        givenApplicationProviderAuthenticates();
+        FilterChainProxy chain = build(sso -> sso.backChannelLogout("s3cret"));
+
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest login = new MockHttpServletRequest("POST", "/nsso/login");
+        login.setServletPath("/nsso/login");
+        login.setSession(session);
+        chain.doFilter(login, new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletRequest logout = new MockHttpServletRequest("POST", "/nsso/backchannel-logout");
+        logout.setServletPath("/nsso/backchannel-logout");
+        logout.addHeader(NetsSsoBackChannelLogoutFilter.SECRET_HEADER, "s3cret");
+        logout.addParameter(SSOConst.USER_ID, "testUser");
+        chain.doFilter(logout, new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletRequest next = new MockHttpServletRequest("GET", "/app");
+        next.setSession(session);
+
+        // when
+        new NetsSsoSessionRevocationFilter(sessionIndex).doFilter(next, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(session.isInvalid()).isTrue();
+    }
+
+    private void givenApplicationProviderAuthenticates() {
+        when(applicationProvider.supports(any())).thenReturn(true);
+        when(applicationProvider.authenticate(any()))
+                .thenReturn(NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private FilterChainProxy build(Customizer<NetsSsoAuthenticationConfigurer<HttpSecurity>> customizer) throws Exception {
+        context.register(SecurityConfig.class);
+        context.refresh();
+        HttpSecurity http = context.getBean(HttpSecurity.class);
+        http.authenticationProvider(applicationProvider);
+        customizer.customize(NetsSsoAuthenticationConfigurer.withDefaults(http));
+        return new FilterChainProxy(http.build());
+    }
+
+    private static MockHttpServletResponse login(FilterChainProxy chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/login");
+        request.setServletPath("/nsso/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        chain.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Configuration
+    @EnableWebSecurity
+    static class SecurityConfig {
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.carped99.nsso.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nets.sso.agent.web.v9.SSOAuthn;
+import nets.sso.agent.web.v9.SSOMfa;
+import nets.sso.agent.web.v9.SSOStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * NetsSsoAgentServiceImpl 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoAgentServiceImplTest {
+
+    @Mock
+    private SSOAuthn authn;
+
+    @Mock
+    private SSOStatus status;
+
+    @Mock
+    private SSOMfa mfa;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockedStatic<SSOAuthn> ssoAuthn;
+    private NetsSsoAgentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ssoAuthn = mockStatic(SSOAuthn.class);
+        ssoAuthn.when(() -> SSOAuthn.get(any(), any())).thenReturn(authn);
+        service = new NetsSsoAgentServiceImpl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ssoAuthn.close();
+    }
+
+    @Test
+    void tfa_WithMfa_ShouldWriteMfaFields() throws Exception {
+        // given
+        when(authn.getMfa()).thenReturn(mfa);
+        when(mfa.getMfaID()).thenReturn("mfa-1");
+        when(mfa.getMfaDevice()).thenReturn("otp");
+        when(mfa.getMfaMethod()).thenReturn("totp");
+        when(mfa.getMfaTimeoutMin()).thenReturn(3);
+
+        // when
+        JsonNode node = objectMapper.readTree(service.tfa(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        // then
+        assertThat(node.get("result").asBoolean()).isTrue();
+        assertThat(node.get("tfaID").asText()).isEqualTo("mfa-1");
+        assertThat(node.get("timeoutMinutes").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void tfa_WithoutMfa_ShouldWriteValidErrorJson() throws Exception {
+        // given
+        when(authn.getMfa()).thenReturn(null);
+        when(authn.getLastStatus()).thenReturn(status);
+        when(status.getCode()).thenReturn(11020004);
+        when(status.getMessage()).thenReturn("\"MFA\" 대상이 아닙니다.");
+
+        // when
+        JsonNode node = objectMapper.readTree(service.tfa(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        // then
+        assertThat(node.get("result").asBoolean()).isFalse();
+        assertThat(node.get("errorCode").asInt()).isEqualTo(11020004);
+        assertThat(node.get("errorMessage").asText()).isEqualTo("\"MFA\" 대상이 아닙니다.");
+    }
+
+    @Test
+    void tfa_WithoutMfaAndStatus_ShouldWriteMissingStatusError() throws Exception {
+        // given
+        when(authn.getMfa()).thenReturn(null);
+        when(authn.getLastStatus()).thenReturn(null);
+
+        // when
+        JsonNode node = objectMapper.readTree(service.tfa(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        // then
+        assertThat(node.get("result").asBoolean()).isFalse();
+        assertThat(node.get("errorCode").asText()).isEqualTo("50000000");
+        assertThat(node.get("errorMessage").asText()).isEqualTo("NSSO agent returned no authentication status");
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoMetrics;
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.github.carped99.nsso.NetsSsoRecordingObserver;
+import nets.sso.agent.web.v9.SSOAuthn;
+import nets.sso.agent.web.v9.SSOStatus;
+import nets.sso.agent.web.v9.SSOUser;
+import nets.sso.agent.web.v9.core.AuthnStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * NetsSsoAuthenticationServiceImpl 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoAuthenticationServiceImplTest {
+
+    @Mock
+    private SSOAuthn authn;
+
+    @Mock
+    private SSOStatus status;
+
+    @Mock
+    private SSOUser ssoUser;
+
+    private MockedStatic<SSOAuthn> ssoAuthn;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private NetsSsoAuthenticationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ssoAuthn = mockStatic(SSOAuthn.class);
+        ssoAuthn.when(() -> SSOAuthn.get(any(), any())).thenReturn(authn);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        service = new NetsSsoAuthenticationServiceImpl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ssoAuthn.close();
+    }
+
+    @Test
+    void authenticate_WithLoginStay_ShouldCheckStatusThenLoadUser() {
+        // given
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_SUCCESS);
+        when(authn.authnLoginStay()).thenReturn(status);
+        when(authn.authn()).thenReturn(ssoUser);
+        when(ssoUser.getUserID()).thenReturn("testUser");
+
+        // when
+        Authentication result = service.authenticate(request, response);
+
+        // then
+        assertThat(result.getName()).isEqualTo("testUser");
+        verify(authn).authnLoginStay();
+        verify(authn).authn();
+    }
+
+    @Test
+    void authenticate_WithoutLoginStay_ShouldCallAgentOnce() {
+        // given
+        service.setLoginStay(false);
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_SUCCESS);
+        when(authn.authn()).thenReturn(ssoUser);
+        when(authn.getLastStatus()).thenReturn(status);
+        when(ssoUser.getUserID()).thenReturn("testUser");
+
+        // when
+        Authentication result = service.authenticate(request, response);
+
+        // then
+        assertThat(result.getName()).isEqualTo("testUser");
+        verify(authn).authn();
+        verify(authn, never()).authnLoginStay();
+    }
+
+    @Test
+    void authenticate_WithoutLoginStayAndStatus_ShouldFailWithAuthenticationException() {
+        // given
+        service.setLoginStay(false);
+        when(authn.authn()).thenReturn(ssoUser);
+        when(authn.getLastStatus()).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response))
+                .isInstanceOfSatisfying(NetsSsoAuthenticationException.class, e -> assertThat(e.getCode()).isEqualTo("50000000"));
+    }
+
+    @Test
+    void authenticate_WithSameRequest_ShouldReuseResult() {
+        // given
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_SUCCESS);
+        when(authn.authnLoginStay()).thenReturn(status);
+        when(authn.authn()).thenReturn(ssoUser);
+
+        // when
+        Authentication first = service.authenticate(request, response);
+        Authentication second = service.authenticate(request, response);
+
+        // then
+        assertThat(second).isSameAs(first);
+        ssoAuthn.verify(() -> SSOAuthn.get(any(), any()), times(1));
+    }
+
+    @Test
+    void authenticate_WhenFailed_ShouldReuseFailureInSameRequest() {
+        // given
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_FIRST);
+        when(authn.authnLoginStay()).thenReturn(status);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response)).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> service.authenticate(request, response)).isInstanceOf(AuthenticationException.class);
+        verify(authn, times(1)).authnLoginStay();
+        verify(authn, never()).authn();
+    }
+
+    @Test
+    void authenticate_WithObserver_ShouldObserveStagesInOrderUnderEndpoint() {
+        // given
+        NetsSsoRecordingObserver observer = new NetsSsoRecordingObserver();
+        service.setObserver(observer);
+        request.setAttribute(NetsSsoObserver.ENDPOINT_ATTRIBUTE, "token");
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_SUCCESS);
+        when(status.getCode()).thenReturn(0);
+        when(authn.authnLoginStay()).thenReturn(status);
+        when(authn.authn()).thenReturn(ssoUser);
+
+        // when
+        service.authenticate(request, response);
+
+        // then
+        assertThat(observer.getEvents()).containsExactly(
+                "start request.wrap@token", "stop request.wrap",
+                "start sso.get@token", "stop sso.get",
+                "start sso.authnLoginStay@token", "tag sso.authnLoginStay nsso.status=0", "stop sso.authnLoginStay",
+                "start sso.authn@token", "stop sso.authn");
+    }
+
+    @Test
+    void authenticate_WithObserverWhenRejected_ShouldTagStatusAndSkipUserLookup() {
+        // given
+        NetsSsoRecordingObserver observer = new NetsSsoRecordingObserver();
+        service.setObserver(observer);
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_FIRST);
+        when(status.getCode()).thenReturn(11020004);
+        when(authn.authnLoginStay()).thenReturn(status);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response)).isInstanceOf(AuthenticationException.class);
+        assertThat(observer.getEvents()).containsExactly(
+                "start request.wrap@authenticate", "stop request.wrap",
+                "start sso.get@authenticate", "stop sso.get",
+                "start sso.authnLoginStay@authenticate", "tag sso.authnLoginStay nsso.status=11020004", "stop sso.authnLoginStay");
+    }
+
+    @Test
+    void authenticate_WithObserverWhenAgentFails_ShouldRecordErrorAndStopStage() {
+        // given
+        NetsSsoRecordingObserver observer = new NetsSsoRecordingObserver();
+        service.setObserver(observer);
+        service.setLoginStay(false);
+        when(authn.authn()).thenThrow(new IllegalStateException("agent down"));
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response)).isInstanceOf(IllegalStateException.class);
+        assertThat(observer.getEvents()).containsExactly(
+                "start request.wrap@authenticate", "stop request.wrap",
+                "start sso.get@authenticate", "stop sso.get",
+                "start sso.authn@authenticate", "error sso.authn IllegalStateException", "stop sso.authn");
+    }
+
+    @Test
+    void authenticate_WithObserverWhenAuthnReturnsNoUser_ShouldTagLastStatus() {
+        // given
+        NetsSsoRecordingObserver observer = new NetsSsoRecordingObserver();
+        service.setObserver(observer);
+        service.setLoginStay(false);
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_FIRST);
+        when(status.getCode()).thenReturn(11020003);
+        when(authn.getLastStatus()).thenReturn(status);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response)).isInstanceOf(AuthenticationException.class);
+        assertThat(observer.getEvents()).contains("tag sso.authn nsso.status=11020003").endsWith("stop sso.authn");
+    }
+
+    @Test
+    void authenticate_WithMetrics_ShouldRecordAgentCallAndFailureCode() {
+        // given
+        NetsSsoMetrics metrics = mock(NetsSsoMetrics.class);
+        service.setMetrics(metrics);
+        when(status.getStatus()).thenReturn(AuthnStatus.SSO_FIRST);
+        when(status.getCode()).thenReturn(11020004);
+        when(authn.authnLoginStay()).thenReturn(status);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response)).isInstanceOf(AuthenticationException.class);
+        verify(metrics).recordAgentCall(eq("authnLoginStay"), eq(false), anyLong());
+        verify(metrics).recordFailure("11020004", BadCredentialsException.class);
+    }
+}
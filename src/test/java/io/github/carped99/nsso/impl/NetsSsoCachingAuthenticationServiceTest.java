@@ -0,0 +1,177 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * NetsSsoCachingAuthenticationService 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoCachingAuthenticationServiceTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private NetsSsoAuthenticationService delegate;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private NetsSsoLocalPrincipalCache cache;
+    private NetsSsoCachingAuthenticationService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NetsSsoLocalPrincipalCache(100, Clock.fixed(NOW, ZoneOffset.UTC));
+        service = new NetsSsoCachingAuthenticationService(delegate, cache);
+        service.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        service.setTimeToLive(Duration.ofMinutes(1));
+        service.setRefreshAhead(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void authenticate_WithSameSession_ShouldCallDelegateOnce() {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        when(request.getHeaders("Cookie")).thenAnswer(invocation -> Collections.enumeration(List.of("SSO=abc")));
+        when(delegate.authenticate(request, response)).thenReturn(authenticated);
+
+        // when
+        Authentication first = service.authenticate(request, response);
+        Authentication second = service.authenticate(request, response);
+
+        // then
+        assertThat(first).isSameAs(authenticated);
+        assertThat(second).isSameAs(authenticated);
+        verify(delegate, times(1)).authenticate(request, response);
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticate_WithoutCookie_ShouldAlwaysCallDelegate() {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        when(delegate.authenticate(request, response)).thenReturn(authenticated);
+
+        // when
+        service.authenticate(request, response);
+        service.authenticate(request, response);
+
+        // then
+        verify(delegate, times(2)).authenticate(request, response);
+    }
+
+    @Test
+    void authenticate_WithLoginParameter_ShouldBypassCache() {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        when(request.getParameter(SSOConst.SITE_ID)).thenReturn("site");
+        when(delegate.authenticate(request, response)).thenReturn(authenticated);
+
+        // when
+        service.authenticate(request, response);
+        service.authenticate(request, response);
+
+        // then
+        verify(delegate, times(2)).authenticate(request, response);
+        assertThat(cache.getStats().getRequestCount()).isZero();
+    }
+
+    @Test
+    void authenticate_WhenRefreshDue_ShouldReloadFromDelegate() {
+        // given
+        Authentication first = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        Authentication refreshed = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        service.setKeyResolver(r -> "session");
+        when(delegate.authenticate(request, response)).thenReturn(first, refreshed);
+        service.authenticate(request, response);
+
+        // when
+        service.setClock(Clock.fixed(NOW.plusSeconds(55), ZoneOffset.UTC));
+        Authentication result = service.authenticate(request, response);
+
+        // then
+        assertThat(result).isSameAs(refreshed);
+        verify(delegate, times(2)).authenticate(request, response);
+    }
+
+    @Test
+    void authenticate_WhenRefreshFails_ShouldEvictCachedAuthentication() {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        service.setKeyResolver(r -> "session");
+        when(delegate.authenticate(request, response))
+                .thenReturn(authenticated)
+                .thenThrow(new BadCredentialsException("expired"));
+        service.authenticate(request, response);
+        service.setClock(Clock.fixed(NOW.plusSeconds(55), ZoneOffset.UTC));
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request, response))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(cache.get("session")).isNull();
+    }
+
+    @Test
+    void evict_ShouldRemoveCachedAuthentication() {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        service.setKeyResolver(r -> "session");
+        when(delegate.authenticate(request, response)).thenReturn(authenticated);
+        service.authenticate(request, response);
+
+        // when
+        service.evict(request);
+
+        // then
+        assertThat(cache.get("session")).isNull();
+    }
+
+    @Test
+    void evict_WithSessionIndex_ShouldUnregisterSessionWithoutCountingHit() {
+        // given
+        NetsSsoLocalSessionIndex sessionIndex = new NetsSsoLocalSessionIndex();
+        service.setSessionIndex(sessionIndex);
+        service.setKeyResolver(r -> "session");
+        when(delegate.authenticate(request, response))
+                .thenReturn(NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES));
+        service.authenticate(request, response);
+        assertThat(sessionIndex.size()).isEqualTo(1);
+
+        // when
+        service.evict(request);
+
+        // then
+        assertThat(sessionIndex.size()).isZero();
+        assertThat(cache.getStats().getHitCount()).isZero();
+        assertThat(cache.peek("session")).isNull();
+    }
+}
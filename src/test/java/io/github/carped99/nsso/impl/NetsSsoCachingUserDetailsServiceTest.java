@@ -0,0 +1,178 @@
+package io.github.carped99.nsso.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * NetsSsoCachingUserDetailsService 및 LocalCache 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoCachingUserDetailsServiceTest {
+
+    @Mock
+    private UserDetailsService delegate;
+
+    private NetsSsoCachingUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NetsSsoCachingUserDetailsService(delegate, 100);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldCacheUserDetails() {
+        // given
+        UserDetails userDetails = User.withUsername("testUser").password("").authorities("ROLE_USER").build();
+        when(delegate.loadUserByUsername("testUser")).thenReturn(userDetails);
+
+        // when
+        UserDetails first = service.loadUserByUsername("testUser");
+        UserDetails second = service.loadUserByUsername("testUser");
+
+        // then
+        assertThat(first).isEqualTo(userDetails).isNotSameAs(userDetails);
+        assertThat(second).isEqualTo(userDetails).isNotSameAs(first);
+        verify(delegate, times(1)).loadUserByUsername("testUser");
+        assertThat(service.getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUserByUsername_WhenReturnedCredentialsAreErased_ShouldKeepCachedPassword() {
+        // given
+        when(delegate.loadUserByUsername("testUser"))
+                .thenReturn(User.withUsername("testUser").password("secret").authorities("ROLE_USER").build());
+        User first = (User) service.loadUserByUsername("testUser");
+
+        // when
+        first.eraseCredentials();
+        UserDetails second = service.loadUserByUsername("testUser");
+
+        // then
+        assertThat(first.getPassword()).isNull();
+        assertThat(second.getPassword()).isEqualTo("secret");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void loadUserByUsername_WithUncopyableCredentialsContainer_ShouldNotCache() {
+        // given
+        when(delegate.loadUserByUsername("testUser")).thenAnswer(invocation -> new User("testUser", "secret", List.of()) {
+        });
+
+        // when
+        service.loadUserByUsername("testUser");
+        service.loadUserByUsername("testUser");
+
+        // then
+        verify(delegate, times(2)).loadUserByUsername("testUser");
+    }
+
+    @Test
+    void loadUserByUsername_WithCopier_ShouldCacheAndReturnCopies() {
+        // given
+        service.setCopier(userDetails -> new User(userDetails.getUsername(), userDetails.getPassword(), userDetails.getAuthorities()) {
+        });
+        when(delegate.loadUserByUsername("testUser")).thenAnswer(invocation -> new User("testUser", "secret", List.of()) {
+        });
+
+        // when
+        UserDetails first = service.loadUserByUsername("testUser");
+        UserDetails second = service.loadUserByUsername("testUser");
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verify(delegate, times(1)).loadUserByUsername("testUser");
+    }
+
+    @Test
+    void loadUserByUsername_WithUnknownUser_ShouldCacheNotFound() {
+        // given
+        when(delegate.loadUserByUsername("unknown")).thenThrow(new UsernameNotFoundException("unknown"));
+
+        // when & then
+        assertThatThrownBy(() -> service.loadUserByUsername("unknown")).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername("unknown")).isInstanceOf(UsernameNotFoundException.class);
+        verify(delegate, times(1)).loadUserByUsername("unknown");
+    }
+
+    @Test
+    void loadUserByUsername_WithNegativeCacheDisabled_ShouldAlwaysCallDelegate() {
+        // given
+        service.setNegativeTimeToLive(Duration.ZERO);
+        when(delegate.loadUserByUsername("unknown")).thenThrow(new UsernameNotFoundException("unknown"));
+
+        // when & then
+        assertThatThrownBy(() -> service.loadUserByUsername("unknown")).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername("unknown")).isInstanceOf(UsernameNotFoundException.class);
+        verify(delegate, times(2)).loadUserByUsername("unknown");
+    }
+
+    @Test
+    void evict_ShouldReloadUserDetails() {
+        // given
+        UserDetails userDetails = User.withUsername("testUser").password("").authorities("ROLE_USER").build();
+        when(delegate.loadUserByUsername("testUser")).thenReturn(userDetails);
+        service.loadUserByUsername("testUser");
+
+        // when
+        service.evict("testUser");
+        service.loadUserByUsername("testUser");
+
+        // then
+        verify(delegate, times(2)).loadUserByUsername("testUser");
+    }
+
+    @Test
+    void localCache_ShouldExpireEntries() {
+        // given
+        AtomicLong ticker = new AtomicLong();
+        LocalCache<String, String> cache = new LocalCache<>(10, ticker::get);
+        cache.put("key", "value", 100);
+
+        // when
+        ticker.set(99);
+        String beforeExpiry = cache.get("key");
+        ticker.set(100);
+        String afterExpiry = cache.get("key");
+
+        // then
+        assertThat(beforeExpiry).isEqualTo("value");
+        assertThat(afterExpiry).isNull();
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void localCache_ShouldKeepFrequentlyUsedEntriesDuringScan() {
+        // given
+        LocalCache<String, String> cache = new LocalCache<>(10);
+        cache.put("hot", "value", Long.MAX_VALUE / 2);
+        cache.get("hot");
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.put("scan-" + i, "value", Long.MAX_VALUE / 2);
+        }
+
+        // then
+        assertThat(cache.get("hot")).isEqualTo("value");
+        assertThat(cache.size()).isEqualTo(10);
+    }
+}
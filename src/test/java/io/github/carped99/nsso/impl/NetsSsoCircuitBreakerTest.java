@@ -0,0 +1,83 @@
+package io.github.carped99.nsso.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoCircuitBreaker 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoCircuitBreakerTest {
+    private final AtomicLong ticker = new AtomicLong();
+    private final NetsSsoCircuitBreaker circuitBreaker = new NetsSsoCircuitBreaker(10, 4, 0.5, Duration.ofSeconds(30), 2, ticker::get);
+
+    @Test
+    void onFailure_AtFailureRateThreshold_ShouldOpen() {
+        // given
+        List<NetsSsoCircuitBreaker.State> transitions = new ArrayList<>();
+        circuitBreaker.setStateListener((from, to) -> transitions.add(to));
+        record(true, false, false);
+
+        // when
+        record(true);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(NetsSsoCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(transitions).containsExactly(NetsSsoCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void tryAcquire_AfterOpenDuration_ShouldAllowTrialCallsAndClose() {
+        // given
+        record(true, true, true, true);
+        ticker.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        boolean third = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(NetsSsoCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void onFailure_InHalfOpen_ShouldReopen() {
+        // given
+        record(true, true, true, true);
+        ticker.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(NetsSsoCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failure : failures) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            if (failure) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAsyncAuthenticationService;
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * NetsSsoExecutorAuthenticationService 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoExecutorAuthenticationServiceTest {
+
+    @Mock
+    private NetsSsoAuthenticationService delegate;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private ExecutorService executor;
+    private NetsSsoExecutorAuthenticationService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        service = new NetsSsoExecutorAuthenticationService(delegate, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void authenticateAsync_ShouldCompleteWithAuthentication() throws Exception {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        when(delegate.authenticate(request, response)).thenReturn(authenticated);
+
+        // when
+        CompletableFuture<Authentication> result = service.authenticateAsync(request, response, Duration.ofSeconds(5));
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(authenticated);
+    }
+
+    @Test
+    void authenticateAsync_WhenAuthenticationFails_ShouldNotInterruptWorker() throws Exception {
+        // given
+        CountDownLatch proceed = new CountDownLatch(1);
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+        when(delegate.authenticate(mockRequest, response)).thenAnswer(invocation -> {
+            proceed.await(5, TimeUnit.SECONDS);
+            throw new BadCredentialsException("rejected");
+        });
+        CompletableFuture<Authentication> result = service.authenticateAsync(mockRequest, response, Duration.ofSeconds(5));
+        CompletableFuture<Boolean> interruptedOnRelease = NetsSsoAsyncAuthenticationService.released(mockRequest)
+                .thenApply(ignored -> Thread.currentThread().isInterrupted());
+
+        // when
+        proceed.countDown();
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(BadCredentialsException.class);
+        assertThat(interruptedOnRelease.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void authenticateAsync_WhenDeadlineExceeded_ShouldFailAndInterruptAgentCall() throws Exception {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(delegate.authenticate(request, response)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+
+        // when
+        CompletableFuture<Authentication> result = service.authenticateAsync(request, response, Duration.ofMillis(50));
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(NetsSsoAuthenticationException.class)
+                .cause()
+                .extracting("code").isEqualTo(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void authenticateAsync_WhenDeadlineExceeded_ShouldReleaseOnlyAfterAgentCallEnds() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+        when(delegate.authenticate(mockRequest, response)).thenAnswer(invocation -> {
+            // 중단 요청에 응하지 않는 에이전트 호출
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // 중단 요청을 무시한다.
+                }
+            }
+            return null;
+        });
+
+        // when
+        CompletableFuture<Authentication> result = service.authenticateAsync(mockRequest, response, Duration.ofMillis(50));
+        CompletableFuture<?> released = NetsSsoAsyncAuthenticationService.released(mockRequest);
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(NetsSsoAuthenticationException.class);
+        assertThat(released).isNotDone();
+        release.countDown();
+        released.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void authenticateAsync_WhenDeadlineExceededBeforeStart_ShouldSkipAgentCallAndRelease() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+
+        // when
+        CompletableFuture<Authentication> result = service.authenticateAsync(mockRequest, response, Duration.ofMillis(50));
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(NetsSsoAuthenticationException.class);
+        NetsSsoAsyncAuthenticationService.released(mockRequest).get(5, TimeUnit.SECONDS);
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void authenticateAsync_WhenCancelled_ShouldInterruptAgentCall() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(delegate.authenticate(request, response)).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        CompletableFuture<Authentication> result = service.authenticateAsync(request, response, Duration.ofSeconds(5));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        result.cancel(true);
+
+        // then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void authenticateAsync_WhenRejected_ShouldFail() {
+        // given
+        executor.shutdown();
+
+        // when
+        CompletableFuture<Authentication> result = service.authenticateAsync(request, response, Duration.ofSeconds(5));
+
+        // then
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(NetsSsoAuthenticationException.class)
+                .cause()
+                .extracting("code").isEqualTo(NetsSsoExecutorAuthenticationService.REJECTED_CODE);
+    }
+}
@@ -6,11 +6,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 
+import java.lang.management.ManagementFactory;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.when;
 
 /**
@@ -134,4 +139,146 @@ class NetsSsoHttpServletRequestWrapperTest {
         assertThat(wrapper.getHeader("Header2")).isEqualTo("Value2");
         assertThat(wrapper.getHeader("SSOAgent-Type")).isEqualTo("SPA");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getHeader_ShouldIgnoreCase() {
+        // given
+        wrapper.addSsoAgentType();
+
+        // when & then
+        assertThat(wrapper.getHeader("ssoagent-type")).isEqualTo("SPA");
+        assertThat(Collections.list(wrapper.getHeaders("SSOAGENT-TYPE"))).containsExactly("SPA");
+    }
+
+    @Test
+    void addHeader_BeyondInitialCapacity_ShouldKeepAllHeaders() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            wrapper.addHeader("Header" + i, "Value" + i);
+        }
+
+        // when & then
+        assertThat(wrapper.getHeader("Header9")).isEqualTo("Value9");
+        assertThat(Collections.list(wrapper.getHeaderNames())).hasSize(10);
+    }
+
+    @Test
+    void getParameterMap_ShouldOverrideOriginalParameters() {
+        // given
+        MockHttpServletRequest original = new MockHttpServletRequest();
+        original.addParameter("op", "original");
+        original.addParameter("siteId", "site");
+        NetsSsoHttpServletRequestWrapper wrapper = new NetsSsoHttpServletRequestWrapper(original);
+        wrapper.addParameter("op", "logout");
+        wrapper.addParameter("returnUrl", "/");
+
+        // when
+        Map<String, String[]> parameters = wrapper.getParameterMap();
+
+        // then
+        assertThat(wrapper.getParameter("op")).isEqualTo("logout");
+        assertThat(wrapper.getParameter("siteId")).isEqualTo("site");
+        assertThat(parameters).containsOnlyKeys("op", "siteId", "returnUrl");
+        assertThat(parameters).contains(entry("op", new String[]{"logout"}));
+        assertThat(Collections.list(wrapper.getParameterNames())).containsExactly("op", "returnUrl", "siteId");
+        assertThat(wrapper.getParameterMap()).isSameAs(parameters);
+    }
+
+    @Test
+    void addParameter_AfterGetParameterMap_ShouldRecomputeMergedView() {
+        // given
+        NetsSsoHttpServletRequestWrapper wrapper = new NetsSsoHttpServletRequestWrapper(new MockHttpServletRequest());
+        wrapper.addParameter("op", "logout");
+        Map<String, String[]> before = wrapper.getParameterMap();
+
+        // when
+        wrapper.addParameter("op", "again");
+
+        // then
+        assertThat(wrapper.getParameterMap()).isNotSameAs(before);
+        assertThat(wrapper.getParameterValues("op")).containsExactly("logout", "again");
+    }
+
+    @Test
+    void perRequestAllocation_ShouldStaySmall() {
+        // given
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        HttpServletRequest original = new NullLookupRequest();
+        int iterations = 10_000;
+        runRequests(original, iterations);
+
+        // when
+        long start = threads.getCurrentThreadAllocatedBytes();
+        int found = runRequests(original, iterations);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - start;
+
+        // then
+        assertThat(found).isEqualTo(iterations);
+        assertThat(allocated / iterations).isLessThan(256);
+    }
+
+    @Test
+    void lookupMiss_ShouldNotAllocate() {
+        // given
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        NetsSsoHttpServletRequestWrapper wrapper = new NetsSsoHttpServletRequestWrapper(new NullLookupRequest()).addSsoAgentType();
+        wrapper.addParameter("op", "logout");
+        int iterations = 10_000;
+        runMisses(wrapper, iterations);
+
+        // when
+        long start = threads.getCurrentThreadAllocatedBytes();
+        int misses = runMisses(wrapper, iterations);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - start;
+
+        // then
+        assertThat(misses).isEqualTo(iterations * 2);
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+
+    private static int runRequests(HttpServletRequest original, int iterations) {
+        int found = 0;
+        for (int i = 0; i < iterations; i++) {
+            NetsSsoHttpServletRequestWrapper wrapper = new NetsSsoHttpServletRequestWrapper(original).addSsoAgentType();
+            if (wrapper.getHeader("SSOAgent-Type") != null && wrapper.getHeader("Accept") == null && wrapper.getParameter("op") == null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int runMisses(NetsSsoHttpServletRequestWrapper wrapper, int iterations) {
+        int misses = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (wrapper.getHeader("Accept") == null) {
+                misses++;
+            }
+            if (wrapper.getParameter("siteId") == null) {
+                misses++;
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * 조회 시 객체를 생성하지 않는 원본 요청 (래퍼의 할당량만 측정하기 위함)
+     */
+    private static final class NullLookupRequest extends MockHttpServletRequest {
+        @Override
+        public String getHeader(String name) {
+            return null;
+        }
+
+        @Override
+        public String getParameter(String name) {
+            return null;
+        }
+    }
+}
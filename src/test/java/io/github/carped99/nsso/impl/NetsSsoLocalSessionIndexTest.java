@@ -0,0 +1,73 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoSessionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoLocalSessionIndex 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoLocalSessionIndexTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private NetsSsoLocalSessionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NetsSsoLocalSessionIndex(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void removeAll_ShouldReturnOnlyThatUsersIdsAndRevokeTokensAndHttpSessions() {
+        // given
+        index.register("alice", NetsSsoSessionId.session("s1", NOW.plusSeconds(60)));
+        index.register("alice", NetsSsoSessionId.token("t1", NOW.plusSeconds(60)));
+        index.register("alice", NetsSsoSessionId.httpSession("h1", NOW.plusSeconds(60)));
+        index.register("bob", NetsSsoSessionId.session("s2", NOW.plusSeconds(60)));
+
+        // when
+        var removed = index.removeAll("alice");
+
+        // then
+        assertThat(removed).extracting(NetsSsoSessionId::getValue).containsExactlyInAnyOrder("s1", "t1", "h1");
+        assertThat(index.isRevoked("t1")).isTrue();
+        assertThat(index.isRevoked("h1")).isTrue();
+        assertThat(index.isRevoked("s1")).isFalse();
+        assertThat(index.removeAll("alice")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void unregister_WithLastId_ShouldRemoveUser() {
+        // given
+        index.register("alice", NetsSsoSessionId.session("s1", NOW.plusSeconds(60)));
+
+        // when
+        index.unregister("alice", NetsSsoSessionId.session("s1", NOW.plusSeconds(30)));
+
+        // then
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void register_ShouldDropExpiredIdsOfSameUser() {
+        // given
+        index.register("alice", NetsSsoSessionId.session("old", NOW));
+
+        // when
+        index.register("alice", NetsSsoSessionId.session("new", NOW.plusSeconds(60)));
+
+        // then
+        assertThat(index.removeAll("alice")).extracting(NetsSsoSessionId::getValue).containsExactly("new");
+        assertThat(index.isRevoked("old")).isFalse();
+    }
+}
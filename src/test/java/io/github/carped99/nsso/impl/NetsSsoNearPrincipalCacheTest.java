@@ -0,0 +1,121 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoCachedPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoNearPrincipalCache 클래스의 단위 테스트
+ *
+ * <p>두 노드가 공유 캐시와 무효화 채널을 함께 사용하는 상황을 흉내 냅니다.</p>
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoNearPrincipalCacheTest {
+    private ConcurrentMapCache store;
+    private NetsSsoSpringCachePrincipalCache shared;
+    private NetsSsoNearPrincipalCache node1;
+    private NetsSsoNearPrincipalCache node2;
+
+    @BeforeEach
+    void setUp() {
+        store = new ConcurrentMapCache("nsso-principals");
+        shared = new NetsSsoSpringCachePrincipalCache(store);
+        NetsSsoLocalInvalidationChannel channel = new NetsSsoLocalInvalidationChannel();
+        node1 = new NetsSsoNearPrincipalCache(shared, channel, 100);
+        node2 = new NetsSsoNearPrincipalCache(shared, channel, 100);
+    }
+
+    @Test
+    void get_WithPrincipalFromOtherNode_ShouldServeFromSharedThenNear() {
+        // given
+        NetsSsoCachedPrincipal principal = principal(Duration.ofMinutes(1));
+        node1.put("session", principal);
+
+        // when
+        NetsSsoCachedPrincipal first = node2.get("session");
+        store.clear();
+        NetsSsoCachedPrincipal second = node2.get("session");
+
+        // then
+        assertThat(first).isSameAs(principal);
+        assertThat(second).isSameAs(principal);
+        assertThat(node2.getStats().getHitCount()).isEqualTo(2);
+        assertThat(node2.getStats().getMissCount()).isZero();
+    }
+
+    @Test
+    void peek_ShouldReadWithoutCountingOrFillingNearCache() {
+        // given
+        NetsSsoCachedPrincipal principal = principal(Duration.ofMinutes(1));
+        node1.put("session", principal);
+
+        // when
+        NetsSsoCachedPrincipal peeked = node2.peek("session");
+        store.clear();
+
+        // then
+        assertThat(peeked).isSameAs(principal);
+        assertThat(node1.peek("session")).isSameAs(principal);
+        assertThat(node2.peek("session")).isNull();
+        assertThat(node2.getStats().getHitCount()).isZero();
+        assertThat(node2.getStats().getMissCount()).isZero();
+        assertThat(shared.getStats().getHitCount()).isZero();
+    }
+
+    @Test
+    void evict_ShouldInvalidateNearCacheOfAllNodes() {
+        // given
+        node1.put("session", principal(Duration.ofMinutes(1)));
+        assertThat(node2.get("session")).isNotNull();
+
+        // when
+        node1.evict("session");
+
+        // then
+        assertThat(node1.get("session")).isNull();
+        assertThat(node2.get("session")).isNull();
+        assertThat(store.get("session")).isNull();
+    }
+
+    @Test
+    void clear_ShouldInvalidateNearCacheOfAllNodes() {
+        // given
+        node1.put("a", principal(Duration.ofMinutes(1)));
+        node1.put("b", principal(Duration.ofMinutes(1)));
+        node2.get("a");
+        node2.get("b");
+
+        // when
+        node2.clear();
+
+        // then
+        assertThat(node1.get("a")).isNull();
+        assertThat(node2.get("b")).isNull();
+    }
+
+    @Test
+    void get_WithExpiredSharedEntry_ShouldReturnNull() {
+        // given
+        store.put("session", principal(Duration.ofSeconds(-1)));
+
+        // when & then
+        assertThat(node1.get("session")).isNull();
+        assertThat(shared.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    private static NetsSsoCachedPrincipal principal(Duration timeToLive) {
+        Instant now = Instant.now();
+        var authentication = NetsSsoAuthentication.authenticated("user", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        return new NetsSsoCachedPrincipal(authentication, now, now.plus(timeToLive));
+    }
+}
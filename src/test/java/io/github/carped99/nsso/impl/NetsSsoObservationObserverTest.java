@@ -0,0 +1,69 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoObserver;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoObservationObserver 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoObservationObserverTest {
+
+    @Test
+    void start_WithNestedStages_ShouldReportChildWithTags() {
+        // given
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        NetsSsoObservationObserver observer = new NetsSsoObservationObserver(registry);
+
+        // when
+        NetsSsoObserver.Stage outer = observer.start("authenticate", "login");
+        observer.start("sso.authnLoginStay", "login").tag("nsso.status", 0).stop();
+        outer.stop();
+
+        // then
+        assertThat(stopped).hasSize(2);
+        Observation.Context inner = stopped.get(0);
+        assertThat(inner.getName()).isEqualTo(NetsSsoObservationObserver.NAME);
+        assertThat(inner.getLowCardinalityKeyValues()).contains(
+                KeyValue.of("nsso.stage", "sso.authnLoginStay"),
+                KeyValue.of("nsso.endpoint", "login"),
+                KeyValue.of("nsso.status", "0"));
+        assertThat(inner.getParentObservation()).isNotNull();
+        assertThat(inner.getParentObservation().getContextView()).isSameAs(stopped.get(1));
+    }
+
+    @Test
+    void start_WithNoopRegistry_ShouldReturnNoopStage() {
+        // given
+        NetsSsoObservationObserver observer = new NetsSsoObservationObserver(ObservationRegistry.NOOP);
+
+        // when
+        NetsSsoObserver.Stage stage = observer.start("sso.authn", "check");
+
+        // then
+        assertThat(stage).isSameAs(NetsSsoObserver.Stage.NOOP);
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NetsSsoResilientAuthenticationService 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoResilientAuthenticationServiceTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void authenticate_WhenBulkheadIsFull_ShouldFailFast() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NetsSsoAuthenticationService delegate = (request, response) -> {
+            entered.countDown();
+            await(release);
+            return authenticated();
+        };
+        var service = new NetsSsoResilience()
+                .defaults(policy -> policy.setMaxConcurrentCalls(1))
+                .decorate(delegate);
+        CompletableFuture<Authentication> first = CompletableFuture.supplyAsync(() -> service.authenticate(request(), new MockHttpServletResponse()), executor);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request(), new MockHttpServletResponse()))
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .extracting("code").isEqualTo(NetsSsoResilience.BULKHEAD_FULL_CODE);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getName()).isEqualTo("testUser");
+    }
+
+    @Test
+    void authenticate_WhenDeadlineExceeded_ShouldTimeOut() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        NetsSsoAuthenticationService delegate = (request, response) -> {
+            await(release);
+            return authenticated();
+        };
+        var service = new NetsSsoResilience()
+                .executor(executor)
+                .defaults(policy -> policy.setDeadline(Duration.ofMillis(50)))
+                .decorate(delegate);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(request(), new MockHttpServletResponse()))
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .extracting("code").isEqualTo(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE);
+        release.countDown();
+    }
+
+    @Test
+    void authenticate_WhenDeadlineExceeded_ShouldNotReturnBeforeAgentCallEnds() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NetsSsoAuthenticationService delegate = (request, response) -> {
+            entered.countDown();
+            // 중단 요청에 응하지 않는 에이전트 호출
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // 중단 요청을 무시한다.
+                }
+            }
+            return authenticated();
+        };
+        var service = new NetsSsoResilience()
+                .executor(executor)
+                .defaults(policy -> policy.setDeadline(Duration.ofMillis(50)))
+                .decorate(delegate);
+
+        // when
+        CompletableFuture<Authentication> result = CompletableFuture.supplyAsync(() -> service.authenticate(request(), new MockHttpServletResponse()), executor);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+
+        // then
+        assertThat(result).isNotDone();
+        release.countDown();
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .extracting("code").isEqualTo(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE);
+    }
+
+    @Test
+    void decorate_WithDeadlineWithoutExecutor_ShouldFail() {
+        // given
+        var resilience = new NetsSsoResilience()
+                .defaults(policy -> policy.setDeadline(Duration.ofSeconds(1)));
+
+        // when & then
+        assertThatThrownBy(() -> resilience.decorate((request, response) -> authenticated()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("requires an executor");
+    }
+
+    @Test
+    void authenticate_WhenCircuitIsOpen_ShouldServeStalePrincipal() {
+        // given
+        boolean[] down = {false};
+        NetsSsoAuthenticationService delegate = (request, response) -> {
+            if (down[0]) {
+                throw new IllegalStateException("agent down");
+            }
+            return authenticated();
+        };
+        NetsSsoResilience resilience = new NetsSsoResilience()
+                .defaults(policy -> policy.setSlidingWindow(2, 2).setFailureRateThreshold(1.0))
+                .degraded(Duration.ofMinutes(5), 100);
+        var service = resilience.decorate(delegate);
+        service.authenticate(request(), new MockHttpServletResponse());
+        down[0] = true;
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> service.authenticate(request(), new MockHttpServletResponse())).isInstanceOf(IllegalStateException.class);
+        }
+
+        // when
+        Authentication result = service.authenticate(request(), new MockHttpServletResponse());
+
+        // then
+        assertThat(resilience.guard(NetsSsoResilience.AUTHENTICATE).getCircuitBreaker().getState()).isEqualTo(NetsSsoCircuitBreaker.State.OPEN);
+        assertThat(result.getName()).isEqualTo("testUser");
+        assertThatThrownBy(() -> service.authenticate(new MockHttpServletRequest(), new MockHttpServletResponse()))
+                .isInstanceOf(NetsSsoAuthenticationException.class)
+                .extracting("code").isEqualTo(NetsSsoResilience.CIRCUIT_OPEN_CODE);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/login");
+        request.addHeader("Cookie", "SSO=abc");
+        return request;
+    }
+
+    private static Authentication authenticated() {
+        return NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
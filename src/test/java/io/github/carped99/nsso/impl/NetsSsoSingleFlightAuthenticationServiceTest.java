@@ -0,0 +1,185 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoAuthentication;
+import io.github.carped99.nsso.NetsSsoAuthenticationException;
+import io.github.carped99.nsso.NetsSsoAuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * NetsSsoSingleFlightAuthenticationService 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoSingleFlightAuthenticationServiceTest {
+    private static final int CALLERS = 4;
+
+    @Mock
+    private NetsSsoAuthenticationService delegate;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private NetsSsoSingleFlightAuthenticationService service;
+    private CountDownLatch arrived;
+
+    @BeforeEach
+    void setUp() {
+        arrived = new CountDownLatch(CALLERS);
+        service = new NetsSsoSingleFlightAuthenticationService(delegate);
+        service.setKeyResolver(r -> {
+            arrived.countDown();
+            return "session";
+        });
+    }
+
+    @Test
+    void authenticate_WithConcurrentCallers_ShouldCallDelegateOnce() throws Exception {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        when(delegate.authenticate(request, response)).thenAnswer(invocation -> {
+            awaitCallers();
+            return authenticated;
+        });
+
+        // when
+        List<Future<Authentication>> results = runConcurrently();
+
+        // then
+        for (Future<Authentication> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(authenticated);
+        }
+        verify(delegate, times(1)).authenticate(request, response);
+        assertThat(service.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void authenticate_WhenDelegateFails_ShouldShareFailure() throws Exception {
+        // given
+        when(delegate.authenticate(request, response)).thenAnswer(invocation -> {
+            awaitCallers();
+            throw new BadCredentialsException("expired");
+        });
+
+        // when
+        List<Future<Authentication>> results = runConcurrently();
+
+        // then
+        for (Future<Authentication> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(BadCredentialsException.class);
+        }
+        verify(delegate, times(1)).authenticate(request, response);
+    }
+
+    @Test
+    void authenticate_WhenLeaderOutlivesTimeout_ShouldFailFollowersWithTimeoutCode() throws Exception {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        CountDownLatch release = new CountDownLatch(1);
+        service.setTimeout(Duration.ofMillis(50));
+        when(delegate.authenticate(request, response)).thenAnswer(invocation -> {
+            awaitCallers();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return authenticated;
+        });
+
+        // when
+        List<Future<Authentication>> results = runConcurrently(release);
+
+        // then
+        long timedOut = 0;
+        for (Future<Authentication> result : results) {
+            try {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(authenticated);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOfSatisfying(NetsSsoAuthenticationException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo(NetsSsoExecutorAuthenticationService.TIMEOUT_CODE));
+                timedOut++;
+            }
+        }
+        assertThat(timedOut).isEqualTo(CALLERS - 1);
+        verify(delegate, times(1)).authenticate(request, response);
+    }
+
+    @Test
+    void authenticate_WithoutSessionKey_ShouldAlwaysCallDelegate() {
+        // given
+        Authentication authenticated = NetsSsoAuthentication.authenticated("testUser", AuthorityUtils.NO_AUTHORITIES);
+        service.setKeyResolver(r -> null);
+        when(delegate.authenticate(request, response)).thenReturn(authenticated);
+
+        // when
+        service.authenticate(request, response);
+        service.authenticate(request, response);
+
+        // then
+        verify(delegate, times(2)).authenticate(request, response);
+    }
+
+    /**
+     * 모든 호출이 세션 키를 추출하고 진행 중인 인증에 합류할 때까지 대기한다.
+     */
+    private void awaitCallers() throws InterruptedException {
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+    }
+
+    private List<Future<Authentication>> runConcurrently() throws InterruptedException {
+        return runConcurrently(new CountDownLatch(0));
+    }
+
+    /**
+     * 동시에 인증하고, 첫 번째 요청을 제외한 요청이 모두 끝나면 {@code release}를 연다.
+     */
+    private List<Future<Authentication>> runConcurrently(CountDownLatch release) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch finished = new CountDownLatch(CALLERS - 1);
+        try {
+            List<Future<Authentication>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return service.authenticate(request, response);
+                    } finally {
+                        finished.countDown();
+                        if (finished.getCount() == 0) {
+                            release.countDown();
+                        }
+                    }
+                }));
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
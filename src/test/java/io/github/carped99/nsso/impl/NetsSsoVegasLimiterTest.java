@@ -0,0 +1,66 @@
+package io.github.carped99.nsso.impl;
+
+import io.github.carped99.nsso.NetsSsoLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoVegasLimiter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoVegasLimiterTest {
+    private final AtomicLong ticker = new AtomicLong();
+    private final NetsSsoAdaptiveLimiter limiter = new NetsSsoVegasLimiter(ticker::get).setInitialLimit(10);
+
+    @Test
+    void acquire_WhenSaturatedWithStableLatency_ShouldRaiseLimit() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            runBatch(1_000_000L);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void acquire_WhenLatencyGrows_ShouldLowerLimitAndReject() {
+        // given
+        runBatch(1_000_000L);
+        int raised = limiter.getLimit();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            runBatch(20_000_000L);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(raised);
+        List<NetsSsoLimiter.Permit> permits = acquireAll();
+        assertThat(permits).hasSize(limiter.getLimit());
+        assertThat(limiter.acquire()).isNull();
+        permits.forEach(NetsSsoLimiter.Permit::onIgnore);
+    }
+
+    private void runBatch(long rttNanos) {
+        List<NetsSsoLimiter.Permit> permits = acquireAll();
+        ticker.addAndGet(rttNanos);
+        permits.forEach(NetsSsoLimiter.Permit::onSuccess);
+    }
+
+    private List<NetsSsoLimiter.Permit> acquireAll() {
+        List<NetsSsoLimiter.Permit> permits = new ArrayList<>();
+        NetsSsoLimiter.Permit permit;
+        while ((permit = limiter.acquire()) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
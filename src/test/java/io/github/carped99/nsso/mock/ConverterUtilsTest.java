@@ -0,0 +1,62 @@
+package io.github.carped99.nsso.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConverterUtils 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class ConverterUtilsTest {
+
+    @Test
+    void writeAsString_WithRecord_ShouldOmitNullFields() {
+        // given
+        NetsSsoServerCheckResponse response = NetsSsoServerCheckResponse.builder()
+                .result(true)
+                .authStatus("SSOSuccess")
+                .userId("user")
+                .userAttribute(Map.of())
+                .token("dXNlcg")
+                .build();
+
+        // when
+        String json = ConverterUtils.writeAsString(response);
+
+        // then
+        assertThat(json).isEqualTo("{\"result\":true,\"authStatus\":\"SSOSuccess\",\"userId\":\"user\",\"userAttribute\":{},\"token\":\"dXNlcg\"}");
+    }
+
+    @Test
+    void write_WithValue_ShouldWriteJsonToOutputStream() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        ConverterUtils.write(response, NetsSsoServerLogoutResponse.builder().build());
+
+        // then
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsString()).isEqualTo("{\"result\":false,\"errorCode\":0}");
+    }
+
+    @Test
+    void write_WithPreSerializedBody_ShouldSetContentLength() throws Exception {
+        // given
+        byte[] body = ConverterUtils.writeAsBytes(new NetsSsoMockConfigResponse("site", "/logon", "/logoff", "/check", "http://localhost"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        ConverterUtils.write(response, body);
+
+        // then
+        assertThat(response.getContentLength()).isEqualTo(body.length);
+        assertThat(response.getContentAsString()).startsWith("{\"ssosite\":\"site\",\"urlSSOLogonService\":\"/logon\"");
+    }
+}
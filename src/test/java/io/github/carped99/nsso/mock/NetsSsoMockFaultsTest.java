@@ -0,0 +1,107 @@
+package io.github.carped99.nsso.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NetsSsoMockFaults 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoMockFaultsTest {
+
+    @Test
+    void inject_WithoutFault_ShouldReturnNull() {
+        // given
+        NetsSsoMockFaults faults = new NetsSsoMockFaults();
+
+        // when & then
+        assertThat(faults.inject(NetsSsoMockFaults.SERVER_CHECK)).isNull();
+    }
+
+    @Test
+    void inject_WithErrorRateOne_ShouldReturnErrorCode() {
+        // given
+        NetsSsoMockFaults faults = new NetsSsoMockFaults()
+                .route(NetsSsoMockFaults.SERVER_LOGON, new NetsSsoMockFault().error(1.0, 11020004, "BadCredentials"));
+
+        // when
+        String result = faults.inject(NetsSsoMockFaults.SERVER_LOGON);
+
+        // then
+        assertThat(result).isEqualTo("{\"result\":false,\"errorCode\":11020004,\"errorMessage\":\"BadCredentials\"}");
+        assertThat(faults.inject(NetsSsoMockFaults.SERVER_CHECK)).isNull();
+    }
+
+    @Test
+    void inject_WithTimeoutRateOne_ShouldWaitAndReturnTimeoutCode() {
+        // given
+        NetsSsoMockFaults faults = new NetsSsoMockFaults()
+                .all(new NetsSsoMockFault().timeout(1.0, Duration.ofMillis(50)));
+
+        // when
+        long start = System.nanoTime();
+        String result = faults.inject(NetsSsoMockFaults.AGENT_CHECK);
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        assertThat(result).contains("\"errorCode\":50000001");
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void error_WhenRatesExceedOne_ShouldThrowException() {
+        // when & then
+        assertThatThrownBy(() -> new NetsSsoMockFault().timeout(0.6, Duration.ZERO).error(0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void logNormal_ShouldMatchMedianAndP99() {
+        // given
+        NetsSsoMockLatency latency = NetsSsoMockLatency.logNormal(Duration.ofMillis(10), Duration.ofMillis(100));
+        long[] samples = new long[100_000];
+
+        // when
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = latency.nextNanos();
+        }
+        Arrays.sort(samples);
+
+        // then
+        assertThat(samples[samples.length / 2]).isBetween(Duration.ofMillis(9).toNanos(), Duration.ofMillis(11).toNanos());
+        assertThat(samples[samples.length * 99 / 100]).isBetween(Duration.ofMillis(85).toNanos(), Duration.ofMillis(115).toNanos());
+    }
+
+    @Test
+    void uniform_ShouldStayWithinBounds() {
+        // given
+        NetsSsoMockLatency latency = NetsSsoMockLatency.uniform(Duration.ofMillis(5), Duration.ofMillis(10));
+
+        // when & then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(latency.nextNanos()).isBetween(Duration.ofMillis(5).toNanos(), Duration.ofMillis(10).toNanos());
+        }
+    }
+
+    @Test
+    void agentService_WithFault_ShouldReturnInjectedError() {
+        // given
+        NetsSsoMockAgentService agentService = new NetsSsoMockAgentService("/nsso/server")
+                .setFaults(new NetsSsoMockFaults().route(NetsSsoMockFaults.AGENT_CONFIG, new NetsSsoMockFault().error(1.0)));
+
+        // when
+        String result = agentService.config(new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        // then
+        assertThat(result).contains("\"result\":false", "\"errorCode\":50000000");
+    }
+}
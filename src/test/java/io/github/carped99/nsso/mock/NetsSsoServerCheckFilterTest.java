@@ -0,0 +1,59 @@
+package io.github.carped99.nsso.mock;
+
+import io.github.carped99.nsso.NetsSsoRoute;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NetsSsoServerCheckFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+class NetsSsoServerCheckFilterTest {
+
+    private final NetsSsoServerCheckFilter filter = new NetsSsoServerCheckFilter(NetsSsoRoute.of("server.check", HttpMethod.POST, "/nsso/server/checkService"));
+
+    @Test
+    void doFilter_WithoutCookie_ShouldWriteUnauthenticatedResponse() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getContentAsString())
+                .contains("\"result\":false", "\"errorCode\":50000000")
+                .doesNotContain("userId");
+        assertThat(response.getContentLength()).isPositive();
+    }
+
+    @Test
+    void doFilter_WithCookie_ShouldWriteUser() throws Exception {
+        // given
+        MockHttpServletRequest request = request();
+        request.setCookies(new Cookie(ConverterUtils.MOCK_COOKIE_NAME, ConverterUtils.encodeUsername("user")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getContentAsString())
+                .contains("\"result\":true", "\"userId\":\"user\"", "\"userAttribute\":{}")
+                .doesNotContain("errorCode");
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/server/checkService");
+        request.setServletPath("/nsso/server/checkService");
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.carped99.nsso.mock;
+
+import io.github.carped99.nsso.NetsSsoRoute;
+import nets.sso.agent.web.common.constant.SSOConst;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NetsSsoServerLogonFilter 클래스의 단위 테스트
+ *
+ * @author carped99
+ * @since 0.0.1
+ */
+@ExtendWith(MockitoExtension.class)
+class NetsSsoServerLogonFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private NetsSsoServerLogonFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new NetsSsoServerLogonFilter(NetsSsoRoute.of(NetsSsoMockFaults.SERVER_LOGON, HttpMethod.POST, "/nsso/server/logonService"), userDetailsService);
+        filter.setPasswordEncoder(passwordEncoder);
+    }
+
+    @Test
+    void doFilter_WithCredentialCache_ShouldVerifyPasswordOnce() throws Exception {
+        // given
+        filter.setCredentialCacheSize(10);
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(User.withUsername("user").password("encoded").build());
+        when(passwordEncoder.matches("secret", "encoded")).thenReturn(true);
+
+        // when
+        MockHttpServletResponse first = logon("user", "secret");
+        MockHttpServletResponse second = logon("user", "secret");
+
+        // then
+        assertThat(first.getContentAsString()).contains("\"result\":true");
+        assertThat(second.getContentAsString()).contains("\"result\":true");
+        verify(passwordEncoder, times(1)).matches("secret", "encoded");
+    }
+
+    @Test
+    void doFilter_WhenPasswordChanged_ShouldVerifyAgain() throws Exception {
+        // given
+        filter.setCredentialCacheSize(10);
+        when(userDetailsService.loadUserByUsername("user"))
+                .thenReturn(User.withUsername("user").password("encoded").build())
+                .thenReturn(User.withUsername("user").password("changed").build());
+        when(passwordEncoder.matches("secret", "encoded")).thenReturn(true);
+        when(passwordEncoder.matches("secret", "changed")).thenReturn(false);
+
+        // when
+        logon("user", "secret");
+        MockHttpServletResponse response = logon("user", "secret");
+
+        // then
+        assertThat(response.getContentAsString()).contains("\"result\":false", "\"errorCode\":11020004");
+    }
+
+    @Test
+    void doFilter_WithoutCredentialCache_ShouldVerifyEveryLogon() throws Exception {
+        // given
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(User.withUsername("user").password("encoded").build());
+        when(passwordEncoder.matches("secret", "encoded")).thenReturn(true);
+
+        // when
+        logon("user", "secret");
+        MockHttpServletResponse response = logon("user", "secret");
+
+        // then
+        assertThat(response.getContentAsString())
+                .containsPattern("\"artifactESSO\":\"[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}\"");
+        verify(passwordEncoder, times(2)).matches("secret", "encoded");
+    }
+
+    private MockHttpServletResponse logon(String username, String password) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nsso/server/logonService");
+        request.setServletPath("/nsso/server/logonService");
+        request.addParameter(SSOConst.USER_ID, username);
+        request.addParameter(SSOConst.USER_PW, password);
+        request.addParameter(SSOConst.SITE_ID, "site");
+        request.addParameter(SSOConst.RETURN_URL, "http://localhost");
+        request.addParameter(SSOConst.CRED_TYPE, "BASIC");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}